@@ -57,6 +57,7 @@ final public class Game extends CoreGame {
 		if(this.load == Game.LOAD_MENU) {
 			if(this.getWorldObject() != null) {
 				this.removeFromRootObject(this.getWorldObject());
+				this.worldObject.destroy();
 				this.worldObject = null;
 			}
 
@@ -28,6 +28,9 @@ final public class MainComponent {
 		Profiler.setActive(false);
 
 		engine.start();
+
+		if(Options.DEBUG) System.out.println("Application exiting.");
+		System.exit(0);
 	}
 
 }
\ No newline at end of file
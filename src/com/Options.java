@@ -3,6 +3,7 @@ package com;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public interface Options {
 
@@ -35,11 +36,41 @@ public interface Options {
 	 */
 	final public static AtomicInteger MAX_FRAMES_PER_SECOND = GameOptions.getSlide("maxFPS").getValueReference();
 
+	/**
+	 * Defines the number of simulation ticks (input, physics and update) done in a second.
+	 * It doesn't depend on MAX_FRAMES_PER_SECOND: frames rendered between two ticks are interpolated.
+	 */
+	final public static int TICKS_PER_SECOND = 60;
+
+	/**
+	 * Simulates on a thread of its own while the main thread only draws the last recorded frame, swaps buffers and
+	 * polls the input, instead of doing everything one after the other on the main thread.
+	 */
+	final public static boolean RENDER_THREAD = true;
+
+	/**
+	 * Time before a tick or frame is due from which the waiting thread spins instead of sleeping (in ns).
+	 * Sleeping overshoots by up to the OS timer's granularity: about 1ms on Windows, much less on Linux.
+	 * Can be changed while running: 0 only sleeps (e.g. on battery), trading that overshoot for an idle core.
+	 */
+	final public static AtomicLong FRAME_PACING_SLACK = new AtomicLong(1000000L);
+
 	/**
 	 * Size of a tile in openGL units (2 is the height of the window).
 	 */
 	final public static float TILE_SIZE = 0.1f;
 
+	/**
+	 * Renders the map with one tile map quad (indices texture + tile set texture array) instead of baking chunks with the ChunkLoader.
+	 */
+	final public static boolean TILEMAP_RENDERING = false;
+
+	/**
+	 * Tracks each ObjectPool acquisition to report the objects collected without having been released, and the ones
+	 * released twice. It costs a stack trace per acquisition, so it follows DEBUG and can be turned off on its own.
+	 */
+	final public static boolean POOL_LEAK_TRACKING = Options.DEBUG;
+
 	/**
 	 * Defines the application's language.
 	 */
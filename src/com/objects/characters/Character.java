@@ -31,6 +31,7 @@ public abstract class Character extends PhysicsObject {
 		super(name, width, height, new AABBCollider(), MovementsAllowed.ONLY_WALK);
 
 		this.attribute = attribute;
+		this.setTickScheduled(true);
 	}
 
 	/**
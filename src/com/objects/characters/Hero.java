@@ -3,6 +3,8 @@ package com.objects.characters;
 import com.GameOptions;
 import com.Options;
 import com.attributes.Attribute;
+import engine.audio.ListenerMovedEvent;
+import engine.events.EventBus;
 import engine.game.components.Camera;
 import engine.game.components.RenderedComponent;
 import engine.math.Vector2f;
@@ -16,11 +18,6 @@ import org.jetbrains.annotations.NotNull;
 
 public class Hero extends Character {
 
-	/**
-	 * The Hero's instance.
-	 */
-	private static Hero instance;
-
 	/**
 	 * Hero's Textures.
 	 */
@@ -68,9 +65,6 @@ public class Hero extends Character {
 	public Hero(final @NotNull String name) {
 		super(name, Hero.SIZE, Hero.SIZE, new Attribute(30, 30, 10, 10, 10, 10, 8, 8));
 
-		assert Hero.instance == null : "Error: Hero constructor is called when a Hero already exists.";
-		Hero.instance = this;
-
 		this.camera = new Camera();
 		this.renderedComponent = new RenderedComponent(Hero.materials[4], Hero.SIZE, Hero.SIZE);
 
@@ -121,6 +115,9 @@ public class Hero extends Character {
 		}
 
 		super.update(delta);
+
+		final Vector2f position = this.getPosition();
+		EventBus.post(new ListenerMovedEvent(position.getX(), position.getY(), velocity.getX(), velocity.getY()));
 	}
 
 	@Override
@@ -151,14 +148,4 @@ public class Hero extends Character {
 		return this.camera;
 	}
 
-	/**
-	 * Returns the hero.
-	 *
-	 * @return Hero::instance
-	 */
-	@Contract(pure = true)
-	public static Hero getInstance() {
-		return Hero.instance;
-	}
-
 }
\ No newline at end of file
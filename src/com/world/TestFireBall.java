@@ -4,6 +4,7 @@ import com.Options;
 import com.objects.characters.Character;
 import engine.audio.AudioObject;
 import engine.game.components.RenderedComponent;
+import engine.game.objects.ObjectPool;
 import engine.math.Vector2f;
 import engine.physics.MovementsAllowed;
 import engine.physics.PhysicsObject;
@@ -20,22 +21,62 @@ public class TestFireBall extends PhysicsObject {
 	final public static Material MATERIAL = new Material(new Texture("tmp_fireball"));
 
 	/**
-	 * Create a new TestFireBall instance.
+	 * Fire balls released (each keeps its component and its sound).
 	 */
-	public TestFireBall() {
+	final private static ObjectPool<TestFireBall> POOL = new ObjectPool<>("Fire balls", TestFireBall::new, 32);
+
+	/**
+	 * Fire ball's sound.
+	 */
+	final private @NotNull AudioObject audio;
+
+	/**
+	 * Create a new TestFireBall instance (see TestFireBall.spawn()).
+	 */
+	private TestFireBall() {
 		super("Test fire ball", Options.TILE_SIZE, Options.TILE_SIZE, new CircleCollider(new Vector2f(), 0.9f*Options.TILE_SIZE), MovementsAllowed.ONLY_WALK);
 
-		this.setPosition(new Vector2f(30 * Options.TILE_SIZE, 9.5f * Options.TILE_SIZE));
 		this.setDepth(-0.3f);
-		this.setLinearVelocity(new Vector2f(-6, -5));
+		this.setTickScheduled(true);
 
 		final RenderedComponent renderedComponent = new RenderedComponent(TestFireBall.MATERIAL, Options.TILE_SIZE, Options.TILE_SIZE);
 		this.addComponent(renderedComponent);
 
-		final AudioObject audio = new AudioObject("/fireplace_mono.wav");
-		audio.setVolume(0.5f);
-		this.addAudioObject(audio);
-		audio.play();
+		this.audio = new AudioObject("/fireplace_mono.wav");
+		this.audio.setVolume(0.5f);
+		this.addAudioObject(this.audio);
+	}
+
+	/**
+	 * Takes a fire ball from the pool and launches it.
+	 * Once removed from its parent, it must be given back with TestFireBall.release().
+	 *
+	 * @param position Position to launch it from
+	 * @param velocity Velocity to launch it at
+	 * @return TestFireBall
+	 */
+	public static @NotNull TestFireBall spawn(final @NotNull Vector2f position, final @NotNull Vector2f velocity) {
+		final TestFireBall fireBall = TestFireBall.POOL.acquire();
+
+		fireBall.setPosition(position);
+		fireBall.setLinearVelocity(velocity);
+		fireBall.audio.play();
+
+		return fireBall;
+	}
+
+	/**
+	 * Gives the fire ball back to the pool (its sound is stopped).
+	 */
+	public void release() {
+		TestFireBall.POOL.release(this);
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+
+		this.setLinearVelocity(new Vector2f(0, 0));
 	}
 
 	@Override
@@ -26,6 +26,8 @@ public class TestTree extends PhysicsObject {
 
 		this.setPosition(new Vector2f(26 * Options.TILE_SIZE, 22 * Options.TILE_SIZE));
 		this.setDepth(-0.3f);
+		this.setTickScheduled(true);
+		this.setUpdatedInParallel(true); // Its update only touches its subtree (its material is a still Texture).
 
 		final RenderedComponent renderedComponent = new RenderedComponent(TestTree.MATERIAL, Options.TILE_SIZE, Options.TILE_SIZE * 2);
 		this.addComponent(renderedComponent);
@@ -1,14 +1,18 @@
 package com.world;
 
 import com.Game;
+import com.Options;
 import com.objects.characters.Hero;
 import com.world.hud.HUD;
 import com.world.map.MainMap;
+import engine.CoreEngine;
+import engine.game.World;
 import engine.game.objects.GameObject;
 import engine.game.objects.map.Map;
 import engine.math.Vector2f;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class WorldObject extends GameObject {
 
@@ -22,6 +26,11 @@ public class WorldObject extends GameObject {
 	 */
 	final private @NotNull Game game;
 
+	/**
+	 * World simulated (its physics, map and entities).
+	 */
+	final private @NotNull World world;
+
 	/**
 	 * World's map.
 	 */
@@ -37,6 +46,11 @@ public class WorldObject extends GameObject {
 	 */
 	final private @NotNull HUD hud;
 
+	/**
+	 * Test fire ball (null = none).
+	 */
+	private @Nullable TestFireBall fireBall;
+
 	/**
 	 * Create a new WorldObject instance.
 	 *
@@ -46,6 +60,7 @@ public class WorldObject extends GameObject {
 		super("Menu Object", Float.MAX_VALUE, Float.MAX_VALUE);
 
 		this.game = game;
+		this.world = new World("Main world");
 		this.hero = new Hero("Dradeliomecus");
 		this.hud = new HUD(this.getHero());
 		this.setPosition(new Vector2f(0.0f, 0.0f));
@@ -63,14 +78,42 @@ public class WorldObject extends GameObject {
 		this.map = new MainMap();
 		this.addChild(this.map);
 		this.map.init();
-		Map.setInstance(this.map);
+		this.world.setMap(this.map);
 
 		this.addChild(new TestTree().init());
-		this.addChild(new TestFireBall().init());
+		this.fireBall = TestFireBall.spawn(new Vector2f(30 * Options.TILE_SIZE, 9.5f * Options.TILE_SIZE), new Vector2f(-6, -5));
+		this.addChild(this.fireBall.init());
 
 		return this;
 	}
 
+	/**
+	 * Removes the test fire ball and gives it back to its pool.
+	 */
+	private void releaseFireBall() {
+		if(this.fireBall == null) return;
+
+		this.removeChildInstantly(this.fireBall);
+		this.fireBall.release();
+		this.fireBall = null;
+	}
+
+	@Override
+	public void addToEngine(final CoreEngine coreEngine, final @Nullable World world) {
+		super.addToEngine(coreEngine, this.world); // Its subtree is its own World, whatever the parent's.
+
+		coreEngine.addWorld(this.world);
+	}
+
+	/**
+	 * Called when the world should no longer exist (since destructor is weird in Java): it stops being simulated.
+	 */
+	public void destroy() {
+		this.releaseFireBall();
+		if(this.map != null) this.map.cleanUp();
+		if(this.getCoreEngine() != null) this.getCoreEngine().removeWorld(this.world);
+	}
+
 	/**
 	 * Returns a reference to the parent's game.
 	 *
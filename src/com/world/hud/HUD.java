@@ -4,6 +4,7 @@ import com.objects.characters.Hero;
 import com.world.hud.chat.ChatBox;
 import com.world.hud.minimap.Minimap;
 import com.world.hud.status.HUDStatus;
+import com.world.hud.worldmap.WorldMap;
 import engine.game.objects.GameObject;
 import engine.util.Window;
 import org.jetbrains.annotations.Contract;
@@ -31,6 +32,11 @@ public class HUD extends GameObject {
 	 */
 	final private @NotNull ChatBox chatbox;
 
+	/**
+	 * HUD's world map (drawn over the rest of the HUD).
+	 */
+	final private @NotNull WorldMap worldMap;
+
 	/**
 	 * Creates a new HUD instance.
 	 *
@@ -54,6 +60,10 @@ public class HUD extends GameObject {
 		this.addChild(this.chatbox);
 		this.chatbox.init();
 
+		this.worldMap = new WorldMap(this);
+		this.addChild(this.worldMap);
+		this.worldMap.init();
+
 		// Chatbox : 294*62(mini-height)px / (1060 width, 756 height)
 		// Bar : 34*339px
 		// Mana bar 55px to the right of life bar
@@ -2,12 +2,18 @@ package com.world.hud.minimap;
 
 import com.world.hud.HUD;
 import com.world.hud.HUDCategory;
+import com.Options;
 import engine.game.components.RenderedComponent;
+import engine.game.objects.map.Map;
+import engine.game.objects.map.MinimapTexture;
 import engine.math.Vector2f;
+import engine.rendering.Mesh;
+import engine.rendering.Vertex;
 import engine.rendering.texture.Material;
 import engine.rendering.texture.Texture;
 import engine.util.Window;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class Minimap extends HUDCategory {
 
@@ -31,6 +37,36 @@ public class Minimap extends HUDCategory {
 	 */
 	final public static Material BACKGROUND = new Material(new Texture("hud/minimap/background"));
 
+	/**
+	 * Space between the minimap's border and the map drawn in it.
+	 */
+	final public static float BORDER = 0.03f;
+
+	/**
+	 * Number of tiles shown on each side of the minimap.
+	 */
+	final public static int VIEW_TILES = 64;
+
+	/**
+	 * Texture the map is drawn in (null until there is a map).
+	 */
+	private @Nullable MinimapTexture mapTexture;
+
+	/**
+	 * Mesh showing the part of the texture around the hero.
+	 */
+	final private @NotNull Mesh mapMesh;
+
+	/**
+	 * Rendered component of the map (null until there is a map).
+	 */
+	private @Nullable RenderedComponent mapComponent;
+
+	/**
+	 * Tile the mesh is centered on.
+	 */
+	private int xTile, yTile;
+
 	/**
 	 * Creates a new Minimap instance.
 	 *
@@ -42,6 +78,60 @@ public class Minimap extends HUDCategory {
 		this.setPosition(Minimap.POS);
 
 		this.addComponent(new RenderedComponent(Minimap.BACKGROUND, Minimap.WIDTH, Minimap.HEIGHT, true));
+
+		this.mapMesh = new Mesh();
+		this.xTile = Integer.MIN_VALUE;
+		this.yTile = Integer.MIN_VALUE;
+	}
+
+	@Override
+	public void update(final double delta) {
+		final Map map = this.getWorld() == null ? null : this.getWorld().getMap();
+		if(map != null && (this.mapTexture == null || this.mapTexture.getMap() != map)) {
+			if(this.mapTexture != null) this.mapTexture.destroy();
+			this.mapTexture = new MinimapTexture(map);
+
+			if(this.mapComponent == null) {
+				this.mapComponent = new RenderedComponent(this.mapMesh, new Material(this.mapTexture.getTexture()), Minimap.WIDTH, Minimap.HEIGHT, true);
+				this.addComponent(this.mapComponent); // Added after the background so it is drawn over it.
+			} else {
+				this.mapComponent.setMaterial(new Material(this.mapTexture.getTexture()));
+			}
+		}
+
+		if(this.mapTexture != null) {
+			final Vector2f center = this.getHero().getPosition();
+			this.mapTexture.update(center);
+			this.updateMesh(center);
+		}
+
+		super.update(delta);
+	}
+
+	/**
+	 * Centers the map's mesh on a position (only when it moved to another tile).
+	 *
+	 * @param center Position to center on (in openGL pos)
+	 */
+	private void updateMesh(final @NotNull Vector2f center) {
+		final int x = (int) Math.floor(center.getX() / Options.TILE_SIZE);
+		final int y = (int) Math.floor(center.getY() / Options.TILE_SIZE);
+		if(x == this.xTile && y == this.yTile) return;
+
+		this.xTile = x;
+		this.yTile = y;
+
+		final float left = MinimapTexture.toTextureCoordinate((x - Minimap.VIEW_TILES / 2) * Options.TILE_SIZE);
+		final float bottom = MinimapTexture.toTextureCoordinate((y - Minimap.VIEW_TILES / 2) * Options.TILE_SIZE);
+		final float right = left + (float) Minimap.VIEW_TILES / MinimapTexture.SIZE;
+		final float top = bottom + (float) Minimap.VIEW_TILES / MinimapTexture.SIZE;
+
+		this.mapMesh.setVertices(new Vertex[] {
+			new Vertex(new Vector2f(Minimap.BORDER, Minimap.HEIGHT - Minimap.BORDER), new Vector2f(left, top)),
+			new Vertex(new Vector2f(Minimap.BORDER, Minimap.BORDER), new Vector2f(left, bottom)),
+			new Vertex(new Vector2f(Minimap.WIDTH - Minimap.BORDER, Minimap.BORDER), new Vector2f(right, bottom)),
+			new Vertex(new Vector2f(Minimap.WIDTH - Minimap.BORDER, Minimap.HEIGHT - Minimap.BORDER), new Vector2f(right, top))
+		});
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.world.hud.worldmap;
+
+import com.GameOptions;
+import com.Options;
+import com.world.hud.HUD;
+import com.world.hud.HUDCategory;
+import engine.game.components.GameComponent;
+import engine.game.components.RenderedComponent;
+import engine.game.objects.map.Map;
+import engine.game.objects.map.MapPyramid;
+import engine.math.Vector2f;
+import engine.rendering.shader.Shader;
+import engine.rendering.texture.Material;
+import engine.rendering.texture.Texture;
+import engine.util.Color;
+import engine.util.Input;
+import engine.util.Window;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * Full screen map of the world, opened with the "map" key and zoomed with + and -.
+ * It draws the nodes of the Map's pyramid whose level matches the zoom, so the number of textures drawn stays about the same at any zoom.
+ */
+public class WorldMap extends HUDCategory {
+
+	/**
+	 * World map's background.
+	 */
+	final public static Material BACKGROUND = new Material(new Texture("black1x1"), new Color(0, 0, 0, 0.85f));
+
+	/**
+	 * Minimum number of tiles shown on the screen's height.
+	 */
+	final public static float MIN_VIEW_TILES = 64.0f;
+
+	/**
+	 * How much the zoom changes per second when a zoom key is held.
+	 */
+	final public static float ZOOM_SPEED = 2.0f;
+
+	/**
+	 * Key to zoom in.
+	 */
+	final public static int KEY_ZOOM_IN = Input.KEY_ADD;
+
+	/**
+	 * Key to zoom out.
+	 */
+	final public static int KEY_ZOOM_OUT = Input.KEY_SUBTRACT;
+
+	/**
+	 * Is the world map opened.
+	 */
+	private boolean opened;
+
+	/**
+	 * Number of tiles shown on the screen's height.
+	 */
+	private float viewTiles;
+
+	/**
+	 * Nodes shown (reused from frame to frame).
+	 */
+	final private @NotNull ArrayList<WorldMapNode> nodes;
+
+	/**
+	 * Number of nodes shown this frame.
+	 */
+	private int nodesShown;
+
+	/**
+	 * Creates a new WorldMap instance.
+	 *
+	 * @param parentHUD World map's HUD parent
+	 */
+	public WorldMap(final @NotNull HUD parentHUD) {
+		super("World map", 2.0f * Window.getRatio(), 2.0f, parentHUD);
+
+		this.opened = false;
+		this.viewTiles = 4 * WorldMap.MIN_VIEW_TILES;
+		this.nodes = new ArrayList<>();
+		this.nodesShown = 0;
+
+		this.addComponent(new RenderedComponent(WorldMap.BACKGROUND, 2.0f * Window.getRatio(), 2.0f, true));
+	}
+
+	@Override
+	public void input() {
+		if(Input.getKeyDown(GameOptions.getKey("map").get())) {
+			this.opened = !this.opened;
+		}
+
+		super.input();
+	}
+
+	@Override
+	public void update(final double delta) {
+		this.nodesShown = 0;
+		final Map map = this.getWorld() == null ? null : this.getWorld().getMap();
+
+		if(this.isOpened() && map != null) {
+			final MapPyramid pyramid = map.getPyramid();
+			pyramid.update();
+
+			// Zoom.
+			final float maxViewTiles = Math.max(WorldMap.MIN_VIEW_TILES, MapPyramid.getNodeTiles(pyramid.getTopLevel()));
+			if(Input.getKey(WorldMap.KEY_ZOOM_IN)) this.viewTiles /= (float) Math.pow(WorldMap.ZOOM_SPEED, delta);
+			if(Input.getKey(WorldMap.KEY_ZOOM_OUT)) this.viewTiles *= (float) Math.pow(WorldMap.ZOOM_SPEED, delta);
+			this.viewTiles = Math.max(WorldMap.MIN_VIEW_TILES, Math.min(maxViewTiles, this.viewTiles));
+
+			// Level whose pixels are about the size of the screen's pixels.
+			final int level = pyramid.getLevel(this.viewTiles / Window.getHeight());
+			final int nodeTiles = MapPyramid.getNodeTiles(level);
+			final float tilesPerUnit = this.viewTiles / 2.0f;
+
+			final Vector2f heroPosition = this.getHero().getPosition();
+			final Vector2f screenPosition = heroPosition.sub(Window.getRatio(), 1.0f);
+			final float left = heroPosition.getX() / Options.TILE_SIZE - Window.getRatio() * tilesPerUnit;
+			final float right = heroPosition.getX() / Options.TILE_SIZE + Window.getRatio() * tilesPerUnit;
+			final float bottom = heroPosition.getY() / Options.TILE_SIZE - this.viewTiles / 2.0f;
+			final float top = heroPosition.getY() / Options.TILE_SIZE + this.viewTiles / 2.0f;
+
+			for(int y = (int) Math.max(0, bottom) / nodeTiles; y <= (int) Math.max(0, top) / nodeTiles; y++) {
+				for(int x = (int) Math.max(0, left) / nodeTiles; x <= (int) Math.max(0, right) / nodeTiles; x++) {
+					final Texture texture = pyramid.getTexture(level, x, y);
+					if(texture == null) continue; // Nothing loaded there yet.
+
+					if(this.nodesShown == this.nodes.size()) this.nodes.add(new WorldMapNode());
+					this.nodes.get(this.nodesShown).set(texture, screenPosition.add((x * nodeTiles - left) / tilesPerUnit, (y * nodeTiles - bottom) / tilesPerUnit), nodeTiles / tilesPerUnit);
+					this.nodes.get(this.nodesShown).update(delta);
+					this.nodesShown++;
+				}
+			}
+		}
+
+		super.update(delta);
+	}
+
+	@Override
+	public void render(final Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
+		if(!this.isOpened()) return;
+
+		super.render(shader, renderLater);
+		for(int i = 0; i < this.nodesShown; i++) {
+			this.nodes.get(i).render(shader, renderLater);
+		}
+	}
+
+	/**
+	 * Returns whether the world map is opened.
+	 *
+	 * @return WorldMap.opened
+	 */
+	@Contract(pure = true)
+	final public boolean isOpened() {
+		return this.opened;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.world.hud.worldmap;
+
+import engine.game.components.RenderedComponent;
+import engine.game.objects.GameObject;
+import engine.math.Vector2f;
+import engine.rendering.Mesh;
+import engine.rendering.texture.Material;
+import engine.rendering.texture.Texture;
+import org.jetbrains.annotations.NotNull;
+
+class WorldMapNode extends GameObject {
+
+	/**
+	 * Node's mesh (1x1, scaled to the node's size on the screen).
+	 */
+	final public static Mesh MESH = Mesh.createWithInvertedTexture(1, 1);
+
+	/**
+	 * Node's rendered component.
+	 */
+	final private @NotNull RenderedComponent renderedComponent;
+
+	/**
+	 * Creates a new WorldMapNode instance.
+	 */
+	WorldMapNode() {
+		super("World map node", 1, 1);
+
+		this.setDepth(-1.0f);
+		this.renderedComponent = new RenderedComponent(WorldMapNode.MESH, new Material(new Texture("black1x1")), 1, 1, true);
+		this.addComponent(this.renderedComponent);
+	}
+
+	/**
+	 * Shows a node of the pyramid.
+	 *
+	 * @param texture Node's texture
+	 * @param position Node's position (in openGL pos)
+	 * @param length Node's size on the screen (in openGL units)
+	 */
+	final void set(final @NotNull Texture texture, final @NotNull Vector2f position, final float length) {
+		this.setPosition(position);
+		this.setScale(new Vector2f(length, length));
+		this.renderedComponent.getMaterial().setImage(texture);
+	}
+
+}
\ No newline at end of file
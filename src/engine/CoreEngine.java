@@ -3,31 +3,66 @@ package engine;
 import com.MainComponent;
 import com.Options;
 import engine.audio.AudioEngine;
+import engine.events.EventBus;
 import engine.game.CoreGame;
-import engine.physics.PhysicsEngine;
+import engine.game.Transform;
+import engine.game.World;
+import engine.game.objects.map.Map;
+import engine.game.objects.ObjectPool;
+import engine.rendering.DeletionQueue;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.RenderingEngine;
-import engine.rendering.texture.TextureResource;
+import engine.rendering.SnapshotBuffer;
+import engine.util.FramePacer;
 import engine.util.Input;
 import engine.util.Time;
 import engine.util.Window;
 import engine.util.profiling.Profiler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.ContextAttribs;
+import org.lwjgl.opengl.Drawable;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.lwjgl.opengl.GL11.GL_VERSION;
-import static org.lwjgl.opengl.GL11.glDeleteTextures;
 import static org.lwjgl.opengl.GL11.glGetString;
-import static org.lwjgl.opengl.GL30.glDeleteFramebuffers;
 
+/**
+ * Runs a game: its ticks, its frames and its Worlds.
+ * Only one CoreEngine runs at a time in a JVM: the EventBus, the TickScheduler, the Transforms' frame, the Window and
+ * the Profiler are static, so two engines running together would share them. A server simulating many instances adds
+ * them as Worlds of a single engine (stepped in parallel, see World), or runs one engine per JVM.
+ */
 final public class CoreEngine {
 
 	/**
-	 * Is the Engine running right now.
+	 * CoreEngine running right now (null = none).
 	 */
-	private boolean isRunning;
+	final private static AtomicReference<CoreEngine> RUNNING = new AtomicReference<>(null);
+
+	/**
+	 * Maximum number of ticks done to catch up before a frame is rendered: when the simulation can't keep up,
+	 * the time left is dropped instead of making the next frames ever longer.
+	 */
+	final private static int MAX_TICKS_PER_FRAME = 5;
+
+	/**
+	 * Is the Engine running right now (read by the simulation and render threads).
+	 */
+	private volatile boolean isRunning;
+
+	/**
+	 * Does the Engine run without a window, audio and input (dedicated servers, soak tests).
+	 */
+	final private boolean headless;
+
+	/**
+	 * Number of simulation ticks done in a second.
+	 */
+	final private int ticksPerSecond;
 
 	/**
 	 * Context Attributes for OpenGL version.
@@ -45,28 +80,72 @@ final public class CoreEngine {
 	final private @NotNull RenderingEngine renderingEngine;
 
 	/**
-	 * Application's audio engine.
+	 * Application's audio engine (null if headless).
 	 */
-	final private @NotNull AudioEngine audioEngine;
+	final private @Nullable AudioEngine audioEngine;
 
 	/**
-	 * Creates a new CoreEngine instance.
+	 * Worlds simulated (their physics are stepped every tick).
+	 */
+	final private @NotNull ArrayList<World> worlds;
+
+	/**
+	 * Creates a new CoreEngine instance, with a window.
 	 *
 	 * @param game Game used for the application.
 	 */
 	public CoreEngine(final @NotNull CoreGame game) {
+		this(game, false, Options.TICKS_PER_SECOND);
+	}
+
+	/**
+	 * Creates a new CoreEngine instance, ticking at Options::TICKS_PER_SECOND.
+	 *
+	 * @param game Game used for the application.
+	 * @param headless Run without a window, audio and input
+	 */
+	public CoreEngine(final @NotNull CoreGame game, final boolean headless) {
+		this(game, headless, Options.TICKS_PER_SECOND);
+	}
+
+	/**
+	 * Creates a new CoreEngine instance (while no other one runs).
+	 * A headless CoreEngine has no window, audio or input: it only ticks. Its game mustn't create openGL or openAL
+	 * resources (textures, meshes, sounds...), and its main Camera only stands for a window of
+	 * Options::WINDOW_WIDTH x WINDOW_HEIGHT.
+	 * A tick simulates 1 / ticksPerSecond seconds: a server must tick at its clients' rate, or its physics diverge
+	 * from theirs.
+	 *
+	 * @param game Game used for the application.
+	 * @param headless Run without a window, audio and input
+	 * @param ticksPerSecond Number of simulation ticks done in a second
+	 */
+	public CoreEngine(final @NotNull CoreGame game, final boolean headless, final int ticksPerSecond) {
+		assert ticksPerSecond > 0 : "Error: A CoreEngine can't tick " + ticksPerSecond + " times a second.";
+
 		this.isRunning = false;
+		this.headless = headless;
+		this.ticksPerSecond = ticksPerSecond;
+		this.worlds = new ArrayList<>();
 
 		this.contextAttribs = new ContextAttribs(3, 3).withForwardCompatible(true).withProfileCore(true);
-		this.createWindow(Options.WINDOW_WIDTH, Options.WINDOW_HEIGHT, Options.WINDOW_TITLE, this.contextAttribs);
+		if(headless) {
+			Window.createHeadless(Options.WINDOW_WIDTH, Options.WINDOW_HEIGHT);
+		} else {
+			this.createWindow(Options.WINDOW_WIDTH, Options.WINDOW_HEIGHT, Options.WINDOW_TITLE, this.contextAttribs);
 
-		if(Options.DEBUG)
-			this.outputVersions();
+			if(Options.DEBUG)
+				this.outputVersions();
+		}
 
 		this.renderingEngine = new RenderingEngine();
 		game.setRenderingEngine(this.renderingEngine);
-		this.audioEngine = new AudioEngine(); // TODO: Initialize this later with the loading screen
-		Input.init(); // TODO: Initialize this later with the loading screen
+		if(headless) {
+			this.audioEngine = null;
+		} else {
+			this.audioEngine = new AudioEngine(); // TODO: Initialize this later with the loading screen
+			Input.init(); // TODO: Initialize this later with the loading screen
+		}
 
 		this.game = game.init(this);
 
@@ -86,13 +165,22 @@ final public class CoreEngine {
 
 	/**
 	 * Creates a window, initializes the graphics and then, runs the engine.
+	 * Returns once the engine has been stopped and cleaned up (the application isn't exited, so another engine can
+	 * be started afterwards). Nothing is run if another CoreEngine is running.
 	 */
 	public void start() {
-		assert !this.isRunning : "Couldn't start the CoreEngine: Engine already running.";
+		if(!CoreEngine.RUNNING.compareAndSet(null, this)) {
+			System.err.println("Error: Couldn't start the CoreEngine: a CoreEngine is already running in this JVM.");
+			return;
+		}
 
 		if(Options.DEBUG) System.out.println("CoreEngine is starting.");
 
-		this.run();
+		try {
+			this.run();
+		} finally {
+			CoreEngine.RUNNING.set(null);
+		}
 	}
 
 	/**
@@ -101,112 +189,315 @@ final public class CoreEngine {
 	private void run() {
 		this.isRunning = true;
 
-		int frames = 0;
-		long frameCounter = 0L;
-
 		this.game.init();
 
-		long lastFrameTime = Time.getNanoTime(); // When did the last frame start
-		double unprocessedTime = 0.0; // How many time do I still need to update the game
+		if(this.isHeadless()) {
+			this.runHeadless();
+		} else if(Options.RENDER_THREAD) {
+			this.runThreaded();
+		} else {
+			this.runSingleThreaded();
+		}
 
-		if(Options.DEBUG) System.out.println("CoreEngine is running. It took " + (Time.getNanoTime() - MainComponent.APPLICATION_START) * Time.NANO_TO_MILLI + "ms to get here.\n");
+		this.cleanUp();
+
+		if(Options.DEBUG) System.out.println("CoreEngine has stopped.");
+	}
+
+	/**
+	 * Runs the headless engine on the main thread: ticks at CoreEngine.ticksPerSecond and renders nothing.
+	 * Between ticks the thread is only parked, never spinning: a server may run many engines, and a late wake up
+	 * there is harmless.
+	 */
+	private void runHeadless() {
+		int ticks = 0;
+		long tickCounter = 0L;
+
+		final long tickTime = (long) (Time.SECOND_TO_NANO / this.getTicksPerSecond()); // How long does a tick simulate (in ns)
+		final FramePacer pacer = new FramePacer("Tick pacing jitter", 0L);
+		long lastLoopTime = Time.getNanoTime(); // When did the last loop start
+		long nextTickTime = lastLoopTime + tickTime; // When is the next tick due
+
+		if(Options.DEBUG) System.out.println("CoreEngine is running headless. It took " + (Time.getNanoTime() - MainComponent.APPLICATION_START) * Time.NANO_TO_MILLI + "ms to get here.\n");
 
 		while(this.isRunning) {
-			final double frameTime = 1.0 / Options.MAX_FRAMES_PER_SECOND.get(); // How long should a frame take
-			boolean render = false;
+			final long startTime = Time.getNanoTime(); // When did this loop start
+			tickCounter += startTime - lastLoopTime;
+			lastLoopTime = startTime;
+
+			int caughtUp = 0;
+			while(startTime >= nextTickTime && this.isRunning) {
+				if(caughtUp == CoreEngine.MAX_TICKS_PER_FRAME) {
+					nextTickTime = startTime + tickTime - (startTime - nextTickTime) % tickTime; // Too far behind: the whole ticks left are dropped.
+					break;
+				}
+				caughtUp++;
 
-			final long startTime = Time.getNanoTime(); // When did this frame start
-			final long passedTime = startTime - lastFrameTime; // Time the last frame took
-			lastFrameTime = startTime;
+				nextTickTime += tickTime;
+				this.tick(tickTime * Time.NANO_TO_SECOND);
+				ticks++;
+			}
 
-			unprocessedTime += ((double) passedTime / Time.SECOND_TO_NANO);
-			frameCounter += passedTime;
+			if(tickCounter >= Time.SECOND_TO_NANO) {
+				if(Profiler.isOn()) {
+					final double totalTime = (1000.0 * tickCounter * Time.NANO_TO_SECOND) / (double) ticks;
 
-			while(unprocessedTime > frameTime) {
-				render = true;
+					pacer.report();
+					ObjectPool.reportStatistics();
+					Profiler.displayAndResetTime(totalTime, ticks);
+				}
 
-				unprocessedTime -= frameTime;
+				if(Options.DEBUG) System.out.println(ticks + " ticks/sec.");
+				ticks = 0;
+				tickCounter = 0L;
+			}
 
-				if(Window.isCloseRequested()) this.stop();
+			Profiler.startProfileTimer("Idle");
+			pacer.waitUntil(nextTickTime);
+			Profiler.stopProfileTimer("Idle");
+		}
+	}
 
-				Profiler.startProfileTimer("Input");
-				this.game.input();
-				Input.update();
-				Profiler.stopProfileTimer("Input");
+	/**
+	 * Runs the engine on the main thread: ticks, then renders when a frame is due.
+	 */
+	private void runSingleThreaded() {
+		int frames = 0;
+		long frameCounter = 0L;
 
-				Profiler.startProfileTimer("Update");
-				Profiler.update();
-				Profiler.startProfileTimer("Update-Physics");
-				PhysicsEngine.update(frameTime);
-				Profiler.stopProfileTimer("Update-Physics");
-				this.game.update(frameTime);
-				Profiler.stopProfileTimer("Update");
-				this.getAudioEngine().update();
+		final long tickTime = (long) (Time.SECOND_TO_NANO / this.getTicksPerSecond()); // How long does a tick simulate (in ns)
+		final FramePacer pacer = new FramePacer("Frame pacing jitter", Options.FRAME_PACING_SLACK);
+		long lastFrameTime = Time.getNanoTime(); // When did the last loop start
+		long nextTickTime = lastFrameTime + tickTime; // When is the next tick due
+		long nextFrameTime = lastFrameTime; // When is the next frame due
 
-				CoreEngine.cleanMemory();
+		if(Options.DEBUG) System.out.println("CoreEngine is running. It took " + (Time.getNanoTime() - MainComponent.APPLICATION_START) * Time.NANO_TO_MILLI + "ms to get here.\n");
 
-				if(frameCounter >= Time.SECOND_TO_NANO) {
-					if(Profiler.isOn()) {
-						final double totalTime = (1000.0 * frameCounter * Time.NANO_TO_SECOND) / (double) frames;
+		while(this.isRunning) {
+			final long startTime = Time.getNanoTime(); // When did this loop start
+			frameCounter += startTime - lastFrameTime;
+			lastFrameTime = startTime;
 
-						Profiler.displayAndResetTime(totalTime, frames);
-					}
+			int ticks = 0;
+			while(startTime >= nextTickTime) {
+				if(ticks == CoreEngine.MAX_TICKS_PER_FRAME) {
+					nextTickTime = startTime + tickTime - (startTime - nextTickTime) % tickTime; // Too far behind: the whole ticks left are dropped.
+					break;
+				}
+				ticks++;
 
-					if(Options.DEBUG) System.out.println(frames + " frames/sec.");
-					frames = 0;
-					frameCounter = 0L;
+				nextTickTime += tickTime;
+
+				if(Window.isCloseRequested()) this.stop();
+
+				Input.poll();
+				this.tick(tickTime * Time.NANO_TO_SECOND);
+			}
+
+			if(frameCounter >= Time.SECOND_TO_NANO) {
+				if(Profiler.isOn()) {
+					final double totalTime = (1000.0 * frameCounter * Time.NANO_TO_SECOND) / (double) frames;
+
+					pacer.report();
+					ObjectPool.reportStatistics();
+					Profiler.displayAndResetTime(totalTime, frames);
 				}
+
+				if(Options.DEBUG) System.out.println(frames + " frames/sec.");
+				frames = 0;
+				frameCounter = 0L;
 			}
 
-			if(render) {
+			if(startTime >= nextFrameTime) {
+				final long frameTime = (long) (Time.SECOND_TO_NANO / Options.MAX_FRAMES_PER_SECOND.get()); // How long should a frame take
+				nextFrameTime = Math.max(nextFrameTime + frameTime, startTime); // A late frame doesn't make the next ones early.
+
+				Transform.beginFrame((float) (startTime - (nextTickTime - tickTime)) / tickTime);
 				this.render();
 
 				frames++;
 			} else {
-				try {
-					Profiler.startProfileTimer("Sleep");
-					Thread.sleep(1);
-					Profiler.stopProfileTimer("Sleep");
-				} catch(final InterruptedException e) {
-					e.printStackTrace();
-					System.exit(1);
-				}
+				Profiler.startProfileTimer("Sleep");
+				pacer.waitUntil(Math.min(nextTickTime, nextFrameTime));
+				Profiler.stopProfileTimer("Sleep");
 			}
 		}
+	}
 
-		this.cleanUp();
+	/**
+	 * Runs the engine on two threads: the simulation thread ticks and records a RenderSnapshot after its ticks,
+	 * while the main thread (which owns the Window's context) draws the last one recorded when a frame is due.
+	 * The simulation thread has a context sharing the Window's objects, so textures, meshes and bakes can still be
+	 * made during ticks (see RenderSnapshot for what it may change once recorded). The main thread also polls the
+	 * keyboard and the mouse, which the simulation thread reads at its next tick (see Input.poll()).
+	 */
+	private void runThreaded() {
+		int frames = 0;
+		long frameCounter = 0L;
+
+		final long tickTime = (long) (Time.SECOND_TO_NANO / this.getTicksPerSecond()); // How long does a tick simulate (in ns)
+		final FramePacer pacer = new FramePacer("Frame pacing jitter", Options.FRAME_PACING_SLACK);
+		long lastFrameTime = Time.getNanoTime(); // When did the last loop start
+		long nextFrameTime = lastFrameTime; // When is the next frame due
+
+		final SnapshotBuffer snapshots = new SnapshotBuffer();
+		final FramePacer simulationPacer = new FramePacer("Tick pacing jitter", Options.FRAME_PACING_SLACK);
+		final Drawable sharedContext = Window.createSharedContext();
+		final Thread simulation = new Thread(() -> this.simulate(sharedContext, snapshots, simulationPacer), "Simulation");
+		Profiler.addThread(simulation);
+		simulation.start();
+
+		if(Options.DEBUG) System.out.println("CoreEngine is running. It took " + (Time.getNanoTime() - MainComponent.APPLICATION_START) * Time.NANO_TO_MILLI + "ms to get here.\n");
+
+		while(this.isRunning) {
+			final long startTime = Time.getNanoTime(); // When did this loop start
+			frameCounter += startTime - lastFrameTime;
+			lastFrameTime = startTime;
+
+			if(Window.isCloseRequested()) this.stop();
+
+			if(frameCounter >= Time.SECOND_TO_NANO) {
+				if(Profiler.isOn()) {
+					final double totalTime = (1000.0 * frameCounter * Time.NANO_TO_SECOND) / (double) frames;
+
+					pacer.report();
+					simulationPacer.report();
+					ObjectPool.reportStatistics();
+					Profiler.displayAndResetTime(totalTime, frames);
+				}
 
-		if(Options.DEBUG) System.out.println("Application exiting.");
+				if(Options.DEBUG) System.out.println(frames + " frames/sec.");
+				frames = 0;
+				frameCounter = 0L;
+			}
+
+			if(startTime >= nextFrameTime) {
+				final long frameTime = (long) (Time.SECOND_TO_NANO / Options.MAX_FRAMES_PER_SECOND.get()); // How long should a frame take
+				nextFrameTime = Math.max(nextFrameTime + frameTime, startTime); // A late frame doesn't make the next ones early.
+
+				final RenderSnapshot snapshot = snapshots.acquire();
+				if(snapshot != null) {
+					// The frame shows the simulation one tick late, between the snapshot's two states.
+					final float interpolation = (float) (startTime - snapshot.getTime()) / tickTime;
+
+					Profiler.startProfileTimer("Render");
+					this.getRenderingEngine().draw(snapshot, Math.max(0.0f, Math.min(1.0f, interpolation)));
+					Profiler.stopProfileTimer("Render");
+				}
+
+				Profiler.startProfileTimer("WindowSync");
+				Window.render();
+				Profiler.stopProfileTimer("WindowSync");
+				Input.poll(); // Handed to the simulation thread's next tick.
+
+				this.cleanMemory(); // The Window's context deletes its own framebuffers and vertex arrays.
+
+				frames++;
+			} else {
+				Profiler.startProfileTimer("Sleep");
+				pacer.waitUntil(nextFrameTime);
+				Profiler.stopProfileTimer("Sleep");
+			}
+		}
 
-		System.exit(0);
+		try {
+			simulation.join();
+		} catch(final InterruptedException e) {
+			e.printStackTrace();
+		}
 	}
 
 	/**
-	 * Clears the memory from all things not used anymore.
+	 * Runs the simulation thread: ticks at the fixed rate, and records a RenderSnapshot after each batch of ticks.
+	 *
+	 * @param sharedContext Context sharing the Window's objects
+	 * @param snapshots Buffer to publish the RenderSnapshots in
+	 * @param pacer Pacer waiting for the next tick
 	 */
-	private static void cleanMemory() {
-		final ArrayList<Integer> buffersToDelete = new ArrayList<>(TextureResource.buffersToDelete);
-		TextureResource.buffersToDelete.clear();
+	private void simulate(final @NotNull Drawable sharedContext, final @NotNull SnapshotBuffer snapshots, final @NotNull FramePacer pacer) {
+		Window.useSharedContext(sharedContext);
+		RenderingEngine.initContext(); // Bakes done in this context blend and test depth like the Window's.
+
+		try {
+			final long tickTime = (long) (Time.SECOND_TO_NANO / this.getTicksPerSecond()); // How long does a tick simulate (in ns)
+			long nextTickTime = Time.getNanoTime() + tickTime; // When is the next tick due
+
+			while(this.isRunning) {
+				final long startTime = Time.getNanoTime();
+
+				int ticks = 0;
+				while(startTime >= nextTickTime && this.isRunning) {
+					if(ticks == CoreEngine.MAX_TICKS_PER_FRAME) {
+						nextTickTime = startTime + tickTime - (startTime - nextTickTime) % tickTime; // Too far behind: the whole ticks left are dropped.
+						break;
+					}
+					ticks++;
+
+					nextTickTime += tickTime;
+					this.tick(tickTime * Time.NANO_TO_SECOND);
+				}
 
-		final ArrayList<Integer> fboToDelete = new ArrayList<>(TextureResource.fboToDelete);
-		TextureResource.fboToDelete.clear();
+				if(ticks > 0) {
+					Profiler.startProfileTimer("Record");
+					this.game.record(this.getRenderingEngine(), snapshots.getWriting(), nextTickTime - tickTime);
+					snapshots.publish();
+					Profiler.stopProfileTimer("Record");
+				}
 
-		for(final int id : buffersToDelete) {
-			try {
-				glDeleteTextures(id);
-			} catch(final Exception e) {
-				System.out.println("Error when deleting id n°" + id);
-				e.printStackTrace();
+				Profiler.startProfileTimer("Idle");
+				pacer.waitUntil(nextTickTime);
+				Profiler.stopProfileTimer("Idle");
 			}
+		} catch(final RuntimeException | Error e) {
+			System.err.println("Error: The simulation thread has stopped.");
+			e.printStackTrace();
+			this.stop();
+		} finally {
+			Window.releaseSharedContext(sharedContext);
 		}
+	}
 
-		for(final int fbo : fboToDelete) {
-			try {
-				glDeleteFramebuffers(fbo);
-			} catch(final Exception e) {
-				System.out.println("Error when deleting fbo n°" + fbo);
-				e.printStackTrace();
-			}
+	/**
+	 * Simulates a tick: input, physics, update, audio (input and audio are skipped when headless).
+	 *
+	 * @param tickTime Time simulated (in seconds)
+	 */
+	private void tick(final double tickTime) {
+		EventBus.dispatch(EventBus.PHASE_TICK_START);
+
+		if(!this.isHeadless()) {
+			Profiler.startProfileTimer("Input");
+			this.game.input();
+			Input.update();
+			Profiler.stopProfileTimer("Input");
+		}
+
+		Profiler.startProfileTimer("Update");
+		Profiler.update();
+		Profiler.startProfileTimer("Update-Physics");
+		if(!this.worlds.isEmpty()) World.updateAll(this.worlds, tickTime);
+		Profiler.stopProfileTimer("Update-Physics");
+		EventBus.dispatch(EventBus.PHASE_AFTER_PHYSICS);
+		this.game.update(tickTime);
+		Transform.endTick();
+		Profiler.stopProfileTimer("Update");
+		EventBus.dispatch(EventBus.PHASE_TICK_END);
+		if(this.getAudioEngine() != null) this.getAudioEngine().update();
+
+		this.cleanMemory();
+	}
+
+	/**
+	 * Clears the memory from all things not used anymore (the current context's and the shared ones).
+	 */
+	private void cleanMemory() {
+		if(this.isHeadless()) return; // No openGL context, so no openGL objects.
+
+		try {
+			DeletionQueue.flush();
+		} catch(final RuntimeException e) {
+			System.err.println("Error: The openGL objects released couldn't be deleted.");
+			e.printStackTrace();
 		}
 	}
 
@@ -215,9 +506,14 @@ final public class CoreEngine {
 	 * This method should be called before exiting the application.
 	 */
 	private void cleanUp() {
+		for(int i = 0; i < this.worlds.size(); i++) {
+			final Map map = this.worlds.get(i).getMap();
+			if(map != null) map.cleanUp();
+		}
+
 		Window.dispose();
-		Input.destroy();
-		this.getAudioEngine().cleanUp();
+		if(!this.isHeadless()) Input.destroy();
+		if(this.getAudioEngine() != null) this.getAudioEngine().cleanUp();
 
 		if(Options.DEBUG) System.out.println("\nCoreEngine has been cleanedUp.");
 	}
@@ -225,8 +521,8 @@ final public class CoreEngine {
 	/**
 	 * Stops the engine and the application cleanly.
 	 */
-	public void stop() {
-		assert this.isRunning : "Couldn't stops the CoreEngine: Engine is not running.";
+	public synchronized void stop() {
+		if(!this.isRunning) return; // Both threads may request it.
 
 		this.isRunning = false;
 
@@ -246,6 +542,16 @@ final public class CoreEngine {
 		Profiler.stopProfileTimer("WindowSync");
 	}
 
+	/**
+	 * Returns the number of simulation ticks done in a second.
+	 *
+	 * @return CoreEngine.ticksPerSecond
+	 */
+	@Contract(pure = true)
+	final public int getTicksPerSecond() {
+		return this.ticksPerSecond;
+	}
+
 	/**
 	 * Returns the Rendering Engine.
 	 *
@@ -256,16 +562,44 @@ final public class CoreEngine {
 		return this.renderingEngine;
 	}
 
+	/**
+	 * Adds a World to simulate (on the simulation thread).
+	 *
+	 * @param world World to add
+	 */
+	public void addWorld(final @NotNull World world) {
+		if(!this.worlds.contains(world)) this.worlds.add(world);
+	}
+
+	/**
+	 * Stops simulating a World (on the simulation thread).
+	 *
+	 * @param world World to remove
+	 */
+	public void removeWorld(final @NotNull World world) {
+		this.worlds.remove(world);
+	}
+
 	/**
 	 * Returns the Audio Engine.
 	 *
-	 * @return CoreEngine.audioEngine
+	 * @return CoreEngine.audioEngine (null if headless)
 	 */
 	@Contract(pure = true)
-	final public @NotNull AudioEngine getAudioEngine() {
+	final public @Nullable AudioEngine getAudioEngine() {
 		return this.audioEngine;
 	}
 
+	/**
+	 * Returns whether the Engine runs without a window, audio and input.
+	 *
+	 * @return CoreEngine.headless
+	 */
+	@Contract(pure = true)
+	final public boolean isHeadless() {
+		return this.headless;
+	}
+
 	/**
 	 * Creates the main window for the application and initializes the graphics.
 	 *
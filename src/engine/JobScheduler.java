@@ -0,0 +1,78 @@
+package engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Work-stealing scheduler running independent jobs on every core.
+ * Each worker has its own deque: the jobs it forks are pushed on it, and idle workers steal from the others',
+ * so nested fan-outs (e.g. a subtree updated in parallel containing others) balance themselves.
+ * A thread joining its jobs runs queued ones in the meantime instead of only waiting.
+ */
+final public class JobScheduler {
+
+	/**
+	 * Worker threads (one per core, minus the game thread).
+	 */
+	final private static ForkJoinPool WORKERS = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), pool -> {
+		final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		thread.setName("Job worker " + thread.getPoolIndex());
+		thread.setDaemon(true);
+		return thread;
+	}, null, false);
+
+	/**
+	 * Starts a job on the workers (on the current worker's deque if called from a job).
+	 * The job must be joined with JobScheduler.join() before being forked again.
+	 *
+	 * @param job Job to start
+	 */
+	public static void fork(final @NotNull ForkJoinTask<?> job) {
+		job.reinitialize();
+
+		if(JobScheduler.isWorkerThread()) {
+			job.fork();
+		} else {
+			JobScheduler.WORKERS.execute(job);
+		}
+	}
+
+	/**
+	 * Waits for forked jobs to be done (the join barrier).
+	 * All of them are waited for even if one fails, then the first failure is thrown again.
+	 *
+	 * @param jobs Jobs forked with JobScheduler.fork()
+	 */
+	public static void join(final @NotNull ArrayList<? extends ForkJoinTask<?>> jobs) {
+		for(int i = jobs.size() - 1; i >= 0; i--) { // Most recently forked first: they're on top of this worker's deque.
+			jobs.get(i).quietlyJoin();
+		}
+
+		for(int i = 0; i < jobs.size(); i++) {
+			if(jobs.get(i).isCompletedAbnormally()) jobs.get(i).join(); // Throws the job's exception.
+		}
+	}
+
+	/**
+	 * Returns whether the current thread is one of the workers.
+	 *
+	 * @return new boolean
+	 */
+	public static boolean isWorkerThread() {
+		return ForkJoinTask.getPool() == JobScheduler.WORKERS;
+	}
+
+	/**
+	 * Returns the number of worker threads.
+	 *
+	 * @return JobScheduler::WORKERS.getParallelism()
+	 */
+	public static int getWorkerCount() {
+		return JobScheduler.WORKERS.getParallelism();
+	}
+
+}
\ No newline at end of file
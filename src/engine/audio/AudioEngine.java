@@ -1,7 +1,7 @@
 package engine.audio;
 
 import com.GameOptions;
-import com.objects.characters.Hero;
+import engine.events.EventBus;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.openal.AL;
 
@@ -18,6 +18,16 @@ import static org.lwjgl.openal.AL11.AL_LINEAR_DISTANCE_CLAMPED;
 
 final public class AudioEngine {
 
+	/**
+	 * Listener's position (where the sounds are heard from).
+	 */
+	private float listenerX, listenerY;
+
+	/**
+	 * Listener's velocity.
+	 */
+	private float listenerVelocityX, listenerVelocityY;
+
 	/**
 	 * Creates a new AudioEngine instance.
 	 */
@@ -30,6 +40,13 @@ final public class AudioEngine {
 		}
 
 		alDistanceModel(AL_LINEAR_DISTANCE_CLAMPED);
+
+		EventBus.subscribe(ListenerMovedEvent.class, event -> {
+			this.listenerX = event.getX();
+			this.listenerY = event.getY();
+			this.listenerVelocityX = event.getVelocityX();
+			this.listenerVelocityY = event.getVelocityY();
+		});
 	}
 
 	/**
@@ -37,13 +54,9 @@ final public class AudioEngine {
 	 */
 	public void update() {
 		alListenerf(AL_GAIN, GameOptions.getSlide("generalVolume").getValue()*0.01f);
-		if(Hero.getInstance() != null) {
-			alListener3f(AL_POSITION, Hero.getInstance().getPosition().getX(), Hero.getInstance().getPosition().getY(), 0.0f);
-			alListener3f(AL_VELOCITY, Hero.getInstance().getLinearVelocity().getX(), Hero.getInstance().getLinearVelocity().getY(), 0.0f);
-			//alListener3f(AL_ORIENTATION, 0.0f, 0.0f, 0.0f); // TODO (Warning: putting 0, 0, 0 generates alGetError)
-		} else {
-			alListener3f(AL_POSITION, 0.0f, 0.0f, 0.0f);
-		}
+		alListener3f(AL_POSITION, this.listenerX, this.listenerY, 0.0f);
+		alListener3f(AL_VELOCITY, this.listenerVelocityX, this.listenerVelocityY, 0.0f);
+		//alListener3f(AL_ORIENTATION, 0.0f, 0.0f, 0.0f); // TODO (Warning: putting 0, 0, 0 generates alGetError)
 
 		assert alGetError() == AL_NO_ERROR : "Error in the audio engine";
 	}
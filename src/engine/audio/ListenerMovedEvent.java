@@ -0,0 +1,83 @@
+package engine.audio;
+
+import engine.events.Event;
+import engine.events.EventBus;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Posted when what the player hears from (e.g. the hero) has moved: the AudioEngine moves its listener there.
+ */
+final public class ListenerMovedEvent implements Event {
+
+	/**
+	 * Listener's position.
+	 */
+	final private float x, y;
+
+	/**
+	 * Listener's velocity.
+	 */
+	final private float velocityX, velocityY;
+
+	/**
+	 * Creates a new ListenerMovedEvent instance.
+	 *
+	 * @param x Listener's x position
+	 * @param y Listener's y position
+	 * @param velocityX Listener's x velocity
+	 * @param velocityY Listener's y velocity
+	 */
+	public ListenerMovedEvent(final float x, final float y, final float velocityX, final float velocityY) {
+		this.x = x;
+		this.y = y;
+		this.velocityX = velocityX;
+		this.velocityY = velocityY;
+	}
+
+	@Override
+	@Contract(pure = true)
+	public int getPhase() {
+		return EventBus.PHASE_TICK_END;
+	}
+
+	/**
+	 * Returns the listener's x position.
+	 *
+	 * @return ListenerMovedEvent.x
+	 */
+	@Contract(pure = true)
+	public float getX() {
+		return this.x;
+	}
+
+	/**
+	 * Returns the listener's y position.
+	 *
+	 * @return ListenerMovedEvent.y
+	 */
+	@Contract(pure = true)
+	public float getY() {
+		return this.y;
+	}
+
+	/**
+	 * Returns the listener's x velocity.
+	 *
+	 * @return ListenerMovedEvent.velocityX
+	 */
+	@Contract(pure = true)
+	public float getVelocityX() {
+		return this.velocityX;
+	}
+
+	/**
+	 * Returns the listener's y velocity.
+	 *
+	 * @return ListenerMovedEvent.velocityY
+	 */
+	@Contract(pure = true)
+	public float getVelocityY() {
+		return this.velocityY;
+	}
+
+}
\ No newline at end of file
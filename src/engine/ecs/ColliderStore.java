@@ -0,0 +1,92 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+
+/**
+ * Axis-aligned hitboxes of the entities (from their position), tested by CollisionSystem.
+ */
+final public class ColliderStore extends ComponentStore {
+
+	/**
+	 * Collides with the PhysicsObjects.
+	 */
+	final public static int HIT_OBJECTS = 1;
+
+	/**
+	 * Collides with the tiles that can't be walked on nor swum in.
+	 */
+	final public static int HIT_TILES = 2;
+
+	/**
+	 * Is destroyed on its first collision (e.g. projectiles).
+	 */
+	final public static int DESTROY_ON_HIT = 4;
+
+	/**
+	 * Hitboxes' widths.
+	 */
+	float[] widths;
+
+	/**
+	 * Hitboxes' heights.
+	 */
+	float[] heights;
+
+	/**
+	 * Flags (ColliderStore.HIT_OBJECTS | ColliderStore.HIT_TILES | ColliderStore.DESTROY_ON_HIT).
+	 */
+	int[] flags;
+
+	/**
+	 * Creates a new ColliderStore instance.
+	 */
+	ColliderStore() {
+		this.widths = new float[ComponentStore.INITIAL_CAPACITY];
+		this.heights = new float[ComponentStore.INITIAL_CAPACITY];
+		this.flags = new int[ComponentStore.INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Sets an entity's hitbox (gives it the component if needed).
+	 *
+	 * @param entity Entity
+	 * @param width Hitbox's width (in openGL units)
+	 * @param height Hitbox's height (in openGL units)
+	 * @param flags ColliderStore.HIT_OBJECTS | ColliderStore.HIT_TILES | ColliderStore.DESTROY_ON_HIT
+	 */
+	final public void set(final int entity, final float width, final float height, final int flags) {
+		final int index = this.add(entity);
+
+		this.widths[index] = width;
+		this.heights[index] = height;
+		this.flags[index] = flags;
+	}
+
+	/**
+	 * Returns the flags of a component.
+	 *
+	 * @param index Dense index
+	 * @return ColliderStore.flags[index]
+	 */
+	@Contract(pure = true)
+	final public int getFlags(final int index) {
+		return this.flags[index];
+	}
+
+	@Override
+	protected void grow(final int capacity) {
+		this.widths = Arrays.copyOf(this.widths, capacity);
+		this.heights = Arrays.copyOf(this.heights, capacity);
+		this.flags = Arrays.copyOf(this.flags, capacity);
+	}
+
+	@Override
+	protected void move(final int from, final int to) {
+		this.widths[to] = this.widths[from];
+		this.heights[to] = this.heights[from];
+		this.flags[to] = this.flags[from];
+	}
+
+}
\ No newline at end of file
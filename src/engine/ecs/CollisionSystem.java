@@ -0,0 +1,123 @@
+package engine.ecs;
+
+import engine.game.World;
+import engine.game.objects.map.Map;
+import engine.game.objects.map.Tile;
+import engine.math.Vector2f;
+import engine.physics.PhysicsEngine;
+import engine.physics.PhysicsObject;
+import engine.physics.colliders.AABBCollider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Tests the entities' hitboxes against their World's physics objects and map tiles, so entities collide
+ * alongside the GameObjects.
+ * The objects' bounds are read once per update, then each hitbox is compared with them (the exact test only
+ * runs when the bounds overlap). Tiles are tested at the hitbox's center, which suits small entities.
+ * The entities don't push the objects: hits are reported to the listener, which decides what happens.
+ */
+final public class CollisionSystem implements EntitySystem {
+
+	/**
+	 * World whose objects and tiles the entities collide with.
+	 */
+	final private @NotNull World world;
+
+	/**
+	 * Notified of the hits (null = none).
+	 */
+	final private @Nullable EntityCollisionListener listener;
+
+	/**
+	 * Hitbox of the entity being tested.
+	 */
+	final private @NotNull AABBCollider hitbox;
+
+	/**
+	 * Bounds of the objects (4 floats each).
+	 */
+	private float[] objectBounds;
+
+	/**
+	 * Bounds of one object.
+	 */
+	final private float @NotNull [] bounds;
+
+	/**
+	 * Creates a new CollisionSystem instance.
+	 *
+	 * @param world World whose objects and tiles the entities collide with
+	 * @param listener Notified of the hits (null = none)
+	 */
+	public CollisionSystem(final @NotNull World world, final @Nullable EntityCollisionListener listener) {
+		this.world = world;
+		this.listener = listener;
+		this.hitbox = new AABBCollider();
+		this.objectBounds = new float[4 * 16];
+		this.bounds = new float[4];
+	}
+
+	@Override
+	public void update(final @NotNull EntityRegistry registry, final double delta) {
+		final ColliderStore colliders = registry.getColliders();
+		final PositionStore positions = registry.getPositions();
+		if(colliders.size() == 0) return;
+
+		final PhysicsEngine physicsEngine = this.world.getPhysicsEngine();
+		final int objects = physicsEngine.getObjectCount();
+		if(4 * objects > this.objectBounds.length) this.objectBounds = Arrays.copyOf(this.objectBounds, Math.max(4 * objects, 2 * this.objectBounds.length));
+		for(int j = 0; j < objects; j++) {
+			physicsEngine.getObject(j).asCollider().getBounds(this.bounds);
+			System.arraycopy(this.bounds, 0, this.objectBounds, 4 * j, 4);
+		}
+
+		final Map map = this.world.getMap();
+		for(int i = 0; i < colliders.size(); i++) {
+			final int entity = colliders.getEntity(i);
+			final int position = positions.indexOf(entity);
+			if(position == -1) continue;
+
+			final float minX = positions.x[position];
+			final float minY = positions.y[position];
+			final float maxX = minX + colliders.widths[i];
+			final float maxY = minY + colliders.heights[i];
+			final int flags = colliders.flags[i];
+			final boolean destroyOnHit = (flags & ColliderStore.DESTROY_ON_HIT) != 0;
+			boolean hit = false;
+
+			if((flags & ColliderStore.HIT_OBJECTS) != 0) {
+				for(int j = 0; j < objects && !(hit && destroyOnHit); j++) {
+					if(minX > this.objectBounds[4 * j + 2] || maxX < this.objectBounds[4 * j] || minY > this.objectBounds[4 * j + 3] || maxY < this.objectBounds[4 * j + 1]) continue;
+
+					final PhysicsObject object = physicsEngine.getObject(j);
+					final Vector2f hitboxPosition = Vector2f.getTemporary(0);
+					hitboxPosition.set(minX, minY);
+					this.hitbox.setPosition(hitboxPosition);
+					this.hitbox.setWidth(maxX - minX);
+					this.hitbox.setHeight(maxY - minY);
+					if(object.asCollider().intersect(this.hitbox) == null) continue;
+
+					hit = true;
+					if(this.listener != null) this.listener.entityHit(registry, entity, object);
+				}
+			}
+
+			if((flags & ColliderStore.HIT_TILES) != 0 && map != null && !(hit && destroyOnHit)) {
+				final float x = (minX + maxX) / 2;
+				final float y = (minY + maxY) / 2;
+				final Tile tile = x < 0 || y < 0 ? null : map.getTileAt(x, y);
+
+				if(tile != null && tile.getSpeedMultiplicator() == 0) {
+					hit = true;
+					if(this.listener != null) this.listener.entityHit(registry, entity, null);
+				}
+			}
+
+			if(hit && destroyOnHit) registry.destroy(entity);
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+
+/**
+ * Storage of one type of component: a sparse set mapping entities to indices in dense arrays.
+ * Subclasses keep the component's values in typed arrays (one per field) at the same dense indices,
+ * so systems iterate them linearly from 0 to ComponentStore.size().
+ * Removing swaps the last component into the hole, which is why EntityRegistry defers destructions
+ * until its systems have run.
+ */
+public abstract class ComponentStore {
+
+	/**
+	 * Initial number of components the arrays can hold.
+	 */
+	final protected static int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Dense index + 1 of each entity index's component (0 = none).
+	 */
+	private int[] sparse;
+
+	/**
+	 * Entity owning each component.
+	 */
+	private int[] entities;
+
+	/**
+	 * Number of components.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new ComponentStore instance (subclasses allocate their arrays with ComponentStore.INITIAL_CAPACITY).
+	 */
+	protected ComponentStore() {
+		this.sparse = new int[ComponentStore.INITIAL_CAPACITY];
+		this.entities = new int[ComponentStore.INITIAL_CAPACITY];
+		this.size = 0;
+	}
+
+	/**
+	 * Returns the dense index of an entity's component.
+	 *
+	 * @param entity Entity
+	 * @return -1 if the entity doesn't have the component
+	 */
+	@Contract(pure = true)
+	final public int indexOf(final int entity) {
+		final int index = EntityRegistry.getIndex(entity);
+		if(index >= this.sparse.length || this.sparse[index] == 0) return -1;
+
+		final int dense = this.sparse[index] - 1;
+		return this.entities[dense] == entity ? dense : -1;
+	}
+
+	/**
+	 * Returns whether an entity has the component.
+	 *
+	 * @param entity Entity
+	 * @return new boolean
+	 */
+	@Contract(pure = true)
+	final public boolean has(final int entity) {
+		return this.indexOf(entity) != -1;
+	}
+
+	/**
+	 * Returns the number of components.
+	 *
+	 * @return ComponentStore.size
+	 */
+	@Contract(pure = true)
+	final public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the entity owning a component.
+	 *
+	 * @param index Dense index between 0 and ComponentStore.size()
+	 * @return Entity
+	 */
+	@Contract(pure = true)
+	final public int getEntity(final int index) {
+		assert index >= 0 && index < this.size : "Error: ComponentStore index out of bound: " + index + " (size: " + this.size + ")";
+
+		return this.entities[index];
+	}
+
+	/**
+	 * Gives an entity the component (or finds the one it has).
+	 *
+	 * @param entity Entity
+	 * @return Component's dense index
+	 */
+	final protected int add(final int entity) {
+		final int existing = this.indexOf(entity);
+		if(existing != -1) return existing;
+
+		final int index = EntityRegistry.getIndex(entity);
+		if(index >= this.sparse.length) {
+			this.sparse = Arrays.copyOf(this.sparse, Math.max(index + 1, this.sparse.length * 2));
+		}
+		if(this.size == this.entities.length) {
+			this.entities = Arrays.copyOf(this.entities, this.entities.length * 2);
+			this.grow(this.entities.length);
+		}
+
+		this.entities[this.size] = entity;
+		this.sparse[index] = this.size + 1;
+		this.size++;
+
+		return this.size - 1;
+	}
+
+	/**
+	 * Removes an entity's component.
+	 * The last component takes its dense index.
+	 *
+	 * @param entity Entity
+	 * @return Whether the entity had the component
+	 */
+	final public boolean remove(final int entity) {
+		final int dense = this.indexOf(entity);
+		if(dense == -1) return false;
+
+		final int last = this.size - 1;
+		if(dense != last) {
+			this.entities[dense] = this.entities[last];
+			this.sparse[EntityRegistry.getIndex(this.entities[dense])] = dense + 1;
+			this.move(last, dense);
+		}
+		this.clear(last);
+		this.sparse[EntityRegistry.getIndex(entity)] = 0;
+		this.size--;
+
+		return true;
+	}
+
+	/**
+	 * Grows the typed arrays.
+	 *
+	 * @param capacity New capacity
+	 */
+	abstract protected void grow(final int capacity);
+
+	/**
+	 * Moves a component's values to another dense index.
+	 *
+	 * @param from Index to move from
+	 * @param to Index to move to
+	 */
+	abstract protected void move(final int from, final int to);
+
+	/**
+	 * Clears the values at a dense index that isn't used anymore (e.g. releases references).
+	 *
+	 * @param index Dense index
+	 */
+	protected void clear(final int index) {}
+
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package engine.ecs;
+
+import engine.physics.PhysicsObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Notified by CollisionSystem when an entity hits a PhysicsObject or a tile.
+ */
+public interface EntityCollisionListener {
+
+	/**
+	 * Called when an entity's hitbox hits something.
+	 *
+	 * @param registry Registry of the entity
+	 * @param entity Entity
+	 * @param object PhysicsObject hit (null if it is a tile)
+	 */
+	abstract public void entityHit(final @NotNull EntityRegistry registry, final int entity, final @Nullable PhysicsObject object);
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package engine.ecs;
+
+import engine.game.components.GameComponent;
+import engine.game.objects.GameObject;
+import engine.math.Matrix4f;
+import engine.math.Vector2f;
+import engine.rendering.shader.Shader;
+import engine.util.Window;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * Bridge between an EntityRegistry and the GameObject tree: added like any GameObject, it updates the registry
+ * with the rest of the scene and draws the entities' sprites in the same rendering pass, skipping the ones
+ * outside the camera's rectangle.
+ * Entities are positioned in world space: the layer's own Transform doesn't move them.
+ */
+public class EntityLayer extends GameObject {
+
+	/**
+	 * Registry updated and rendered.
+	 */
+	final private @NotNull EntityRegistry registry;
+
+	/**
+	 * World transformation the sprites are drawn at (moved to each entity in turn).
+	 */
+	final private @NotNull Matrix4f spriteTransformation;
+
+	/**
+	 * Creates a new EntityLayer instance.
+	 *
+	 * @param name Layer's name
+	 * @param registry Registry to update and render
+	 */
+	public EntityLayer(final @NotNull String name, final @NotNull EntityRegistry registry) {
+		super(name, Float.MAX_VALUE, Float.MAX_VALUE);
+
+		this.registry = registry;
+		this.spriteTransformation = new Matrix4f();
+	}
+
+	@Override
+	public void update(final double delta) {
+		this.getRegistry().update(delta);
+
+		super.update(delta);
+	}
+
+	@Override
+	public void render(final Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
+		super.render(shader, renderLater);
+
+		final SpriteStore sprites = this.getRegistry().getSprites();
+		final PositionStore positions = this.getRegistry().getPositions();
+		if(sprites.size() == 0 || this.getCoreEngine() == null) return;
+
+		final Vector2f cameraPosition = this.getCoreEngine().getRenderingEngine().getMainCamera().getPos(Vector2f.getTemporary(1));
+		final float left = cameraPosition.getX() - Window.getRatio();
+		final float right = cameraPosition.getX() + Window.getRatio();
+		final float bottom = cameraPosition.getY() - 1;
+		final float top = cameraPosition.getY() + 1;
+
+		for(int i = 0; i < sprites.size(); i++) {
+			final int position = positions.indexOf(sprites.getEntity(i));
+			if(position == -1) continue;
+
+			final float x = positions.x[position];
+			final float y = positions.y[position];
+			if(x > right || y > top || x + sprites.widths[i] < left || y + sprites.heights[i] < bottom) continue;
+
+			this.spriteTransformation.initPosition(x, y, sprites.depths[i]);
+			shader.draw(sprites.materials[i], this.spriteTransformation, sprites.meshes[i]);
+		}
+	}
+
+	/**
+	 * Returns the registry updated and rendered.
+	 *
+	 * @return EntityLayer.registry
+	 */
+	@Contract(pure = true)
+	final public @NotNull EntityRegistry getRegistry() {
+		return this.registry;
+	}
+
+}
\ No newline at end of file
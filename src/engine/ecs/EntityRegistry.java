@@ -0,0 +1,302 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Entity-component-system data layer, for entities too numerous to be GameObjects (projectiles, particles...).
+ * An entity is just an int (its index, and a generation so ids of destroyed entities don't match the new ones),
+ * its components live in the ComponentStores' dense arrays and the EntitySystems update them linearly.
+ * Destroying is deferred until the systems have run, so they can iterate without their arrays changing under them.
+ * See EntityLayer to render and update it with the GameObjects.
+ */
+final public class EntityRegistry {
+
+	/**
+	 * Number of bits of an entity's index (the others are its generation).
+	 */
+	final private static int INDEX_BITS = 24;
+
+	/**
+	 * Mask of an entity's index.
+	 */
+	final private static int INDEX_MASK = (1 << EntityRegistry.INDEX_BITS) - 1;
+
+	/**
+	 * Generation of each entity index (incremented when its entity is destroyed).
+	 */
+	private int[] generations;
+
+	/**
+	 * Number of entity indices used so far.
+	 */
+	private int indices;
+
+	/**
+	 * Indices of the destroyed entities, to reuse.
+	 */
+	private int[] freeIndices;
+
+	/**
+	 * Number of indices to reuse.
+	 */
+	private int freeCount;
+
+	/**
+	 * Number of alive entities.
+	 */
+	private int count;
+
+	/**
+	 * Entities to destroy after the systems have run.
+	 */
+	private int[] toDestroy;
+
+	/**
+	 * Number of entities to destroy.
+	 */
+	private int toDestroyCount;
+
+	/**
+	 * Stores (the built-in ones, then the ones added).
+	 */
+	final private @NotNull ArrayList<ComponentStore> stores;
+
+	/**
+	 * Systems, in the order they run.
+	 */
+	final private @NotNull ArrayList<EntitySystem> systems;
+
+	/**
+	 * Entities' positions.
+	 */
+	final private @NotNull PositionStore positions;
+
+	/**
+	 * Entities' velocities.
+	 */
+	final private @NotNull VelocityStore velocities;
+
+	/**
+	 * Entities' sprites.
+	 */
+	final private @NotNull SpriteStore sprites;
+
+	/**
+	 * Entities' hitboxes.
+	 */
+	final private @NotNull ColliderStore colliders;
+
+	/**
+	 * Entities' lifetimes.
+	 */
+	final private @NotNull LifetimeStore lifetimes;
+
+	/**
+	 * Creates a new EntityRegistry instance, with the built-in stores and no systems.
+	 */
+	public EntityRegistry() {
+		this.generations = new int[ComponentStore.INITIAL_CAPACITY];
+		this.indices = 0;
+		this.freeIndices = new int[ComponentStore.INITIAL_CAPACITY];
+		this.freeCount = 0;
+		this.count = 0;
+		this.toDestroy = new int[ComponentStore.INITIAL_CAPACITY];
+		this.toDestroyCount = 0;
+		this.stores = new ArrayList<>();
+		this.systems = new ArrayList<>();
+
+		this.positions = this.addStore(new PositionStore());
+		this.velocities = this.addStore(new VelocityStore());
+		this.sprites = this.addStore(new SpriteStore());
+		this.colliders = this.addStore(new ColliderStore());
+		this.lifetimes = this.addStore(new LifetimeStore());
+	}
+
+	/**
+	 * Returns an entity's index.
+	 *
+	 * @param entity Entity
+	 * @return new int
+	 */
+	@Contract(pure = true)
+	static int getIndex(final int entity) {
+		return entity & EntityRegistry.INDEX_MASK;
+	}
+
+	/**
+	 * Creates an entity (without any component).
+	 *
+	 * @return Entity
+	 */
+	final public int create() {
+		final int index;
+		if(this.freeCount > 0) {
+			this.freeCount--;
+			index = this.freeIndices[this.freeCount];
+		} else {
+			assert this.indices <= EntityRegistry.INDEX_MASK : "Error: Too many entities.";
+
+			index = this.indices;
+			this.indices++;
+			if(index == this.generations.length) {
+				this.generations = Arrays.copyOf(this.generations, this.generations.length * 2);
+			}
+		}
+		this.count++;
+
+		return (this.generations[index] << EntityRegistry.INDEX_BITS) | index;
+	}
+
+	/**
+	 * Returns whether an entity exists (and hasn't been destroyed).
+	 *
+	 * @param entity Entity
+	 * @return new boolean
+	 */
+	@Contract(pure = true)
+	final public boolean isAlive(final int entity) {
+		final int index = EntityRegistry.getIndex(entity);
+
+		return index < this.indices && this.generations[index] == entity >>> EntityRegistry.INDEX_BITS;
+	}
+
+	/**
+	 * Destroys an entity and its components once the systems have run (see EntityRegistry.flush).
+	 *
+	 * @param entity Entity to destroy
+	 */
+	final public void destroy(final int entity) {
+		if(!this.isAlive(entity)) return;
+
+		if(this.toDestroyCount == this.toDestroy.length) {
+			this.toDestroy = Arrays.copyOf(this.toDestroy, this.toDestroy.length * 2);
+		}
+		this.toDestroy[this.toDestroyCount] = entity;
+		this.toDestroyCount++;
+	}
+
+	/**
+	 * Destroys the entities whose destruction was deferred.
+	 */
+	final public void flush() {
+		for(int i = 0; i < this.toDestroyCount; i++) {
+			final int entity = this.toDestroy[i];
+			if(!this.isAlive(entity)) continue; // Destroyed twice.
+
+			for(int j = 0; j < this.stores.size(); j++) {
+				this.stores.get(j).remove(entity);
+			}
+
+			final int index = EntityRegistry.getIndex(entity);
+			this.generations[index] = (this.generations[index] + 1) & (-1 >>> EntityRegistry.INDEX_BITS);
+			if(this.freeCount == this.freeIndices.length) {
+				this.freeIndices = Arrays.copyOf(this.freeIndices, this.freeIndices.length * 2);
+			}
+			this.freeIndices[this.freeCount] = index;
+			this.freeCount++;
+			this.count--;
+		}
+
+		this.toDestroyCount = 0;
+	}
+
+	/**
+	 * Runs the systems, then destroys the entities whose destruction was deferred.
+	 *
+	 * @param delta Time since the last update (in s)
+	 */
+	final public void update(final double delta) {
+		for(int i = 0; i < this.systems.size(); i++) {
+			this.systems.get(i).update(this, delta);
+		}
+
+		this.flush();
+	}
+
+	/**
+	 * Adds a store (its components are removed when their entity is destroyed).
+	 *
+	 * @param store Store to add
+	 * @param <T> Store's type
+	 * @return store
+	 */
+	final public <T extends ComponentStore> @NotNull T addStore(final @NotNull T store) {
+		this.stores.add(store);
+
+		return store;
+	}
+
+	/**
+	 * Adds a system (they run in the order they were added).
+	 *
+	 * @param system System to add
+	 */
+	final public void addSystem(final @NotNull EntitySystem system) {
+		this.systems.add(system);
+	}
+
+	/**
+	 * Returns the number of alive entities.
+	 *
+	 * @return EntityRegistry.count
+	 */
+	@Contract(pure = true)
+	final public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the entities' positions.
+	 *
+	 * @return EntityRegistry.positions
+	 */
+	@Contract(pure = true)
+	final public @NotNull PositionStore getPositions() {
+		return this.positions;
+	}
+
+	/**
+	 * Returns the entities' velocities.
+	 *
+	 * @return EntityRegistry.velocities
+	 */
+	@Contract(pure = true)
+	final public @NotNull VelocityStore getVelocities() {
+		return this.velocities;
+	}
+
+	/**
+	 * Returns the entities' sprites.
+	 *
+	 * @return EntityRegistry.sprites
+	 */
+	@Contract(pure = true)
+	final public @NotNull SpriteStore getSprites() {
+		return this.sprites;
+	}
+
+	/**
+	 * Returns the entities' hitboxes.
+	 *
+	 * @return EntityRegistry.colliders
+	 */
+	@Contract(pure = true)
+	final public @NotNull ColliderStore getColliders() {
+		return this.colliders;
+	}
+
+	/**
+	 * Returns the entities' lifetimes.
+	 *
+	 * @return EntityRegistry.lifetimes
+	 */
+	@Contract(pure = true)
+	final public @NotNull LifetimeStore getLifetimes() {
+		return this.lifetimes;
+	}
+
+}
\ No newline at end of file
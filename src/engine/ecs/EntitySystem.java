@@ -0,0 +1,18 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Logic run over the components of an EntityRegistry, every update.
+ */
+public interface EntitySystem {
+
+	/**
+	 * Updates the components (entities destroyed meanwhile are only removed once all the systems have run).
+	 *
+	 * @param registry Registry
+	 * @param delta Time since the last update (in s)
+	 */
+	abstract public void update(final @NotNull EntityRegistry registry, final double delta);
+
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+
+/**
+ * Remaining lifetimes of the entities (in s), after which LifetimeSystem destroys them.
+ */
+final public class LifetimeStore extends ComponentStore {
+
+	/**
+	 * Remaining lifetimes.
+	 */
+	float[] remaining;
+
+	/**
+	 * Creates a new LifetimeStore instance.
+	 */
+	LifetimeStore() {
+		this.remaining = new float[ComponentStore.INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Sets an entity's remaining lifetime (gives it the component if needed).
+	 *
+	 * @param entity Entity
+	 * @param remaining Remaining lifetime (in s)
+	 */
+	final public void set(final int entity, final float remaining) {
+		final int index = this.add(entity);
+
+		this.remaining[index] = remaining;
+	}
+
+	/**
+	 * Returns the remaining lifetime of a component.
+	 *
+	 * @param index Dense index
+	 * @return LifetimeStore.remaining[index]
+	 */
+	@Contract(pure = true)
+	final public float getRemaining(final int index) {
+		return this.remaining[index];
+	}
+
+	@Override
+	protected void grow(final int capacity) {
+		this.remaining = Arrays.copyOf(this.remaining, capacity);
+	}
+
+	@Override
+	protected void move(final int from, final int to) {
+		this.remaining[to] = this.remaining[from];
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Destroys the entities whose lifetime has run out.
+ */
+final public class LifetimeSystem implements EntitySystem {
+
+	@Override
+	public void update(final @NotNull EntityRegistry registry, final double delta) {
+		final LifetimeStore lifetimes = registry.getLifetimes();
+
+		for(int i = 0; i < lifetimes.size(); i++) {
+			lifetimes.remaining[i] -= delta;
+			if(lifetimes.remaining[i] <= 0) registry.destroy(lifetimes.getEntity(i));
+		}
+	}
+
+}
\ No newline at end of file
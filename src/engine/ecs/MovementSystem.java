@@ -0,0 +1,24 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Moves the entities having a velocity and a position.
+ */
+final public class MovementSystem implements EntitySystem {
+
+	@Override
+	public void update(final @NotNull EntityRegistry registry, final double delta) {
+		final VelocityStore velocities = registry.getVelocities();
+		final PositionStore positions = registry.getPositions();
+
+		for(int i = 0; i < velocities.size(); i++) {
+			final int position = positions.indexOf(velocities.getEntity(i));
+			if(position == -1) continue;
+
+			positions.x[position] += velocities.x[i] * delta;
+			positions.y[position] += velocities.y[i] * delta;
+		}
+	}
+
+}
\ No newline at end of file
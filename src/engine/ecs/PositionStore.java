@@ -0,0 +1,78 @@
+package engine.ecs;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+
+/**
+ * Positions of the entities (bottom-left corner, in openGL units, in world space).
+ */
+final public class PositionStore extends ComponentStore {
+
+	/**
+	 * X positions.
+	 */
+	float[] x;
+
+	/**
+	 * Y positions.
+	 */
+	float[] y;
+
+	/**
+	 * Creates a new PositionStore instance.
+	 */
+	PositionStore() {
+		this.x = new float[ComponentStore.INITIAL_CAPACITY];
+		this.y = new float[ComponentStore.INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Sets an entity's position (gives it the component if needed).
+	 *
+	 * @param entity Entity
+	 * @param x X position
+	 * @param y Y position
+	 */
+	final public void set(final int entity, final float x, final float y) {
+		final int index = this.add(entity);
+
+		this.x[index] = x;
+		this.y[index] = y;
+	}
+
+	/**
+	 * Returns the x position of a component.
+	 *
+	 * @param index Dense index
+	 * @return PositionStore.x[index]
+	 */
+	@Contract(pure = true)
+	final public float getX(final int index) {
+		return this.x[index];
+	}
+
+	/**
+	 * Returns the y position of a component.
+	 *
+	 * @param index Dense index
+	 * @return PositionStore.y[index]
+	 */
+	@Contract(pure = true)
+	final public float getY(final int index) {
+		return this.y[index];
+	}
+
+	@Override
+	protected void grow(final int capacity) {
+		this.x = Arrays.copyOf(this.x, capacity);
+		this.y = Arrays.copyOf(this.y, capacity);
+	}
+
+	@Override
+	protected void move(final int from, final int to) {
+		this.x[to] = this.x[from];
+		this.y[to] = this.y[from];
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package engine.ecs;
+
+import engine.rendering.Mesh;
+import engine.rendering.texture.Material;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Sprites of the entities, drawn at their position by their EntityLayer.
+ * Meshes and Materials are meant to be shared by all the entities looking the same.
+ */
+final public class SpriteStore extends ComponentStore {
+
+	/**
+	 * Meshes.
+	 */
+	Mesh[] meshes;
+
+	/**
+	 * Materials.
+	 */
+	Material[] materials;
+
+	/**
+	 * Sprites' widths (in openGL units, used for culling).
+	 */
+	float[] widths;
+
+	/**
+	 * Sprites' heights (in openGL units, used for culling).
+	 */
+	float[] heights;
+
+	/**
+	 * Sprites' depths.
+	 */
+	float[] depths;
+
+	/**
+	 * Creates a new SpriteStore instance.
+	 */
+	SpriteStore() {
+		this.meshes = new Mesh[ComponentStore.INITIAL_CAPACITY];
+		this.materials = new Material[ComponentStore.INITIAL_CAPACITY];
+		this.widths = new float[ComponentStore.INITIAL_CAPACITY];
+		this.heights = new float[ComponentStore.INITIAL_CAPACITY];
+		this.depths = new float[ComponentStore.INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Sets an entity's sprite (gives it the component if needed).
+	 *
+	 * @param entity Entity
+	 * @param mesh Mesh (e.g. Mesh.create(width, height), shared)
+	 * @param material Material (shared)
+	 * @param width Sprite's width
+	 * @param height Sprite's height
+	 * @param depth Sprite's depth
+	 */
+	final public void set(final int entity, final @NotNull Mesh mesh, final @NotNull Material material, final float width, final float height, final float depth) {
+		final int index = this.add(entity);
+
+		this.meshes[index] = mesh;
+		this.materials[index] = material;
+		this.widths[index] = width;
+		this.heights[index] = height;
+		this.depths[index] = depth;
+	}
+
+	/**
+	 * Returns the Material of a component.
+	 *
+	 * @param index Dense index
+	 * @return SpriteStore.materials[index]
+	 */
+	@Contract(pure = true)
+	final public @NotNull Material getMaterial(final int index) {
+		return this.materials[index];
+	}
+
+	@Override
+	protected void grow(final int capacity) {
+		this.meshes = Arrays.copyOf(this.meshes, capacity);
+		this.materials = Arrays.copyOf(this.materials, capacity);
+		this.widths = Arrays.copyOf(this.widths, capacity);
+		this.heights = Arrays.copyOf(this.heights, capacity);
+		this.depths = Arrays.copyOf(this.depths, capacity);
+	}
+
+	@Override
+	protected void move(final int from, final int to) {
+		this.meshes[to] = this.meshes[from];
+		this.materials[to] = this.materials[from];
+		this.widths[to] = this.widths[from];
+		this.heights[to] = this.heights[from];
+		this.depths[to] = this.depths[from];
+	}
+
+	@Override
+	protected void clear(final int index) {
+		this.meshes[index] = null;
+		this.materials[index] = null;
+	}
+
+}
\ No newline at end of file
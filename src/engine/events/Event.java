@@ -0,0 +1,16 @@
+package engine.events;
+
+/**
+ * Message posted on the EventBus. Events are immutable: they're created by their producer (possibly on another
+ * thread) and only read by the listeners.
+ */
+public interface Event {
+
+	/**
+	 * Returns the phase of the tick the Event is dispatched in.
+	 *
+	 * @return EventBus::PHASE_TICK_START, PHASE_AFTER_PHYSICS or PHASE_TICK_END
+	 */
+	abstract public int getPhase();
+
+}
\ No newline at end of file
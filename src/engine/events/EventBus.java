@@ -0,0 +1,180 @@
+package engine.events;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Typed messages between subsystems, instead of them reaching into each other's singletons.
+ * Any thread can post an Event (e.g. a loader or a job): it is queued without locks in the ring of its phase,
+ * and the simulation thread dispatches each ring at a fixed point of every tick, calling the listeners subscribed
+ * to the Event's exact class in the order the Events were posted.
+ * When a ring is full, the Events overflow into its phase's spill queue (never blocking the poster: a job waiting
+ * for the simulation thread while it waits for the job would deadlock) and are dispatched after the ring's.
+ * Events posted while a phase is dispatched (e.g. by a listener) wait for its next dispatch.
+ */
+final public class EventBus {
+
+	/**
+	 * Dispatched at the start of each tick, before the input.
+	 */
+	final public static int PHASE_TICK_START = 0;
+
+	/**
+	 * Dispatched after the physics, before the game's update.
+	 */
+	final public static int PHASE_AFTER_PHYSICS = 1;
+
+	/**
+	 * Dispatched at the end of each tick, after the game's update.
+	 */
+	final public static int PHASE_TICK_END = 2;
+
+	/**
+	 * Maximum number of Events queued in a phase's ring.
+	 */
+	final private static int RING_CAPACITY = 4096;
+
+	/**
+	 * Queued Events of each phase.
+	 */
+	final private static @NotNull EventRing @NotNull [] RINGS = {
+		new EventRing(EventBus.RING_CAPACITY),
+		new EventRing(EventBus.RING_CAPACITY),
+		new EventRing(EventBus.RING_CAPACITY)
+	};
+
+	/**
+	 * Events of each phase which didn't fit in its ring.
+	 */
+	final private static @NotNull ConcurrentLinkedQueue<Event> @NotNull [] SPILLS = EventBus.createSpills();
+
+	/**
+	 * Number of Events in each phase's spill queue (counted once added, so that many can always be polled).
+	 */
+	final private static @NotNull AtomicInteger @NotNull [] SPILL_SIZES = {new AtomicInteger(), new AtomicInteger(), new AtomicInteger()};
+
+	/**
+	 * Number of Events which didn't fit in their ring since the start.
+	 */
+	final private static @NotNull AtomicLong SPILLED = new AtomicLong();
+
+	/**
+	 * Listeners of each Event class (any thread can subscribe, e.g. a class initialized by a loader).
+	 */
+	final private static @NotNull ConcurrentHashMap<Class<? extends Event>, CopyOnWriteArrayList<EventListener<?>>> LISTENERS = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the spill queue of each phase.
+	 *
+	 * @return new ConcurrentLinkedQueue[]
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static @NotNull ConcurrentLinkedQueue<Event> @NotNull [] createSpills() {
+		final ConcurrentLinkedQueue<Event>[] spills = new ConcurrentLinkedQueue[EventBus.RINGS.length];
+		for(int i = 0; i < spills.length; i++) {
+			spills[i] = new ConcurrentLinkedQueue<>();
+		}
+
+		return spills;
+	}
+
+	/**
+	 * Subscribes a listener to an Event class (any thread).
+	 * A listener subscribed during a dispatch may be called from the next Event on.
+	 *
+	 * @param type Event class
+	 * @param listener Listener to call
+	 * @param <E> Type of the Events
+	 */
+	public static <E extends Event> void subscribe(final @NotNull Class<E> type, final @NotNull EventListener<? super E> listener) {
+		EventBus.LISTENERS.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+	}
+
+	/**
+	 * Unsubscribes a listener from an Event class (any thread).
+	 *
+	 * @param type Event class
+	 * @param listener Listener subscribed
+	 * @param <E> Type of the Events
+	 */
+	public static <E extends Event> void unsubscribe(final @NotNull Class<E> type, final @NotNull EventListener<? super E> listener) {
+		final CopyOnWriteArrayList<EventListener<?>> listeners = EventBus.LISTENERS.get(type);
+		if(listeners != null) listeners.remove(listener);
+	}
+
+	/**
+	 * Posts an Event (any thread, lock-free, never waits).
+	 * While the phase's spill queue isn't empty, the Events go there too so that they stay in order.
+	 *
+	 * @param event Event to post
+	 */
+	public static void post(final @NotNull Event event) {
+		final int phase = event.getPhase();
+		if(EventBus.SPILL_SIZES[phase].get() == 0 && EventBus.RINGS[phase].offer(event)) return;
+
+		EventBus.SPILLS[phase].add(event);
+		EventBus.SPILL_SIZES[phase].incrementAndGet();
+		EventBus.SPILLED.incrementAndGet();
+	}
+
+	/**
+	 * Dispatches the Events of a phase posted so far (simulation thread, once per tick).
+	 *
+	 * @param phase EventBus::PHASE_TICK_START, PHASE_AFTER_PHYSICS or PHASE_TICK_END
+	 */
+	public static void dispatch(final int phase) {
+		final EventRing ring = EventBus.RINGS[phase];
+		final long end = ring.getClaimed();
+		final int spilled = EventBus.SPILL_SIZES[phase].get(); // Spilled Events posted from now on wait for the next dispatch.
+
+		while(ring.getRead() < end) {
+			final Event event = ring.poll();
+			if(event == null) break; // Still being written by its producer: it'll be dispatched next time.
+
+			EventBus.notifyListeners(event);
+		}
+
+		for(int i = 0; i < spilled; i++) {
+			final Event event = EventBus.SPILLS[phase].poll();
+			EventBus.SPILL_SIZES[phase].decrementAndGet();
+			EventBus.notifyListeners(event);
+		}
+	}
+
+	/**
+	 * Calls the listeners subscribed to an Event's class.
+	 *
+	 * @param event Event dispatched
+	 */
+	@SuppressWarnings("unchecked")
+	private static void notifyListeners(final @NotNull Event event) {
+		final CopyOnWriteArrayList<EventListener<?>> listeners = EventBus.LISTENERS.get(event.getClass());
+		if(listeners == null) return;
+
+		for(final EventListener<?> listener : listeners) {
+			try {
+				((EventListener<Event>) listener).onEvent(event);
+			} catch(final RuntimeException e) {
+				System.err.println("Error: A listener of " + event.getClass().getSimpleName() + " has failed.");
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of Events which didn't fit in their ring since the start (a bigger ring may be needed).
+	 *
+	 * @return EventBus::SPILLED
+	 */
+	@Contract(pure = true)
+	public static long getSpilledCount() {
+		return EventBus.SPILLED.get();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package engine.events;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the Events of a type dispatched by the EventBus.
+ *
+ * @param <E> Type of the Events
+ */
+public interface EventListener<E extends Event> {
+
+	/**
+	 * Called (on the dispatching thread) for each Event of the type.
+	 *
+	 * @param event Event dispatched
+	 */
+	abstract public void onEvent(final @NotNull E event);
+
+}
\ No newline at end of file
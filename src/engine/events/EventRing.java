@@ -0,0 +1,126 @@
+package engine.events;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer single-consumer queue of Events.
+ * Each slot has a sequence number telling whose turn it is: producers claim a position with a CAS on the tail,
+ * fill the slot and then publish it by advancing its sequence; the consumer reads the slots in order without
+ * any lock or CAS, and frees each one for the producers one lap later.
+ */
+final class EventRing {
+
+	/**
+	 * Slots (their number is a power of 2).
+	 */
+	final private @Nullable Event @NotNull [] slots;
+
+	/**
+	 * Sequence number of each slot: position + 1 when the Event at the position is published, position + capacity
+	 * when the slot is free for the position one lap later.
+	 */
+	final private @NotNull AtomicLongArray sequences;
+
+	/**
+	 * EventRing.slots.length - 1.
+	 */
+	final private int mask;
+
+	/**
+	 * Next position claimed by a producer.
+	 */
+	final private @NotNull AtomicLong tail;
+
+	/**
+	 * Next position read by the consumer (only used by the consumer).
+	 */
+	private long head;
+
+	/**
+	 * Creates a new EventRing instance.
+	 *
+	 * @param capacity Maximum number of Events queued (rounded up to a power of 2)
+	 */
+	EventRing(final int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity));
+		if(size < capacity) size <<= 1;
+
+		this.slots = new Event[size];
+		this.sequences = new AtomicLongArray(size);
+		for(int i = 0; i < size; i++) {
+			this.sequences.set(i, i);
+		}
+		this.mask = size - 1;
+		this.tail = new AtomicLong(0L);
+		this.head = 0L;
+	}
+
+	/**
+	 * Adds an Event (any thread).
+	 *
+	 * @param event Event to add
+	 * @return false if the ring is full
+	 */
+	boolean offer(final @NotNull Event event) {
+		long position;
+		while(true) {
+			position = this.tail.get();
+			final long difference = this.sequences.get((int) position & this.mask) - position;
+
+			if(difference == 0) {
+				if(this.tail.compareAndSet(position, position + 1)) break;
+			} else if(difference < 0) {
+				return false; // The consumer hasn't freed the slot yet.
+			}
+			// Otherwise another producer has claimed the position meanwhile.
+		}
+
+		final int index = (int) position & this.mask;
+		this.slots[index] = event;
+		this.sequences.lazySet(index, position + 1); // Publishes the slot (and the Event's fields) to the consumer.
+		return true;
+	}
+
+	/**
+	 * Removes the next Event (consumer thread only).
+	 *
+	 * @return Event (null if none is published yet)
+	 */
+	@Nullable Event poll() {
+		final int index = (int) this.head & this.mask;
+		if(this.sequences.get(index) != this.head + 1) return null;
+
+		final Event event = this.slots[index];
+		this.slots[index] = null;
+		this.sequences.lazySet(index, this.head + this.slots.length);
+		this.head++;
+
+		return event;
+	}
+
+	/**
+	 * Returns the number of positions claimed so far (published or being filled).
+	 *
+	 * @return EventRing.tail
+	 */
+	@Contract(pure = true)
+	long getClaimed() {
+		return this.tail.get();
+	}
+
+	/**
+	 * Returns the number of Events read so far (consumer thread only).
+	 *
+	 * @return EventRing.head
+	 */
+	@Contract(pure = true)
+	long getRead() {
+		return this.head;
+	}
+
+}
\ No newline at end of file
@@ -3,9 +3,12 @@ package engine.game;
 import engine.CoreEngine;
 import engine.game.components.GameComponent;
 import engine.game.objects.GameObject;
+import engine.game.objects.TickScheduler;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.RenderingEngine;
 import engine.rendering.shader.Shader;
 import engine.util.GameInterface;
+import engine.util.Window;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,7 +40,11 @@ abstract public class CoreGame implements GameInterface {
 	 * @return self
 	 */
 	final public @NotNull CoreGame init(final CoreEngine coreEngine) {
-		this.getRootObject().addToEngine(coreEngine);
+		this.getRootObject().addToEngine(coreEngine, null);
+
+		if(coreEngine.isHeadless()) { // Stub Camera at the origin for the code asking for one, until the game sets its own.
+			this.getRootObject().addComponentToRootObject(coreEngine.getRenderingEngine().getMainCamera());
+		}
 
 		return this;
 	}
@@ -69,6 +76,17 @@ abstract public class CoreGame implements GameInterface {
 		renderingEngine.render(this.getRootObject());
 	}
 
+	/**
+	 * Calls the rendering engine to record what rendering all objects and components draws.
+	 *
+	 * @param renderingEngine Rendering engine to use to record
+	 * @param snapshot RenderSnapshot to record in
+	 * @param time When the last tick's state is current (in ns)
+	 */
+	public void record(final @NotNull RenderingEngine renderingEngine, final @NotNull RenderSnapshot snapshot, final long time) {
+		renderingEngine.record(this.getRootObject(), snapshot, time);
+	}
+
 	@Override
 	final public void render(final @NotNull Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
 		assert false : "Error: CoreGame.render should never be called.";
@@ -76,6 +94,8 @@ abstract public class CoreGame implements GameInterface {
 
 	@Override
 	public void update(final double delta) {
+		// Headless, nobody is watching: everything is updated every tick.
+		TickScheduler.beginTick(this.getRenderingEngine() == null || Window.isHeadless() ? null : this.getRenderingEngine().getMainCamera());
 		this.getRootObject().update(delta);
 	}
 
@@ -111,4 +131,4 @@ abstract public class CoreGame implements GameInterface {
 		this.renderingEngine = renderingEngine;
 	}
 
-}
+}
\ No newline at end of file
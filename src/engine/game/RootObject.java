@@ -1,5 +1,6 @@
 package engine.game;
 
+import engine.game.components.GameComponent;
 import engine.game.objects.GameObject;
 import org.jetbrains.annotations.NotNull;
 
@@ -26,6 +27,15 @@ final public class RootObject extends GameObject {
 		this.addChildInstantly(child);
 	}
 
+	/**
+	 * Adds a component to the root object.
+	 *
+	 * @param component GameComponent to add
+	 */
+	public void addComponentToRootObject(final @NotNull GameComponent component) {
+		this.addComponent(component);
+	}
+
 	/**
 	 * Removes an object from the root object's children list.
 	 *
@@ -8,8 +8,32 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+
+/**
+ * Position, rotation, scale and depth of a GameObject, relative to its parent's Transform.
+ * The world values (combined with all the parents') are cached: a change marks the Transform and all its
+ * descendants dirty (and bumps their version), and they're only computed again when read.
+ * The Transforms moved during a simulation tick also keep their world values at the end of that tick and of the
+ * one before, so frames rendered between two ticks interpolate between them.
+ */
 final public class Transform {
 
+	/**
+	 * Transforms moved since the end of the tick before last (their two last simulation states differ).
+	 */
+	final private static ArrayList<Transform> MOVING = new ArrayList<>();
+
+	/**
+	 * Interpolation factor between the two last simulation states for the frame being rendered (1 = the last one).
+	 */
+	private static float interpolation = 1;
+
+	/**
+	 * Number of the frame being rendered.
+	 */
+	private static int frame = 0;
+
 	/**
 	 * Transform's position.
 	 */
@@ -23,7 +47,7 @@ final public class Transform {
 	/**
 	 * Transform's scale.
 	 */
-	private @NotNull Vector2f scale;
+	final private @NotNull Vector2f scale;
 
 	/**
 	 * Transform has changed.
@@ -33,17 +57,99 @@ final public class Transform {
 	/**
 	 * Transform's transformation matrix.
 	 */
-	private Matrix4f transformation;
+	final private @NotNull Matrix4f transformation;
 
 	/**
 	 * Transform's parent.
 	 */
 	private @Nullable Transform parent;
 
+	/**
+	 * Transforms whose parent is this one.
+	 */
+	final private @NotNull ArrayList<Transform> children;
+
+	/**
+	 * Do the world values need to be computed again.
+	 */
+	private boolean worldDirty;
+
+	/**
+	 * Incremented whenever the world values may have changed.
+	 */
+	private int version;
+
+	/**
+	 * Transformation matrix combined with all parent's.
+	 */
+	final private @NotNull Matrix4f worldTransformation;
+
+	/**
+	 * Position added by all parent's position.
+	 */
+	final private @NotNull Vector2f worldPosition;
+
+	/**
+	 * Scale multiplied by all parent's scale.
+	 */
+	final private @NotNull Vector2f worldScale;
+
+	/**
+	 * Depth added by all parent's depth.
+	 */
+	private float worldDepth;
+
+	/**
+	 * Rotation added by all parent's rotation.
+	 */
+	private double worldRotation;
+
+	/**
+	 * Notified when the world values may have changed.
+	 */
+	private @Nullable TransformListener listener;
+
+	/**
+	 * Is the Transform in Transform::MOVING.
+	 */
+	private boolean moving;
+
+	/**
+	 * World transformation at the end of the tick before last (null until the Transform first moves).
+	 */
+	private @Nullable Matrix4f previousWorldTransformation;
+
+	/**
+	 * World transformation at the end of the last tick (null until the Transform first moves).
+	 */
+	private @Nullable Matrix4f currentWorldTransformation;
+
+	/**
+	 * Interpolated world transformation of the frame being rendered (null until the Transform first moves).
+	 */
+	private @Nullable Matrix4f renderTransformation;
+
+	/**
+	 * World position at the end of the tick before last and of the last tick.
+	 */
+	private float previousX, previousY, currentX, currentY;
+
+	/**
+	 * Frame Transform.renderTransformation was interpolated for.
+	 */
+	private int renderFrame;
+
 	/**
 	 * Creates a new Transform instance.
 	 */
 	public Transform() {
+		this.children = new ArrayList<>();
+		this.transformation = new Matrix4f();
+		this.worldTransformation = new Matrix4f();
+		this.worldDirty = true;
+		this.version = 0;
+		this.worldPosition = new Vector2f();
+		this.worldScale = new Vector2f(1, 1);
 		this.position = new Vector3f();
 		this.setRotation(0.0);
 		this.scale = new Vector2f(1, 1);
@@ -59,16 +165,27 @@ final public class Transform {
 	 * @return Transform.transformation
 	 */
 	@Contract(pure = true)
-	private Matrix4f getTransformation() {
+	private @NotNull Matrix4f getTransformation() {
 		return this.transformation;
 	}
 
 	/**
-	 * Returns the calculated transformation matrix.
+	 * Returns the transformation matrix combined with all parent's (cached, don't modify it).
 	 *
-	 * @return new Matrix4f
+	 * @return Transform.worldTransformation
 	 */
 	public @NotNull Matrix4f getTransformedTransformation() {
+		this.updateWorld();
+
+		return this.worldTransformation;
+	}
+
+	/**
+	 * Computes the world values again if they're dirty (the parents' first).
+	 */
+	private void updateWorld() {
+		if(!this.worldDirty) return;
+
 		final boolean profiling = !Profiler.isProfileTimerRunning("Render-TransformCalc.");
 
 		if(profiling) {
@@ -76,33 +193,194 @@ final public class Transform {
 		}
 
 		if(this.hasChanged()) {
-			final Matrix4f translation = new Matrix4f().initPosition(this.getPosition().getX(), this.getPosition().getY(), this.getDepth());
-			final Matrix4f rotation = new Matrix4f().initRotation(0, 0, this.getRotation());
-			final Matrix4f scale = new Matrix4f().initScale(this.getScale());
-			this.setTransformation(translation.mul(rotation.mul(scale)));
+			// Temporaries 2 and 3, so callers can hold 0 and 1 while asking for world values.
+			final Matrix4f rotation = Matrix4f.getTemporary(2).initRotation(0, 0, this.getRotation());
+			final Matrix4f scale = Matrix4f.getTemporary(3).initScale(this.scale);
+			final Matrix4f rotationScale = rotation.mul(scale, rotation);
+			final Matrix4f translation = Matrix4f.getTemporary(3).initPosition(this.position.getX(), this.position.getY(), this.getDepth());
+			translation.mul(rotationScale, this.transformation);
 
 			this.setHasChanged(false);
 		}
 
-		final Matrix4f parentMatrix;
+		final Transform parent = this.getParent();
+		if(parent != null) {
+			parent.updateWorld();
 
-		if(this.getParent() != null) {
-			parentMatrix = this.getParent().getTransformedTransformation();
+			parent.worldTransformation.mul(this.getTransformation(), this.worldTransformation);
+			this.worldPosition.set(parent.worldPosition.getX() + this.position.getX(), parent.worldPosition.getY() + this.position.getY());
+			this.worldScale.set(parent.worldScale.getX() * this.scale.getX(), parent.worldScale.getY() * this.scale.getY());
+			this.worldDepth = parent.worldDepth + this.getDepth();
+			this.worldRotation = parent.worldRotation + this.getRotation();
 		} else {
-			parentMatrix = new Matrix4f().initIdentity();
+			this.worldTransformation.set(this.getTransformation());
+			this.worldPosition.set(this.position.getX(), this.position.getY());
+			this.worldScale.set(this.scale);
+			this.worldDepth = this.getDepth();
+			this.worldRotation = this.getRotation();
 		}
 
-		final Matrix4f result = parentMatrix.mul(this.getTransformation());
+		this.worldDirty = false;
 
 		if(profiling) {
 			Profiler.stopProfileTimer("Render-TransformCalc.");
 		}
+	}
+
+	/**
+	 * Marks the world values of the Transform and all its descendants as dirty.
+	 * A dirty Transform's descendants always are dirty too, so it stops at the first one already dirty.
+	 */
+	private void invalidate() {
+		if(this.worldDirty) return;
+
+		this.worldDirty = true;
+		this.version++;
+
+		if(this.listener != null) this.listener.worldChanged(this);
+		if(!this.moving) this.startMoving();
+
+		for(int i = 0; i < this.children.size(); i++) {
+			this.children.get(i).invalidate();
+		}
+	}
 
-		return result;
+	/**
+	 * Starts keeping the Transform's simulation states, its world values being about to change.
+	 * They're still the ones of the last state: nothing changed since they were computed.
+	 */
+	private void startMoving() {
+		if(this.currentWorldTransformation == null) {
+			this.previousWorldTransformation = new Matrix4f(this.worldTransformation);
+			this.currentWorldTransformation = new Matrix4f(this.worldTransformation);
+			this.renderTransformation = new Matrix4f();
+			this.previousX = this.currentX = this.worldPosition.getX();
+			this.previousY = this.currentY = this.worldPosition.getY();
+		}
+
+		this.moving = true;
+		synchronized(Transform.MOVING) { // Subtrees updated in parallel move their Transforms.
+			Transform.MOVING.add(this);
+		}
 	}
 
 	/**
-	 * Returns a reference to the Transform's position.
+	 * Ends a simulation tick: the moving Transforms' world values become their last state (and the last one their
+	 * previous state). The ones whose two states are now the same stop being followed.
+	 */
+	public static void endTick() {
+		int moving = 0;
+
+		for(int i = 0; i < Transform.MOVING.size(); i++) {
+			final Transform transform = Transform.MOVING.get(i);
+			assert transform.currentWorldTransformation != null && transform.previousWorldTransformation != null : "Error: Moving Transform without simulation states.";
+
+			transform.updateWorld();
+			transform.previousWorldTransformation.set(transform.currentWorldTransformation);
+			transform.currentWorldTransformation.set(transform.worldTransformation);
+			transform.previousX = transform.currentX;
+			transform.previousY = transform.currentY;
+			transform.currentX = transform.worldPosition.getX();
+			transform.currentY = transform.worldPosition.getY();
+
+			if(transform.previousWorldTransformation.equals(transform.currentWorldTransformation)) {
+				transform.moving = false; // At rest: its world values are the state again.
+			} else {
+				Transform.MOVING.set(moving++, transform);
+			}
+		}
+
+		for(int i = Transform.MOVING.size() - 1; i >= moving; i--) {
+			Transform.MOVING.remove(i);
+		}
+	}
+
+	/**
+	 * Starts rendering a frame.
+	 *
+	 * @param interpolation Position of the frame between the two last ticks (0 = the one before last, 1 = the last)
+	 */
+	public static void beginFrame(final float interpolation) {
+		Transform.interpolation = interpolation;
+		Transform.frame++;
+	}
+
+	/**
+	 * Returns the world transformation to render the frame with, interpolated between the two last simulation
+	 * states (cached, don't modify it).
+	 *
+	 * @return Transform.renderTransformation, or the world transformation if the Transform isn't moving
+	 */
+	public @NotNull Matrix4f getRenderTransformation() {
+		if(!this.moving || this.renderTransformation == null) return this.getTransformedTransformation();
+
+		if(this.renderFrame != Transform.frame) {
+			this.previousWorldTransformation.lerp(this.currentWorldTransformation, Transform.interpolation, this.renderTransformation);
+			this.renderFrame = Transform.frame;
+		}
+
+		return this.renderTransformation;
+	}
+
+	/**
+	 * Writes the world position to render the frame with, interpolated between the two last simulation states.
+	 *
+	 * @param dest Vector to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f getRenderPosition(final @NotNull Vector2f dest) {
+		if(!this.moving || this.renderTransformation == null) return this.getTransformedPosition(dest);
+
+		dest.set(this.previousX + (this.currentX - this.previousX) * Transform.interpolation, this.previousY + (this.currentY - this.previousY) * Transform.interpolation);
+
+		return dest;
+	}
+
+	/**
+	 * Writes the world transformations of the two last simulation states (e.g. for a RenderSnapshot).
+	 *
+	 * @param previous Matrix to write the state of the tick before last in
+	 * @param current Matrix to write the state of the last tick in
+	 */
+	public void getSimulationStates(final @NotNull Matrix4f previous, final @NotNull Matrix4f current) {
+		if(!this.moving || this.currentWorldTransformation == null) {
+			previous.set(this.getTransformedTransformation());
+			current.set(previous);
+		} else {
+			previous.set(this.previousWorldTransformation);
+			current.set(this.currentWorldTransformation);
+		}
+	}
+
+	/**
+	 * Writes the world positions of the two last simulation states (e.g. for a RenderSnapshot).
+	 *
+	 * @param previous Vector to write the position of the tick before last in
+	 * @param current Vector to write the position of the last tick in
+	 */
+	public void getSimulationPositions(final @NotNull Vector2f previous, final @NotNull Vector2f current) {
+		if(!this.moving || this.currentWorldTransformation == null) {
+			this.getTransformedPosition(previous);
+			current.set(previous);
+		} else {
+			previous.set(this.previousX, this.previousY);
+			current.set(this.currentX, this.currentY);
+		}
+	}
+
+	/**
+	 * Returns the Transform's version: it changes whenever its world values (or its parents') may have changed.
+	 *
+	 * @return Transform.version
+	 */
+	public int getVersion() {
+		this.updateWorld(); // So a change seen now bumps it again next time.
+
+		return this.version;
+	}
+
+	/**
+	 * Returns a reference to the Transform's position (changing it directly doesn't update the world values).
 	 *
 	 * @return Transform.position
 	 */
@@ -126,15 +404,23 @@ final public class Transform {
 	 *
 	 * @return new Vector2f
 	 */
-	@Contract(pure = true)
 	public @NotNull Vector2f getTransformedPosition() {
-		final Vector2f r = new Vector2f(this.getPosition());
+		this.updateWorld();
 
-		if(this.getParent() != null) {
-			r.addition(this.getParent().getTransformedPosition());
-		}
+		return new Vector2f(this.worldPosition);
+	}
 
-		return r;
+	/**
+	 * Writes the Transform's position added by all parent's position (without allocating anything).
+	 *
+	 * @param dest Vector to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f getTransformedPosition(final @NotNull Vector2f dest) {
+		this.updateWorld();
+		dest.set(this.worldPosition);
+
+		return dest;
 	}
 
 	/**
@@ -153,13 +439,9 @@ final public class Transform {
 	 * @return new double
 	 */
 	public double getTransformedRotation() {
-		double r = this.getRotation();
-
-		if(this.getParent() != null) {
-			r += this.getParent().getTransformedRotation();
-		}
+		this.updateWorld();
 
-		return r;
+		return this.worldRotation;
 	}
 
 	/**
@@ -177,15 +459,23 @@ final public class Transform {
 	 *
 	 * @return new Vector2f
 	 */
-	@Contract(pure = true)
 	public @NotNull Vector2f getTransformScale() {
-		final Vector2f r = new Vector2f(this.getScale());
+		this.updateWorld();
 
-		if(this.getParent() != null) {
-			r.multiply(this.getParent().getTransformScale());
-		}
+		return new Vector2f(this.worldScale);
+	}
+
+	/**
+	 * Writes the Transform's scale multiplied by all parent's scale (without allocating anything).
+	 *
+	 * @param dest Vector to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f getTransformScale(final @NotNull Vector2f dest) {
+		this.updateWorld();
+		dest.set(this.worldScale);
 
-		return r;
+		return dest;
 	}
 
 	/**
@@ -203,15 +493,10 @@ final public class Transform {
 	 *
 	 * @return new float
 	 */
-	@Contract(pure = true)
 	public float getTransformedDepth() {
-		float r = this.getDepth();
-
-		if(this.getParent() != null) {
-			r += this.getParent().getTransformedDepth();
-		}
+		this.updateWorld();
 
-		return r;
+		return this.worldDepth;
 	}
 
 	/**
@@ -234,17 +519,24 @@ final public class Transform {
 		return this.parent;
 	}
 
+	/**
+	 * Returns whether a Transform is this Transform's parent.
+	 *
+	 * @param transform Transform
+	 * @return Transform.parent == transform
+	 */
+	@Contract(pure = true)
+	final public boolean isChildOf(final @Nullable Transform transform) {
+		return this.getParent() == transform;
+	}
+
 	/**
 	 * Sets the Transform's position (the Vector will be copied !).
 	 *
 	 * @param position Position to set
 	 */
 	public void setPosition(final @NotNull Vector3f position) {
-		if(!(new Vector3f(this.getPosition(), this.getDepth()).equals(position))) {
-			this.position.set(position);
-
-			this.setHasChanged(true);
-		}
+		this.setPosition(position.getX(), position.getY(), position.getZ());
 	}
 
 	/**
@@ -253,11 +545,7 @@ final public class Transform {
 	 * @param position Position to set
 	 */
 	public void setPosition(final @NotNull Vector2f position) {
-		if(!this.getPosition().equals(position)) {
-			this.position.setXY(position);
-
-			this.setHasChanged(true);
-		}
+		this.setPosition(position.getX(), position.getY());
 	}
 
 	/**
@@ -267,7 +555,11 @@ final public class Transform {
 	 * @param y Y position to set
 	 */
 	public void setPosition(final float x, final float y) {
-		this.setPosition(new Vector2f(x, y));
+		if(this.position.getX() != x || this.position.getY() != y) {
+			this.position.setXY(x, y);
+
+			this.setHasChanged(true);
+		}
 	}
 
 	/**
@@ -278,7 +570,11 @@ final public class Transform {
 	 * @param z Z position to set
 	 */
 	public void setPosition(final float x, final float y, final float z) {
-		this.setPosition(new Vector3f(x, y, z));
+		if(this.position.getX() != x || this.position.getY() != y || this.position.getZ() != z) {
+			this.position.set(x, y, z);
+
+			this.setHasChanged(true);
+		}
 	}
 
 	/**
@@ -300,11 +596,7 @@ final public class Transform {
 	 * @param scale Scale to set
 	 */
 	public void setScale(final @NotNull Vector2f scale) {
-		if(!this.getScale().equals(scale)) {
-			this.scale = new Vector2f(scale);
-
-			this.setHasChanged(true);
-		}
+		this.setScale(scale.getX(), scale.getY());
 	}
 
 	/**
@@ -314,7 +606,11 @@ final public class Transform {
 	 * @param y Y scale to set
 	 */
 	public void setScale(final float x, final float y) {
-		this.setScale(new Vector2f(x, y));
+		if(this.scale.getX() != x || this.scale.getY() != y) {
+			this.scale.set(x, y);
+
+			this.setHasChanged(true);
+		}
 	}
 
 	/**
@@ -337,15 +633,17 @@ final public class Transform {
 	 */
 	private void setHasChanged(final boolean hasChanged) {
 		this.hasChanged = hasChanged;
+
+		if(hasChanged) this.invalidate();
 	}
 
 	/**
-	 * Sets the Transform's transformation matrix.
+	 * Sets the listener notified when the world values may have changed.
 	 *
-	 * @param transformation Matrix4f to set
+	 * @param listener Listener to set (null = none)
 	 */
-	private void setTransformation(final Matrix4f transformation) {
-		this.transformation = transformation;
+	final public void setListener(final @Nullable TransformListener listener) {
+		this.listener = listener;
 	}
 
 	/**
@@ -354,7 +652,12 @@ final public class Transform {
 	 * @param parentTransform Parent to set
 	 */
 	final public void setParent(final @Nullable Transform parentTransform) {
+		if(this.getParent() != null) this.getParent().children.remove(this);
+
 		this.parent = parentTransform;
+
+		if(parentTransform != null) parentTransform.children.add(this);
+		this.invalidate();
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package engine.game;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listens to a Transform's world values.
+ */
+public interface TransformListener {
+
+	/**
+	 * Called when the Transform's world values may have changed (its own values or one of its parents').
+	 * It is only called once until the world values are read again.
+	 *
+	 * @param transform Transform
+	 */
+	abstract public void worldChanged(final @NotNull Transform transform);
+
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package engine.game;
+
+import engine.JobScheduler;
+import engine.ecs.EntityRegistry;
+import engine.game.objects.map.Map;
+import engine.physics.PhysicsEngine;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A simulated world: its PhysicsEngine, its Map and its EntityRegistry.
+ * A GameObject belongs to the World given to GameObject.addToEngine() (its parent's), and its physics and
+ * tiles are looked up there, so several worlds (dungeon instances...) can live in the same process.
+ * The worlds share nothing: their physics are stepped in parallel on the JobScheduler's workers.
+ */
+final public class World {
+
+	/**
+	 * Jobs stepping the worlds during World.updateAll() (only used by the simulation thread).
+	 */
+	final private static ArrayList<StepJob> JOBS = new ArrayList<>();
+
+	/**
+	 * World's name.
+	 */
+	final private @NotNull String name;
+
+	/**
+	 * World's physics.
+	 */
+	final private @NotNull PhysicsEngine physicsEngine;
+
+	/**
+	 * World's entities.
+	 */
+	final private @NotNull EntityRegistry entities;
+
+	/**
+	 * Job stepping the World in parallel with the others.
+	 */
+	final private @NotNull StepJob stepJob;
+
+	/**
+	 * World's map (null = none yet).
+	 */
+	private @Nullable Map map;
+
+	/**
+	 * Creates a new World instance, without a map.
+	 *
+	 * @param name World's name
+	 */
+	public World(final @NotNull String name) {
+		this.name = name;
+		this.physicsEngine = new PhysicsEngine(this);
+		this.entities = new EntityRegistry();
+		this.stepJob = new StepJob(this);
+		this.map = null;
+	}
+
+	/**
+	 * Steps the World's physics.
+	 *
+	 * @param delta Time simulated (in seconds)
+	 */
+	public void update(final double delta) {
+		this.getPhysicsEngine().update(delta);
+	}
+
+	/**
+	 * Steps worlds' physics: in parallel if there are several of them.
+	 *
+	 * @param worlds Worlds to step
+	 * @param delta Time simulated (in seconds)
+	 */
+	public static void updateAll(final @NotNull ArrayList<World> worlds, final double delta) {
+		if(worlds.size() == 1) {
+			worlds.get(0).update(delta);
+			return;
+		}
+
+		World.JOBS.clear();
+		for(int i = 0; i < worlds.size(); i++) {
+			final StepJob job = worlds.get(i).stepJob;
+			job.delta = delta;
+			JobScheduler.fork(job);
+			World.JOBS.add(job);
+		}
+		JobScheduler.join(World.JOBS);
+	}
+
+	@Override
+	public @NotNull String toString() {
+		return super.toString() + " - " + this.getName();
+	}
+
+	/**
+	 * Returns the World's name.
+	 *
+	 * @return World.name
+	 */
+	@Contract(pure = true)
+	final public @NotNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the World's physics.
+	 *
+	 * @return World.physicsEngine
+	 */
+	@Contract(pure = true)
+	final public @NotNull PhysicsEngine getPhysicsEngine() {
+		return this.physicsEngine;
+	}
+
+	/**
+	 * Returns the World's entities.
+	 *
+	 * @return World.entities
+	 */
+	@Contract(pure = true)
+	final public @NotNull EntityRegistry getEntities() {
+		return this.entities;
+	}
+
+	/**
+	 * Returns the World's map.
+	 *
+	 * @return World.map (null = none yet)
+	 */
+	@Contract(pure = true)
+	final public @Nullable Map getMap() {
+		return this.map;
+	}
+
+	/**
+	 * Sets the World's map.
+	 *
+	 * @param map Map to set
+	 */
+	final public void setMap(final @Nullable Map map) {
+		this.map = map;
+	}
+
+	/**
+	 * Steps a World's physics on a worker.
+	 */
+	final private static class StepJob extends RecursiveAction {
+
+		/**
+		 * Serialization's version (jobs are never serialized, ForkJoinTask is Serializable).
+		 */
+		final private static long serialVersionUID = 1L;
+
+		/**
+		 * World to step.
+		 */
+		final private @NotNull World world;
+
+		/**
+		 * Time simulated (in seconds).
+		 */
+		private double delta;
+
+		/**
+		 * Creates a new StepJob instance.
+		 *
+		 * @param world World to step
+		 */
+		StepJob(final @NotNull World world) {
+			this.world = world;
+			this.delta = 0;
+		}
+
+		@Override
+		protected void compute() {
+			this.world.update(this.delta);
+		}
+
+	}
+
+}
\ No newline at end of file
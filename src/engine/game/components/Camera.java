@@ -11,18 +11,26 @@ final public class Camera extends GameComponent {
 	/**
 	 * Camera's projection matrix.
 	 */
-	private Matrix4f projectionMatrix;
+	final private @NotNull Matrix4f projectionMatrix;
 
 	/**
 	 * Camera's last position.
 	 */
 	private Vector2f lastPos;
 
+	/**
+	 * Camera's position on this frame.
+	 */
+	final private @NotNull Vector2f position;
+
 	/**
 	 * Creates a new Camera instance.
 	 */
 	public Camera() {
 		super(0, 0);
+
+		this.projectionMatrix = new Matrix4f();
+		this.position = new Vector2f();
 	}
 
 	@Override
@@ -41,6 +49,26 @@ final public class Camera extends GameComponent {
 		return this.getTransform().getTransformedPosition();
 	}
 
+	/**
+	 * Writes the Camera's position (without allocating anything).
+	 *
+	 * @param dest Vector to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f getPos(final @NotNull Vector2f dest) {
+		return this.getTransform().getTransformedPosition(dest);
+	}
+
+	/**
+	 * Writes the Camera's positions of the two last simulation states (e.g. for a RenderSnapshot).
+	 *
+	 * @param previous Vector to write the position of the tick before last in
+	 * @param current Vector to write the position of the last tick in
+	 */
+	public void getSimulationPositions(final @NotNull Vector2f previous, final @NotNull Vector2f current) {
+		this.getTransform().getSimulationPositions(previous, current);
+	}
+
 	/**
 	 * Returns the Camera's position reference.
 	 *
@@ -65,24 +93,32 @@ final public class Camera extends GameComponent {
 	 * @return Camera has moved
 	 */
 	public boolean hasMoved() {
-		return (this.lastPos == null) || (!this.lastPos.equals(this.getPos()));
+		return (this.lastPos == null) || (!this.lastPos.equals(this.getTransform().getTransformedPosition(this.position)));
+	}
+
+	/**
+	 * Computes the projection matrix of the frame being rendered, at the Camera's interpolated position.
+	 */
+	public void beginFrame() {
+		this.updateProjectionMatrix();
 	}
 
 	/**
 	 * Updates the Camera's projection matrix.
 	 */
 	private void updateProjectionMatrix() {
-		final Matrix4f cameraMatrix     = new Matrix4f().initPosition(-this.getPos().getX(), -this.getPos().getY(), 0);
-		final Matrix4f projectionMatrix = new Matrix4f().initProjection(Window.getRatio());
+		final Vector2f position = this.getTransform().getRenderPosition(this.position);
+		final Matrix4f cameraMatrix = Matrix4f.getTemporary(0).initPosition(-position.getX(), -position.getY(), 0);
 
-		this.projectionMatrix = projectionMatrix.mul(cameraMatrix);
+		this.projectionMatrix.initProjection(Window.getRatio()).mul(cameraMatrix, this.projectionMatrix);
 	}
 
 	@Override
 	public void update(final double delta) {
 		if(this.hasMoved()) this.updateProjectionMatrix();
 
-		this.lastPos = new Vector2f(this.getPos());
+		if(this.lastPos == null) this.lastPos = new Vector2f();
+		this.getTransform().getTransformedPosition(this.lastPos);
 	}
 
 }
\ No newline at end of file
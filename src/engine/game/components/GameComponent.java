@@ -140,6 +140,13 @@ abstract public class GameComponent implements GameInterface {
 
 	}
 
+	/**
+	 * Resets the GameComponent when its GameObject is released into its ObjectPool.
+	 */
+	public void reset() {
+
+	}
+
 	/**
 	 * Adds everything to the core engine.
 	 *
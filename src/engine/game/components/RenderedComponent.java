@@ -134,9 +134,7 @@ public class RenderedComponent extends GameComponent {
 	@Override
 	public void render(final @NotNull Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
 		if(!this.renderedLater || renderLater == null) {
-			shader.bind();
-			shader.updateUniforms(this.getMaterial(), this.getTransform());
-			this.mesh.draw();
+			shader.draw(this.getMaterial(), this.getTransform(), this.mesh);
 		} else {
 			renderLater.add(this);
 		}
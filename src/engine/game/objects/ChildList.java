@@ -0,0 +1,299 @@
+package engine.game.objects;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A GameObject's children: a dense array (iterated without allocating) indexed by an open-addressing identity hash
+ * table, so adding, removing and checking a child are O(1).
+ * Removing swaps the last child into the hole, so the iteration order isn't the insertion order once a child
+ * has been removed.
+ * While a traversal is running (see ChildList.beginTraversal), children can still be added (after the ones
+ * being traversed), but removals are deferred until the traversal ends, so the indices being traversed stay valid.
+ */
+final public class ChildList implements Iterable<GameObject> {
+
+	/**
+	 * Initial capacity of the hash table (must be a power of 2).
+	 */
+	final private static int INITIAL_CAPACITY = 8;
+
+	/**
+	 * Maximum load factor before the hash table grows.
+	 */
+	final private static float LOAD_FACTOR = 0.5f;
+
+	/**
+	 * Hash table's keys.
+	 */
+	private GameObject[] keys;
+
+	/**
+	 * Hash table's values: index in ChildList.children + 1 (0 = empty slot).
+	 */
+	private int[] slots;
+
+	/**
+	 * Dense array of the children (iteration order).
+	 */
+	private GameObject[] children;
+
+	/**
+	 * Number of children.
+	 */
+	private int size;
+
+	/**
+	 * Number of traversals running.
+	 */
+	private int traversals;
+
+	/**
+	 * Children to remove once the traversals end.
+	 */
+	final private @NotNull ArrayList<GameObject> pendingRemovals;
+
+	/**
+	 * Creates a new ChildList instance.
+	 */
+	ChildList() {
+		this.keys = new GameObject[ChildList.INITIAL_CAPACITY];
+		this.slots = new int[ChildList.INITIAL_CAPACITY];
+		this.children = new GameObject[ChildList.INITIAL_CAPACITY / 2];
+		this.size = 0;
+		this.traversals = 0;
+		this.pendingRemovals = new ArrayList<>();
+	}
+
+	/**
+	 * Returns the slot a child should start probing at.
+	 *
+	 * @param child Child
+	 * @param mask Hash table's capacity - 1
+	 * @return new int
+	 */
+	@Contract(pure = true)
+	private static int hash(final @NotNull GameObject child, final int mask) {
+		final int h = System.identityHashCode(child) * 0x9E3779B9;
+
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	/**
+	 * Returns whether a GameObject is a child.
+	 *
+	 * @param child GameObject to check
+	 * @return new boolean
+	 */
+	@Contract(pure = true)
+	final public boolean contains(final @NotNull GameObject child) {
+		return this.slots[this.findSlot(child)] != 0;
+	}
+
+	/**
+	 * Adds a child (nothing happens if it already is one).
+	 * A child whose removal was deferred is kept instead: it counts as added, since it was removed for its parent.
+	 *
+	 * @param child Child to add
+	 * @return Whether it was added (or its deferred removal cancelled)
+	 */
+	final boolean add(final @NotNull GameObject child) {
+		final int slot = this.findSlot(child);
+		if(this.slots[slot] != 0) {
+			return this.pendingRemovals.remove(child); // Added back before its deferred removal: its parent attaches it again.
+		}
+
+		if(this.size == this.children.length) {
+			this.children = Arrays.copyOf(this.children, this.children.length * 2);
+		}
+
+		this.children[this.size] = child;
+		this.size++;
+		this.keys[slot] = child;
+		this.slots[slot] = this.size;
+
+		if(this.size > this.keys.length * ChildList.LOAD_FACTOR) {
+			this.rehash(this.keys.length * 2);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Removes a child, or defers it until the traversals end if any is running.
+	 * The last child takes the removed child's index.
+	 *
+	 * @param child Child to remove
+	 * @return Whether it was a child
+	 */
+	final boolean remove(final @NotNull GameObject child) {
+		int slot = this.findSlot(child);
+		if(this.slots[slot] == 0) return false;
+
+		if(this.traversals > 0) {
+			if(this.pendingRemovals.contains(child)) return false; // Already removed.
+			this.pendingRemovals.add(child);
+			return true;
+		}
+
+		final int index = this.slots[slot] - 1;
+
+		// Moves the last child into the hole so the dense array stays packed.
+		this.size--;
+		if(index != this.size) {
+			final GameObject last = this.children[this.size];
+			this.children[index] = last;
+			this.slots[this.findSlot(last)] = index + 1;
+		}
+		this.children[this.size] = null;
+
+		// Backward shift deletion (keeps the probe sequences valid without tombstones).
+		final int mask = this.keys.length - 1;
+		int next = (slot + 1) & mask;
+		while(this.slots[next] != 0) {
+			final int ideal = ChildList.hash(this.keys[next], mask);
+			if(((next - ideal) & mask) >= ((next - slot) & mask)) {
+				this.keys[slot] = this.keys[next];
+				this.slots[slot] = this.slots[next];
+				slot = next;
+			}
+			next = (next + 1) & mask;
+		}
+		this.keys[slot] = null;
+		this.slots[slot] = 0;
+
+		return true;
+	}
+
+	/**
+	 * Starts a traversal: until it ends, the children from 0 to the returned count keep their index.
+	 * Children added meanwhile come after them.
+	 *
+	 * @return Number of children to traverse
+	 */
+	final int beginTraversal() {
+		this.traversals++;
+
+		return this.size;
+	}
+
+	/**
+	 * Ends a traversal, and removes the children whose removal was deferred if it was the last one running.
+	 */
+	final void endTraversal() {
+		assert this.traversals > 0 : "Error: ChildList.endTraversal() called without a traversal running.";
+
+		this.traversals--;
+		if(this.traversals > 0 || this.pendingRemovals.isEmpty()) return;
+
+		for(int i = 0; i < this.pendingRemovals.size(); i++) {
+			this.remove(this.pendingRemovals.get(i));
+		}
+		this.pendingRemovals.clear();
+	}
+
+	/**
+	 * Returns the number of children.
+	 *
+	 * @return ChildList.size
+	 */
+	@Contract(pure = true)
+	final public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns whether there are no children.
+	 *
+	 * @return ChildList.size == 0
+	 */
+	@Contract(pure = true)
+	final public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Returns the child at a certain index of the iteration order.
+	 *
+	 * @param index Index between 0 and ChildList.size()
+	 * @return ChildList.children[index]
+	 */
+	@Contract(pure = true)
+	final public @NotNull GameObject get(final int index) {
+		assert index >= 0 && index < this.size : "Error: ChildList index out of bound: " + index + " (size: " + this.size + ")";
+
+		return this.children[index];
+	}
+
+	/**
+	 * Iterates over the children there are when it is created (children added meanwhile aren't returned).
+	 * Removing children while iterating isn't supported: GameObject defers its removals instead.
+	 * Prefer ChildList.size() and ChildList.get(index) on hot paths, which don't allocate.
+	 *
+	 * @return new Iterator
+	 */
+	@Override
+	public @NotNull Iterator<GameObject> iterator() {
+		final int count = this.size;
+
+		return new Iterator<>() {
+
+			/**
+			 * Index of the next child.
+			 */
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return this.index < Math.min(count, ChildList.this.size);
+			}
+
+			@Override
+			public GameObject next() {
+				if(!this.hasNext()) throw new NoSuchElementException();
+
+				return ChildList.this.children[this.index++];
+			}
+
+		};
+	}
+
+	/**
+	 * Returns the slot of the child, or the empty slot where it should be inserted.
+	 *
+	 * @param child Child
+	 * @return new int
+	 */
+	private int findSlot(final @NotNull GameObject child) {
+		final int mask = this.keys.length - 1;
+		int slot = ChildList.hash(child, mask);
+
+		while(this.slots[slot] != 0 && this.keys[slot] != child) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	/**
+	 * Grows the hash table and reinserts every child.
+	 *
+	 * @param capacity New capacity (must be a power of 2)
+	 */
+	private void rehash(final int capacity) {
+		this.keys = new GameObject[capacity];
+		this.slots = new int[capacity];
+
+		for(int i = 0; i < this.size; i++) {
+			final int slot = this.findSlot(this.children[i]);
+			this.keys[slot] = this.children[i];
+			this.slots[slot] = i + 1;
+		}
+	}
+
+}
\ No newline at end of file
@@ -1,12 +1,13 @@
 package engine.game.objects;
 
 import engine.CoreEngine;
+import engine.JobScheduler;
 import engine.audio.AudioObject;
 import engine.game.Transform;
+import engine.game.World;
 import engine.game.components.GameComponent;
 import engine.math.Vector2f;
 import engine.math.Vector3f;
-import engine.physics.PhysicsEngine;
 import engine.physics.PhysicsObject;
 import engine.rendering.shader.Shader;
 import engine.util.GameInterface;
@@ -18,8 +19,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.concurrent.RecursiveAction;
 
-public class GameObject implements GameInterface {
+public class GameObject implements GameInterface, Poolable {
 
 	/**
 	 * Do we ignore the check to render if the object is out of bounds.
@@ -31,6 +33,11 @@ public class GameObject implements GameInterface {
 	 */
 	private CoreEngine coreEngine;
 
+	/**
+	 * World the GameObject belongs to (null = none).
+	 */
+	private @Nullable World world;
+
 	/**
 	 * GameObject's name.
 	 */
@@ -39,7 +46,7 @@ public class GameObject implements GameInterface {
 	/**
 	 * GameObject's children.
 	 */
-	final private @NotNull ArrayList<GameObject> children;
+	final private @NotNull ChildList children;
 
 	/**
 	 * GameObject's children to add at the end of the update.
@@ -66,6 +73,16 @@ public class GameObject implements GameInterface {
 	 */
 	final private @NotNull Transform transform;
 
+	/**
+	 * GameObject's place in its parent's quadtree.
+	 */
+	final private @NotNull LooseQuadtree.Entry cullingEntry;
+
+	/**
+	 * Quadtree of the children's world bounds (null until the first child is added).
+	 */
+	private @Nullable LooseQuadtree childrenTree;
+
 	/**
 	 * Is the GameObject rendered if outside the parent object.
 	 */
@@ -81,6 +98,31 @@ public class GameObject implements GameInterface {
 	 */
 	private float height;
 
+	/**
+	 * Is the GameObject's subtree updated by the JobScheduler, alongside its siblings.
+	 */
+	private boolean updatedInParallel;
+
+	/**
+	 * Job updating the GameObject's subtree (null until it is first updated in parallel).
+	 */
+	private @Nullable UpdateJob updateJob;
+
+	/**
+	 * Jobs of the children being updated in parallel (null until a child is).
+	 */
+	private @Nullable ArrayList<UpdateJob> childrenJobs;
+
+	/**
+	 * Is the GameObject's update rate decided by the TickScheduler.
+	 */
+	private boolean tickScheduled;
+
+	/**
+	 * Time of the ticks the GameObject has skipped since its last update (in s, at most TickScheduler::MAX_SKIPPED_DELTA).
+	 */
+	private double skippedDelta;
+
 	/**
 	 * Creates a new GameObject instance.
 	 *
@@ -90,12 +132,20 @@ public class GameObject implements GameInterface {
 	 */
 	public GameObject(final @NotNull String name, final float width, final float height) {
 		this.name = name;
-		this.children = new ArrayList<>();
+		this.children = new ChildList();
 		this.childrenToAdd = new ArrayList<>();
 		this.childrenToRemove = new ArrayList<>();
 		this.components = new ArrayList<>();
 		this.audioObjects = new ArrayList<>();
 		this.transform = new Transform();
+		this.cullingEntry = new LooseQuadtree.Entry(this);
+		this.transform.setListener(this.cullingEntry);
+		this.childrenTree = null;
+		this.updatedInParallel = false;
+		this.updateJob = null;
+		this.childrenJobs = null;
+		this.tickScheduled = false;
+		this.skippedDelta = 0;
 		this.setRenderOutsideParent(false);
 		this.setWidth(width);
 		this.setHeight(height);
@@ -108,9 +158,24 @@ public class GameObject implements GameInterface {
 
 	@Override
 	public void render(final Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
-		for(final @NotNull GameObject object : this.getChildren()) {
-			if(GameObject.ignoreRenderOutOfBounds || (object.isInScreen() && (this.renderOutsideParent() || object.isInObjectFrame(this)))) {
-				object.render(shader, renderLater);
+		if(GameObject.ignoreRenderOutOfBounds) {
+			for(int i = 0; i < this.getChildren().size(); i++) {
+				this.getChildren().get(i).render(shader, renderLater);
+			}
+		} else if(this.childrenTree != null) {
+			assert this.getCoreEngine() != null : "Error: Core Engine has not been set and call on render()\n" + this;
+
+			// Only the children in the camera's rectangle are visited.
+			final Vector2f cameraPosition = this.getCoreEngine().getRenderingEngine().getMainCamera().getPos(Vector2f.getTemporary(1));
+			final float ratio = Window.getRatio();
+			final ArrayList<GameObject> visible = this.childrenTree.query(cameraPosition.getX() - ratio, cameraPosition.getY() - 1, cameraPosition.getX() + ratio, cameraPosition.getY() + 1);
+
+			// Rendering a child queries its own tree, which reuses its own list.
+			for(int i = 0; i < visible.size(); i++) {
+				final GameObject object = visible.get(i);
+				if(this.renderOutsideParent() || object.isInObjectFrame(this)) {
+					object.render(shader, renderLater);
+				}
 			}
 		}
 
@@ -121,8 +186,11 @@ public class GameObject implements GameInterface {
 
 	@Override
 	public void update(final double delta) {
-		for(final @NotNull GameObject object : this.getChildren()) {
-			object.update(delta);
+		final int count = this.getChildren().beginTraversal();
+		try {
+			this.updateChildren(count, delta);
+		} finally {
+			this.getChildren().endTraversal();
 		}
 
 		for(final @NotNull GameComponent component : this.getComponents()) {
@@ -143,19 +211,89 @@ public class GameObject implements GameInterface {
 			this.addChildInstantly(child);
 		}
 		for(final @NotNull GameObject child : this.getChildrenToRemove()) {
-			this.getChildren().remove(child);
-			if(child instanceof PhysicsObject) {
-				PhysicsEngine.removeObject((PhysicsObject) child);
-			}
+			this.removeChildInstantly(child);
 		}
 		this.getChildrenToAdd().clear();
 		this.getChildrenToRemove().clear();
 	}
 
+	/**
+	 * Updates the children: the subtrees updated in parallel are forked first, the others are updated
+	 * meanwhile on this thread, then all the jobs are joined.
+	 *
+	 * @param count Number of children traversed
+	 * @param delta Time since the last update (in s)
+	 */
+	private void updateChildren(final int count, final double delta) {
+		ArrayList<UpdateJob> jobs = null;
+
+		for(int i = 0; i < count; i++) {
+			final GameObject child = this.getChildren().get(i);
+			if(!child.isUpdatedInParallel()) continue;
+
+			final double childDelta = child.getTickDelta(delta);
+			if(childDelta < 0) continue;
+
+			if(jobs == null) {
+				if(this.childrenJobs == null) this.childrenJobs = new ArrayList<>();
+				jobs = this.childrenJobs;
+
+				this.getTransform().getTransformedTransformation(); // The jobs read this world transform: it mustn't be computed by several of them at once.
+			}
+
+			if(child.updateJob == null) child.updateJob = new UpdateJob(child);
+			child.updateJob.delta = childDelta;
+			jobs.add(child.updateJob);
+			JobScheduler.fork(child.updateJob);
+		}
+
+		try {
+			for(int i = 0; i < count; i++) {
+				final GameObject child = this.getChildren().get(i);
+				if(child.isUpdatedInParallel()) continue;
+
+				final double childDelta = child.getTickDelta(delta);
+				if(childDelta >= 0) child.update(childDelta);
+			}
+		} finally {
+			if(jobs != null) {
+				try {
+					JobScheduler.join(jobs);
+				} finally {
+					jobs.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the time to update the GameObject with during this tick, as decided by the TickScheduler.
+	 *
+	 * @param delta Time since the last tick (in s)
+	 * @return Time since the GameObject's last update (in s), or -1 if it skips this tick
+	 */
+	private double getTickDelta(final double delta) {
+		if(!this.isTickScheduled()) return delta;
+
+		if(!TickScheduler.isDue(this)) {
+			this.skippedDelta = Math.min(this.skippedDelta + delta, TickScheduler.MAX_SKIPPED_DELTA);
+			return -1;
+		}
+
+		final double tickDelta = delta + this.skippedDelta;
+		this.skippedDelta = 0;
+		return tickDelta;
+	}
+
 	@Override
 	public void input() {
-		for(final @NotNull GameObject object : this.getChildren()) {
-			object.input();
+		final int count = this.getChildren().beginTraversal();
+		try {
+			for(int i = 0; i < count; i++) {
+				this.getChildren().get(i).input();
+			}
+		} finally {
+			this.getChildren().endTraversal();
 		}
 
 		for(final @NotNull GameComponent component : this.getComponents()) {
@@ -164,15 +302,42 @@ public class GameObject implements GameInterface {
 	}
 
 	/**
-	 * Adds everything to the core engine.
+	 * Resets the GameObject when it is released into its ObjectPool: its pending children changes are dropped,
+	 * its sounds are stopped and its components are reset. Its children are kept (they're part of what is
+	 * recycled), subclasses reset or release them if needed.
+	 */
+	@Override
+	public void reset() {
+		synchronized(this.getChildrenToAdd()) {
+			this.getChildrenToAdd().clear();
+		}
+		synchronized(this.getChildrenToRemove()) {
+			this.getChildrenToRemove().clear();
+		}
+
+		for(final @NotNull AudioObject audio : this.getAudioObjects()) {
+			audio.stop();
+		}
+
+		for(final @NotNull GameComponent component : this.getComponents()) {
+			component.reset();
+		}
+
+		this.skippedDelta = 0;
+	}
+
+	/**
+	 * Adds everything to the core engine and to a World.
 	 *
 	 * @param coreEngine Core engine to set
+	 * @param world World the GameObject and its children belong to (null = none)
 	 */
-	public void addToEngine(final CoreEngine coreEngine) {
+	public void addToEngine(final CoreEngine coreEngine, final @Nullable World world) {
 		this.coreEngine = coreEngine;
+		this.setWorld(world);
 
-		for(final @NotNull GameObject object : this.getChildren()) {
-			object.addToEngine(coreEngine);
+		for(int i = 0; i < this.getChildren().size(); i++) {
+			this.getChildren().get(i).addToEngine(coreEngine, world);
 		}
 
 		for(final @NotNull GameComponent component : this.getComponents()) {
@@ -180,6 +345,33 @@ public class GameObject implements GameInterface {
 		}
 	}
 
+	/**
+	 * Moves the GameObject (but not its children) to another World, along with its physics.
+	 *
+	 * @param world World to set (null = none)
+	 */
+	private void setWorld(final @Nullable World world) {
+		if(world == this.world) return;
+
+		if(this instanceof PhysicsObject) {
+			if(this.world != null) this.world.getPhysicsEngine().removeObject((PhysicsObject) this);
+			if(world != null) world.getPhysicsEngine().addObject((PhysicsObject) this);
+		}
+
+		this.world = world;
+	}
+
+	/**
+	 * Takes the GameObject and its children out of their World.
+	 */
+	private void leaveWorld() {
+		this.setWorld(null);
+
+		for(int i = 0; i < this.getChildren().size(); i++) {
+			this.getChildren().get(i).leaveWorld();
+		}
+	}
+
 	@Override
 	public @NotNull String toString() {
 		String str = this.getName();
@@ -200,6 +392,16 @@ public class GameObject implements GameInterface {
 		return this.coreEngine;
 	}
 
+	/**
+	 * Returns the World the GameObject belongs to.
+	 *
+	 * @return GameObject.world (null = none)
+	 */
+	@Contract(pure = true)
+	final public @Nullable World getWorld() {
+		return this.world;
+	}
+
 	/**
 	 * Returns the GameObject's name.
 	 *
@@ -216,7 +418,7 @@ public class GameObject implements GameInterface {
 	 * @return GameObject.children
 	 */
 	@Contract(pure = true)
-	final protected @NotNull ArrayList<GameObject> getChildren() {
+	final protected @NotNull ChildList getChildren() {
 		return this.children;
 	}
 
@@ -226,7 +428,8 @@ public class GameObject implements GameInterface {
 	 * @param child Child to check
 	 * @return GameObject.children.contains(child)
 	 */
-	final protected boolean hasChild(final GameObject child) {
+	@Contract(pure = true)
+	final protected boolean hasChild(final @NotNull GameObject child) {
 		return this.getChildren().contains(child);
 	}
 
@@ -279,6 +482,16 @@ public class GameObject implements GameInterface {
 		return this.transform;
 	} // TODO: Needs to be private, protected for debugging.
 
+	/**
+	 * Returns the GameObject's place in its parent's quadtree.
+	 *
+	 * @return GameObject.cullingEntry
+	 */
+	@Contract(pure = true)
+	final @NotNull LooseQuadtree.Entry getCullingEntry() {
+		return this.cullingEntry;
+	}
+
 	/**
 	 * Is the GameObject rendered if outside its parent.
 	 *
@@ -289,6 +502,53 @@ public class GameObject implements GameInterface {
 		return this.renderOutsideParent;
 	}
 
+	/**
+	 * Is the GameObject's subtree updated by the JobScheduler, alongside its siblings.
+	 *
+	 * @return GameObject.updatedInParallel
+	 */
+	@Contract(pure = true)
+	final public boolean isUpdatedInParallel() {
+		return this.updatedInParallel;
+	}
+
+	/**
+	 * Sets whether the GameObject's subtree is updated by the JobScheduler, alongside its siblings (and the other
+	 * subtrees updated in parallel).
+	 * Only enable it for subtrees which, while they update, neither read nor write anything outside themselves
+	 * apart from their parent's world transform, read-only state (Input), thread-safe calls (addChild,
+	 * removeChild) and the Map's tile lookups (zones they'd make load are only started by the next Map.update());
+	 * nor make OpenGL or OpenAL calls.
+	 *
+	 * @param enabled true = in parallel
+	 */
+	final protected void setUpdatedInParallel(final boolean enabled) {
+		this.updatedInParallel = enabled;
+	}
+
+	/**
+	 * Is the GameObject's update rate decided by the TickScheduler.
+	 *
+	 * @return GameObject.tickScheduled
+	 */
+	@Contract(pure = true)
+	final public boolean isTickScheduled() {
+		return this.tickScheduled;
+	}
+
+	/**
+	 * Sets whether the GameObject's update rate (its subtree's included) is decided by the TickScheduler,
+	 * depending on its distance to the main Camera.
+	 * Only enable it for GameObjects which can be updated less often when far away (e.g. characters, ambient
+	 * objects), not for ones the game relies on (e.g. the map, the HUD).
+	 *
+	 * @param enabled true = decided by the TickScheduler
+	 */
+	final protected void setTickScheduled(final boolean enabled) {
+		this.tickScheduled = enabled;
+		if(!enabled) this.skippedDelta = 0;
+	}
+
 	/**
 	 * Returns the GameObject's width (in openGL units).
 	 *
@@ -342,21 +602,11 @@ public class GameObject implements GameInterface {
 	 * @return new Vector2f | null if not in screen
 	 */
 	final protected @Nullable Vector2f getPositionOnScreen() {
-		assert this.getCoreEngine() != null : "Error: Core Engine has not been set and call on getPositionOnScreen()\n" + this;
+		if(!this.isInScreen()) return null;
 
-		final Vector2f cameraPosition = this.getCoreEngine().getRenderingEngine().getMainCamera().getPos();
-		final Vector2f bottomLeftCorner = cameraPosition.sub(Window.getRatio(), 1);
-		final Vector2f topRightCorner = cameraPosition.add(Window.getRatio(), 1);
-		final Vector2f selfPosition = this.getPosition();
+		final Vector2f cameraPosition = this.getCoreEngine().getRenderingEngine().getMainCamera().getPos(Vector2f.getTemporary(0));
 
-		if(selfPosition.getX() > topRightCorner.getX() || selfPosition.getY() > topRightCorner.getY()) {
-			return null;
-		}
-		if(selfPosition.getX() + this.getWidth() < bottomLeftCorner.getX() || selfPosition.getY() + this.getHeight() < bottomLeftCorner.getY()) {
-			return null;
-		}
-
-		return selfPosition.sub(bottomLeftCorner);
+		return this.getPosition().sub(cameraPosition.getX() - Window.getRatio(), cameraPosition.getY() - 1);
 	}
 
 	/**
@@ -365,7 +615,16 @@ public class GameObject implements GameInterface {
 	 * @return new boolean
 	 */
 	final public boolean isInScreen() {
-		return this.getPositionOnScreen() != null;
+		assert this.getCoreEngine() != null : "Error: Core Engine has not been set and call on isInScreen()\n" + this;
+
+		final Vector2f cameraPosition = this.getCoreEngine().getRenderingEngine().getMainCamera().getPos(Vector2f.getTemporary(0));
+		final float left = cameraPosition.getX() - Window.getRatio();
+		final float right = cameraPosition.getX() + Window.getRatio();
+		final float bottom = cameraPosition.getY() - 1;
+		final float top = cameraPosition.getY() + 1;
+		final Vector2f selfPosition = this.getTransform().getTransformedPosition(Vector2f.getTemporary(0));
+
+		return selfPosition.getX() <= right && selfPosition.getY() <= top && selfPosition.getX() + this.getWidth() >= left && selfPosition.getY() + this.getHeight() >= bottom;
 	}
 
 	/**
@@ -375,17 +634,12 @@ public class GameObject implements GameInterface {
 	 * @return new boolean
 	 */
 	final public boolean isInObjectFrame(final @NotNull GameObject object) {
-		if(this.getPosition().getX() > object.getPosition().getX() + object.getWidth()) {
-			return false;
-		} else if(this.getPosition().getX() + this.getWidth() < object.getPosition().getX()) {
-			return false;
-		} else if(this.getPosition().getY() > object.getPosition().getY() + object.getHeight()) {
-			return false;
-		} else if(this.getPosition().getY() + this.getHeight() < object.getPosition().getY()) {
-			return false;
-		}
+		final Vector2f objectPosition = object.getTransform().getTransformedPosition(Vector2f.getTemporary(0));
+		final float objectX = objectPosition.getX();
+		final float objectY = objectPosition.getY();
+		final Vector2f position = this.getTransform().getTransformedPosition(Vector2f.getTemporary(0));
 
-		return true;
+		return position.getX() <= objectX + object.getWidth() && position.getX() + this.getWidth() >= objectX && position.getY() <= objectY + object.getHeight() && position.getY() + this.getHeight() >= objectY;
 	}
 
 	/**
@@ -411,7 +665,9 @@ public class GameObject implements GameInterface {
 	 * @param child GameObject to add
 	 */
 	final public void addChild(final @NotNull GameObject child) {
-		this.getChildrenToAdd().add(child);
+		synchronized(this.getChildrenToAdd()) { // Children updated in parallel may call it.
+			this.getChildrenToAdd().add(child);
+		}
 	}
 
 	/**
@@ -420,16 +676,15 @@ public class GameObject implements GameInterface {
 	 * @param child GameObject to add
 	 */
 	final protected void addChildInstantly(final @NotNull GameObject child) {
-		this.getChildren().add(child);
+		if(!this.getChildren().add(child)) return; // Already a child.
 
 		if(this.getCoreEngine() != null) {
-			child.addToEngine(this.getCoreEngine());
+			child.addToEngine(this.getCoreEngine(), this.getWorld());
 		}
 		child.getTransform().setParent(this.getTransform());
 
-		if(child instanceof PhysicsObject) {
-			PhysicsEngine.addObject((PhysicsObject) child);
-		}
+		if(this.childrenTree == null) this.childrenTree = new LooseQuadtree();
+		this.childrenTree.add(child);
 	}
 
 	/**
@@ -462,7 +717,21 @@ public class GameObject implements GameInterface {
 	 * @param child Child to remove
 	 */
 	final public void removeChild(final GameObject child) {
-		this.getChildrenToRemove().add(child);
+		synchronized(this.getChildrenToRemove()) { // Children updated in parallel may call it.
+			this.getChildrenToRemove().add(child);
+		}
+	}
+
+	/**
+	 * Removes a child from the GameObject right away.
+	 *
+	 * @param child Child to remove
+	 */
+	final protected void removeChildInstantly(final @NotNull GameObject child) {
+		this.getChildren().remove(child);
+		if(this.childrenTree != null) this.childrenTree.remove(child);
+		if(child.getTransform().isChildOf(this.getTransform())) child.getTransform().setParent(null); // Its world transform stops following this one.
+		child.leaveWorld();
 	}
 
 	/**
@@ -490,6 +759,7 @@ public class GameObject implements GameInterface {
 	 */
 	protected void setWidth(final float width) {
 		this.width = width;
+		this.getCullingEntry().markMoved();
 	}
 
 	/**
@@ -499,6 +769,7 @@ public class GameObject implements GameInterface {
 	 */
 	protected void setHeight(final float height) {
 		this.height = height;
+		this.getCullingEntry().markMoved();
 	}
 
 	/**
@@ -537,4 +808,40 @@ public class GameObject implements GameInterface {
 		this.getTransform().setDepth(depth);
 	}
 
+	/**
+	 * Job updating a GameObject's subtree.
+	 */
+	final private static class UpdateJob extends RecursiveAction {
+
+		/**
+		 * Serialization's version (jobs are never serialized, ForkJoinTask is Serializable).
+		 */
+		final private static long serialVersionUID = 1L;
+
+		/**
+		 * GameObject updated.
+		 */
+		final private @NotNull GameObject object;
+
+		/**
+		 * Time since the last update (in s).
+		 */
+		private double delta;
+
+		/**
+		 * Creates a new UpdateJob instance.
+		 *
+		 * @param object GameObject to update
+		 */
+		private UpdateJob(final @NotNull GameObject object) {
+			this.object = object;
+		}
+
+		@Override
+		protected void compute() {
+			this.object.update(this.delta);
+		}
+
+	}
+
 }
\ No newline at end of file
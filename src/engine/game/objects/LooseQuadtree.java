@@ -0,0 +1,529 @@
+package engine.game.objects;
+
+import engine.game.Transform;
+import engine.game.TransformListener;
+import engine.math.Vector2f;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Loose quadtree of the world bounds of a GameObject's children, so rendering only visits the children
+ * intersecting the camera's rectangle.
+ * An object is stored in the deepest node whose loose bounds (twice its square) can contain it, chosen by its center,
+ * so inserting is a single walk down and moving only relocates it when it leaves its node.
+ * The root grows towards the objects outside it; objects too big for it (e.g. infinite ones, or as wide as
+ * Float.MAX_VALUE) are kept in the root and always tested.
+ * The children's Transforms mark them as moved, and they're relocated before the next query. Moves are only tracked
+ * once the tree has been queried, so a tree nothing renders (e.g. headless) keeps no list: its first query relocates
+ * every entry instead.
+ */
+final class LooseQuadtree {
+
+	/**
+	 * Root's initial half side (in openGL units).
+	 */
+	final private static float INITIAL_HALF_SIZE = 16;
+
+	/**
+	 * Maximum depth below the root.
+	 */
+	final private static int MAX_DEPTH = 10;
+
+	/**
+	 * Maximum number of times the root can grow at once.
+	 */
+	final private static int MAX_GROWTH = 16;
+
+	/**
+	 * Maximum half extent of an object placed below the root (in openGL units): bigger ones are kept in the root
+	 * rather than growing it.
+	 */
+	final private static float MAX_EXTENT = LooseQuadtree.INITIAL_HALF_SIZE * (1 << LooseQuadtree.MAX_GROWTH);
+
+	/**
+	 * Orders the visible entries as the children were added (i.e. their rendering order).
+	 */
+	final private static @NotNull Comparator<GameObject> ORDER = Comparator.comparingLong(object -> object.getCullingEntry().order);
+
+	/**
+	 * Node of the tree.
+	 */
+	final private static class Node {
+
+		/**
+		 * Node's center.
+		 */
+		final private float x, y;
+
+		/**
+		 * Node's half side (its loose bounds extend twice as far from its center).
+		 */
+		final private float halfSize;
+
+		/**
+		 * Node's depth.
+		 */
+		private int depth;
+
+		/**
+		 * Parent node (null for the root).
+		 */
+		private @Nullable Node parent;
+
+		/**
+		 * Quadrant of the node in its parent (0 = south-west, 1 = south-east, 2 = north-west, 3 = north-east).
+		 */
+		private int quadrant;
+
+		/**
+		 * Child nodes (created when needed, removed once empty).
+		 */
+		final private @Nullable Node @NotNull [] children;
+
+		/**
+		 * Entries stored in this node.
+		 */
+		final private @NotNull ArrayList<Entry> entries;
+
+		/**
+		 * Number of entries in this node and its descendants.
+		 */
+		private int size;
+
+		/**
+		 * Creates a new Node instance.
+		 *
+		 * @param x Node's center x position
+		 * @param y Node's center y position
+		 * @param halfSize Node's half side
+		 */
+		private Node(final float x, final float y, final float halfSize) {
+			this.x = x;
+			this.y = y;
+			this.halfSize = halfSize;
+			this.children = new Node[4];
+			this.entries = new ArrayList<>();
+		}
+
+		/**
+		 * Returns the quadrant of a position.
+		 *
+		 * @param x X position
+		 * @param y Y position
+		 * @return Quadrant (see Node.quadrant)
+		 */
+		@Contract(pure = true)
+		private int getQuadrant(final float x, final float y) {
+			return (x >= this.x ? 1 : 0) | (y >= this.y ? 2 : 0);
+		}
+
+		/**
+		 * Returns a child node, creating it if needed.
+		 *
+		 * @param quadrant Child's quadrant
+		 * @return Child node
+		 */
+		private @NotNull Node getChild(final int quadrant) {
+			Node child = this.children[quadrant];
+
+			if(child == null) {
+				final float halfSize = this.halfSize / 2;
+				child = new Node(this.x + ((quadrant & 1) == 0 ? -halfSize : halfSize), this.y + ((quadrant & 2) == 0 ? -halfSize : halfSize), halfSize);
+				child.depth = this.depth + 1;
+				child.parent = this;
+				child.quadrant = quadrant;
+				this.children[quadrant] = child;
+			}
+
+			return child;
+		}
+
+		/**
+		 * Returns whether the node's loose bounds intersect a rectangle.
+		 *
+		 * @param minX Rectangle's left side
+		 * @param minY Rectangle's bottom side
+		 * @param maxX Rectangle's right side
+		 * @param maxY Rectangle's top side
+		 * @return new boolean
+		 */
+		@Contract(pure = true)
+		private boolean intersects(final float minX, final float minY, final float maxX, final float maxY) {
+			final float looseSize = 2 * this.halfSize;
+
+			return this.x - looseSize <= maxX && this.x + looseSize >= minX && this.y - looseSize <= maxY && this.y + looseSize >= minY;
+		}
+
+		/**
+		 * Sets the depth of the node and its descendants (after the root has grown).
+		 *
+		 * @param depth Depth to set
+		 */
+		private void setDepth(final int depth) {
+			this.depth = depth;
+
+			for(final Node child : this.children) {
+				if(child != null) child.setDepth(depth + 1);
+			}
+		}
+
+	}
+
+	/**
+	 * A GameObject's place in its parent's tree.
+	 * It follows the GameObject's Transform to know when it has moved.
+	 */
+	final static class Entry implements TransformListener {
+
+		/**
+		 * GameObject.
+		 */
+		final private @NotNull GameObject object;
+
+		/**
+		 * Tree the GameObject is in (its parent's, null if it has none).
+		 */
+		private @Nullable LooseQuadtree tree;
+
+		/**
+		 * Node the GameObject is in.
+		 */
+		private @Nullable Node node;
+
+		/**
+		 * GameObject's world bounds, as of when it was last placed.
+		 */
+		private float minX, minY, maxX, maxY;
+
+		/**
+		 * Order in which the GameObject was added to the tree.
+		 */
+		private long order;
+
+		/**
+		 * Is the GameObject waiting to be relocated.
+		 */
+		private boolean moved;
+
+		/**
+		 * Creates a new Entry instance.
+		 *
+		 * @param object GameObject
+		 */
+		Entry(final @NotNull GameObject object) {
+			this.object = object;
+		}
+
+		@Override
+		public void worldChanged(final @NotNull Transform transform) {
+			this.markMoved();
+		}
+
+		/**
+		 * Tells the tree the GameObject needs to be relocated (its bounds may have changed).
+		 */
+		final void markMoved() {
+			final LooseQuadtree tree = this.tree;
+			if(tree == null || !tree.tracking || this.moved) return;
+
+			this.moved = true;
+			synchronized(tree.moved) { // Siblings updated in parallel share their parent's tree.
+				tree.moved.add(this);
+			}
+		}
+
+		/**
+		 * Reads the GameObject's world bounds.
+		 */
+		private void updateBounds() {
+			final Vector2f position = this.object.getTransform().getTransformedPosition(Vector2f.getTemporary(0));
+
+			this.minX = position.getX();
+			this.minY = position.getY();
+			this.maxX = this.minX + this.object.getWidth();
+			this.maxY = this.minY + this.object.getHeight();
+		}
+
+		/**
+		 * Returns whether the GameObject's bounds intersect a rectangle (borders included).
+		 *
+		 * @param minX Rectangle's left side
+		 * @param minY Rectangle's bottom side
+		 * @param maxX Rectangle's right side
+		 * @param maxY Rectangle's top side
+		 * @return new boolean
+		 */
+		@Contract(pure = true)
+		final boolean intersects(final float minX, final float minY, final float maxX, final float maxY) {
+			return this.minX <= maxX && this.maxX >= minX && this.minY <= maxY && this.maxY >= minY;
+		}
+
+	}
+
+	/**
+	 * Root node (null while the tree is empty).
+	 */
+	private @Nullable Node root;
+
+	/**
+	 * Number of entries added so far (gives their order).
+	 */
+	private long added;
+
+	/**
+	 * Entries waiting to be relocated (each one at most once).
+	 */
+	final private @NotNull ArrayList<Entry> moved;
+
+	/**
+	 * Are moves tracked (set by the first query).
+	 */
+	private boolean tracking;
+
+	/**
+	 * Result of the last query.
+	 */
+	final private @NotNull ArrayList<GameObject> visible;
+
+	/**
+	 * Creates a new LooseQuadtree instance.
+	 */
+	LooseQuadtree() {
+		this.root = null;
+		this.added = 0;
+		this.moved = new ArrayList<>();
+		this.tracking = false;
+		this.visible = new ArrayList<>();
+	}
+
+	/**
+	 * Adds a GameObject (it must not be in another tree).
+	 *
+	 * @param object GameObject to add
+	 */
+	final void add(final @NotNull GameObject object) {
+		final Entry entry = object.getCullingEntry();
+		assert entry.tree == null : "Error: " + object.getName() + " already is in a quadtree.";
+
+		entry.tree = this;
+		entry.order = this.added++;
+		entry.moved = false;
+		entry.updateBounds();
+		this.insert(entry);
+	}
+
+	/**
+	 * Removes a GameObject.
+	 *
+	 * @param object GameObject to remove
+	 */
+	final void remove(final @NotNull GameObject object) {
+		final Entry entry = object.getCullingEntry();
+		if(entry.tree != this) return;
+
+		this.detach(entry);
+		entry.tree = null;
+		if(entry.moved) {
+			entry.moved = false;
+			synchronized(this.moved) {
+				this.moved.remove(entry);
+			}
+		}
+	}
+
+	/**
+	 * Returns the GameObjects intersecting a rectangle, in the order they were added.
+	 * The list is reused by the next query.
+	 *
+	 * @param minX Rectangle's left side
+	 * @param minY Rectangle's bottom side
+	 * @param maxX Rectangle's right side
+	 * @param maxY Rectangle's top side
+	 * @return GameObjects intersecting the rectangle
+	 */
+	final @NotNull ArrayList<GameObject> query(final float minX, final float minY, final float maxX, final float maxY) {
+		if(!this.tracking) {
+			// Nothing was tracked so far: every entry may have moved.
+			this.tracking = true;
+			if(this.root != null) this.markMoved(this.root);
+		}
+		this.relocateMoved();
+
+		this.visible.clear();
+		if(this.root != null) {
+			// The root's entries may be bigger than its loose bounds, so they're always tested.
+			for(final Entry entry : this.root.entries) {
+				if(entry.intersects(minX, minY, maxX, maxY)) this.visible.add(entry.object);
+			}
+			for(final Node child : this.root.children) {
+				if(child != null) this.query(child, minX, minY, maxX, maxY);
+			}
+		}
+
+		this.visible.sort(LooseQuadtree.ORDER);
+
+		return this.visible;
+	}
+
+	/**
+	 * Adds the GameObjects of a node and its descendants intersecting a rectangle.
+	 *
+	 * @param node Node
+	 * @param minX Rectangle's left side
+	 * @param minY Rectangle's bottom side
+	 * @param maxX Rectangle's right side
+	 * @param maxY Rectangle's top side
+	 */
+	private void query(final @NotNull Node node, final float minX, final float minY, final float maxX, final float maxY) {
+		if(!node.intersects(minX, minY, maxX, maxY)) return;
+
+		for(int i = 0; i < node.entries.size(); i++) {
+			final Entry entry = node.entries.get(i);
+			if(entry.intersects(minX, minY, maxX, maxY)) this.visible.add(entry.object);
+		}
+
+		for(final Node child : node.children) {
+			if(child != null) this.query(child, minX, minY, maxX, maxY);
+		}
+	}
+
+	/**
+	 * Marks the entries of a node and its descendants as moved.
+	 *
+	 * @param node Node
+	 */
+	private void markMoved(final @NotNull Node node) {
+		for(int i = 0; i < node.entries.size(); i++) {
+			node.entries.get(i).markMoved();
+		}
+
+		for(final Node child : node.children) {
+			if(child != null) this.markMoved(child);
+		}
+	}
+
+	/**
+	 * Relocates the entries which have moved since the last query.
+	 */
+	private void relocateMoved() {
+		for(int i = 0; i < this.moved.size(); i++) {
+			final Entry entry = this.moved.get(i);
+
+			entry.moved = false;
+			entry.updateBounds();
+			if(!this.fits(entry, entry.node)) {
+				this.detach(entry);
+				this.insert(entry);
+			}
+		}
+
+		this.moved.clear();
+	}
+
+	/**
+	 * Returns whether an entry still belongs to a node: its center is in the node's square, it fits in its loose
+	 * bounds, and it can't go any deeper.
+	 *
+	 * @param entry Entry
+	 * @param node Node
+	 * @return new boolean
+	 */
+	@Contract(pure = true)
+	private boolean fits(final @NotNull Entry entry, final @Nullable Node node) {
+		if(node == null || node == this.root) return false;
+
+		final float x = (entry.minX + entry.maxX) / 2;
+		final float y = (entry.minY + entry.maxY) / 2;
+		final float extent = Math.max(entry.maxX - entry.minX, entry.maxY - entry.minY) / 2;
+
+		return Math.abs(x - node.x) <= node.halfSize && Math.abs(y - node.y) <= node.halfSize && extent <= node.halfSize && (extent > node.halfSize / 2 || node.depth == LooseQuadtree.MAX_DEPTH);
+	}
+
+	/**
+	 * Puts an entry in the deepest node that can contain it, growing the root if needed.
+	 *
+	 * @param entry Entry to place
+	 */
+	private void insert(final @NotNull Entry entry) {
+		final float x = (entry.minX + entry.maxX) / 2;
+		final float y = (entry.minY + entry.maxY) / 2;
+		final float extent = Math.max(entry.maxX - entry.minX, entry.maxY - entry.minY) / 2;
+		final boolean finite = Float.isFinite(x) && Float.isFinite(y) && extent <= LooseQuadtree.MAX_EXTENT;
+
+		if(this.root == null) this.root = finite ? new Node(x, y, LooseQuadtree.INITIAL_HALF_SIZE) : new Node(0, 0, LooseQuadtree.INITIAL_HALF_SIZE);
+
+		Node node = this.root;
+		if(finite) {
+			for(int i = 0; i < LooseQuadtree.MAX_GROWTH && (Math.abs(x - node.x) > node.halfSize || Math.abs(y - node.y) > node.halfSize); i++) {
+				node = this.grow(x, y);
+			}
+
+			if(Math.abs(x - node.x) <= node.halfSize && Math.abs(y - node.y) <= node.halfSize) {
+				while(extent <= node.halfSize / 2 && node.depth - this.root.depth < LooseQuadtree.MAX_DEPTH) {
+					node = node.getChild(node.getQuadrant(x, y));
+				}
+			}
+		}
+
+		node.entries.add(entry);
+		entry.node = node;
+		for(Node parent = node; parent != null; parent = parent.parent) {
+			parent.size++;
+		}
+	}
+
+	/**
+	 * Doubles the root's side towards a position (the previous root becomes one of its quadrants).
+	 *
+	 * @param x X position
+	 * @param y Y position
+	 * @return New root
+	 */
+	private @NotNull Node grow(final float x, final float y) {
+		final Node previous = this.root;
+		assert previous != null : "Error: Can't grow an empty quadtree.";
+
+		final Node root = new Node(previous.x + (x >= previous.x ? previous.halfSize : -previous.halfSize), previous.y + (y >= previous.y ? previous.halfSize : -previous.halfSize), 2 * previous.halfSize);
+		root.size = previous.size;
+
+		// The previous root's entries may be too big for a quadrant.
+		final ArrayList<Entry> entries = new ArrayList<>(previous.entries);
+		previous.size -= entries.size();
+		previous.entries.clear();
+		root.entries.addAll(entries);
+		for(final Entry entry : entries) {
+			entry.node = root;
+		}
+
+		previous.parent = root;
+		previous.quadrant = root.getQuadrant(previous.x, previous.y);
+		previous.setDepth(1);
+		if(previous.size > 0) root.children[previous.quadrant] = previous;
+
+		this.root = root;
+		return root;
+	}
+
+	/**
+	 * Removes an entry from its node, and the nodes left empty.
+	 *
+	 * @param entry Entry to remove
+	 */
+	private void detach(final @NotNull Entry entry) {
+		final Node node = entry.node;
+		if(node == null) return;
+
+		node.entries.remove(entry);
+		entry.node = null;
+
+		for(Node parent = node; parent != null; parent = parent.parent) {
+			parent.size--;
+			if(parent.size == 0 && parent.parent != null) parent.parent.children[parent.quadrant] = null;
+		}
+	}
+
+}
\ No newline at end of file
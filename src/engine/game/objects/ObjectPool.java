@@ -0,0 +1,299 @@
+package engine.game.objects;
+
+import com.Options;
+import engine.util.profiling.Profiler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Pool of short-lived objects (e.g. a Text's glyphs, projectiles): released objects are reset and kept for the
+ * next acquisitions instead of being collected, so high-churn objects don't pressure the garbage collector.
+ * With Options::POOL_LEAK_TRACKING, each acquisition is tracked: an object collected without having been released (a leak) is
+ * reported with where it was acquired, and releasing an object twice is reported too.
+ *
+ * @param <T> Type of the objects
+ */
+final public class ObjectPool<T extends Poolable> {
+
+	/**
+	 * All the pools (for the statistics).
+	 */
+	final private static @NotNull ArrayList<ObjectPool<?>> POOLS = new ArrayList<>();
+
+	/**
+	 * Pool's name.
+	 */
+	final private @NotNull String name;
+
+	/**
+	 * Creates the objects when the pool is empty.
+	 */
+	final private @NotNull Supplier<T> factory;
+
+	/**
+	 * Maximum number of released objects kept (the others are left to the garbage collector).
+	 */
+	final private int capacity;
+
+	/**
+	 * Released objects, ready to be acquired.
+	 */
+	final private @NotNull ArrayList<T> free;
+
+	/**
+	 * Number of objects created by the pool.
+	 */
+	private int created;
+
+	/**
+	 * Number of acquisitions.
+	 */
+	private int acquisitions;
+
+	/**
+	 * Number of objects acquired and not released yet.
+	 */
+	private int inUse;
+
+	/**
+	 * Highest number of objects in use at once.
+	 */
+	private int peakInUse;
+
+	/**
+	 * Number of objects collected without having been released.
+	 */
+	private int leaks;
+
+	/**
+	 * Lease of each object in use (null unless Options::POOL_LEAK_TRACKING).
+	 */
+	final private WeakHashMap<T, Lease> leases;
+
+	/**
+	 * Leases of the objects in use (keeps them reachable until their object is released or collected).
+	 */
+	final private HashSet<Lease> pendingLeases;
+
+	/**
+	 * Leases whose object has been collected.
+	 */
+	final private ReferenceQueue<Object> collected;
+
+	/**
+	 * Creates a new ObjectPool instance.
+	 *
+	 * @param name Pool's name
+	 * @param factory Creates the objects when the pool is empty
+	 * @param capacity Maximum number of released objects kept
+	 */
+	public ObjectPool(final @NotNull String name, final @NotNull Supplier<T> factory, final int capacity) {
+		assert capacity >= 0 : "Error: The capacity of a pool can't be negative.";
+
+		this.name = name;
+		this.factory = factory;
+		this.capacity = capacity;
+		this.free = new ArrayList<>();
+		this.created = 0;
+		this.acquisitions = 0;
+		this.inUse = 0;
+		this.peakInUse = 0;
+		this.leaks = 0;
+
+		if(Options.POOL_LEAK_TRACKING) {
+			this.leases = new WeakHashMap<>();
+			this.pendingLeases = new HashSet<>();
+			this.collected = new ReferenceQueue<>();
+		} else {
+			this.leases = null;
+			this.pendingLeases = null;
+			this.collected = null;
+		}
+
+		synchronized(ObjectPool.POOLS) {
+			ObjectPool.POOLS.add(this);
+		}
+	}
+
+	/**
+	 * Takes an object from the pool (a new one if it is empty).
+	 * It must be given back with ObjectPool.release() once it isn't used anymore.
+	 *
+	 * @return Object, to set up
+	 */
+	public synchronized @NotNull T acquire() {
+		final T object;
+		if(this.free.isEmpty()) {
+			object = this.factory.get();
+			this.created++;
+		} else {
+			object = this.free.remove(this.free.size() - 1);
+		}
+
+		this.acquisitions++;
+		this.inUse++;
+		this.peakInUse = Math.max(this.peakInUse, this.inUse);
+
+		if(Options.POOL_LEAK_TRACKING) {
+			this.checkLeaks();
+
+			final Lease lease = new Lease(object, this.collected);
+			this.leases.put(object, lease);
+			this.pendingLeases.add(lease);
+		}
+
+		return object;
+	}
+
+	/**
+	 * Gives an object back to the pool: it is reset, then kept for the next acquisitions.
+	 * It mustn't be used after that.
+	 *
+	 * @param object Object acquired from this pool
+	 */
+	public synchronized void release(final @NotNull T object) {
+		if(Options.POOL_LEAK_TRACKING) {
+			this.checkLeaks();
+
+			final Lease lease = this.leases.remove(object);
+			if(lease == null) {
+				System.err.println("Error: Object released in pool \"" + this.getName() + "\" without being in use (released twice, or acquired from another pool): " + object);
+				new Exception().printStackTrace();
+				return;
+			}
+			this.pendingLeases.remove(lease);
+			lease.clear();
+		}
+
+		this.inUse--;
+		object.reset();
+		if(this.free.size() < this.capacity) this.free.add(object);
+	}
+
+	/**
+	 * Reports the objects collected without having been released (only with Options::POOL_LEAK_TRACKING).
+	 */
+	private void checkLeaks() {
+		Lease lease;
+		while((lease = (Lease) this.collected.poll()) != null) {
+			if(!this.pendingLeases.remove(lease)) continue; // Released meanwhile.
+
+			this.leaks++;
+			this.inUse--;
+			System.err.println("Error: An object of pool \"" + this.getName() + "\" has been collected without being released. It was acquired here:");
+			lease.getAcquisition().printStackTrace();
+		}
+	}
+
+	/**
+	 * Reports the statistics of all the pools to the Profiler.
+	 */
+	public static void reportStatistics() {
+		if(Profiler.isOff()) return;
+
+		synchronized(ObjectPool.POOLS) {
+			for(final ObjectPool<?> pool : ObjectPool.POOLS) {
+				pool.report();
+			}
+		}
+	}
+
+	/**
+	 * Reports the pool's statistics to the Profiler.
+	 */
+	private synchronized void report() {
+		Profiler.setStatistic("Pool \"" + this.getName() + "\"", this.inUse + " in use (peak " + this.peakInUse + "), " + this.free.size() + " free, " + this.created + " created for " + this.acquisitions + " acquisitions" + (Options.POOL_LEAK_TRACKING ? ", " + this.leaks + " leaked" : ""));
+	}
+
+	/**
+	 * Returns the pool's name.
+	 *
+	 * @return ObjectPool.name
+	 */
+	@Contract(pure = true)
+	public @NotNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the number of objects created by the pool.
+	 *
+	 * @return ObjectPool.created
+	 */
+	@Contract(pure = true)
+	public synchronized int getCreatedCount() {
+		return this.created;
+	}
+
+	/**
+	 * Returns the number of objects acquired and not released yet.
+	 *
+	 * @return ObjectPool.inUse
+	 */
+	@Contract(pure = true)
+	public synchronized int getInUseCount() {
+		return this.inUse;
+	}
+
+	/**
+	 * Returns the number of released objects ready to be acquired.
+	 *
+	 * @return ObjectPool.free.size()
+	 */
+	@Contract(pure = true)
+	public synchronized int getFreeCount() {
+		return this.free.size();
+	}
+
+	/**
+	 * Returns the number of objects collected without having been released (always 0 without Options::POOL_LEAK_TRACKING).
+	 *
+	 * @return ObjectPool.leaks
+	 */
+	@Contract(pure = true)
+	public synchronized int getLeakCount() {
+		return this.leaks;
+	}
+
+	/**
+	 * Acquisition of an object, followed until the object is released or collected.
+	 */
+	final private static class Lease extends WeakReference<Object> {
+
+		/**
+		 * Where the object has been acquired.
+		 */
+		final private @NotNull Exception acquisition;
+
+		/**
+		 * Creates a new Lease instance.
+		 *
+		 * @param object Object acquired
+		 * @param queue Queue the lease is put in once the object is collected
+		 */
+		private Lease(final @NotNull Object object, final @NotNull ReferenceQueue<Object> queue) {
+			super(object, queue);
+
+			this.acquisition = new Exception("Acquisition");
+		}
+
+		/**
+		 * Returns where the object has been acquired.
+		 *
+		 * @return Lease.acquisition
+		 */
+		@Contract(pure = true)
+		private @NotNull Exception getAcquisition() {
+			return this.acquisition;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package engine.game.objects;
+
+/**
+ * Object recycled by an ObjectPool instead of being left to the garbage collector.
+ */
+public interface Poolable {
+
+	/**
+	 * Resets the object when it is released into its pool: it lets go of what mustn't outlive its use (sounds
+	 * playing, pending changes, ...) and is ready to be set up again by the next one acquiring it.
+	 */
+	abstract public void reset();
+
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package engine.game.objects;
+
+import engine.game.components.Camera;
+import engine.math.Vector2f;
+import engine.util.Window;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decides how often the GameObjects asking for it (GameObject.setTickScheduled()) are updated, depending on
+ * their distance to the main Camera's rectangle: every tick, one tick in 2, one in 4, or not at all (dormant).
+ * A GameObject skipping ticks accumulates their time and receives it at its next update, up to
+ * TickScheduler::MAX_SKIPPED_DELTA: a dormant one waking up takes one bounded step, not its whole sleep.
+ * Dormant PhysicsObjects aren't stepped by the PhysicsEngine either.
+ * Distances are measured in screens between the rectangle and the GameObject's bounds (0 when they overlap),
+ * and each GameObject has its own phase so the ones in a tier don't all update on the same ticks.
+ */
+final public class TickScheduler {
+
+	/**
+	 * Updated every tick.
+	 */
+	final public static int TIER_FULL = 0;
+
+	/**
+	 * Updated one tick in 2.
+	 */
+	final public static int TIER_HALF = 1;
+
+	/**
+	 * Updated one tick in 4.
+	 */
+	final public static int TIER_QUARTER = 2;
+
+	/**
+	 * Not updated.
+	 */
+	final public static int TIER_DORMANT = 3;
+
+	/**
+	 * Distance from which GameObjects are in TickScheduler::TIER_HALF (in screens).
+	 */
+	final private static float HALF_DISTANCE = 0.5f;
+
+	/**
+	 * Distance from which GameObjects are in TickScheduler::TIER_QUARTER (in screens).
+	 */
+	final private static float QUARTER_DISTANCE = 1.5f;
+
+	/**
+	 * Distance from which GameObjects are in TickScheduler::TIER_DORMANT (in screens).
+	 */
+	final private static float DORMANT_DISTANCE = 3.0f;
+
+	/**
+	 * Most time a GameObject catches up with at its next update after skipping ticks (in s).
+	 */
+	final public static double MAX_SKIPPED_DELTA = 0.25;
+
+	/**
+	 * Number of the current tick.
+	 */
+	private static int tick = 0;
+
+	/**
+	 * Is there a Camera to measure distances from (if not, everything is updated every tick).
+	 */
+	private static boolean hasCamera = false;
+
+	/**
+	 * Camera's rectangle during the current tick (in openGL units).
+	 */
+	private static float left, bottom, right, top;
+
+	/**
+	 * Starts a new tick: the Camera's rectangle is read once for all the GameObjects updated during it.
+	 *
+	 * @param camera Main Camera (null = none)
+	 */
+	public static void beginTick(final @Nullable Camera camera) {
+		TickScheduler.tick++;
+		TickScheduler.hasCamera = camera != null;
+		if(camera == null) return;
+
+		final Vector2f position = camera.getPos(Vector2f.getTemporary(0));
+		final float ratio = Window.getRatio();
+		TickScheduler.left = position.getX() - ratio;
+		TickScheduler.right = position.getX() + ratio;
+		TickScheduler.bottom = position.getY() - 1;
+		TickScheduler.top = position.getY() + 1;
+	}
+
+	/**
+	 * Returns the tier of a GameObject during the current tick.
+	 *
+	 * @param object GameObject
+	 * @return TickScheduler::TIER_FULL, TIER_HALF, TIER_QUARTER or TIER_DORMANT
+	 */
+	public static int getTier(final @NotNull GameObject object) {
+		if(!TickScheduler.hasCamera) return TickScheduler.TIER_FULL;
+
+		final Vector2f position = object.getTransform().getTransformedPosition(Vector2f.getTemporary(0));
+		final float minX = position.getX();
+		final float minY = position.getY();
+		final float maxX = minX + object.getWidth();
+		final float maxY = minY + object.getHeight();
+
+		final float gapX = Math.max(0, Math.max(minX - TickScheduler.right, TickScheduler.left - maxX)) / (TickScheduler.right - TickScheduler.left);
+		final float gapY = Math.max(0, Math.max(minY - TickScheduler.top, TickScheduler.bottom - maxY)) / (TickScheduler.top - TickScheduler.bottom);
+		final float distance = Math.max(gapX, gapY);
+
+		if(distance < TickScheduler.HALF_DISTANCE) return TickScheduler.TIER_FULL;
+		if(distance < TickScheduler.QUARTER_DISTANCE) return TickScheduler.TIER_HALF;
+		if(distance < TickScheduler.DORMANT_DISTANCE) return TickScheduler.TIER_QUARTER;
+		return TickScheduler.TIER_DORMANT;
+	}
+
+	/**
+	 * Returns whether a GameObject is dormant (not updated at all) during the current tick.
+	 *
+	 * @param object GameObject
+	 * @return new boolean, false if its update rate isn't decided by the TickScheduler
+	 */
+	public static boolean isDormant(final @NotNull GameObject object) {
+		return object.isTickScheduled() && TickScheduler.getTier(object) == TickScheduler.TIER_DORMANT;
+	}
+
+	/**
+	 * Returns whether a GameObject is updated during the current tick.
+	 *
+	 * @param object GameObject
+	 * @return new boolean
+	 */
+	static boolean isDue(final @NotNull GameObject object) {
+		final int tier = TickScheduler.getTier(object);
+		if(tier == TickScheduler.TIER_FULL) return true;
+		if(tier == TickScheduler.TIER_DORMANT) return false;
+
+		final int period = tier == TickScheduler.TIER_HALF ? 2 : 4;
+		return ((TickScheduler.tick + System.identityHashCode(object)) & (period - 1)) == 0;
+	}
+
+	/**
+	 * Returns the number of the current tick.
+	 *
+	 * @return TickScheduler::tick
+	 */
+	@Contract(pure = true)
+	public static int getTick() {
+		return TickScheduler.tick;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Path found by the PathFinder between the nodes of the chunks' graphs, cached until one of its chunks changes.
+ * Two abstract paths are equal when they have the same start chunk, goal chunk and movement: any tiles of these
+ * chunks can follow it, as long as they reach its first and last nodes.
+ */
+final class AbstractPath {
+
+	/**
+	 * Packed start and goal chunks.
+	 */
+	private long start, goal;
+
+	/**
+	 * Movement (PathFinder.WALK | PathFinder.SWIM).
+	 */
+	private int movement;
+
+	/**
+	 * Packed tiles of the nodes, from the start.
+	 */
+	final private long @NotNull [] nodes;
+
+	/**
+	 * Packed chunks the path goes through.
+	 */
+	final private long @NotNull [] chunks;
+
+	/**
+	 * Creates a new AbstractPath instance.
+	 *
+	 * @param start Packed start chunk
+	 * @param goal Packed goal chunk
+	 * @param movement Movement
+	 * @param nodes Packed tiles of the nodes
+	 * @param chunks Packed chunks the path goes through
+	 */
+	AbstractPath(final long start, final long goal, final int movement, final long @NotNull [] nodes, final long @NotNull [] chunks) {
+		this.start = start;
+		this.goal = goal;
+		this.movement = movement;
+		this.nodes = nodes;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * Sets the start, the goal and the movement (only for lookups).
+	 *
+	 * @param start Packed start chunk
+	 * @param goal Packed goal chunk
+	 * @param movement Movement
+	 */
+	final void set(final long start, final long goal, final int movement) {
+		this.start = start;
+		this.goal = goal;
+		this.movement = movement;
+	}
+
+	/**
+	 * Returns the packed tiles of the nodes.
+	 *
+	 * @return AbstractPath.nodes
+	 */
+	@Contract(pure = true)
+	final long @NotNull [] getNodes() {
+		return this.nodes;
+	}
+
+	/**
+	 * Returns whether the path goes through a chunk.
+	 *
+	 * @param chunk Packed chunk
+	 * @return new boolean
+	 */
+	@Contract(pure = true)
+	final boolean crosses(final long chunk) {
+		for(final long key : this.chunks) {
+			if(key == chunk) return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean equals(final Object object) {
+		if(!(object instanceof AbstractPath)) return false;
+
+		final AbstractPath path = (AbstractPath) object;
+		return path.start == this.start && path.goal == this.goal && path.movement == this.movement;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * Long.hashCode(this.start) + Long.hashCode(this.goal)) + this.movement;
+	}
+
+}
\ No newline at end of file
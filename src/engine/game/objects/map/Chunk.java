@@ -48,6 +48,11 @@ final class Chunk extends GameObject {
 	 */
 	final private int y;
 
+	/**
+	 * Has the Chunk been baked at least once.
+	 */
+	private boolean baked;
+
 	/**
 	 * Chunk's rendered component.
 	 */
@@ -65,6 +70,7 @@ final class Chunk extends GameObject {
 		this.x = x;
 		this.y = y;
 		this.setPosition(new Vector2f(x * Chunk.LENGTH, y * Chunk.LENGTH));
+		this.baked = false;
 
 		this.renderedComponent = new RenderedComponent(Chunk.MESH, new Material(new Texture("black1x1")), Chunk.LENGTH, Chunk.LENGTH);
 		this.addComponent(this.renderedComponent);
@@ -91,12 +97,23 @@ final class Chunk extends GameObject {
 	}
 
 	/**
-	 * Sets the Texture to the Chunk.
+	 * Returns whether the Chunk has been baked at least once.
+	 *
+	 * @return Chunk.baked
+	 */
+	@Contract(pure = true)
+	final boolean isBaked() {
+		return this.baked;
+	}
+
+	/**
+	 * Sets the (baked) Texture to the Chunk.
 	 *
 	 * @param texture Texture to set
 	 */
 	final void setTexture(final @NotNull Texture texture) {
 		this.renderedComponent.getMaterial().setImage(texture);
+		this.baked = true;
 	}
 
 }
\ No newline at end of file
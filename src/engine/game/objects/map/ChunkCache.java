@@ -0,0 +1,339 @@
+package engine.game.objects.map;
+
+import com.Options;
+import engine.rendering.texture.Texture;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import engine.rendering.DeletionQueue;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GLSync;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.lwjgl.opengl.GL11.GL_NONE;
+import static org.lwjgl.opengl.GL11.GL_RGBA;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.glGetTexImage;
+import static org.lwjgl.opengl.GL15.GL_STREAM_READ;
+import static org.lwjgl.opengl.GL15.glBindBuffer;
+import static org.lwjgl.opengl.GL15.glBufferData;
+import static org.lwjgl.opengl.GL15.glGenBuffers;
+import static org.lwjgl.opengl.GL15.glGetBufferSubData;
+import static org.lwjgl.opengl.GL21.GL_PIXEL_PACK_BUFFER;
+import static org.lwjgl.opengl.GL32.GL_SYNC_GPU_COMMANDS_COMPLETE;
+import static org.lwjgl.opengl.GL32.GL_TIMEOUT_EXPIRED;
+import static org.lwjgl.opengl.GL32.glClientWaitSync;
+import static org.lwjgl.opengl.GL32.glDeleteSync;
+import static org.lwjgl.opengl.GL32.glFenceSync;
+
+/**
+ * On-disk cache of the baked chunks' pixels.
+ * A chunk is stored under a hash of its tiles and of the TileSet's version, as raw RGBA bytes
+ * (the exact layout the graphic card gave back), so a cache hit is a file read and an upload.
+ * The file's header also holds the chunk's tiles, so two chunks whose hashes collide are told apart.
+ */
+final class ChunkCache {
+
+	/**
+	 * Is the cache used at all.
+	 */
+	final public static boolean ENABLED = true;
+
+	/**
+	 * Folder where the cached chunks are saved (one sub-folder per map).
+	 */
+	final public static String FOLDER = "/media/cache/chunks";
+
+	/**
+	 * Cached chunk's file extension.
+	 */
+	final public static String EXTENSION = ".chunk";
+
+	/**
+	 * First bytes of a cached chunk file ("WCHC").
+	 */
+	final private static int MAGIC = 0x57434843;
+
+	/**
+	 * File format's version (changes whenever the format does).
+	 */
+	final private static int FORMAT_VERSION = 2;
+
+	/**
+	 * Number of tiles of a chunk.
+	 */
+	final static int TILE_COUNT = Chunk.SIZE * Chunk.SIZE;
+
+	/**
+	 * Header's size (magic, format version, width, height, tiles).
+	 */
+	final private static int HEADER_SIZE = 16 + 2 * ChunkCache.TILE_COUNT;
+
+	/**
+	 * Thread writing the cached chunks to the disk (so baking never waits for it).
+	 */
+	final private static ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "Chunk cache writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Baked chunk whose pixels are being copied into a pixel buffer object by the graphic card.
+	 */
+	final private static class PendingRead {
+
+		/**
+		 * Cached chunk's file name.
+		 */
+		final private @NotNull String fileName;
+
+		/**
+		 * Chunk's tiles.
+		 */
+		final private char @NotNull [] characters;
+
+		/**
+		 * Texture's width.
+		 */
+		final private int width;
+
+		/**
+		 * Texture's height.
+		 */
+		final private int height;
+
+		/**
+		 * Pixel buffer object receiving the pixels.
+		 */
+		final private int pbo;
+
+		/**
+		 * Signaled once the pixels have been copied.
+		 */
+		final private @NotNull GLSync fence;
+
+		/**
+		 * Creates a new PendingRead instance.
+		 *
+		 * @param fileName Cached chunk's file name
+		 * @param characters Chunk's tiles
+		 * @param width Texture's width
+		 * @param height Texture's height
+		 * @param pbo Pixel buffer object receiving the pixels
+		 * @param fence Signaled once the pixels have been copied
+		 */
+		private PendingRead(final @NotNull String fileName, final char @NotNull [] characters, final int width, final int height, final int pbo, final @NotNull GLSync fence) {
+			this.fileName = fileName;
+			this.characters = characters;
+			this.width = width;
+			this.height = height;
+			this.pbo = pbo;
+			this.fence = fence;
+		}
+
+	}
+
+	/**
+	 * Pointer to the Map.
+	 */
+	final private @NotNull Map map;
+
+	/**
+	 * Chunks read back from the graphic card, in the order they were saved.
+	 */
+	final private @NotNull ArrayList<PendingRead> pendingReads;
+
+	/**
+	 * Map's folder in the cache.
+	 */
+	final private @NotNull String folder;
+
+	/**
+	 * Creates a new ChunkCache instance.
+	 *
+	 * @param map Map the chunks belong to
+	 */
+	ChunkCache(final @NotNull Map map) {
+		this.map = map;
+		this.folder = ChunkCache.FOLDER + "/" + map.getMapName();
+		this.pendingReads = new ArrayList<>();
+	}
+
+	/**
+	 * Returns the cache key of the chunk at (x ; y): a hash of its tiles and of the TileSet's version.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @param characters Filled with the chunk's tiles (ChunkCache.TILE_COUNT characters, row by row)
+	 * @return new long
+	 */
+	final long getKey(final int x, final int y, final char @NotNull [] characters) {
+		long hash = 0xCBF29CE484222325L; // FNV-1a.
+		hash = (hash ^ this.map.getTileSet().getVersion()) * 0x100000001B3L;
+		hash = (hash ^ Chunk.SIZE) * 0x100000001B3L;
+
+		int index = 0;
+		for(int i = y * Chunk.SIZE; i < (y + 1) * Chunk.SIZE; i++) {
+			for(int j = x * Chunk.SIZE; j < (x + 1) * Chunk.SIZE; j++) {
+				final char c = j < this.map.getMapWidth() && i < this.map.getMapHeight() ? this.map.getCharacterAt(j, i) : ' ';
+				characters[index++] = c;
+				hash = (hash ^ c) * 0x100000001B3L;
+			}
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Loads a cached chunk and uploads it.
+	 *
+	 * @param key Chunk's cache key
+	 * @param characters Chunk's tiles (see ChunkCache.getKey())
+	 * @param width Texture's expected width
+	 * @param height Texture's expected height
+	 * @return new Texture or null if the chunk isn't cached
+	 */
+	final @Nullable Texture load(final long key, final char @NotNull [] characters, final int width, final int height) {
+		final File file = support.File.getReadableFile(this.getFileName(key));
+		if(file == null) return null;
+
+		try(final FileChannel channel = new FileInputStream(file).getChannel()) {
+			final ByteBuffer header = ByteBuffer.allocate(ChunkCache.HEADER_SIZE);
+			ChunkCache.readFully(channel, header);
+
+			if(header.getInt() != ChunkCache.MAGIC || header.getInt() != ChunkCache.FORMAT_VERSION || header.getInt() != width || header.getInt() != height) {
+				return null; // Stale file, it will be overwritten once the chunk is baked.
+			}
+			for(final char c : characters) {
+				if(header.getChar() != c) return null; // Another chunk with the same hash, overwritten once this one is baked.
+			}
+
+			final ByteBuffer pixels = BufferUtils.createByteBuffer(width * height * 4);
+			ChunkCache.readFully(channel, pixels);
+
+			return new Texture(width, height, pixels, GL_NONE);
+		} catch(final IOException e) {
+			if(Options.DEBUG) {
+				System.err.println("Error: Couldn't read cached chunk " + this.getFileName(key));
+				e.printStackTrace();
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Saves a baked chunk in the cache.
+	 * The graphic card copies the pixels into a pixel buffer object without stalling the baking thread, and
+	 * ChunkCache.update() reads them back once it's done. The file is then written on another thread: if that fails
+	 * the entry is dropped (it is baked again next time), the game goes on.
+	 *
+	 * @param key Chunk's cache key
+	 * @param characters Chunk's tiles (see ChunkCache.getKey(), copied)
+	 * @param texture Chunk's baked texture
+	 */
+	final void save(final long key, final char @NotNull [] characters, final @NotNull Texture texture) {
+		final int pbo = glGenBuffers();
+		glBindBuffer(GL_PIXEL_PACK_BUFFER, pbo);
+		glBufferData(GL_PIXEL_PACK_BUFFER, texture.getWidth() * texture.getHeight() * 4, GL_STREAM_READ);
+		texture.bind();
+		glGetTexImage(GL_TEXTURE_2D, 0, GL_RGBA, GL_UNSIGNED_BYTE, 0L);
+		glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+
+		final GLSync fence = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+		this.pendingReads.add(new PendingRead(this.getFileName(key), Arrays.copyOf(characters, characters.length), texture.getWidth(), texture.getHeight(), pbo, fence));
+	}
+
+	/**
+	 * Reads back the pixels the graphic card has finished copying, and writes their files.
+	 * Called by the thread saving the chunks, in the same context.
+	 */
+	final void update() {
+		while(!this.pendingReads.isEmpty()) {
+			final PendingRead read = this.pendingReads.get(0);
+			if(glClientWaitSync(read.fence, 0, 0) == GL_TIMEOUT_EXPIRED) return; // The next ones were queued after it.
+
+			this.pendingReads.remove(0);
+			glDeleteSync(read.fence);
+
+			final ByteBuffer pixels = BufferUtils.createByteBuffer(read.width * read.height * 4);
+			glBindBuffer(GL_PIXEL_PACK_BUFFER, read.pbo);
+			glGetBufferSubData(GL_PIXEL_PACK_BUFFER, 0, pixels);
+			glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+			DeletionQueue.deleteBuffer(read.pbo);
+
+			ChunkCache.write(read.fileName, read.characters, read.width, read.height, pixels);
+		}
+	}
+
+	/**
+	 * Writes a cached chunk's file on the writer thread.
+	 *
+	 * @param fileName Cached chunk's file name
+	 * @param characters Chunk's tiles
+	 * @param width Texture's width
+	 * @param height Texture's height
+	 * @param pixels Texture's pixels
+	 */
+	private static void write(final @NotNull String fileName, final char @NotNull [] characters, final int width, final int height, final @NotNull ByteBuffer pixels) {
+		ChunkCache.WRITER.execute(() -> {
+			final ByteBuffer header = ByteBuffer.allocate(ChunkCache.HEADER_SIZE);
+			header.putInt(ChunkCache.MAGIC).putInt(ChunkCache.FORMAT_VERSION).putInt(width).putInt(height);
+			for(final char c : characters) {
+				header.putChar(c);
+			}
+			header.flip();
+
+			@Nullable File file = null;
+			try {
+				file = support.File.createWritableFile(fileName);
+				try(final FileChannel channel = new FileOutputStream(file).getChannel()) {
+					while(header.hasRemaining()) channel.write(header);
+					while(pixels.hasRemaining()) channel.write(pixels);
+				}
+			} catch(final IOException | RuntimeException e) {
+				System.err.println("Error: Couldn't write cached chunk " + fileName);
+				e.printStackTrace();
+				if(file != null && file.exists() && !file.delete()) System.err.println("Error: Couldn't delete the partial cached chunk " + fileName);
+			}
+		});
+	}
+
+	/**
+	 * Returns the file name of a cached chunk.
+	 *
+	 * @param key Chunk's cache key
+	 * @return new String
+	 */
+	@Contract(pure = true)
+	private @NotNull String getFileName(final long key) {
+		return this.folder + "/" + Long.toHexString(key) + ChunkCache.EXTENSION;
+	}
+
+	/**
+	 * Fills a buffer from a channel.
+	 *
+	 * @param channel Channel to read from
+	 * @param buffer Buffer to fill (flipped once full)
+	 * @throws IOException if the file is shorter than the buffer
+	 */
+	private static void readFully(final @NotNull FileChannel channel, final @NotNull ByteBuffer buffer) throws IOException {
+		while(buffer.hasRemaining()) {
+			if(channel.read(buffer) < 0) throw new IOException("Unexpected end of file.");
+		}
+
+		buffer.flip();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,299 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Abstract graph of a chunk for the PathFinder (HPA*).
+ * Its nodes are the tiles where the chunk can be entered from a neighbour: each stretch of a border that
+ * can be crossed gets one (or two at its ends if it is long). They're chosen only from the tiles on both sides
+ * of the border, so the neighbour's graph picks the same ones. Nodes are linked by their distance inside the chunk.
+ */
+final class ChunkGraph {
+
+	/**
+	 * Maximum number of nodes of a chunk.
+	 */
+	final static int MAX_NODES = 4 * Chunk.SIZE;
+
+	/**
+	 * Stretches at least that long get a node at each end instead of one in the middle.
+	 */
+	final private static int LONG_ENTRANCE = 6;
+
+	/**
+	 * Exit towards x + 1.
+	 */
+	final static int EAST = 1;
+
+	/**
+	 * Exit towards x - 1.
+	 */
+	final static int WEST = 2;
+
+	/**
+	 * Exit towards y + 1.
+	 */
+	final static int NORTH = 4;
+
+	/**
+	 * Exit towards y - 1.
+	 */
+	final static int SOUTH = 8;
+
+	/**
+	 * Chunk's column and row.
+	 */
+	final private int x, y;
+
+	/**
+	 * Were all the chunk's tiles (and its neighbours') loaded when the graph was built.
+	 */
+	final private boolean complete;
+
+	/**
+	 * Cost of each tile of the chunk (0 = can't go there).
+	 */
+	final private float @NotNull [] costs;
+
+	/**
+	 * Number of nodes.
+	 */
+	private int nodeCount;
+
+	/**
+	 * Tile of each node.
+	 */
+	final private int @NotNull [] nodeTiles;
+
+	/**
+	 * Exits of each node (EAST | WEST | NORTH | SOUTH).
+	 */
+	final private int @NotNull [] nodeExits;
+
+	/**
+	 * Node of each tile (-1 = none).
+	 */
+	final private int @NotNull [] tileNodes;
+
+	/**
+	 * Distance between each pair of nodes inside the chunk (nodeCount * nodeCount, Float.POSITIVE_INFINITY = unreachable).
+	 */
+	final private float @NotNull [] edges;
+
+	/**
+	 * Last search that used the graph.
+	 */
+	int searchId;
+
+	/**
+	 * Index of the graph in the nodes' ids of its last search.
+	 */
+	int searchIndex;
+
+	/**
+	 * Distance of each node from the start of the search.
+	 */
+	final float @NotNull [] distances;
+
+	/**
+	 * Id of the node each node was reached from (-1 = the start).
+	 */
+	final int @NotNull [] parents;
+
+	/**
+	 * Has each node been expanded.
+	 */
+	final boolean @NotNull [] closed;
+
+	/**
+	 * Builds a chunk's graph.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @param area Cost of each tile of the chunk and the tiles around it ((Chunk.SIZE + 2)² tiles, row 0 at the bottom)
+	 * @param complete Were all the tiles loaded
+	 * @param localSearch Search used to link the nodes
+	 */
+	ChunkGraph(final int x, final int y, final float @NotNull [] area, final boolean complete, final @NotNull LocalSearch localSearch) {
+		this.x = x;
+		this.y = y;
+		this.complete = complete;
+		this.costs = new float[Chunk.SIZE * Chunk.SIZE];
+		this.nodeTiles = new int[ChunkGraph.MAX_NODES];
+		this.nodeExits = new int[ChunkGraph.MAX_NODES];
+		this.tileNodes = new int[Chunk.SIZE * Chunk.SIZE];
+		Arrays.fill(this.tileNodes, -1);
+		this.nodeCount = 0;
+
+		final int side = Chunk.SIZE + 2;
+		for(int i = 0; i < Chunk.SIZE; i++) {
+			System.arraycopy(area, (i + 1) * side + 1, this.costs, i * Chunk.SIZE, Chunk.SIZE);
+		}
+
+		final boolean[] open = new boolean[Chunk.SIZE];
+		for(int i = 0; i < Chunk.SIZE; i++) open[i] = area[(i + 1) * side + side - 1] > 0 && this.costs[i * Chunk.SIZE + Chunk.SIZE - 1] > 0;
+		this.addEntrances(open, Chunk.SIZE - 1, Chunk.SIZE, ChunkGraph.EAST);
+		for(int i = 0; i < Chunk.SIZE; i++) open[i] = area[(i + 1) * side] > 0 && this.costs[i * Chunk.SIZE] > 0;
+		this.addEntrances(open, 0, Chunk.SIZE, ChunkGraph.WEST);
+		for(int i = 0; i < Chunk.SIZE; i++) open[i] = area[(side - 1) * side + i + 1] > 0 && this.costs[(Chunk.SIZE - 1) * Chunk.SIZE + i] > 0;
+		this.addEntrances(open, (Chunk.SIZE - 1) * Chunk.SIZE, 1, ChunkGraph.NORTH);
+		for(int i = 0; i < Chunk.SIZE; i++) open[i] = area[i + 1] > 0 && this.costs[i] > 0;
+		this.addEntrances(open, 0, 1, ChunkGraph.SOUTH);
+
+		this.edges = new float[this.nodeCount * this.nodeCount];
+		for(int i = 0; i < this.nodeCount; i++) {
+			localSearch.distancesFrom(this.costs, this.nodeTiles[i]);
+			for(int j = 0; j < this.nodeCount; j++) {
+				this.edges[i * this.nodeCount + j] = localSearch.getDistance(this.nodeTiles[j]);
+			}
+		}
+
+		this.searchId = -1;
+		this.searchIndex = -1;
+		this.distances = new float[this.nodeCount];
+		this.parents = new int[this.nodeCount];
+		this.closed = new boolean[this.nodeCount];
+	}
+
+	/**
+	 * Adds the nodes of a border.
+	 *
+	 * @param open Can each tile of the border be crossed
+	 * @param first Border's first tile
+	 * @param step Tile index step along the border
+	 * @param exit Border's direction
+	 */
+	private void addEntrances(final boolean @NotNull [] open, final int first, final int step, final int exit) {
+		int start = -1;
+		for(int i = 0; i <= open.length; i++) {
+			if(i < open.length && open[i]) {
+				if(start == -1) start = i;
+				continue;
+			}
+			if(start == -1) continue;
+
+			if(i - start >= ChunkGraph.LONG_ENTRANCE) {
+				this.addNode(first + start * step, exit);
+				this.addNode(first + (i - 1) * step, exit);
+			} else {
+				this.addNode(first + (start + i - 1) / 2 * step, exit);
+			}
+			start = -1;
+		}
+	}
+
+	/**
+	 * Adds a node, or an exit to the node of a tile.
+	 *
+	 * @param tile Node's tile
+	 * @param exit Node's exit
+	 */
+	private void addNode(final int tile, final int exit) {
+		if(this.tileNodes[tile] == -1) {
+			this.tileNodes[tile] = this.nodeCount;
+			this.nodeTiles[this.nodeCount] = tile;
+			this.nodeCount++;
+		}
+
+		this.nodeExits[this.tileNodes[tile]] |= exit;
+	}
+
+	/**
+	 * Returns the chunk's column.
+	 *
+	 * @return ChunkGraph.x
+	 */
+	@Contract(pure = true)
+	final int getX() {
+		return this.x;
+	}
+
+	/**
+	 * Returns the chunk's row.
+	 *
+	 * @return ChunkGraph.y
+	 */
+	@Contract(pure = true)
+	final int getY() {
+		return this.y;
+	}
+
+	/**
+	 * Returns whether all the tiles were loaded when the graph was built.
+	 *
+	 * @return ChunkGraph.complete
+	 */
+	@Contract(pure = true)
+	final boolean isComplete() {
+		return this.complete;
+	}
+
+	/**
+	 * Returns the cost of each tile of the chunk.
+	 *
+	 * @return ChunkGraph.costs
+	 */
+	@Contract(pure = true)
+	final float @NotNull [] getCosts() {
+		return this.costs;
+	}
+
+	/**
+	 * Returns the number of nodes.
+	 *
+	 * @return ChunkGraph.nodeCount
+	 */
+	@Contract(pure = true)
+	final int getNodeCount() {
+		return this.nodeCount;
+	}
+
+	/**
+	 * Returns the tile of a node.
+	 *
+	 * @param node Node
+	 * @return ChunkGraph.nodeTiles[node]
+	 */
+	@Contract(pure = true)
+	final int getNodeTile(final int node) {
+		return this.nodeTiles[node];
+	}
+
+	/**
+	 * Returns the exits of a node.
+	 *
+	 * @param node Node
+	 * @return ChunkGraph.nodeExits[node]
+	 */
+	@Contract(pure = true)
+	final int getNodeExits(final int node) {
+		return this.nodeExits[node];
+	}
+
+	/**
+	 * Returns the node of a tile.
+	 *
+	 * @param tile Tile
+	 * @return -1 if the tile isn't a node
+	 */
+	@Contract(pure = true)
+	final int getTileNode(final int tile) {
+		return this.tileNodes[tile];
+	}
+
+	/**
+	 * Returns the distance between two nodes inside the chunk.
+	 *
+	 * @param from First node
+	 * @param to Second node
+	 * @return Float.POSITIVE_INFINITY if one can't be reached from the other
+	 */
+	@Contract(pure = true)
+	final float getEdge(final int from, final int to) {
+		return this.edges[from * this.nodeCount + to];
+	}
+
+}
\ No newline at end of file
@@ -11,7 +11,6 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import static org.lwjgl.opengl.GL30.GL_COLOR_ATTACHMENT0;
 
@@ -40,7 +39,27 @@ final class ChunkLoader {
 	/**
 	 * ChunkLoader's chunks.
 	 */
-	final private @NotNull HashMap<String, Chunk> chunks;
+	final private @NotNull ChunkMap chunks;
+
+	/**
+	 * ChunkLoader's prefetcher (predicts where the camera is heading).
+	 */
+	final private @NotNull ChunkPrefetcher prefetcher;
+
+	/**
+	 * ChunkLoader's on-disk cache of baked chunks.
+	 */
+	final private @NotNull ChunkCache cache;
+
+	/**
+	 * Cache key of the chunk that's loading.
+	 */
+	private long chunkKey;
+
+	/**
+	 * Tiles of the chunk that's loading (written in its cached file).
+	 */
+	final private char @NotNull [] chunkCharacters;
 
 	/**
 	 * ChunkLoader's chunk to load.
@@ -69,7 +88,10 @@ final class ChunkLoader {
 	 */
 	ChunkLoader(final @NotNull Map map) {
 		this.map = map;
-		this.chunks = new HashMap<>();
+		this.chunks = new ChunkMap();
+		this.prefetcher = new ChunkPrefetcher();
+		this.cache = new ChunkCache(map);
+		this.chunkCharacters = new char[ChunkCache.TILE_COUNT];
 		this.chunksToLoad = new ArrayList<>();
 		this.clearChunkTexture();
 		this.xTexture = 0;
@@ -85,22 +107,43 @@ final class ChunkLoader {
 		Profiler.startProfileTimer("Update-ChunkLoading");
 		final long startTime = Time.getNanoTime(); // TODO: Get time from Profiler.
 
-		int xStart = (int)((this.getMap().getCameraPosition().getX() - Window.getRatio() - ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		if(ChunkCache.ENABLED) this.getCache().update(); // Writes the chunks baked before, once read back.
+
+		final Vector2f cameraPosition = this.getMap().getCameraPosition();
+		this.getPrefetcher().update(delta, cameraPosition);
+		final Vector2f lookAhead = this.getPrefetcher().getLookAhead();
+
+		// The loaded area is the screen extended towards where the camera is heading.
+		final float xMin = cameraPosition.getX() - Window.getRatio() - ChunkLoader.RADIUS_CHECK + Math.min(0, lookAhead.getX());
+		final float xMax = cameraPosition.getX() + Window.getRatio() + ChunkLoader.RADIUS_CHECK + Math.max(0, lookAhead.getX());
+		final float yMin = cameraPosition.getY() - 1 - ChunkLoader.RADIUS_CHECK + Math.min(0, lookAhead.getY());
+		final float yMax = cameraPosition.getY() + 1 + ChunkLoader.RADIUS_CHECK + Math.max(0, lookAhead.getY());
+
+		// Procedural maps only grow as the camera explores them.
+		this.getMap().declareZonesIn(xMin, xMax, yMin, yMax);
+
+		int xStart = (int)(xMin / Chunk.LENGTH);
 		if(xStart < 0) xStart = 0;
-		int xEnd = (int)((this.getMap().getCameraPosition().getX() + Window.getRatio() + ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		int xEnd = (int)(xMax / Chunk.LENGTH);
 		if(xEnd > Math.ceil(this.getMap().getMapWidth() / Chunk.SIZE)) xEnd = (int) Math.ceil(this.getMap().getMapWidth() / Chunk.SIZE);
 
-		int yStart = (int)((this.getMap().getCameraPosition().getY() - 1 - ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		int yStart = (int)(yMin / Chunk.LENGTH);
 		if(yStart < 0) yStart = 0;
-		int yEnd = (int)((this.getMap().getCameraPosition().getY() + 1 + ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		int yEnd = (int)(yMax / Chunk.LENGTH);
 		if(yEnd > Math.ceil(this.getMap().getMapHeight() / Chunk.SIZE)) yEnd = (int) Math.ceil(this.getMap().getMapHeight() / Chunk.SIZE);
 
+		// Loads the zones the camera is heading to before a tile of theirs is needed.
+		if(this.getPrefetcher().isMoving()) {
+			this.getMap().prefetchZones(xMin, xMax, yMin, yMax, startTime, delta * ChunkLoader.LOADING_RATIO);
+		}
+
 		// Creates chunks if they do not exists and adds them to the "to load" list.
 		for(int x = xStart; x <= xEnd; x++) {
 			for(int y = yStart; y <= yEnd; y++) {
-				if(this.getChunk(x, y) == null) {
-					this.getChunks().put(x + "-" + y, new Chunk(x, y));
-					this.getChunksToLoad().add(this.getChunk(x, y));
+				if(!this.getChunks().contains(x, y)) {
+					final Chunk chunk = new Chunk(x, y);
+					this.getChunks().put(chunk);
+					this.getChunksToLoad().add(chunk);
 				}
 			}
 		}
@@ -111,6 +154,14 @@ final class ChunkLoader {
 		RenderToTextureShader.setTexturePositionScale(new Vector2f(1, 1));
 
 		while(!this.getChunksToLoad().isEmpty() && (Time.getNanoTime() - startTime) * Time.NANO_TO_SECOND < delta * ChunkLoader.LOADING_RATIO) {
+			if(this.getTextureX() == 0 && this.getTextureY() == 0) { // Picks the most urgent chunk before starting a new one.
+				if(!this.prioritizeChunksToLoad(cameraPosition)) break; // Every chunk left is waiting for its zones.
+
+				if(this.loadFromCache(this.getChunksToLoad().get(0))) {
+					this.getMap().chunkBaked(this.getChunksToLoad().remove(0));
+					continue;
+				}
+			}
 			final Chunk chunkToLoad = this.getChunksToLoad().get(0);
 
 			if(chunkToLoad.getX() * Chunk.SIZE + this.getTextureX() < this.getMap().getMapWidth() && chunkToLoad.getY() * Chunk.SIZE + this.getTextureY() < this.getMap().getMapHeight()) { // Draw only if the tile exists.
@@ -129,8 +180,10 @@ final class ChunkLoader {
 				if(this.getTextureY() >= Chunk.SIZE) {
 					this.yTexture = 0;
 					chunkToLoad.setTexture(this.getChunkTexture());
+					if(ChunkCache.ENABLED) this.getCache().save(this.chunkKey, this.chunkCharacters, this.getChunkTexture());
 					this.clearChunkTexture();
 					this.getChunksToLoad().remove(0);
+					this.getMap().chunkBaked(chunkToLoad);
 					//if(Options.DEBUG) System.out.println("Chunk (" + chunkToLoad.getX() + " ; " + chunkToLoad.getY() + ") loaded.");
 				}
 			}
@@ -144,6 +197,73 @@ final class ChunkLoader {
 		Profiler.stopProfileTimer("Update-ChunkLoading");
 	}
 
+	/**
+	 * Bakes a chunk again because one of its tiles changed.
+	 * The chunk keeps its current texture until the new one is done.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 */
+	final void rebake(final int x, final int y) {
+		final Chunk chunk = this.getChunks().get(x, y);
+		if(chunk == null) return; // Not created yet: it will be baked with the new tile anyway.
+
+		final int index = this.getChunksToLoad().indexOf(chunk);
+		if(index < 0) {
+			this.getChunksToLoad().add(chunk);
+		} else if(index == 0 && (this.getTextureX() != 0 || this.getTextureY() != 0)) { // Already half baked: starts over.
+			this.xTexture = 0;
+			this.yTexture = 0;
+			this.clearChunkTexture();
+		}
+	}
+
+	/**
+	 * Moves the chunk closest to where the camera is heading at the front of the "to load" list.
+	 * Only chunks whose zones have been loaded by the worker threads can be picked.
+	 *
+	 * @param cameraPosition Camera's current position
+	 * @return false if no chunk can be baked yet
+	 */
+	private boolean prioritizeChunksToLoad(final @NotNull Vector2f cameraPosition) {
+		int best = -1;
+		float bestPriority = Float.MAX_VALUE;
+
+		for(int i = 0; i < this.getChunksToLoad().size(); i++) {
+			final Chunk chunk = this.getChunksToLoad().get(i);
+			final float priority = this.getPrefetcher().getPriority(chunk, cameraPosition);
+			if(priority < bestPriority && this.getMap().isRegionLoaded(chunk.getX() * Chunk.SIZE, chunk.getY() * Chunk.SIZE, Chunk.SIZE, Chunk.SIZE)) {
+				bestPriority = priority;
+				best = i;
+			}
+		}
+
+		if(best > 0) {
+			final Chunk chunk = this.getChunksToLoad().get(best);
+			this.getChunksToLoad().set(best, this.getChunksToLoad().get(0));
+			this.getChunksToLoad().set(0, chunk);
+		}
+
+		return best >= 0;
+	}
+
+	/**
+	 * Sets the chunk's texture from the cache if it has been baked in a previous session.
+	 *
+	 * @param chunk Chunk about to be baked
+	 * @return true if the chunk was found in the cache
+	 */
+	private boolean loadFromCache(final @NotNull Chunk chunk) {
+		if(!ChunkCache.ENABLED) return false;
+
+		this.chunkKey = this.getCache().getKey(chunk.getX(), chunk.getY(), this.chunkCharacters);
+		final Texture texture = this.getCache().load(this.chunkKey, this.chunkCharacters, this.getChunkTexture().getWidth(), this.getChunkTexture().getHeight());
+		if(texture == null) return false;
+
+		chunk.setTexture(texture);
+		return true;
+	}
+
 	/**
 	 * Creates a new chunk Texture.
 	 */
@@ -167,7 +287,7 @@ final class ChunkLoader {
 	 * @return ChunkLoader.chunks
 	 */
 	@Contract(pure = true)
-	final @NotNull HashMap<String, Chunk> getChunks() {
+	final @NotNull ChunkMap getChunks() {
 		return this.chunks;
 	}
 
@@ -178,8 +298,28 @@ final class ChunkLoader {
 	 * @param y Y position
 	 * @return ChunkLoader.chunks.get(x, y)
 	 */
-	private Chunk getChunk(final int x, final int y) {
-		return this.getChunks().get(x + "-" + y);
+	final Chunk getChunk(final int x, final int y) {
+		return this.getChunks().get(x, y);
+	}
+
+	/**
+	 * Returns the ChunkLoader's prefetcher.
+	 *
+	 * @return ChunkLoader.prefetcher
+	 */
+	@Contract(pure = true)
+	private @NotNull ChunkPrefetcher getPrefetcher() {
+		return this.prefetcher;
+	}
+
+	/**
+	 * Returns the ChunkLoader's cache.
+	 *
+	 * @return ChunkLoader.cache
+	 */
+	@Contract(pure = true)
+	private @NotNull ChunkCache getCache() {
+		return this.cache;
 	}
 
 	/**
@@ -0,0 +1,235 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a chunk's (x ; y) coordinates to the Chunk.
+ * Coordinates are packed into a long, so no key object is ever allocated.
+ * Chunks are also kept in a dense array (in insertion order) so they can be iterated without allocating.
+ */
+final class ChunkMap {
+
+	/**
+	 * Initial capacity of the hash table (must be a power of 2).
+	 */
+	final private static int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Maximum load factor before the hash table grows.
+	 */
+	final private static float LOAD_FACTOR = 0.5f;
+
+	/**
+	 * Hash table's packed keys.
+	 */
+	private long[] keys;
+
+	/**
+	 * Hash table's values: index in ChunkMap.chunks + 1 (0 = empty slot).
+	 */
+	private int[] slots;
+
+	/**
+	 * Dense array of the chunks (iteration order).
+	 */
+	private Chunk[] chunks;
+
+	/**
+	 * Number of chunks in the map.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new ChunkMap instance.
+	 */
+	ChunkMap() {
+		this.keys = new long[ChunkMap.INITIAL_CAPACITY];
+		this.slots = new int[ChunkMap.INITIAL_CAPACITY];
+		this.chunks = new Chunk[ChunkMap.INITIAL_CAPACITY / 2];
+		this.size = 0;
+	}
+
+	/**
+	 * Packs the chunk's coordinates into a long.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return new long
+	 */
+	@Contract(pure = true)
+	static long key(final int x, final int y) {
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Returns the slot a key should start probing at.
+	 *
+	 * @param key Packed key
+	 * @param mask Hash table's capacity - 1
+	 * @return new int
+	 */
+	@Contract(pure = true)
+	private static int hash(final long key, final int mask) {
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+
+		return (int) h & mask;
+	}
+
+	/**
+	 * Returns the Chunk at position (x ; y).
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return Chunk or null if there are none
+	 */
+	final @Nullable Chunk get(final int x, final int y) {
+		final int slot = this.findSlot(ChunkMap.key(x, y));
+
+		return this.slots[slot] == 0 ? null : this.chunks[this.slots[slot] - 1];
+	}
+
+	/**
+	 * Returns whether there is a Chunk at position (x ; y).
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return new boolean
+	 */
+	final boolean contains(final int x, final int y) {
+		return this.slots[this.findSlot(ChunkMap.key(x, y))] != 0;
+	}
+
+	/**
+	 * Adds a Chunk to the map (replaces the one at the same position if any).
+	 *
+	 * @param chunk Chunk to add
+	 */
+	final void put(final @NotNull Chunk chunk) {
+		final long key = ChunkMap.key(chunk.getX(), chunk.getY());
+		final int slot = this.findSlot(key);
+
+		if(this.slots[slot] != 0) {
+			this.chunks[this.slots[slot] - 1] = chunk;
+			return;
+		}
+
+		if(this.size == this.chunks.length) {
+			this.chunks = Arrays.copyOf(this.chunks, this.chunks.length * 2);
+		}
+
+		this.chunks[this.size] = chunk;
+		this.size++;
+		this.keys[slot] = key;
+		this.slots[slot] = this.size;
+
+		if(this.size > this.keys.length * ChunkMap.LOAD_FACTOR) {
+			this.rehash(this.keys.length * 2);
+		}
+	}
+
+	/**
+	 * Removes the Chunk at position (x ; y).
+	 * The last chunk of the iteration order takes the removed chunk's index.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return Chunk removed or null if there were none
+	 */
+	final @Nullable Chunk remove(final int x, final int y) {
+		int slot = this.findSlot(ChunkMap.key(x, y));
+		if(this.slots[slot] == 0) return null;
+
+		final int index = this.slots[slot] - 1;
+		final Chunk removed = this.chunks[index];
+
+		// Moves the last chunk into the hole so the dense array stays packed.
+		this.size--;
+		if(index != this.size) {
+			final Chunk last = this.chunks[this.size];
+			this.chunks[index] = last;
+			this.slots[this.findSlot(ChunkMap.key(last.getX(), last.getY()))] = index + 1;
+		}
+		this.chunks[this.size] = null;
+
+		// Backward shift deletion (keeps the probe sequences valid without tombstones).
+		final int mask = this.keys.length - 1;
+		int next = (slot + 1) & mask;
+		while(this.slots[next] != 0) {
+			final int ideal = ChunkMap.hash(this.keys[next], mask);
+			if(((next - ideal) & mask) >= ((next - slot) & mask)) {
+				this.keys[slot] = this.keys[next];
+				this.slots[slot] = this.slots[next];
+				slot = next;
+			}
+			next = (next + 1) & mask;
+		}
+		this.slots[slot] = 0;
+
+		return removed;
+	}
+
+	/**
+	 * Returns the number of chunks in the map.
+	 *
+	 * @return ChunkMap.size
+	 */
+	@Contract(pure = true)
+	final int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the Chunk at a certain index of the iteration order.
+	 *
+	 * @param index Index between 0 and ChunkMap.size()
+	 * @return ChunkMap.chunks[index]
+	 */
+	@Contract(pure = true)
+	final @NotNull Chunk getAt(final int index) {
+		assert index >= 0 && index < this.size : "Error: ChunkMap index out of bound: " + index + " (size: " + this.size + ")";
+
+		return this.chunks[index];
+	}
+
+	/**
+	 * Returns the slot of the key, or the empty slot where it should be inserted.
+	 *
+	 * @param key Packed key
+	 * @return new int
+	 */
+	private int findSlot(final long key) {
+		final int mask = this.keys.length - 1;
+		int slot = ChunkMap.hash(key, mask);
+
+		while(this.slots[slot] != 0 && this.keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	/**
+	 * Grows the hash table and reinserts every key.
+	 *
+	 * @param capacity New capacity (must be a power of 2)
+	 */
+	private void rehash(final int capacity) {
+		this.keys = new long[capacity];
+		this.slots = new int[capacity];
+
+		for(int i = 0; i < this.size; i++) {
+			final long key = ChunkMap.key(this.chunks[i].getX(), this.chunks[i].getY());
+			final int slot = this.findSlot(key);
+			this.keys[slot] = key;
+			this.slots[slot] = i + 1;
+		}
+	}
+
+}
\ No newline at end of file
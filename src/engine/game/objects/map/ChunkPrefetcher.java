@@ -0,0 +1,147 @@
+package engine.game.objects.map;
+
+import engine.math.Vector2f;
+import engine.util.Direction;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Predicts where the camera is going so that chunks and zones can be loaded before they appear on the screen.
+ * The camera's velocity is measured from its movement, smoothed, and snapped to one of the 8 directions.
+ */
+final class ChunkPrefetcher {
+
+	/**
+	 * How far ahead (in seconds of travel) the prefetcher looks.
+	 */
+	final public static float LOOK_AHEAD_TIME = 1.0f;
+
+	/**
+	 * How much a new velocity sample counts in the smoothed velocity (1 = no smoothing).
+	 */
+	final public static float SMOOTHING = 0.25f;
+
+	/**
+	 * Speed (in openGL units / s) under which an axis is considered still.
+	 */
+	final public static float MIN_SPEED = 0.05f;
+
+	/**
+	 * Speed (in openGL units / s) above which the camera is considered to have teleported.
+	 */
+	final public static float MAX_SPEED = 20.0f * Chunk.LENGTH;
+
+	/**
+	 * Camera's position on the last update.
+	 */
+	final private @NotNull Vector2f lastCameraPosition;
+
+	/**
+	 * Camera's smoothed velocity (in openGL units / s).
+	 */
+	final private @NotNull Vector2f velocity;
+
+	/**
+	 * Direction the camera is travelling in.
+	 */
+	final private @NotNull Direction direction;
+
+	/**
+	 * Offset from the camera to where it is predicted to be (in openGL units).
+	 */
+	final private @NotNull Vector2f lookAhead;
+
+	/**
+	 * Has the prefetcher been updated at least once.
+	 */
+	private boolean initialized;
+
+	/**
+	 * Creates a new ChunkPrefetcher instance.
+	 */
+	ChunkPrefetcher() {
+		this.lastCameraPosition = new Vector2f();
+		this.velocity = new Vector2f();
+		this.direction = new Direction();
+		this.lookAhead = new Vector2f();
+		this.initialized = false;
+	}
+
+	/**
+	 * Measures the camera's velocity and updates the look-ahead offset.
+	 *
+	 * @param delta Delta
+	 * @param cameraPosition Camera's current position
+	 */
+	final void update(final double delta, final @NotNull Vector2f cameraPosition) {
+		if(!this.initialized || delta <= 0) {
+			this.lastCameraPosition.set(cameraPosition);
+			this.initialized = true;
+			return;
+		}
+
+		final float vx = (float)((cameraPosition.getX() - this.lastCameraPosition.getX()) / delta);
+		final float vy = (float)((cameraPosition.getY() - this.lastCameraPosition.getY()) / delta);
+		this.lastCameraPosition.set(cameraPosition);
+
+		if(Math.abs(vx) > ChunkPrefetcher.MAX_SPEED || Math.abs(vy) > ChunkPrefetcher.MAX_SPEED) { // Teleport: nothing to predict.
+			this.velocity.set(0, 0);
+		} else {
+			this.velocity.addition((vx - this.velocity.getX()) * ChunkPrefetcher.SMOOTHING, (vy - this.velocity.getY()) * ChunkPrefetcher.SMOOTHING);
+		}
+
+		final float dx = Math.abs(this.velocity.getX()) < ChunkPrefetcher.MIN_SPEED ? 0 : this.velocity.getX();
+		final float dy = Math.abs(this.velocity.getY()) < ChunkPrefetcher.MIN_SPEED ? 0 : this.velocity.getY();
+		this.direction.setDirection(Direction.getDirectionFromVector(new Vector2f(dx, dy)).getDirection());
+
+		final float distance = (float) Math.sqrt(dx * dx + dy * dy) * ChunkPrefetcher.LOOK_AHEAD_TIME;
+		final Vector2f directionVector = this.direction.toVector2f();
+		if(directionVector.getX() != 0 && directionVector.getY() != 0) directionVector.normalize();
+		this.lookAhead.set(directionVector.getX() * distance, directionVector.getY() * distance);
+	}
+
+	/**
+	 * Returns the score of a chunk: the lower, the sooner it should be baked.
+	 * It's the squared distance between the chunk's center and where the camera is predicted to be.
+	 *
+	 * @param chunk Chunk to score
+	 * @param cameraPosition Camera's current position
+	 * @return new float
+	 */
+	final float getPriority(final @NotNull Chunk chunk, final @NotNull Vector2f cameraPosition) {
+		final float x = (chunk.getX() + 0.5f) * Chunk.LENGTH - (cameraPosition.getX() + this.lookAhead.getX());
+		final float y = (chunk.getY() + 0.5f) * Chunk.LENGTH - (cameraPosition.getY() + this.lookAhead.getY());
+
+		return x * x + y * y;
+	}
+
+	/**
+	 * Returns the offset from the camera to where it is predicted to be (in openGL units).
+	 *
+	 * @return ChunkPrefetcher.lookAhead
+	 */
+	@Contract(pure = true)
+	final @NotNull Vector2f getLookAhead() {
+		return this.lookAhead;
+	}
+
+	/**
+	 * Returns the direction the camera is travelling in.
+	 *
+	 * @return ChunkPrefetcher.direction
+	 */
+	@Contract(pure = true)
+	final @NotNull Direction getDirection() {
+		return this.direction;
+	}
+
+	/**
+	 * Returns whether the camera is moving.
+	 *
+	 * @return new boolean
+	 */
+	final boolean isMoving() {
+		return this.direction.getDirection() != Direction.NONE;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,410 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tiles explored by the hero (fog of war), one bit per tile.
+ * Each chunk's bits are packed in ExplorationMap.WORDS_PER_CHUNK longs, in pages of PAGE_CHUNKS² chunks,
+ * and only the pages that have been seen exist, so a chunk costs a few bytes however long the session is.
+ * The explored area is saved with run-length encoding, a few seconds after it last changed and when the Map is
+ * cleaned up. The file is written next to the saved one then renamed over it, so quitting mid-write loses nothing.
+ */
+final public class ExplorationMap {
+
+	/**
+	 * Number of chunks on each side of a page.
+	 */
+	final public static int PAGE_CHUNKS = 8;
+
+	/**
+	 * Number of longs holding a chunk's bits.
+	 */
+	final public static int WORDS_PER_CHUNK = (Chunk.SIZE * Chunk.SIZE + 63) / 64;
+
+	/**
+	 * Folder where the explored areas are saved.
+	 */
+	final public static String FOLDER = "/media/save/exploration";
+
+	/**
+	 * Explored area's file extension.
+	 */
+	final public static String EXTENSION = ".explored";
+
+	/**
+	 * Extension of an explored area's file being written.
+	 */
+	final public static String TEMPORARY_EXTENSION = ".tmp";
+
+	/**
+	 * How long to wait after a change before saving (in seconds).
+	 */
+	final public static double SAVE_DELAY = 10;
+
+	/**
+	 * First bytes of an explored area file ("WEXP").
+	 */
+	final private static int MAGIC = 0x57455850;
+
+	/**
+	 * File format's version (changes whenever the format does).
+	 */
+	final private static int FORMAT_VERSION = 1;
+
+	/**
+	 * Thread writing the explored areas to the disk.
+	 */
+	final private static ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "Exploration writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Pointer to the Map.
+	 */
+	final private @NotNull Map map;
+
+	/**
+	 * Pages by packed page column and row.
+	 */
+	final private @NotNull HashMap<Long, long[]> pages;
+
+	/**
+	 * Last page used (most lookups are in the same page).
+	 */
+	private long lastKey;
+
+	/**
+	 * Last page used (null = none).
+	 */
+	private long @Nullable [] lastPage;
+
+	/**
+	 * Rectangle explored last (in number of tiles).
+	 */
+	private int xLast, yLast, widthLast, heightLast;
+
+	/**
+	 * Time since the explored area changed, or -1 if it has been saved.
+	 */
+	private double unsavedTime;
+
+	/**
+	 * Creates a new ExplorationMap instance.
+	 *
+	 * @param map Map explored
+	 */
+	ExplorationMap(final @NotNull Map map) {
+		this.map = map;
+		this.pages = new HashMap<>();
+		this.lastKey = 0;
+		this.lastPage = null;
+		this.xLast = Integer.MIN_VALUE;
+		this.yLast = Integer.MIN_VALUE;
+		this.widthLast = 0;
+		this.heightLast = 0;
+		this.unsavedTime = -1;
+	}
+
+	/**
+	 * Marks the tiles of a rectangle (the hero's view) as explored, and tells the TileListeners about the chunks that changed.
+	 * Nothing is done if the rectangle hasn't moved.
+	 *
+	 * @param x Rectangle's first column
+	 * @param y Rectangle's first row
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 */
+	final void explore(final int x, final int y, final int width, final int height) {
+		if(x == this.xLast && y == this.yLast && width == this.widthLast && height == this.heightLast) return;
+		this.xLast = x;
+		this.yLast = y;
+		this.widthLast = width;
+		this.heightLast = height;
+
+		for(int i = Math.floorDiv(y, Chunk.SIZE); i <= Math.floorDiv(y + height - 1, Chunk.SIZE); i++) {
+			for(int j = Math.floorDiv(x, Chunk.SIZE); j <= Math.floorDiv(x + width - 1, Chunk.SIZE); j++) {
+				final long[] page = this.getPage(Math.floorDiv(j, ExplorationMap.PAGE_CHUNKS), Math.floorDiv(i, ExplorationMap.PAGE_CHUNKS), true);
+				final int offset = ExplorationMap.getChunkOffset(j, i);
+
+				final int xStart = Math.max(x, j * Chunk.SIZE) - j * Chunk.SIZE;
+				final int xEnd = Math.min(x + width, (j + 1) * Chunk.SIZE) - j * Chunk.SIZE;
+				final int yStart = Math.max(y, i * Chunk.SIZE) - i * Chunk.SIZE;
+				final int yEnd = Math.min(y + height, (i + 1) * Chunk.SIZE) - i * Chunk.SIZE;
+
+				boolean changed = false;
+				for(int row = yStart; row < yEnd; row++) {
+					for(int tile = row * Chunk.SIZE + xStart; tile < row * Chunk.SIZE + xEnd; tile++) {
+						final long bit = 1L << (tile & 63);
+						if((page[offset + (tile >>> 6)] & bit) == 0) {
+							page[offset + (tile >>> 6)] |= bit;
+							changed = true;
+						}
+					}
+				}
+
+				if(changed) {
+					this.unsavedTime = 0;
+					this.getMap().chunkExplored(j, i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Saves the explored area once it hasn't changed for ExplorationMap.SAVE_DELAY seconds.
+	 *
+	 * @param delta Time since the last update (in seconds)
+	 */
+	final void update(final double delta) {
+		if(this.unsavedTime < 0) return;
+
+		this.unsavedTime += delta;
+		if(this.unsavedTime >= ExplorationMap.SAVE_DELAY) this.save();
+	}
+
+	/**
+	 * Returns whether a tile has been explored.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @return new boolean
+	 */
+	final public boolean isExplored(final int x, final int y) {
+		final int chunkX = Math.floorDiv(x, Chunk.SIZE);
+		final int chunkY = Math.floorDiv(y, Chunk.SIZE);
+		final long[] page = this.getPage(Math.floorDiv(chunkX, ExplorationMap.PAGE_CHUNKS), Math.floorDiv(chunkY, ExplorationMap.PAGE_CHUNKS), false);
+		if(page == null) return false;
+
+		final int tile = Math.floorMod(y, Chunk.SIZE) * Chunk.SIZE + Math.floorMod(x, Chunk.SIZE);
+		return (page[ExplorationMap.getChunkOffset(chunkX, chunkY) + (tile >>> 6)] & (1L << (tile & 63))) != 0;
+	}
+
+	/**
+	 * Returns a page.
+	 *
+	 * @param x Page's column
+	 * @param y Page's row
+	 * @param create Create the page if it doesn't exist
+	 * @return null if the page doesn't exist (and isn't created)
+	 */
+	private long @Nullable [] getPage(final int x, final int y, final boolean create) {
+		final long key = ChunkMap.key(x, y);
+		if(this.lastPage != null && this.lastKey == key) return this.lastPage;
+
+		long[] page = this.pages.get(key);
+		if(page == null) {
+			if(!create) return null;
+
+			page = new long[ExplorationMap.PAGE_CHUNKS * ExplorationMap.PAGE_CHUNKS * ExplorationMap.WORDS_PER_CHUNK];
+			this.pages.put(key, page);
+		}
+
+		this.lastKey = key;
+		this.lastPage = page;
+		return page;
+	}
+
+	/**
+	 * Returns the index of a chunk's first long in its page.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return new int
+	 */
+	@Contract(pure = true)
+	private static int getChunkOffset(final int x, final int y) {
+		return (Math.floorMod(y, ExplorationMap.PAGE_CHUNKS) * ExplorationMap.PAGE_CHUNKS + Math.floorMod(x, ExplorationMap.PAGE_CHUNKS)) * ExplorationMap.WORDS_PER_CHUNK;
+	}
+
+	/**
+	 * Saves the explored area: the pages are encoded right away, the file is written on another thread.
+	 * Each page is stored as the lengths of its alternating runs of unexplored and explored tiles (varints).
+	 */
+	final public void save() {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try(final DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeInt(ExplorationMap.MAGIC);
+			output.writeInt(ExplorationMap.FORMAT_VERSION);
+			output.writeInt(Chunk.SIZE);
+			output.writeInt(ExplorationMap.PAGE_CHUNKS);
+			output.writeInt(this.pages.size());
+
+			for(final java.util.Map.Entry<Long, long[]> entry : this.pages.entrySet()) {
+				output.writeLong(entry.getKey());
+
+				final long[] page = entry.getValue();
+				boolean explored = false;
+				int run = 0;
+				for(int chunk = 0; chunk < ExplorationMap.PAGE_CHUNKS * ExplorationMap.PAGE_CHUNKS; chunk++) {
+					for(int tile = 0; tile < Chunk.SIZE * Chunk.SIZE; tile++) {
+						if(((page[chunk * ExplorationMap.WORDS_PER_CHUNK + (tile >>> 6)] & (1L << (tile & 63))) != 0) != explored) {
+							ExplorationMap.writeVarint(output, run);
+							explored = !explored;
+							run = 0;
+						}
+						run++;
+					}
+				}
+				ExplorationMap.writeVarint(output, run);
+			}
+		} catch(final IOException e) {
+			System.err.println("Error: Couldn't encode the explored area of " + this.getMap().getMapName());
+			e.printStackTrace();
+			return;
+		}
+
+		this.unsavedTime = -1;
+
+		final String fileName = this.getFileName();
+		ExplorationMap.WRITER.execute(() -> {
+			@Nullable File temporary = null;
+			try {
+				final File file = support.File.createWritableFile(fileName);
+				temporary = new File(file.getPath() + ExplorationMap.TEMPORARY_EXTENSION);
+				try(final FileOutputStream output = new FileOutputStream(temporary)) {
+					bytes.writeTo(output);
+				}
+
+				try {
+					Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch(final AtomicMoveNotSupportedException e) {
+					Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} catch(final IOException | RuntimeException e) {
+				System.err.println("Error: Couldn't write the explored area " + fileName);
+				e.printStackTrace();
+				if(temporary != null && temporary.exists() && !temporary.delete()) System.err.println("Error: Couldn't delete the partial explored area " + temporary.getPath());
+			}
+		});
+	}
+
+	/**
+	 * Saves the explored area if it changed, and waits until every explored area queued has been written.
+	 * Called when the Map is cleaned up, before the application exits (the writer thread doesn't keep it alive).
+	 */
+	final public void flush() {
+		if(this.unsavedTime >= 0) this.save();
+
+		try {
+			ExplorationMap.WRITER.submit(() -> {}).get(); // The writer runs the tasks in order.
+		} catch(final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch(final ExecutionException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Loads the explored area saved (if any).
+	 */
+	final void load() {
+		final File file = support.File.getReadableFile(this.getFileName());
+		if(file == null) return;
+
+		try(final DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if(input.readInt() != ExplorationMap.MAGIC || input.readInt() != ExplorationMap.FORMAT_VERSION || input.readInt() != Chunk.SIZE || input.readInt() != ExplorationMap.PAGE_CHUNKS) {
+				System.err.println("Error: " + this.getFileName() + " was saved in another format, the explored area is lost.");
+				return;
+			}
+
+			final int pageCount = input.readInt();
+			for(int i = 0; i < pageCount; i++) {
+				final long key = input.readLong();
+				final long[] page = new long[ExplorationMap.PAGE_CHUNKS * ExplorationMap.PAGE_CHUNKS * ExplorationMap.WORDS_PER_CHUNK];
+
+				final int bits = ExplorationMap.PAGE_CHUNKS * ExplorationMap.PAGE_CHUNKS * Chunk.SIZE * Chunk.SIZE;
+				boolean explored = false;
+				for(int bit = 0; bit < bits; explored = !explored) {
+					final int run = ExplorationMap.readVarint(input);
+					for(int end = Math.min(bits, bit + run); bit < end; bit++) {
+						if(!explored) continue;
+
+						final int chunk = bit / (Chunk.SIZE * Chunk.SIZE);
+						final int tile = bit % (Chunk.SIZE * Chunk.SIZE);
+						page[chunk * ExplorationMap.WORDS_PER_CHUNK + (tile >>> 6)] |= 1L << (tile & 63);
+					}
+				}
+
+				this.pages.put(key, page);
+			}
+		} catch(final IOException e) {
+			System.err.println("Error: Couldn't read the explored area " + this.getFileName());
+			e.printStackTrace();
+		}
+
+		this.lastPage = null;
+	}
+
+	/**
+	 * Writes a positive int with 7 bits per byte (the 8th tells if there's more).
+	 *
+	 * @param output Output
+	 * @param value Value to write
+	 * @throws IOException if it can't be written
+	 */
+	private static void writeVarint(final @NotNull DataOutputStream output, int value) throws IOException {
+		while(value >= 0x80) {
+			output.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		output.writeByte(value);
+	}
+
+	/**
+	 * Reads a positive int written by ExplorationMap.writeVarint.
+	 *
+	 * @param input Input
+	 * @return new int
+	 * @throws IOException if it can't be read
+	 */
+	private static int readVarint(final @NotNull DataInputStream input) throws IOException {
+		int value = 0;
+		for(int shift = 0; ; shift += 7) {
+			final int b = input.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if((b & 0x80) == 0) return value;
+		}
+	}
+
+	/**
+	 * Returns the explored area's file name.
+	 *
+	 * @return new String
+	 */
+	@Contract(pure = true)
+	private @NotNull String getFileName() {
+		return ExplorationMap.FOLDER + "/" + this.getMap().getMapName() + ExplorationMap.EXTENSION;
+	}
+
+	/**
+	 * Returns the Map explored.
+	 *
+	 * @return ExplorationMap.map
+	 */
+	@Contract(pure = true)
+	final public @NotNull Map getMap() {
+		return this.map;
+	}
+
+}
\ No newline at end of file
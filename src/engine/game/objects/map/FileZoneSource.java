@@ -0,0 +1,114 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import support.json.JSONObject;
+import support.json.JSONTokener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Zones listed in media/map/{mapName}/loader.json, each one read from its {zoneName}.txt file.
+ */
+public class FileZoneSource implements ZoneSource {
+
+	/**
+	 * Map's name (folder in media/map).
+	 */
+	final private @NotNull String mapName;
+
+	/**
+	 * Have the zones of loader.json been declared.
+	 */
+	private boolean declared;
+
+	/**
+	 * Creates a new FileZoneSource instance.
+	 *
+	 * @param mapName Map's name (folder in media/map)
+	 */
+	public FileZoneSource(final @NotNull String mapName) {
+		this.mapName = mapName;
+		this.declared = false;
+	}
+
+	@Override
+	public void declareZones(final @NotNull Map map, final int xStart, final int yStart, final int xEnd, final int yEnd) {
+		if(this.declared) return; // The whole map is declared at once.
+		this.declared = true;
+
+		final JSONObject loader;
+
+		try {
+			loader = new JSONObject(new JSONTokener(support.File.getURL("/media/map/" + this.getMapName() + "/loader.json").openStream()));
+		} catch(final IOException | NullPointerException e) {
+			System.err.println("Error: could not find map " + this.getMapName() + ".");
+			System.err.println("loader.json might be missing.");
+			new Exception().printStackTrace();
+			System.exit(1);
+			return; // Otherwise there is an exception where loader is not defined.
+		}
+
+		for(final String zoneName : loader.getJSONObject("zones").keySet()) {
+			final JSONObject zoneParams = loader.getJSONObject("zones").getJSONObject(zoneName);
+
+			// Getting zone's position.
+			final String[] pos = zoneParams.getString("pos").split(";");
+			if(pos.length != 2) {
+				System.err.println("Error: The position expected is not in x;y format.");
+				System.err.println("Map: " + this.getMapName());
+				System.err.println("Zone: " + zoneName);
+				System.err.println("Pos: " + zoneParams.getString("pos"));
+			}
+
+			// Getting zone's dimensions.
+			final String[] dim = zoneParams.getString("dimensions").split("x");
+			if(dim.length != 2) {
+				System.err.println("Error: The dimension expected is not in wxh format.");
+				System.err.println("Map: " + this.getMapName());
+				System.err.println("Zone: " + zoneName);
+				System.err.println("Dim: " + zoneParams.getString("dimensions"));
+			}
+
+			try {
+				map.declareZone(zoneName, Integer.parseInt(pos[0]), Integer.parseInt(pos[1]), Integer.parseInt(dim[0]), Integer.parseInt(dim[1]));
+			} catch (final NumberFormatException e) {
+				System.err.println("Error: The position expected is x;y and dimension expected wxh : at least one of them is incorrect.");
+				System.err.println("Map: " + this.getMapName());
+				System.err.println("Zone: " + zoneName);
+				System.err.println("Pos: " + zoneParams.getString("pos"));
+				System.err.println("Dim: " + zoneParams.getString("dimensions"));
+			}
+		}
+	}
+
+	@Override
+	public void loadTiles(final @NotNull String zoneName, final int xPos, final int yPos, final char @NotNull [][] characters, final int x, final int y, final int width, final int height) {
+		final ArrayList<String> lines = support.File.getLinesFromFile("/media/map/" + this.getMapName() + "/" + zoneName + ".txt");
+
+		for(int i = y; i < y + height; i++) {
+			final int line = lines.size() - 1 - i; // Reversing the y axis since 0 is at the bottom.
+			for(int j = x; j < x + width; j++) {
+				characters[i][j] = line >= 0 && j < lines.get(line).length() ? lines.get(line).charAt(j) : ' ';
+			}
+		}
+	}
+
+	@Override
+	@Contract(pure = true)
+	public int getLoadingTileSize() {
+		return 0;
+	}
+
+	/**
+	 * Returns the map's name.
+	 *
+	 * @return FileZoneSource.mapName
+	 */
+	@Contract(pure = true)
+	final public @NotNull String getMapName() {
+		return this.mapName;
+	}
+
+}
\ No newline at end of file
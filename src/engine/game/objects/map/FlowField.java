@@ -0,0 +1,313 @@
+package engine.game.objects.map;
+
+import com.Options;
+import engine.math.Vector2f;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Flow field around a moving target (e.g. the Hero), for groups of mobs chasing it:
+ * instead of a path per mob, each mob reads the direction of the tile it is on.
+ * The field covers a square window of tiles around the target. The tiles' costs (see PathFinder) are kept
+ * up to date on the main thread, only reading the tiles entering the window when it moves, and the fields
+ * are computed on a worker thread, then published at the next update.
+ */
+final public class FlowField implements TileListener {
+
+	/**
+	 * Worker thread computing the fields.
+	 */
+	final private static ExecutorService WORKER = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "Flow field");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Directions of the tiles (0 = none, then the 4 sides and the 4 diagonals).
+	 */
+	final static @NotNull Vector2f[] DIRECTIONS = new Vector2f[] {
+		new Vector2f(0, 0),
+		new Vector2f(1, 0),
+		new Vector2f(-1, 0),
+		new Vector2f(0, 1),
+		new Vector2f(0, -1),
+		new Vector2f(1, 1).normalized(),
+		new Vector2f(-1, 1).normalized(),
+		new Vector2f(1, -1).normalized(),
+		new Vector2f(-1, -1).normalized()
+	};
+
+	/**
+	 * Pointer to the Map.
+	 */
+	final private @NotNull Map map;
+
+	/**
+	 * Window's side (in number of tiles).
+	 */
+	final private int size;
+
+	/**
+	 * Movement (PathFinder.WALK | PathFinder.SWIM).
+	 */
+	final private int movement;
+
+	/**
+	 * Window's first column and row.
+	 */
+	private int xOrigin, yOrigin;
+
+	/**
+	 * Cost of each tile of the window.
+	 */
+	private float @NotNull [] costs;
+
+	/**
+	 * Costs of the previous window (swapped with FlowField.costs when the window moves).
+	 */
+	private float @NotNull [] previousCosts;
+
+	/**
+	 * Characters of the tiles entering the window.
+	 */
+	final private char @NotNull [] characters;
+
+	/**
+	 * Were all the window's tiles loaded.
+	 */
+	private boolean complete;
+
+	/**
+	 * Target's column and row.
+	 */
+	private int xTarget, yTarget;
+
+	/**
+	 * Has something changed since the last computation was started.
+	 */
+	private boolean outdated;
+
+	/**
+	 * Published field, read by the agents (null until the first one is computed).
+	 */
+	private @Nullable FlowFieldBuffer front;
+
+	/**
+	 * Field being computed, or to compute next.
+	 */
+	private @NotNull FlowFieldBuffer back;
+
+	/**
+	 * Open set of the worker.
+	 */
+	final private @NotNull OpenSet openSet;
+
+	/**
+	 * Is a field being computed.
+	 */
+	private boolean computing;
+
+	/**
+	 * Has the field being computed been computed.
+	 */
+	private volatile boolean computed;
+
+	/**
+	 * Creates a new FlowField instance and starts listening to the Map.
+	 *
+	 * @param map Map
+	 * @param radius Number of tiles around the target covered by the field
+	 * @param movement PathFinder.WALK, PathFinder.SWIM or both
+	 */
+	public FlowField(final @NotNull Map map, final int radius, final int movement) {
+		assert radius > 0 : "Error: A flow field's radius must be positive.";
+		assert movement > 0 && movement <= (PathFinder.WALK | PathFinder.SWIM) : "Error: Unknown movement " + movement + ".";
+
+		this.map = map;
+		this.size = 2 * radius + 1;
+		this.movement = movement;
+		this.xOrigin = Integer.MIN_VALUE / 2;
+		this.yOrigin = Integer.MIN_VALUE / 2;
+		this.costs = new float[this.size * this.size];
+		this.previousCosts = new float[this.size * this.size];
+		this.characters = new char[this.size * this.size];
+		this.complete = false;
+		this.xTarget = Integer.MIN_VALUE;
+		this.yTarget = Integer.MIN_VALUE;
+		this.outdated = true;
+		this.front = null;
+		this.back = new FlowFieldBuffer(this.size);
+		this.openSet = new OpenSet(this.size * this.size);
+		this.computing = false;
+		this.computed = false;
+
+		map.addTileListener(this);
+	}
+
+	/**
+	 * Publishes the last field computed, follows the target and starts a new computation if something changed.
+	 *
+	 * @param target Target's position (in openGL pos)
+	 */
+	final public void update(final @NotNull Vector2f target) {
+		if(this.computing && this.computed) {
+			final FlowFieldBuffer buffer = this.back;
+			this.back = this.front == null ? new FlowFieldBuffer(this.size) : this.front;
+			this.front = buffer;
+			this.computing = false;
+		}
+
+		final int x = (int) Math.floor(target.getX() / Options.TILE_SIZE);
+		final int y = (int) Math.floor(target.getY() / Options.TILE_SIZE);
+		if(x != this.xTarget || y != this.yTarget) {
+			this.xTarget = x;
+			this.yTarget = y;
+			this.outdated = true;
+		}
+
+		// The window only moves once the target is half way to its border.
+		final int radius = this.size / 2;
+		if(Math.abs(x - (this.xOrigin + radius)) > radius / 2 || Math.abs(y - (this.yOrigin + radius)) > radius / 2) {
+			this.moveWindow(x - radius, y - radius);
+		}
+
+		if(!this.complete && this.getMap().isRegionLoaded(this.xOrigin, this.yOrigin, this.size, this.size)) {
+			this.complete = true;
+			this.readTiles(this.xOrigin, this.yOrigin, this.size, this.size);
+		}
+
+		if(this.outdated && !this.computing) {
+			this.outdated = false;
+			this.computing = true;
+			this.computed = false;
+
+			final FlowFieldBuffer buffer = this.back;
+			buffer.set(this.xOrigin, this.yOrigin, this.xTarget, this.yTarget, this.costs);
+			FlowField.WORKER.execute(() -> {
+				try {
+					buffer.compute(this.openSet);
+				} catch(final RuntimeException e) {
+					System.err.println("Error: Couldn't compute the flow field.");
+					e.printStackTrace();
+				}
+				this.computed = true;
+			});
+		}
+	}
+
+	/**
+	 * Moves the window, keeping the costs of the tiles that stay in it.
+	 *
+	 * @param x Window's new first column
+	 * @param y Window's new first row
+	 */
+	private void moveWindow(final int x, final int y) {
+		final float[] costs = this.previousCosts;
+		this.previousCosts = this.costs;
+		this.costs = costs;
+
+		final int xStart = Math.max(x, this.xOrigin);
+		final int xEnd = Math.min(x, this.xOrigin) + this.size;
+		final int yStart = Math.max(y, this.yOrigin);
+		final int yEnd = Math.min(y, this.yOrigin) + this.size;
+		final int xPrevious = this.xOrigin;
+		final int yPrevious = this.yOrigin;
+
+		this.xOrigin = x;
+		this.yOrigin = y;
+		this.complete = this.getMap().isRegionLoaded(x, y, this.size, this.size); // Starts loading the zones otherwise.
+		this.outdated = true;
+
+		if(xStart >= xEnd || yStart >= yEnd) {
+			this.readTiles(x, y, this.size, this.size);
+			return;
+		}
+
+		for(int i = yStart; i < yEnd; i++) {
+			System.arraycopy(this.previousCosts, (i - yPrevious) * this.size + xStart - xPrevious, this.costs, (i - y) * this.size + xStart - x, xEnd - xStart);
+		}
+
+		// The columns, then the rest of the rows, entering the window.
+		if(x < xStart) this.readTiles(x, y, xStart - x, this.size);
+		if(x + this.size > xEnd) this.readTiles(xEnd, y, x + this.size - xEnd, this.size);
+		if(y < yStart) this.readTiles(xStart, y, xEnd - xStart, yStart - y);
+		if(y + this.size > yEnd) this.readTiles(xStart, yEnd, xEnd - xStart, y + this.size - yEnd);
+	}
+
+	/**
+	 * Reads the costs of a rectangle of the window.
+	 *
+	 * @param x Rectangle's first column
+	 * @param y Rectangle's first row
+	 * @param width Rectangle's width
+	 * @param height Rectangle's height
+	 */
+	private void readTiles(final int x, final int y, final int width, final int height) {
+		this.getMap().getCharacters(x, y, width, height, this.characters);
+
+		for(int i = 0; i < height; i++) {
+			for(int j = 0; j < width; j++) {
+				final Tile tile = this.getMap().getTileSet().getTile(this.characters[i * width + j]);
+				this.costs[(y + i - this.yOrigin) * this.size + x + j - this.xOrigin] = PathFinder.getCost(tile, this.movement);
+			}
+		}
+	}
+
+	@Override
+	public void tileChanged(final int x, final int y, final char previous, final char character) {
+		if(x < this.xOrigin || y < this.yOrigin || x >= this.xOrigin + this.size || y >= this.yOrigin + this.size) return;
+
+		this.costs[(y - this.yOrigin) * this.size + x - this.xOrigin] = PathFinder.getCost(this.getMap().getTileSet().getTile(character), this.movement);
+		this.outdated = true;
+	}
+
+	/**
+	 * Returns the direction to go to from a position to reach the target.
+	 *
+	 * @param position Agent's position (in openGL pos)
+	 * @param dest Vector to write the direction in (normalized, or zero if there's none)
+	 * @return dest
+	 */
+	final public @NotNull Vector2f getDirection(final @NotNull Vector2f position, final @NotNull Vector2f dest) {
+		final FlowFieldBuffer buffer = this.front;
+		final int direction = buffer == null ? 0 : buffer.getDirection((int) Math.floor(position.getX() / Options.TILE_SIZE), (int) Math.floor(position.getY() / Options.TILE_SIZE));
+
+		dest.set(FlowField.DIRECTIONS[direction]);
+		return dest;
+	}
+
+	/**
+	 * Returns the distance (in tile costs) between a position and the target.
+	 *
+	 * @param position Agent's position (in openGL pos)
+	 * @return Float.POSITIVE_INFINITY if the target can't be reached from there (or is too far)
+	 */
+	final public float getDistance(final @NotNull Vector2f position) {
+		final FlowFieldBuffer buffer = this.front;
+
+		return buffer == null ? Float.POSITIVE_INFINITY : buffer.getDistance((int) Math.floor(position.getX() / Options.TILE_SIZE), (int) Math.floor(position.getY() / Options.TILE_SIZE));
+	}
+
+	/**
+	 * Stops listening to the Map.
+	 */
+	final public void destroy() {
+		this.getMap().removeTileListener(this);
+	}
+
+	/**
+	 * Returns the Map.
+	 *
+	 * @return FlowField.map
+	 */
+	@Contract(pure = true)
+	final public @NotNull Map getMap() {
+		return this.map;
+	}
+
+}
\ No newline at end of file
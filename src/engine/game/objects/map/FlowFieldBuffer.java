@@ -0,0 +1,185 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * One computation of a FlowField: the tiles' costs it was computed from, the integration field
+ * (distance of each tile from the target) and the direction field (neighbour to go to from each tile).
+ * Written by the worker thread, then only read once it is published.
+ */
+final class FlowFieldBuffer {
+
+	/**
+	 * Window's side (in number of tiles).
+	 */
+	final private int size;
+
+	/**
+	 * Window's first column and row.
+	 */
+	private int xOrigin, yOrigin;
+
+	/**
+	 * Target's column and row.
+	 */
+	private int xTarget, yTarget;
+
+	/**
+	 * Cost of each tile (0 = can't go there).
+	 */
+	final private float @NotNull [] costs;
+
+	/**
+	 * Distance of each tile from the target (Float.POSITIVE_INFINITY = can't reach it).
+	 */
+	final private float @NotNull [] integration;
+
+	/**
+	 * Direction of each tile (index in FlowField.DIRECTIONS, 0 = none).
+	 */
+	final private byte @NotNull [] directions;
+
+	/**
+	 * Creates a new FlowFieldBuffer instance.
+	 *
+	 * @param size Window's side (in number of tiles)
+	 */
+	FlowFieldBuffer(final int size) {
+		this.size = size;
+		this.costs = new float[size * size];
+		this.integration = new float[size * size];
+		this.directions = new byte[size * size];
+		Arrays.fill(this.integration, Float.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Sets what to compute.
+	 *
+	 * @param xOrigin Window's first column
+	 * @param yOrigin Window's first row
+	 * @param xTarget Target's column
+	 * @param yTarget Target's row
+	 * @param costs Cost of each tile of the window (copied)
+	 */
+	final void set(final int xOrigin, final int yOrigin, final int xTarget, final int yTarget, final float @NotNull [] costs) {
+		this.xOrigin = xOrigin;
+		this.yOrigin = yOrigin;
+		this.xTarget = xTarget;
+		this.yTarget = yTarget;
+		System.arraycopy(costs, 0, this.costs, 0, this.costs.length);
+	}
+
+	/**
+	 * Computes the integration field (Dijkstra from the target) then the direction field.
+	 *
+	 * @param openSet Open set (with size² ids)
+	 */
+	final void compute(final @NotNull OpenSet openSet) {
+		Arrays.fill(this.integration, Float.POSITIVE_INFINITY);
+		Arrays.fill(this.directions, (byte) 0);
+
+		final int x = this.xTarget - this.xOrigin;
+		final int y = this.yTarget - this.yOrigin;
+		if(x < 0 || y < 0 || x >= this.size || y >= this.size || this.costs[y * this.size + x] == 0) return;
+
+		// Moving between two neighbours costs the average of their costs, so the distances are the same both ways.
+		openSet.clear();
+		this.integration[y * this.size + x] = 0;
+		openSet.push(y * this.size + x, 0);
+		while(!openSet.isEmpty()) {
+			final int tile = openSet.pop();
+			final int column = tile % this.size;
+			final int row = tile / this.size;
+
+			if(column > 0) this.relax(openSet, tile, tile - 1);
+			if(column < this.size - 1) this.relax(openSet, tile, tile + 1);
+			if(row > 0) this.relax(openSet, tile, tile - this.size);
+			if(row < this.size - 1) this.relax(openSet, tile, tile + this.size);
+		}
+
+		for(int tile = 0; tile < this.integration.length; tile++) {
+			if(this.integration[tile] == Float.POSITIVE_INFINITY || this.integration[tile] == 0) continue;
+
+			final int column = tile % this.size;
+			final int row = tile / this.size;
+			float best = this.integration[tile];
+			for(int i = 1; i < FlowField.DIRECTIONS.length; i++) {
+				final int dx = (int) Math.signum(FlowField.DIRECTIONS[i].getX());
+				final int dy = (int) Math.signum(FlowField.DIRECTIONS[i].getY());
+				if(column + dx < 0 || row + dy < 0 || column + dx >= this.size || row + dy >= this.size) continue;
+
+				// No cutting corners.
+				if(dx != 0 && dy != 0 && (this.costs[tile + dx] == 0 || this.costs[tile + dy * this.size] == 0)) continue;
+
+				final float distance = this.integration[tile + dy * this.size + dx];
+				if(distance < best) {
+					best = distance;
+					this.directions[tile] = (byte) i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reaches a tile from one of its neighbours if it is shorter.
+	 *
+	 * @param openSet Open set
+	 * @param from Tile reached
+	 * @param tile Neighbour
+	 */
+	private void relax(final @NotNull OpenSet openSet, final int from, final int tile) {
+		if(this.costs[tile] == 0) return;
+
+		final float distance = this.integration[from] + (this.costs[from] + this.costs[tile]) / 2;
+		if(distance >= this.integration[tile]) return;
+
+		this.integration[tile] = distance;
+		openSet.push(tile, distance);
+	}
+
+	/**
+	 * Returns the index of a tile in the window.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @return -1 if the tile isn't in the window
+	 */
+	@Contract(pure = true)
+	private int getIndex(final int x, final int y) {
+		if(x < this.xOrigin || y < this.yOrigin || x >= this.xOrigin + this.size || y >= this.yOrigin + this.size) return -1;
+
+		return (y - this.yOrigin) * this.size + x - this.xOrigin;
+	}
+
+	/**
+	 * Returns the direction of a tile.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @return Index in FlowField.DIRECTIONS (0 = none)
+	 */
+	@Contract(pure = true)
+	final int getDirection(final int x, final int y) {
+		final int index = this.getIndex(x, y);
+
+		return index == -1 ? 0 : this.directions[index];
+	}
+
+	/**
+	 * Returns the distance of a tile from the target.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @return Float.POSITIVE_INFINITY if the target can't be reached from the tile
+	 */
+	@Contract(pure = true)
+	final float getDistance(final int x, final int y) {
+		final int index = this.getIndex(x, y);
+
+		return index == -1 ? Float.POSITIVE_INFINITY : this.integration[index];
+	}
+
+}
\ No newline at end of file
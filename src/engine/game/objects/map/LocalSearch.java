@@ -0,0 +1,185 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Searches inside a single chunk (tiles indexed y * Chunk.SIZE + x).
+ * Moving between two neighbouring tiles a and b costs (cost[a] + cost[b]) / 2, so distances are the same both ways.
+ * Every array is allocated once: a search doesn't allocate anything.
+ */
+final class LocalSearch {
+
+	/**
+	 * Number of tiles in a chunk.
+	 */
+	final private static int TILES = Chunk.SIZE * Chunk.SIZE;
+
+	/**
+	 * Open set.
+	 */
+	final private @NotNull OpenSet openSet;
+
+	/**
+	 * Distance of each tile from the source.
+	 */
+	final private float @NotNull [] distances;
+
+	/**
+	 * Tile each tile was reached from (-1 = none).
+	 */
+	final private int @NotNull [] parents;
+
+	/**
+	 * Tiles of the last path found, from the first step to the destination.
+	 */
+	final private int @NotNull [] path;
+
+	/**
+	 * Number of tiles of the last path found.
+	 */
+	private int pathLength;
+
+	/**
+	 * Creates a new LocalSearch instance.
+	 */
+	LocalSearch() {
+		this.openSet = new OpenSet(LocalSearch.TILES);
+		this.distances = new float[LocalSearch.TILES];
+		this.parents = new int[LocalSearch.TILES];
+		this.path = new int[LocalSearch.TILES];
+		this.pathLength = 0;
+	}
+
+	/**
+	 * Computes the distance of every tile from a source tile (see LocalSearch.getDistance).
+	 *
+	 * @param costs Cost of each tile (0 = can't go there)
+	 * @param source Source tile
+	 */
+	final void distancesFrom(final float @NotNull [] costs, final int source) {
+		this.search(costs, source, -1);
+	}
+
+	/**
+	 * Finds the shortest path between two tiles (see LocalSearch.getPathLength and LocalSearch.getPathTile).
+	 *
+	 * @param costs Cost of each tile (0 = can't go there)
+	 * @param from First tile
+	 * @param to Last tile
+	 * @return false if there's no path inside the chunk
+	 */
+	final boolean findPath(final float @NotNull [] costs, final int from, final int to) {
+		this.pathLength = 0;
+		this.search(costs, from, to);
+		if(this.distances[to] == Float.POSITIVE_INFINITY) return false;
+
+		for(int tile = to; tile != from; tile = this.parents[tile]) {
+			this.path[this.pathLength++] = tile;
+		}
+
+		// Reversed, the first step first.
+		for(int i = 0; i < this.pathLength / 2; i++) {
+			final int tile = this.path[i];
+			this.path[i] = this.path[this.pathLength - 1 - i];
+			this.path[this.pathLength - 1 - i] = tile;
+		}
+
+		return true;
+	}
+
+	/**
+	 * A* from a tile, or Dijkstra over the whole chunk if there's no destination.
+	 *
+	 * @param costs Cost of each tile (0 = can't go there)
+	 * @param from First tile
+	 * @param to Last tile (-1 = none)
+	 */
+	private void search(final float @NotNull [] costs, final int from, final int to) {
+		assert costs.length == LocalSearch.TILES : "Error: The costs aren't a chunk's.";
+
+		Arrays.fill(this.distances, Float.POSITIVE_INFINITY);
+		Arrays.fill(this.parents, -1);
+		this.openSet.clear();
+		if(costs[from] == 0) return;
+
+		// Every step costs at least the cheapest tile's cost.
+		float minCost = Float.POSITIVE_INFINITY;
+		if(to != -1) {
+			for(final float cost : costs) {
+				if(cost > 0) minCost = Math.min(minCost, cost);
+			}
+		}
+
+		this.distances[from] = 0;
+		this.openSet.push(from, 0);
+		while(!this.openSet.isEmpty()) {
+			final int tile = this.openSet.pop();
+			if(tile == to) return;
+
+			final int x = tile % Chunk.SIZE;
+			final int y = tile / Chunk.SIZE;
+			if(x > 0) this.relax(costs, tile, tile - 1, to, minCost);
+			if(x < Chunk.SIZE - 1) this.relax(costs, tile, tile + 1, to, minCost);
+			if(y > 0) this.relax(costs, tile, tile - Chunk.SIZE, to, minCost);
+			if(y < Chunk.SIZE - 1) this.relax(costs, tile, tile + Chunk.SIZE, to, minCost);
+		}
+	}
+
+	/**
+	 * Reaches a tile from one of its neighbours if it is shorter.
+	 *
+	 * @param costs Cost of each tile (0 = can't go there)
+	 * @param from Tile reached
+	 * @param tile Neighbour
+	 * @param to Last tile (-1 = none)
+	 * @param minCost Cheapest tile's cost (for the heuristic)
+	 */
+	private void relax(final float @NotNull [] costs, final int from, final int tile, final int to, final float minCost) {
+		if(costs[tile] == 0) return;
+
+		final float distance = this.distances[from] + (costs[from] + costs[tile]) / 2;
+		if(distance >= this.distances[tile]) return;
+
+		this.distances[tile] = distance;
+		this.parents[tile] = from;
+
+		final float heuristic = to == -1 ? 0 : minCost * (Math.abs(tile % Chunk.SIZE - to % Chunk.SIZE) + Math.abs(tile / Chunk.SIZE - to / Chunk.SIZE));
+		this.openSet.push(tile, distance + heuristic);
+	}
+
+	/**
+	 * Returns the distance of a tile from the source of the last search.
+	 *
+	 * @param tile Tile
+	 * @return Float.POSITIVE_INFINITY if it can't be reached
+	 */
+	@Contract(pure = true)
+	final float getDistance(final int tile) {
+		return this.distances[tile];
+	}
+
+	/**
+	 * Returns the number of tiles of the last path found (the first tile isn't included).
+	 *
+	 * @return LocalSearch.pathLength
+	 */
+	@Contract(pure = true)
+	final int getPathLength() {
+		return this.pathLength;
+	}
+
+	/**
+	 * Returns a tile of the last path found.
+	 *
+	 * @param index Step
+	 * @return LocalSearch.path[index]
+	 */
+	@Contract(pure = true)
+	final int getPathTile(final int index) {
+		return this.path[index];
+	}
+
+}
\ No newline at end of file
@@ -2,6 +2,8 @@ package engine.game.objects.map;
 
 import com.Options;
 import engine.CoreEngine;
+import engine.JobScheduler;
+import engine.game.World;
 import engine.game.objects.GameObject;
 import engine.math.Vector2f;
 import engine.math.Vector3f;
@@ -11,23 +13,25 @@ import engine.util.Window;
 import engine.util.profiling.Profiler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import support.json.JSONObject;
-import support.json.JSONTokener;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Map is loaded in the folder media/map/{mapName}
- * Contains "loader.json" which tells which zones to load and how
- * Each zone has a {zoneName}.txt that corresponds.
+ * Map is made of zones given by a ZoneSource.
+ * By default they are loaded from the folder media/map/{mapName}
+ * which contains "loader.json" telling which zones to load and how,
+ * and a {zoneName}.txt for each zone.
  */
 public class Map extends GameObject {
 
 	/**
-	 * Current instance used.
+	 * Size of the cells of the grid indexing the zones (in number of tiles).
 	 */
-	private static Map INSTANCE;
+	final private static int ZONE_CELL_SIZE = 64;
 
 	/**
 	 * Map's name.
@@ -39,15 +43,61 @@ public class Map extends GameObject {
 	 */
 	final private @NotNull ArrayList<Zone> zones;
 
+	/**
+	 * Map's zones, by the cells of ZONE_CELL_SIZE tiles they intersect (keys from ChunkMap.key()).
+	 * The arrays are replaced when a zone is declared, never modified, so lookups don't need a lock.
+	 */
+	final private @NotNull ConcurrentHashMap<Long, Zone[]> zoneGrid;
+
+	/**
+	 * Zone found by the last Map.getZoneAt() (tiles are usually looked up next to each other).
+	 */
+	private volatile @Nullable Zone lastZone;
+
+	/**
+	 * Zones whose loading was asked for by the JobScheduler's workers, started by the next Map.update().
+	 */
+	final private @NotNull Set<Zone> zonesToLoad;
+
+	/**
+	 * Where the Map's zones come from.
+	 */
+	final private @NotNull ZoneSource zoneSource;
+
+	/**
+	 * Objects notified when a tile is changed.
+	 */
+	final private @NotNull ArrayList<TileListener> tileListeners;
+
+	/**
+	 * Downsampled images of the map for the world map.
+	 */
+	final private @NotNull MapPyramid pyramid;
+
+	/**
+	 * Map's path finder.
+	 */
+	final private @NotNull PathFinder pathFinder;
+
+	/**
+	 * Tiles explored by the hero.
+	 */
+	final private @NotNull ExplorationMap exploration;
+
 	/**
 	 * Map's tile set.
 	 */
 	final private @NotNull TileSet tileSet;
 
 	/**
-	 * Map's chunk loader.
+	 * Map's chunk loader (null if Options.TILEMAP_RENDERING: nothing is baked).
 	 */
-	final private @NotNull ChunkLoader chunkLoader;
+	final private @Nullable ChunkLoader chunkLoader;
+
+	/**
+	 * Map's tile map renderer (null unless Options.TILEMAP_RENDERING).
+	 */
+	final private @Nullable TilemapRenderer tilemapRenderer;
 
 	/**
 	 * Map's width (in tiles).
@@ -65,114 +115,257 @@ public class Map extends GameObject {
 	private Vector3f cameraPosition;
 
 	/**
-	 * Creates a new Map instance.
+	 * Creates a new Map instance loaded from media/map/{mapName}.
 	 *
 	 * @param mapName Map's name
 	 * @param tileSet Map's tile set
 	 */
 	public Map(final @NotNull String mapName, final @NotNull TileSet tileSet) {
+		this(mapName, tileSet, new FileZoneSource(mapName));
+	}
+
+	/**
+	 * Creates a new Map instance.
+	 *
+	 * @param mapName Map's name
+	 * @param tileSet Map's tile set
+	 * @param zoneSource Where the Map's zones come from
+	 */
+	public Map(final @NotNull String mapName, final @NotNull TileSet tileSet, final @NotNull ZoneSource zoneSource) {
 		super("Map " + mapName, Float.MAX_VALUE, Float.MAX_VALUE);
 
 		this.mapName = mapName;
 		this.zones = new ArrayList<>();
+		this.zoneGrid = new ConcurrentHashMap<>();
+		this.lastZone = null;
+		this.zonesToLoad = ConcurrentHashMap.newKeySet();
+		this.zoneSource = zoneSource;
+		this.tileListeners = new ArrayList<>();
 		this.tileSet = tileSet;
-		this.chunkLoader = new ChunkLoader(this);
+		this.pyramid = new MapPyramid(this);
+		this.pathFinder = new PathFinder(this);
+		this.exploration = new ExplorationMap(this);
+
+		if(Options.TILEMAP_RENDERING) {
+			this.chunkLoader = null;
+			this.tilemapRenderer = new TilemapRenderer(this);
+			this.addChildInstantly(this.tilemapRenderer);
+		} else {
+			this.chunkLoader = new ChunkLoader(this);
+			this.tilemapRenderer = null;
+		}
 	}
 
 	@Override
 	public Map init() {
 		final long startTime = Time.getNanoTime();
-		final JSONObject loader;
-
-		try {
-			loader = new JSONObject(new JSONTokener(support.File.getURL("/media/map/" + this.getMapName() + "/loader.json").openStream()));
-		} catch(final IOException | NullPointerException e) {
-			System.err.println("Error: could not find map " + this.getMapName() + ".");
-			System.err.println("loader.json might be missing.");
-			new Exception().printStackTrace();
-			System.exit(1);
-			return this; // Otherwise there is an exception where loader is not defined.
+		this.getZoneSource().declareZones(this, 0, 0, 0, 0);
+		this.getExploration().load();
+
+		if(Options.DEBUG) System.out.println("It took " + (Time.getNanoTime() - startTime) * Time.NANO_TO_MILLI + "ms to load the map " + this.getMapName() + ".");
+		return this;
+	}
+
+	@Override
+	public void update(final double delta) {
+		for(final Zone zone : this.zonesToLoad) {
+			this.zonesToLoad.remove(zone);
+			this.startLoading(zone);
 		}
 
-		for(final String zoneName : loader.getJSONObject("zones").keySet()) {
-			final JSONObject zoneParams = loader.getJSONObject("zones").getJSONObject(zoneName);
+		final @Nullable ChunkLoader chunkLoader = this.getChunkLoader();
+		if(chunkLoader != null) {
+			chunkLoader.update(delta);
 
-			// Getting zone's position.
-			final String[] pos = zoneParams.getString("pos").split(";");
-			if(pos.length != 2) {
-				System.err.println("Error: The position expected is not in x;y format.");
-				System.err.println("Map: " + this.getMapName());
-				System.err.println("Zone: " + zoneName);
-				System.err.println("Pos: " + zoneParams.getString("pos"));
+			final ChunkMap chunks = chunkLoader.getChunks();
+			for(int i = 0; i < chunks.size(); i++) {
+				final Chunk chunk = chunks.getAt(i);
+				if(!this.hasChild(chunk)) {
+					this.addChildInstantly(chunk);
+				}
 			}
+		}
 
-			// Getting zone's dimensions.
-			final String[] dim = zoneParams.getString("dimensions").split("x");
-			if(dim.length != 2) {
-				System.err.println("Error: The dimension expected is not in wxh format.");
-				System.err.println("Map: " + this.getMapName());
-				System.err.println("Zone: " + zoneName);
-				System.err.println("Dim: " + zoneParams.getString("dimensions"));
-			}
+		// The camera follows the hero: what's on the screen has been seen.
+		final Vector2f cameraPosition = this.getCameraPosition();
+		final int x = (int) Math.floor((cameraPosition.getX() - Window.getRatio()) / Options.TILE_SIZE);
+		final int y = (int) Math.floor((cameraPosition.getY() - 1) / Options.TILE_SIZE);
+		this.getExploration().explore(x, y, (int) Math.ceil(2 * Window.getRatio() / Options.TILE_SIZE) + 1, (int) Math.ceil(2 / Options.TILE_SIZE) + 1);
+		this.getExploration().update(delta);
 
-			try {
-				this.zones.add(new Zone(zoneName, Integer.parseInt(pos[0]), Integer.parseInt(pos[1]), Integer.parseInt(dim[0]), Integer.parseInt(dim[1]), this));
-				if(this.getMapWidth() < Integer.parseInt(pos[0]) + Integer.parseInt(dim[0])) {
-					this.tileWidth = Integer.parseInt(pos[0]) + Integer.parseInt(dim[0]);
-				}
-				if(this.getMapHeight() < Integer.parseInt(pos[1]) + Integer.parseInt(dim[1])) {
-					this.tileHeight = Integer.parseInt(pos[1]) + Integer.parseInt(dim[1]);
+		super.update(delta);
+	}
+
+	@Override
+	public void addToEngine(final @NotNull CoreEngine engine, final @Nullable World world) {
+		super.addToEngine(engine, world);
+
+		this.setCameraPosition(engine.getRenderingEngine().getMainCamera().getPositionReference());
+	}
+
+	/**
+	 * Cleans the Map up before it is dropped or the application exits: what has been explored is written.
+	 */
+	public void cleanUp() {
+		this.getExploration().flush();
+	}
+
+	/**
+	 * Adds a zone to the Map (it is loaded once the camera gets close to it).
+	 * Called by the ZoneSource.
+	 *
+	 * @param zoneName Zone's name
+	 * @param x Zone's x position (in number of tiles)
+	 * @param y Zone's y position (in number of tiles)
+	 * @param width Zone's width (in number of tiles)
+	 * @param height Zone's height (in number of tiles)
+	 */
+	final public void declareZone(final @NotNull String zoneName, final int x, final int y, final int width, final int height) {
+		final Zone zone = new Zone(zoneName, x, y, width, height, this);
+		this.zones.add(zone);
+
+		for(int i = Math.floorDiv(y, Map.ZONE_CELL_SIZE); i <= Math.floorDiv(y + height - 1, Map.ZONE_CELL_SIZE); i++) {
+			for(int j = Math.floorDiv(x, Map.ZONE_CELL_SIZE); j <= Math.floorDiv(x + width - 1, Map.ZONE_CELL_SIZE); j++) {
+				final long key = ChunkMap.key(j, i);
+				final @Nullable Zone[] cell = this.zoneGrid.get(key);
+				if(Options.DEBUG && cell != null) {
+					for(final Zone other : cell) {
+						if(other.intersects(x, y, width, height)) System.err.println("Error: " + zone.getName() + " overlaps " + other.getName() + "!");
+					}
 				}
-			} catch (final NumberFormatException e) {
-				System.err.println("Error: The position expected is x;y and dimension expected wxh : at least one of them is incorrect.");
-				System.err.println("Map: " + this.getMapName());
-				System.err.println("Zone: " + zoneName);
-				System.err.println("Pos: " + zoneParams.getString("pos"));
-				System.err.println("Dim: " + zoneParams.getString("dimensions"));
+
+				final Zone[] zones = cell == null ? new Zone[1] : Arrays.copyOf(cell, cell.length + 1);
+				zones[zones.length - 1] = zone;
+				this.zoneGrid.put(key, zones);
 			}
 		}
 
-		if(Options.DEBUG) System.out.println("It took " + (Time.getNanoTime() - startTime) * Time.NANO_TO_MILLI + "ms to load the map " + this.getMapName() + ".");
-		return this;
+		if(this.getMapWidth() < x + width) {
+			this.tileWidth = x + width;
+		}
+		if(this.getMapHeight() < y + height) {
+			this.tileHeight = y + height;
+		}
 	}
 
-	@Override
-	public void update(final double delta) {
-		this.getChunkLoader().update(delta);
+	/**
+	 * Asks the ZoneSource to declare the zones covering a region.
+	 *
+	 * @param xStart Region's left side (in openGL pos)
+	 * @param xEnd Region's right side (in openGL pos)
+	 * @param yStart Region's bottom side (in openGL pos)
+	 * @param yEnd Region's top side (in openGL pos)
+	 */
+	final void declareZonesIn(final float xStart, final float xEnd, final float yStart, final float yEnd) {
+		this.getZoneSource().declareZones(this, (int) Math.floor(xStart / Options.TILE_SIZE), (int) Math.floor(yStart / Options.TILE_SIZE), (int) Math.floor(xEnd / Options.TILE_SIZE), (int) Math.floor(yEnd / Options.TILE_SIZE));
+	}
+
+	/**
+	 * Returns whether every zone intersecting a rectangle has been loaded.
+	 * Starts loading the ones that weren't.
+	 *
+	 * @param x Rectangle's first column (in number of tiles)
+	 * @param y Rectangle's first row (in number of tiles)
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 * @return new boolean
+	 */
+	final boolean isRegionLoaded(final int x, final int y, final int width, final int height) {
+		boolean loaded = true;
+
+		for(int i = Math.floorDiv(y, Map.ZONE_CELL_SIZE); i <= Math.floorDiv(y + height - 1, Map.ZONE_CELL_SIZE); i++) {
+			for(int j = Math.floorDiv(x, Map.ZONE_CELL_SIZE); j <= Math.floorDiv(x + width - 1, Map.ZONE_CELL_SIZE); j++) {
+				final @Nullable Zone[] cell = this.zoneGrid.get(ChunkMap.key(j, i));
+				if(cell == null) continue;
 
-		for(final Chunk chunk : this.getChunkLoader().getChunks().values()) {
-			if(!this.hasChild(chunk)) {
-				this.addChildInstantly(chunk);
+				for(final Zone zone : cell) {
+					if(!Map.isFirstCell(zone, x, y, width, height, j, i) || zone.isLoaded()) continue;
+
+					this.startLoading(zone);
+					loaded = false;
+				}
 			}
 		}
 
-		super.update(delta);
+		return loaded;
 	}
 
-	@Override
-	public void addToEngine(final @NotNull CoreEngine engine) {
-		super.addToEngine(engine);
+	/**
+	 * Starts loading a zone, unless it already is.
+	 * On the JobScheduler's workers (subtrees updated in parallel, worlds stepped in parallel) the Map's children
+	 * can't be changed: it is started by the next Map.update() instead.
+	 *
+	 * @param zone Zone to load
+	 */
+	private void startLoading(final @NotNull Zone zone) {
+		if(JobScheduler.isWorkerThread()) {
+			this.zonesToLoad.add(zone);
+		} else if(!this.hasChild(zone)) {
+			this.addChildInstantly(zone);
+			zone.init();
+		}
+	}
 
-		this.setCameraPosition(engine.getRenderingEngine().getMainCamera().getPositionReference());
+	/**
+	 * Returns whether every zone under an area has been loaded (declaring and starting the missing ones).
+	 * Where no zone is declared there is nothing to wait for: the area is considered loaded.
+	 *
+	 * @param x Area's left side (in openGL pos)
+	 * @param y Area's bottom side (in openGL pos)
+	 * @param width Area's width (in openGL pos)
+	 * @param height Area's height (in openGL pos)
+	 * @return new boolean
+	 */
+	final public boolean isAreaLoaded(final float x, final float y, final float width, final float height) {
+		final int xStart = (int) Math.floor(x / Options.TILE_SIZE);
+		final int yStart = (int) Math.floor(y / Options.TILE_SIZE);
+		final int xEnd = Math.max(xStart, (int) Math.ceil((x + width) / Options.TILE_SIZE) - 1);
+		final int yEnd = Math.max(yStart, (int) Math.ceil((y + height) / Options.TILE_SIZE) - 1);
+
+		if(!JobScheduler.isWorkerThread()) this.getZoneSource().declareZones(this, xStart, yStart, xEnd, yEnd); // ZoneSources are only used by the game thread.
+		return this.isRegionLoaded(xStart, yStart, xEnd - xStart + 1, yEnd - yStart + 1);
 	}
 
 	/**
-	 * Returns the current map being used.
+	 * Returns the zone containing a tile.
 	 *
-	 * @return Map::INSTANCE
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @return Zone (null if no zone has been declared there)
 	 */
-	@Contract(pure = true)
-	public static Map getInstance() {
-		return Map.INSTANCE;
+	private @Nullable Zone getZoneAt(final int x, final int y) {
+		final @Nullable Zone last = this.lastZone;
+		if(last != null && last.intersects(x, y, 1, 1)) return last;
+
+		final @Nullable Zone[] cell = this.zoneGrid.get(ChunkMap.key(Math.floorDiv(x, Map.ZONE_CELL_SIZE), Math.floorDiv(y, Map.ZONE_CELL_SIZE)));
+		if(cell == null) return null;
+
+		for(final Zone zone : cell) {
+			if(zone.intersects(x, y, 1, 1)) {
+				this.lastZone = zone;
+				return zone;
+			}
+		}
+
+		return null;
 	}
 
 	/**
-	 * Sets the current map being used.
+	 * Returns whether a zone intersects a rectangle and the grid cell (j ; i) is the first one of the rectangle
+	 * holding it, so that zones spanning several cells are only handled once per rectangle.
 	 *
-	 * @param map Map to set
+	 * @param zone Zone to check
+	 * @param x Rectangle's first column
+	 * @param y Rectangle's first row
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 * @param j Cell's column
+	 * @param i Cell's row
+	 * @return new boolean
 	 */
-	public static void setInstance(final Map map) {
-		Map.INSTANCE = map;
+	@Contract(pure = true)
+	private static boolean isFirstCell(final @NotNull Zone zone, final int x, final int y, final int width, final int height, final int j, final int i) {
+		return zone.intersects(x, y, width, height) && Math.floorDiv(Math.max(x, zone.getTileX()), Map.ZONE_CELL_SIZE) == j && Math.floorDiv(Math.max(y, zone.getTileY()), Map.ZONE_CELL_SIZE) == i;
 	}
 
 	/**
@@ -185,14 +378,60 @@ public class Map extends GameObject {
 		final float yStart = this.getCameraPosition().getY() - 1 - 2 * ChunkLoader.RADIUS_CHECK;
 		final float yEnd = this.getCameraPosition().getY() + 1 + 2 * ChunkLoader.RADIUS_CHECK;
 
-		for(final Zone zone : this.zones) {
-			if(xStart > zone.getPosition().getX() + zone.getWidth() || xEnd < zone.getPosition().getX() || yStart > zone.getPosition().getY()  + zone.getHeight() || yEnd < zone.getPosition().getY()) continue;
-			if(this.hasChild(zone)) continue;
+		this.loadZonesIn(xStart, xEnd, yStart, yEnd, 0L, Double.MAX_VALUE);
+		Profiler.stopProfileTimer("Update-ZoneLoading");
+	}
 
-			this.addChildInstantly(zone); // Either add instantly or check if not already added this frame (to not add it multiple times).
-			zone.init();
+	/**
+	 * Loads the zones in a region the camera is heading to, without going over the time budget.
+	 *
+	 * @param xStart Region's left side (in openGL pos)
+	 * @param xEnd Region's right side (in openGL pos)
+	 * @param yStart Region's bottom side (in openGL pos)
+	 * @param yEnd Region's top side (in openGL pos)
+	 * @param startTime When the frame's loading started (in ns)
+	 * @param budget How long the loading can take (in s)
+	 */
+	final void prefetchZones(final float xStart, final float xEnd, final float yStart, final float yEnd, final long startTime, final double budget) {
+		Profiler.startProfileTimer("Update-ZonePrefetching");
+		this.loadZonesIn(xStart, xEnd, yStart, yEnd, startTime, budget);
+		Profiler.stopProfileTimer("Update-ZonePrefetching");
+	}
+
+	/**
+	 * Starts loading the zones that intersect a region (declaring them first).
+	 * Stops once the time budget has been spent (at least one zone is started).
+	 *
+	 * @param xStart Region's left side (in openGL pos)
+	 * @param xEnd Region's right side (in openGL pos)
+	 * @param yStart Region's bottom side (in openGL pos)
+	 * @param yEnd Region's top side (in openGL pos)
+	 * @param startTime When the loading started (in ns)
+	 * @param budget How long the loading can take (in s)
+	 */
+	private void loadZonesIn(final float xStart, final float xEnd, final float yStart, final float yEnd, final long startTime, final double budget) {
+		this.declareZonesIn(xStart, xEnd, yStart, yEnd);
+
+		final int x = (int) Math.floor(xStart / Options.TILE_SIZE);
+		final int y = (int) Math.floor(yStart / Options.TILE_SIZE);
+		final int width = (int) Math.floor(xEnd / Options.TILE_SIZE) - x + 1;
+		final int height = (int) Math.floor(yEnd / Options.TILE_SIZE) - y + 1;
+
+		for(int i = Math.floorDiv(y, Map.ZONE_CELL_SIZE); i <= Math.floorDiv(y + height - 1, Map.ZONE_CELL_SIZE); i++) {
+			for(int j = Math.floorDiv(x, Map.ZONE_CELL_SIZE); j <= Math.floorDiv(x + width - 1, Map.ZONE_CELL_SIZE); j++) {
+				final @Nullable Zone[] cell = this.zoneGrid.get(ChunkMap.key(j, i));
+				if(cell == null) continue;
+
+				for(final Zone zone : cell) {
+					if(!Map.isFirstCell(zone, x, y, width, height, j, i) || this.hasChild(zone)) continue;
+
+					this.addChildInstantly(zone); // Either add instantly or check if not already added this frame (to not add it multiple times).
+					zone.init();
+
+					if((Time.getNanoTime() - startTime) * Time.NANO_TO_SECOND >= budget) return;
+				}
+			}
 		}
-		Profiler.stopProfileTimer("Update-ZoneLoading");
 	}
 
 	/**
@@ -227,35 +466,36 @@ public class Map extends GameObject {
 
 	/**
 	 * Returns the character in the map at position (x ; y).
+	 * If no zone has been declared there yet, the zones around the camera are declared and it is looked up again
+	 * (only on the game thread: the JobScheduler's workers never change the Map).
 	 *
 	 * @param x X position
 	 * @param y Y position
 	 * @param alreadyCalled For the end.
-	 * @return Map.character.y.x
+	 * @return Map.character.y.x (' ' if there is no zone or it isn't loaded yet)
 	 */
 	private char getCharacterAt(final int x, final int y, final boolean alreadyCalled) {
 		if(x < 0 || y < 0) return ' ';
-		char c = ' ';
-
-		for(final Zone zone : this.zones) { // TODO: Don't check every single zone.
-			final char character = zone.getCharacterAt(x, y);
-			if(character != ' ') {
-				if(!Options.DEBUG) return character;
-				if(c != ' ') {
-					System.err.println("Error: Tile (" + x + ";" + y + ") is defined in 2 different zones!");
-					System.err.println("2nd zone is : " + zone.getName());
-				}
 
-				c = character;
-			}
-		}
+		final @Nullable Zone zone = this.getZoneAt(x, y);
+		if(zone != null) return zone.getCharacterAt(x, y);
+		if(alreadyCalled || JobScheduler.isWorkerThread()) return ' ';
 
-		if(c != ' ' || alreadyCalled) {
-			return c;
-		} else {
-			this.checkZoneLoading();
-			return this.getCharacterAt(x, y, true);
-		}
+		this.checkZoneLoading();
+		return this.getCharacterAt(x, y, true);
+	}
+
+	/**
+	 * Returns whether the tile at (x ; y) is unknown: its zone is declared but not loaded yet.
+	 *
+	 * @param x X position (in number of tiles)
+	 * @param y Y position (in number of tiles)
+	 * @return new boolean
+	 */
+	final boolean isTileUnknown(final int x, final int y) {
+		final @Nullable Zone zone = this.getZoneAt(x, y);
+
+		return zone != null && !zone.isLoaded();
 	}
 
 	/**
@@ -312,6 +552,145 @@ public class Map extends GameObject {
 		return this.getTileAt((int)(x / Options.TILE_SIZE), (int)(y / Options.TILE_SIZE));
 	}
 
+	/**
+	 * Changes the Tile at position (x ; y).
+	 * Only the chunk containing it is baked again (over the next frames, under ChunkLoader.LOADING_RATIO),
+	 * and the TileListeners are notified.
+	 *
+	 * @param x X position (in number of tiles)
+	 * @param y Y position (in number of tiles)
+	 * @param character New tile's character
+	 * @return false if the tile couldn't be changed (unknown character, zone not loaded)
+	 */
+	final public boolean setTileAt(final int x, final int y, final char character) {
+		if(this.getTileFromCharacter(character) == null) {
+			System.err.println("Error: There is no tile '" + character + "' in the tile set " + this.getTileSet().getFolderPath() + ".");
+			return false;
+		}
+
+		final @Nullable Zone zone = this.getZoneAt(x, y);
+		if(zone != null && zone.isLoaded()) {
+			final char previous = zone.getCharacterAt(x, y);
+			if(previous == character) return true;
+
+			zone.setCharacterAt(x, y, character);
+			if(this.getChunkLoader() != null) this.getChunkLoader().rebake(x / Chunk.SIZE, y / Chunk.SIZE);
+			for(final TileListener listener : this.tileListeners) {
+				listener.tileChanged(x, y, previous, character);
+			}
+
+			return true;
+		}
+
+		if(Options.DEBUG) System.err.println("Error: Tile (" + x + ";" + y + ") can't be changed, its zone isn't loaded.");
+		return false;
+	}
+
+	/**
+	 * Changes the Tile at a certain position (in openGL pos).
+	 *
+	 * @param x X position (in openGL pos)
+	 * @param y Y position (in openGL pos)
+	 * @param character New tile's character
+	 * @return false if the tile couldn't be changed (unknown character, zone not loaded)
+	 */
+	final public boolean setTileAt(final float x, final float y, final char character) {
+		return this.setTileAt((int)(x / Options.TILE_SIZE), (int)(y / Options.TILE_SIZE), character);
+	}
+
+	/**
+	 * Copies the characters of a rectangle (' ' where no zone is loaded).
+	 * Each zone is only looked up once, rather than once per tile.
+	 *
+	 * @param x Rectangle's first column (in number of tiles)
+	 * @param y Rectangle's first row (in number of tiles)
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 * @param characters Rectangle's characters, as characters[row * width + column]
+	 */
+	final void getCharacters(final int x, final int y, final int width, final int height, final char @NotNull [] characters) {
+		assert characters.length >= width * height : "Error: " + characters.length + " characters can't hold a " + width + "x" + height + " rectangle.";
+
+		Arrays.fill(characters, 0, width * height, ' ');
+		for(int i = Math.floorDiv(y, Map.ZONE_CELL_SIZE); i <= Math.floorDiv(y + height - 1, Map.ZONE_CELL_SIZE); i++) {
+			for(int j = Math.floorDiv(x, Map.ZONE_CELL_SIZE); j <= Math.floorDiv(x + width - 1, Map.ZONE_CELL_SIZE); j++) {
+				final @Nullable Zone[] cell = this.zoneGrid.get(ChunkMap.key(j, i));
+				if(cell == null) continue;
+
+				for(final Zone zone : cell) {
+					if(Map.isFirstCell(zone, x, y, width, height, j, i)) zone.copyCharacters(x, y, width, height, characters);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the chunk at (x ; y) has been baked (its tiles are loaded).
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return new boolean
+	 */
+	final boolean isChunkBaked(final int x, final int y) {
+		if(this.getTilemapRenderer() != null) return this.getTilemapRenderer().isChunkLoaded(x, y);
+		if(this.getChunkLoader() == null) return false;
+
+		final Chunk chunk = this.getChunkLoader().getChunk(x, y);
+
+		return chunk != null && chunk.isBaked();
+	}
+
+	/**
+	 * Notifies the TileListeners that a chunk has been baked.
+	 *
+	 * @param chunk Chunk baked
+	 */
+	final void chunkBaked(final @NotNull Chunk chunk) {
+		this.chunkBaked(chunk.getX(), chunk.getY());
+	}
+
+	/**
+	 * Notifies the TileListeners that tiles of a chunk have been explored.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 */
+	final void chunkExplored(final int x, final int y) {
+		for(final TileListener listener : this.tileListeners) {
+			listener.chunkExplored(x, y);
+		}
+	}
+
+	/**
+	 * Notifies the TileListeners that a chunk has been baked.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 */
+	final void chunkBaked(final int x, final int y) {
+		for(final TileListener listener : this.tileListeners) {
+			listener.chunkBaked(x, y);
+		}
+	}
+
+	/**
+	 * Adds an object to notify when a chunk is baked or a tile is changed.
+	 *
+	 * @param listener Listener to add
+	 */
+	final public void addTileListener(final @NotNull TileListener listener) {
+		this.tileListeners.add(listener);
+	}
+
+	/**
+	 * Removes an object notified when a chunk is baked or a tile is changed.
+	 *
+	 * @param listener Listener to remove
+	 */
+	final public void removeTileListener(final @NotNull TileListener listener) {
+		this.tileListeners.remove(listener);
+	}
+
 	/**
 	 * Returns all the tiles in a certain rectangle.
 	 * Width/Height = 1 means only 1 tile.
@@ -366,6 +745,7 @@ public class Map extends GameObject {
 	/**
 	 * Returns all the tiles (as an AABBCollider instance) in a certain rectangle.
 	 * Width/height = 1 means only 1 column/row.
+	 * Tiles of zones that aren't loaded yet are unknown, never colliders (rather than walls).
 	 *
 	 * @param x X start position (in number of tiles)
 	 * @param y Y start position (in number of tiles)
@@ -379,6 +759,8 @@ public class Map extends GameObject {
 		final ArrayList<AABBCollider> colliders = new ArrayList<>();
 		for(int i = y; i < y + height; i++) {
 			for(int j = x; j < x + width; j++) {
+				if(this.isTileUnknown(j, i)) continue; // Not loaded yet: no collision (the objects there are frozen until it is, see PhysicsEngine).
+
 				final Tile tile = this.getTileAt(j, i);
 				if(tile == null || tile.getSpeedMultiplicator() == 0 || (tile.canWalkOn() && !canWalk) || (tile.canSwimIn() && !canSwim)) { // Add collider if there might be a collision between the object and the tiles.
 					final float tileSize = Options.TILE_SIZE;
@@ -488,26 +870,76 @@ public class Map extends GameObject {
 		return speed / (width * height); // Returning the average speed.
 	}
 
+	/**
+	 * Returns where the Map's zones come from.
+	 *
+	 * @return Map.zoneSource
+	 */
+	@Contract(pure = true)
+	final @NotNull ZoneSource getZoneSource() {
+		return this.zoneSource;
+	}
+
 	/**
 	 * Returns the Map's TileSet.
 	 *
 	 * @return Map.tileSet
 	 */
 	@Contract(pure = true)
-	private @NotNull TileSet getTileSet() {
+	final @NotNull TileSet getTileSet() {
 		return this.tileSet;
 	}
 
+	/**
+	 * Returns the Map's pyramid of downsampled images (for the world map).
+	 *
+	 * @return Map.pyramid
+	 */
+	@Contract(pure = true)
+	final public @NotNull MapPyramid getPyramid() {
+		return this.pyramid;
+	}
+
+	/**
+	 * Returns the tiles explored by the hero.
+	 *
+	 * @return Map.exploration
+	 */
+	@Contract(pure = true)
+	final public @NotNull ExplorationMap getExploration() {
+		return this.exploration;
+	}
+
+	/**
+	 * Returns the Map's path finder.
+	 *
+	 * @return Map.pathFinder
+	 */
+	@Contract(pure = true)
+	final public @NotNull PathFinder getPathFinder() {
+		return this.pathFinder;
+	}
+
 	/**
 	 * Returns the Map's chunk loader.
 	 *
-	 * @return Map.chunkLoader
+	 * @return Map.chunkLoader (null if Options.TILEMAP_RENDERING)
 	 */
 	@Contract(pure = true)
-	private @NotNull ChunkLoader getChunkLoader() {
+	private @Nullable ChunkLoader getChunkLoader() {
 		return this.chunkLoader;
 	}
 
+	/**
+	 * Returns the Map's tile map renderer.
+	 *
+	 * @return Map.tilemapRenderer
+	 */
+	@Contract(pure = true)
+	private @Nullable TilemapRenderer getTilemapRenderer() {
+		return this.tilemapRenderer;
+	}
+
 	/**
 	 * Returns the Camera's position.
 	 *
@@ -0,0 +1,272 @@
+package engine.game.objects.map;
+
+import engine.rendering.texture.Texture;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Quadtree pyramid of downsampled images of the map, for the world map.
+ * Level 0 has one pixel per tile; each node of level n + 1 merges 2x2 nodes of level n,
+ * so whatever the zoom, the screen is covered by a few nodes of the matching level.
+ * Nodes are only built again when one of their chunks is baked or explored or a tile is changed, a few per frame.
+ */
+final public class MapPyramid implements TileListener {
+
+	/**
+	 * Nodes' size (in pixels).
+	 */
+	final public static int NODE_SIZE = 128;
+
+	/**
+	 * Highest level of the pyramid.
+	 */
+	final public static int MAX_LEVEL = 16;
+
+	/**
+	 * How many nodes can be built per update.
+	 */
+	final public static int NODES_PER_UPDATE = 2;
+
+	/**
+	 * Pointer to the Map.
+	 */
+	final private @NotNull Map map;
+
+	/**
+	 * Nodes of each level, by packed column and row.
+	 */
+	final private @NotNull ArrayList<HashMap<Long, PyramidNode>> levels;
+
+	/**
+	 * Nodes that need to be built again.
+	 */
+	final private @NotNull ArrayList<PyramidNode> dirtyNodes;
+
+	/**
+	 * Characters of the level 0 node being built.
+	 */
+	final private char @NotNull [] characters;
+
+	/**
+	 * Creates a new MapPyramid instance and starts listening to the Map.
+	 *
+	 * @param map Map to draw
+	 */
+	MapPyramid(final @NotNull Map map) {
+		this.map = map;
+		this.levels = new ArrayList<>();
+		for(int i = 0; i <= MapPyramid.MAX_LEVEL; i++) {
+			this.levels.add(new HashMap<>());
+		}
+		this.dirtyNodes = new ArrayList<>();
+		this.characters = new char[MapPyramid.NODE_SIZE * MapPyramid.NODE_SIZE];
+
+		map.addTileListener(this);
+	}
+
+	/**
+	 * Builds a few of the nodes that changed, lowest level first (a node is merged from its children).
+	 */
+	final public void update() {
+		for(int i = 0; i < MapPyramid.NODES_PER_UPDATE && !this.dirtyNodes.isEmpty(); i++) {
+			int lowest = 0;
+			for(int j = 1; j < this.dirtyNodes.size(); j++) {
+				if(this.dirtyNodes.get(j).getLevel() < this.dirtyNodes.get(lowest).getLevel()) lowest = j;
+			}
+
+			final PyramidNode node = this.dirtyNodes.get(lowest);
+			this.dirtyNodes.set(lowest, this.dirtyNodes.get(this.dirtyNodes.size() - 1));
+			this.dirtyNodes.remove(this.dirtyNodes.size() - 1);
+
+			if(node.getLevel() == 0) {
+				this.buildFromTiles(node);
+			} else {
+				this.buildFromChildren(node);
+			}
+			node.setDirty(false);
+			node.upload();
+		}
+	}
+
+	@Override
+	public void chunkBaked(final int x, final int y) {
+		this.setDirty(x * Chunk.SIZE, y * Chunk.SIZE, Chunk.SIZE, Chunk.SIZE);
+	}
+
+	@Override
+	public void chunkExplored(final int x, final int y) {
+		this.setDirty(x * Chunk.SIZE, y * Chunk.SIZE, Chunk.SIZE, Chunk.SIZE);
+	}
+
+	@Override
+	public void tileChanged(final int x, final int y, final char previous, final char character) {
+		this.setDirty(x, y, 1, 1);
+	}
+
+	/**
+	 * Returns the number of tiles on each side of a node.
+	 *
+	 * @param level Node's level
+	 * @return new int
+	 */
+	@Contract(pure = true)
+	public static int getNodeTiles(final int level) {
+		return MapPyramid.NODE_SIZE << level;
+	}
+
+	/**
+	 * Returns the level where a single node covers the whole map.
+	 *
+	 * @return new int
+	 */
+	final public int getTopLevel() {
+		final int size = Math.max(this.getMap().getMapWidth(), this.getMap().getMapHeight());
+
+		int level = 0;
+		while(level < MapPyramid.MAX_LEVEL && MapPyramid.getNodeTiles(level) < size) level++;
+
+		return level;
+	}
+
+	/**
+	 * Returns the level to draw when a pixel on the screen shows a certain number of tiles.
+	 *
+	 * @param tilesPerPixel Tiles per pixel (on each side)
+	 * @return new int
+	 */
+	final public int getLevel(final float tilesPerPixel) {
+		int level = 0;
+		while(level < this.getTopLevel() && (1 << (level + 1)) <= tilesPerPixel) level++;
+
+		return level;
+	}
+
+	/**
+	 * Returns the texture of a node.
+	 *
+	 * @param level Node's level
+	 * @param x Node's column
+	 * @param y Node's row
+	 * @return Texture or null if nothing of this node has been loaded yet
+	 */
+	final public @Nullable Texture getTexture(final int level, final int x, final int y) {
+		final PyramidNode node = this.levels.get(level).get(ChunkMap.key(x, y));
+
+		return node == null ? null : node.getTexture();
+	}
+
+	/**
+	 * Marks the nodes covering a rectangle (and their parents, up to the top level) as needing to be built again.
+	 * Levels above MapPyramid.getTopLevel() are never drawn, so their nodes aren't created.
+	 *
+	 * @param x Rectangle's first column (in number of tiles)
+	 * @param y Rectangle's first row (in number of tiles)
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 */
+	private void setDirty(final int x, final int y, final int width, final int height) {
+		final int topLevel = this.getTopLevel();
+
+		for(int i = y / MapPyramid.NODE_SIZE; i <= (y + height - 1) / MapPyramid.NODE_SIZE; i++) {
+			for(int j = x / MapPyramid.NODE_SIZE; j <= (x + width - 1) / MapPyramid.NODE_SIZE; j++) {
+				for(int level = 0; level <= topLevel; level++) {
+					final PyramidNode node = this.getNode(level, j >> level, i >> level);
+					if(node.isDirty()) break; // Its parents already are.
+
+					node.setDirty(true);
+					this.dirtyNodes.add(node);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a node, creating it if needed.
+	 *
+	 * @param level Node's level
+	 * @param x Node's column
+	 * @param y Node's row
+	 * @return PyramidNode
+	 */
+	private @NotNull PyramidNode getNode(final int level, final int x, final int y) {
+		final long key = ChunkMap.key(x, y);
+		PyramidNode node = this.levels.get(level).get(key);
+
+		if(node == null) {
+			node = new PyramidNode(level, x, y);
+			this.levels.get(level).put(key, node);
+		}
+
+		return node;
+	}
+
+	/**
+	 * Builds a level 0 node from the map's characters and the TileSet's palette (unexplored tiles are transparent).
+	 *
+	 * @param node Node to build
+	 */
+	private void buildFromTiles(final @NotNull PyramidNode node) {
+		this.getMap().getCharacters(node.getX() * MapPyramid.NODE_SIZE, node.getY() * MapPyramid.NODE_SIZE, MapPyramid.NODE_SIZE, MapPyramid.NODE_SIZE, this.characters);
+
+		final ExplorationMap exploration = this.getMap().getExploration();
+		final ByteBuffer pixels = node.getPixels();
+		for(int i = 0; i < this.characters.length; i++) {
+			final boolean explored = exploration.isExplored(node.getX() * MapPyramid.NODE_SIZE + i % MapPyramid.NODE_SIZE, node.getY() * MapPyramid.NODE_SIZE + i / MapPyramid.NODE_SIZE);
+			final int color = explored ? this.getMap().getTileSet().getColor(this.characters[i]) : 0;
+			pixels.put(4 * i, (byte)(color >>> 24));
+			pixels.put(4 * i + 1, (byte)(color >>> 16));
+			pixels.put(4 * i + 2, (byte)(color >>> 8));
+			pixels.put(4 * i + 3, (byte) color);
+		}
+	}
+
+	/**
+	 * Builds a node by averaging each 2x2 pixels of its 4 children (missing children are transparent).
+	 *
+	 * @param node Node to build
+	 */
+	private void buildFromChildren(final @NotNull PyramidNode node) {
+		final ByteBuffer pixels = node.getPixels();
+		final int half = MapPyramid.NODE_SIZE / 2;
+
+		for(int child = 0; child < 4; child++) {
+			final int xChild = child % 2;
+			final int yChild = child / 2;
+			final PyramidNode source = this.levels.get(node.getLevel() - 1).get(ChunkMap.key(2 * node.getX() + xChild, 2 * node.getY() + yChild));
+
+			for(int i = 0; i < half; i++) {
+				for(int j = 0; j < half; j++) {
+					final int destination = 4 * ((yChild * half + i) * MapPyramid.NODE_SIZE + xChild * half + j);
+
+					for(int channel = 0; channel < 4; channel++) {
+						if(source == null) {
+							pixels.put(destination + channel, (byte) 0);
+							continue;
+						}
+
+						final ByteBuffer from = source.getPixels();
+						final int bottomLeft = 4 * (2 * i * MapPyramid.NODE_SIZE + 2 * j) + channel;
+						final int sum = (from.get(bottomLeft) & 0xFF) + (from.get(bottomLeft + 4) & 0xFF) + (from.get(bottomLeft + 4 * MapPyramid.NODE_SIZE) & 0xFF) + (from.get(bottomLeft + 4 * MapPyramid.NODE_SIZE + 4) & 0xFF);
+						pixels.put(destination + channel, (byte)(sum / 4));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the Map drawn.
+	 *
+	 * @return MapPyramid.map
+	 */
+	@Contract(pure = true)
+	final public @NotNull Map getMap() {
+		return this.map;
+	}
+
+}
\ No newline at end of file
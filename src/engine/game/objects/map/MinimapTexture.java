@@ -0,0 +1,280 @@
+package engine.game.objects.map;
+
+import com.Options;
+import engine.math.Vector2f;
+import engine.rendering.texture.Texture;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.BufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.GL_NONE;
+
+/**
+ * Texture of the map around the camera, one pixel per tile, colored with the TileSet's palette.
+ * It wraps around (like the texture's GL_REPEAT): the chunk (x ; y) is always drawn in the slot
+ * (x mod CHUNKS ; y mod CHUNKS), so moving never redraws more than the chunks entering the area.
+ * A chunk is only drawn when it is baked or explored, when it enters the area, or pixel by pixel when a tile is changed.
+ * Tiles that haven't been explored yet (see ExplorationMap) are transparent.
+ */
+final public class MinimapTexture implements TileListener {
+
+	/**
+	 * Number of chunks on each side of the texture.
+	 */
+	final public static int CHUNKS = 32;
+
+	/**
+	 * Texture's size (in pixels = in tiles).
+	 */
+	final public static int SIZE = MinimapTexture.CHUNKS * Chunk.SIZE;
+
+	/**
+	 * How many slots can be redrawn per frame when the area moves.
+	 */
+	final public static int SLOTS_PER_FRAME = 4;
+
+	/**
+	 * Key of a slot with nothing drawn in it.
+	 */
+	final private static long EMPTY = Long.MIN_VALUE;
+
+	/**
+	 * Pointer to the Map.
+	 */
+	final private @NotNull Map map;
+
+	/**
+	 * Minimap's texture.
+	 */
+	final private @NotNull Texture texture;
+
+	/**
+	 * Packed coordinates of the chunk drawn in each slot (EMPTY if none).
+	 */
+	final private long @NotNull [] slots;
+
+	/**
+	 * Characters of the chunk being drawn.
+	 */
+	final private char @NotNull [] characters;
+
+	/**
+	 * Pixels of the chunk being drawn.
+	 */
+	final private @NotNull ByteBuffer chunkPixels;
+
+	/**
+	 * Pixel of the tile being drawn.
+	 */
+	final private @NotNull ByteBuffer tilePixel;
+
+	/**
+	 * Chunk at the center of the area (where to start looking for outdated slots).
+	 */
+	private int xCenter, yCenter;
+
+	/**
+	 * Are there slots that may need to be redrawn.
+	 */
+	private boolean outdated;
+
+	/**
+	 * Creates a new MinimapTexture instance and starts listening to the Map.
+	 *
+	 * @param map Map to draw
+	 */
+	public MinimapTexture(final @NotNull Map map) {
+		this.map = map;
+		this.texture = new Texture(MinimapTexture.SIZE, MinimapTexture.SIZE, BufferUtils.createByteBuffer(MinimapTexture.SIZE * MinimapTexture.SIZE * 4), GL_NONE);
+		this.slots = new long[MinimapTexture.CHUNKS * MinimapTexture.CHUNKS];
+		Arrays.fill(this.slots, MinimapTexture.EMPTY);
+		this.characters = new char[Chunk.SIZE * Chunk.SIZE];
+		this.chunkPixels = BufferUtils.createByteBuffer(Chunk.SIZE * Chunk.SIZE * 4);
+		this.tilePixel = BufferUtils.createByteBuffer(4);
+		this.xCenter = Integer.MIN_VALUE;
+		this.yCenter = Integer.MIN_VALUE;
+		this.outdated = false;
+
+		map.addTileListener(this);
+	}
+
+	/**
+	 * Moves the area to a new center, then redraws (a few of) the slots holding chunks that aren't in the area anymore.
+	 *
+	 * @param center Area's center (in openGL pos)
+	 */
+	final public void update(final @NotNull Vector2f center) {
+		final int x = (int) Math.floor(center.getX() / Chunk.LENGTH);
+		final int y = (int) Math.floor(center.getY() / Chunk.LENGTH);
+		if(x != this.xCenter || y != this.yCenter) {
+			this.xCenter = x;
+			this.yCenter = y;
+			this.outdated = true;
+		}
+
+		if(!this.outdated) return;
+
+		// Closest chunks first, so what's around the center is right as soon as possible.
+		int redrawn = 0;
+		for(int radius = 0; radius < MinimapTexture.CHUNKS / 2 && redrawn < MinimapTexture.SLOTS_PER_FRAME; radius++) {
+			for(int i = -radius; i < radius && redrawn < MinimapTexture.SLOTS_PER_FRAME; i++) {
+				if(this.refreshSlot(this.xCenter + i, this.yCenter - radius)) redrawn++;
+				if(this.refreshSlot(this.xCenter + radius, this.yCenter + i)) redrawn++;
+				if(this.refreshSlot(this.xCenter - i, this.yCenter + radius)) redrawn++;
+				if(this.refreshSlot(this.xCenter - radius, this.yCenter - i)) redrawn++;
+			}
+			if(radius == 0 && this.refreshSlot(this.xCenter, this.yCenter)) redrawn++;
+		}
+
+		if(redrawn < MinimapTexture.SLOTS_PER_FRAME) this.outdated = false; // Went through the whole area.
+	}
+
+	@Override
+	public void chunkBaked(final int x, final int y) {
+		if(Math.abs(x - this.xCenter) >= MinimapTexture.CHUNKS / 2 || Math.abs(y - this.yCenter) >= MinimapTexture.CHUNKS / 2) return; // Outside the area.
+
+		this.drawChunk(x, y);
+	}
+
+	@Override
+	public void chunkExplored(final int x, final int y) {
+		if(this.slots[MinimapTexture.getSlot(x, y)] != ChunkMap.key(x, y)) return; // Drawn with the explored tiles once it is baked.
+
+		this.drawChunk(x, y);
+	}
+
+	@Override
+	public void tileChanged(final int x, final int y, final char previous, final char character) {
+		final int chunkX = x / Chunk.SIZE;
+		final int chunkY = y / Chunk.SIZE;
+		if(this.slots[MinimapTexture.getSlot(chunkX, chunkY)] != ChunkMap.key(chunkX, chunkY)) return; // Drawn once the chunk is baked again.
+
+		this.tilePixel.clear();
+		this.putColor(this.tilePixel, this.getMap().getExploration().isExplored(x, y) ? this.getMap().getTileSet().getColor(character) : 0);
+		this.tilePixel.flip();
+		this.getTexture().setPixels(Math.floorMod(x, MinimapTexture.SIZE), Math.floorMod(y, MinimapTexture.SIZE), 1, 1, this.tilePixel);
+	}
+
+	/**
+	 * Makes sure the slot of a chunk in the area holds this chunk (or nothing if it isn't baked yet).
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return true if the slot had to be redrawn
+	 */
+	private boolean refreshSlot(final int x, final int y) {
+		final long key = ChunkMap.key(x, y);
+		final int slot = MinimapTexture.getSlot(x, y);
+		final boolean baked = this.getMap().isChunkBaked(x, y);
+
+		if(this.slots[slot] == key || (!baked && this.slots[slot] == MinimapTexture.EMPTY)) return false;
+
+		if(baked) {
+			this.drawChunk(x, y);
+		} else {
+			this.clearSlot(slot);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Draws a chunk in its slot.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 */
+	private void drawChunk(final int x, final int y) {
+		this.getMap().getCharacters(x * Chunk.SIZE, y * Chunk.SIZE, Chunk.SIZE, Chunk.SIZE, this.characters);
+
+		final ExplorationMap exploration = this.getMap().getExploration();
+		this.chunkPixels.clear();
+		for(int i = 0; i < this.characters.length; i++) {
+			final boolean explored = exploration.isExplored(x * Chunk.SIZE + i % Chunk.SIZE, y * Chunk.SIZE + i / Chunk.SIZE);
+			this.putColor(this.chunkPixels, explored ? this.getMap().getTileSet().getColor(this.characters[i]) : 0);
+		}
+		this.chunkPixels.flip();
+
+		final int slot = MinimapTexture.getSlot(x, y);
+		this.getTexture().setPixels(slot % MinimapTexture.CHUNKS * Chunk.SIZE, slot / MinimapTexture.CHUNKS * Chunk.SIZE, Chunk.SIZE, Chunk.SIZE, this.chunkPixels);
+		this.slots[slot] = ChunkMap.key(x, y);
+	}
+
+	/**
+	 * Clears a slot (transparent).
+	 *
+	 * @param slot Slot to clear
+	 */
+	private void clearSlot(final int slot) {
+		this.chunkPixels.clear();
+		while(this.chunkPixels.hasRemaining()) this.chunkPixels.put((byte) 0);
+		this.chunkPixels.flip();
+
+		this.getTexture().setPixels(slot % MinimapTexture.CHUNKS * Chunk.SIZE, slot / MinimapTexture.CHUNKS * Chunk.SIZE, Chunk.SIZE, Chunk.SIZE, this.chunkPixels);
+		this.slots[slot] = MinimapTexture.EMPTY;
+	}
+
+	/**
+	 * Writes a color (RGBA bytes).
+	 *
+	 * @param buffer Buffer to write in
+	 * @param color Color (0xRRGGBBAA)
+	 */
+	private void putColor(final @NotNull ByteBuffer buffer, final int color) {
+		buffer.put((byte)(color >>> 24)).put((byte)(color >>> 16)).put((byte)(color >>> 8)).put((byte) color);
+	}
+
+	/**
+	 * Returns the slot a chunk is drawn in.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return new int
+	 */
+	@Contract(pure = true)
+	private static int getSlot(final int x, final int y) {
+		return Math.floorMod(y, MinimapTexture.CHUNKS) * MinimapTexture.CHUNKS + Math.floorMod(x, MinimapTexture.CHUNKS);
+	}
+
+	/**
+	 * Returns the texture coordinate of a position (the texture repeats, so it can be outside [0 ; 1]).
+	 *
+	 * @param position Position (in openGL pos)
+	 * @return new float
+	 */
+	@Contract(pure = true)
+	public static float toTextureCoordinate(final float position) {
+		return position / (Options.TILE_SIZE * MinimapTexture.SIZE);
+	}
+
+	/**
+	 * Stops listening to the Map.
+	 */
+	final public void destroy() {
+		this.getMap().removeTileListener(this);
+	}
+
+	/**
+	 * Returns the Map drawn.
+	 *
+	 * @return MinimapTexture.map
+	 */
+	@Contract(pure = true)
+	final public @NotNull Map getMap() {
+		return this.map;
+	}
+
+	/**
+	 * Returns the minimap's texture.
+	 *
+	 * @return MinimapTexture.texture
+	 */
+	@Contract(pure = true)
+	final public @NotNull Texture getTexture() {
+		return this.texture;
+	}
+
+}
\ No newline at end of file
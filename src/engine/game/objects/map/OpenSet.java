@@ -0,0 +1,173 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+
+/**
+ * Open set of the path searches: a binary min-heap of integer ids, with decrease-key.
+ * It is kept and cleared between searches, so searching doesn't allocate anything once it is big enough.
+ */
+final class OpenSet {
+
+	/**
+	 * Ids in the heap.
+	 */
+	private int[] heap;
+
+	/**
+	 * Priority of each id.
+	 */
+	private float[] priorities;
+
+	/**
+	 * Position of each id in the heap (-1 if it isn't in it).
+	 */
+	private int[] positions;
+
+	/**
+	 * Number of ids in the heap.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new OpenSet instance.
+	 *
+	 * @param capacity Number of ids (from 0 to capacity - 1)
+	 */
+	OpenSet(final int capacity) {
+		this.heap = new int[capacity];
+		this.priorities = new float[capacity];
+		this.positions = new int[capacity];
+		Arrays.fill(this.positions, -1);
+		this.size = 0;
+	}
+
+	/**
+	 * Makes sure ids from 0 to capacity - 1 can be pushed.
+	 *
+	 * @param capacity Number of ids
+	 */
+	final void ensureCapacity(final int capacity) {
+		if(capacity <= this.positions.length) return;
+
+		final int length = Math.max(capacity, 2 * this.positions.length);
+		this.heap = Arrays.copyOf(this.heap, length);
+		this.priorities = Arrays.copyOf(this.priorities, length);
+		final int previous = this.positions.length;
+		this.positions = Arrays.copyOf(this.positions, length);
+		Arrays.fill(this.positions, previous, length, -1);
+	}
+
+	/**
+	 * Empties the set.
+	 */
+	final void clear() {
+		for(int i = 0; i < this.size; i++) {
+			this.positions[this.heap[i]] = -1;
+		}
+		this.size = 0;
+	}
+
+	/**
+	 * Returns whether the set is empty.
+	 *
+	 * @return OpenSet.size == 0
+	 */
+	@Contract(pure = true)
+	final boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Adds an id, or lowers its priority if it already is in the set.
+	 *
+	 * @param id Id to add
+	 * @param priority Id's priority (lowest first)
+	 */
+	final void push(final int id, final float priority) {
+		if(this.positions[id] == -1) {
+			this.heap[this.size] = id;
+			this.positions[id] = this.size;
+			this.size++;
+		} else if(priority >= this.priorities[id]) {
+			return;
+		}
+
+		this.priorities[id] = priority;
+		this.siftUp(this.positions[id]);
+	}
+
+	/**
+	 * Returns the lowest priority in the set.
+	 *
+	 * @return new float
+	 */
+	@Contract(pure = true)
+	final float peekPriority() {
+		return this.priorities[this.heap[0]];
+	}
+
+	/**
+	 * Removes the id of lowest priority.
+	 *
+	 * @return Id removed
+	 */
+	final int pop() {
+		final int id = this.heap[0];
+		this.positions[id] = -1;
+		this.size--;
+
+		if(this.size > 0) {
+			this.heap[0] = this.heap[this.size];
+			this.positions[this.heap[0]] = 0;
+			this.siftDown(0);
+		}
+
+		return id;
+	}
+
+	/**
+	 * Moves an id up the heap until its parent has a lower priority.
+	 *
+	 * @param position Id's position
+	 */
+	private void siftUp(int position) {
+		final int id = this.heap[position];
+
+		while(position > 0) {
+			final int parent = (position - 1) / 2;
+			if(this.priorities[this.heap[parent]] <= this.priorities[id]) break;
+
+			this.heap[position] = this.heap[parent];
+			this.positions[this.heap[position]] = position;
+			position = parent;
+		}
+
+		this.heap[position] = id;
+		this.positions[id] = position;
+	}
+
+	/**
+	 * Moves an id down the heap until its children have higher priorities.
+	 *
+	 * @param position Id's position
+	 */
+	private void siftDown(int position) {
+		final int id = this.heap[position];
+
+		while(2 * position + 1 < this.size) {
+			int child = 2 * position + 1;
+			if(child + 1 < this.size && this.priorities[this.heap[child + 1]] < this.priorities[this.heap[child]]) child++;
+			if(this.priorities[this.heap[child]] >= this.priorities[id]) break;
+
+			this.heap[position] = this.heap[child];
+			this.positions[this.heap[position]] = position;
+			position = child;
+		}
+
+		this.heap[position] = id;
+		this.positions[id] = position;
+	}
+
+}
\ No newline at end of file
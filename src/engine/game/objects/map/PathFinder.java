@@ -0,0 +1,540 @@
+package engine.game.objects.map;
+
+import com.Options;
+import engine.math.Vector2f;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Hierarchical pathfinding (HPA*) on the Map's tiles, 4 directions.
+ * The map is cut in chunks, each with a small graph of its entrances (see ChunkGraph), built when first needed.
+ * A path is first searched between these entrances, then refined chunk by chunk with a local A*.
+ * Entering a tile costs the inverse of its speed multiplicator, so faster tiles are preferred.
+ * Graphs and abstract paths are cached and dropped, chunk by chunk, when tiles change.
+ * An abstract path is cached by its start and goal chunks, so moving agents reuse it as long as they and their
+ * goal stay in the same chunks (the path goes through the same entrances, only the ends are refined again).
+ * The OpenSet, the LocalSearch and the scratch arrays are kept between searches, but a search still allocates its
+ * results (the abstract path's arrays and the returned tiles) and boxes the chunk keys of the graphs' maps.
+ */
+final public class PathFinder implements TileListener {
+
+	/**
+	 * Movement on the tiles that can be walked on.
+	 */
+	final public static int WALK = 1;
+
+	/**
+	 * Movement in the tiles that can be swum in.
+	 */
+	final public static int SWIM = 2;
+
+	/**
+	 * Maximum number of nodes expanded by a search before giving up (the goal may be unreachable).
+	 */
+	final public static int MAX_EXPANDED_NODES = 20000;
+
+	/**
+	 * Maximum number of abstract paths cached.
+	 */
+	final public static int MAX_CACHED_PATHS = 256;
+
+	/**
+	 * Pointer to the Map.
+	 */
+	final private @NotNull Map map;
+
+	/**
+	 * Chunks' graphs for each movement, by packed chunk.
+	 */
+	final private @NotNull ArrayList<HashMap<Long, ChunkGraph>> graphs;
+
+	/**
+	 * Graphs built before all their tiles were loaded (built again at the next search).
+	 */
+	final private @NotNull ArrayList<ChunkGraph> incompleteGraphs;
+
+	/**
+	 * Abstract paths found between two different chunks, by start and goal chunks, least recently used first.
+	 */
+	final private @NotNull LinkedHashMap<AbstractPath, AbstractPath> paths;
+
+	/**
+	 * Key used to look the abstract paths up.
+	 */
+	final private @NotNull AbstractPath probe;
+
+	/**
+	 * Search inside a chunk.
+	 */
+	final private @NotNull LocalSearch localSearch;
+
+	/**
+	 * Open set of the abstract search.
+	 */
+	final private @NotNull OpenSet openSet;
+
+	/**
+	 * Graphs used by the current search (a node's id is its graph's index * ChunkGraph.MAX_NODES + its index).
+	 */
+	final private @NotNull ArrayList<ChunkGraph> searchGraphs;
+
+	/**
+	 * Current search's id.
+	 */
+	private int searchId;
+
+	/**
+	 * Distance from the goal of each node of the goal's chunk.
+	 */
+	final private float @NotNull [] goalDistances;
+
+	/**
+	 * Costs of a chunk and the tiles around it.
+	 */
+	final private float @NotNull [] area;
+
+	/**
+	 * Characters of a chunk and the tiles around it.
+	 */
+	final private char @NotNull [] characters;
+
+	/**
+	 * Tiles of the path being refined (packed x and y).
+	 */
+	private int @NotNull [] tiles;
+
+	/**
+	 * Number of tiles of the path being refined.
+	 */
+	private int tileCount;
+
+	/**
+	 * Cost of the cheapest tile of the TileSet (for the heuristic).
+	 */
+	private float minCost;
+
+	/**
+	 * Creates a new PathFinder instance and starts listening to the Map.
+	 *
+	 * @param map Map to search
+	 */
+	PathFinder(final @NotNull Map map) {
+		this.map = map;
+		this.graphs = new ArrayList<>();
+		for(int i = 0; i <= (PathFinder.WALK | PathFinder.SWIM); i++) {
+			this.graphs.add(new HashMap<>());
+		}
+		this.incompleteGraphs = new ArrayList<>();
+		this.paths = new LinkedHashMap<AbstractPath, AbstractPath>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final java.util.Map.Entry<AbstractPath, AbstractPath> eldest) {
+				return this.size() > PathFinder.MAX_CACHED_PATHS;
+			}
+		};
+		this.probe = new AbstractPath(0, 0, 0, new long[0], new long[0]);
+		this.localSearch = new LocalSearch();
+		this.openSet = new OpenSet(16 * ChunkGraph.MAX_NODES);
+		this.searchGraphs = new ArrayList<>();
+		this.searchId = 0;
+		this.goalDistances = new float[ChunkGraph.MAX_NODES];
+		this.area = new float[(Chunk.SIZE + 2) * (Chunk.SIZE + 2)];
+		this.characters = new char[(Chunk.SIZE + 2) * (Chunk.SIZE + 2)];
+		this.tiles = new int[64];
+		this.tileCount = 0;
+		this.minCost = -1;
+
+		map.addTileListener(this);
+	}
+
+	/**
+	 * Finds a path between two positions.
+	 *
+	 * @param from Start position (in openGL pos)
+	 * @param to Goal position (in openGL pos)
+	 * @param movement PathFinder.WALK, PathFinder.SWIM or both
+	 * @return Centers of the tiles to go through (in openGL pos), from the first step to the goal, or null if there's no path
+	 */
+	final public @Nullable ArrayList<Vector2f> findPath(final @NotNull Vector2f from, final @NotNull Vector2f to, final int movement) {
+		final int[] path = this.findPath((int) Math.floor(from.getX() / Options.TILE_SIZE), (int) Math.floor(from.getY() / Options.TILE_SIZE), (int) Math.floor(to.getX() / Options.TILE_SIZE), (int) Math.floor(to.getY() / Options.TILE_SIZE), movement);
+		if(path == null) return null;
+
+		final ArrayList<Vector2f> positions = new ArrayList<>(path.length / 2);
+		for(int i = 0; i < path.length; i += 2) {
+			positions.add(new Vector2f((path[i] + 0.5f) * Options.TILE_SIZE, (path[i + 1] + 0.5f) * Options.TILE_SIZE));
+		}
+
+		return positions;
+	}
+
+	/**
+	 * Finds a path between two tiles.
+	 *
+	 * @param xStart Start's column
+	 * @param yStart Start's row
+	 * @param xGoal Goal's column
+	 * @param yGoal Goal's row
+	 * @param movement PathFinder.WALK, PathFinder.SWIM or both
+	 * @return Columns and rows (x0, y0, x1, y1...) of the tiles to go through, from the first step to the goal, or null if there's no path
+	 */
+	final public int @Nullable [] findPath(final int xStart, final int yStart, final int xGoal, final int yGoal, final int movement) {
+		assert movement > 0 && movement <= (PathFinder.WALK | PathFinder.SWIM) : "Error: Unknown movement " + movement + ".";
+
+		this.dropIncompleteGraphs();
+
+		final ChunkGraph startGraph = this.getGraph(Math.floorDiv(xStart, Chunk.SIZE), Math.floorDiv(yStart, Chunk.SIZE), movement);
+		final ChunkGraph goalGraph = this.getGraph(Math.floorDiv(xGoal, Chunk.SIZE), Math.floorDiv(yGoal, Chunk.SIZE), movement);
+		final int start = PathFinder.getLocalTile(xStart, yStart);
+		final int goal = PathFinder.getLocalTile(xGoal, yGoal);
+		if(startGraph.getCosts()[start] == 0 || goalGraph.getCosts()[goal] == 0) return null;
+
+		// Inside a single chunk the search is short already, and a path found for some tiles may not suit others.
+		final boolean cached = startGraph != goalGraph;
+		if(cached) {
+			this.probe.set(ChunkMap.key(startGraph.getX(), startGraph.getY()), ChunkMap.key(goalGraph.getX(), goalGraph.getY()), movement);
+			final AbstractPath abstractPath = this.paths.get(this.probe);
+			if(abstractPath != null) {
+				final int[] path = this.refine(xStart, yStart, xGoal, yGoal, abstractPath, movement);
+				if(path != null) return path; // Otherwise these tiles can't reach its entrances: searched again.
+			}
+		}
+
+		final AbstractPath abstractPath = this.search(startGraph, start, goalGraph, goal, movement);
+		if(abstractPath == null) return null;
+
+		if(cached && this.incompleteGraphs.isEmpty()) this.paths.put(abstractPath, abstractPath);
+		return this.refine(xStart, yStart, xGoal, yGoal, abstractPath, movement);
+	}
+
+	/**
+	 * Searches the path between the chunks' nodes (A*).
+	 *
+	 * @param startGraph Start's graph
+	 * @param start Start's tile in its chunk
+	 * @param goalGraph Goal's graph
+	 * @param goal Goal's tile in its chunk
+	 * @param movement Movement
+	 * @return null if there's no path
+	 */
+	private @Nullable AbstractPath search(final @NotNull ChunkGraph startGraph, final int start, final @NotNull ChunkGraph goalGraph, final int goal, final int movement) {
+		this.searchId++;
+		this.searchGraphs.clear();
+		this.openSet.clear();
+
+		final int xGoal = goalGraph.getX() * Chunk.SIZE + goal % Chunk.SIZE;
+		final int yGoal = goalGraph.getY() * Chunk.SIZE + goal / Chunk.SIZE;
+
+		// Distances are the same both ways, so the goal's chunk is searched from the goal.
+		this.localSearch.distancesFrom(goalGraph.getCosts(), goal);
+		for(int i = 0; i < goalGraph.getNodeCount(); i++) {
+			this.goalDistances[i] = this.localSearch.getDistance(goalGraph.getNodeTile(i));
+		}
+
+		float best = startGraph == goalGraph ? this.localSearch.getDistance(start) : Float.POSITIVE_INFINITY;
+		int bestId = -1;
+
+		this.localSearch.distancesFrom(startGraph.getCosts(), start);
+		for(int i = 0; i < startGraph.getNodeCount(); i++) {
+			final float distance = this.localSearch.getDistance(startGraph.getNodeTile(i));
+			if(distance != Float.POSITIVE_INFINITY) this.relax(startGraph, i, distance, -1, xGoal, yGoal);
+		}
+
+		int expanded = 0;
+		while(!this.openSet.isEmpty() && this.openSet.peekPriority() < best) {
+			if(++expanded > PathFinder.MAX_EXPANDED_NODES) break;
+
+			final int id = this.openSet.pop();
+			final ChunkGraph graph = this.searchGraphs.get(id / ChunkGraph.MAX_NODES);
+			final int node = id % ChunkGraph.MAX_NODES;
+			final float distance = graph.distances[node];
+			graph.closed[node] = true;
+
+			if(graph == goalGraph && distance + this.goalDistances[node] < best) {
+				best = distance + this.goalDistances[node];
+				bestId = id;
+			}
+
+			for(int i = 0; i < graph.getNodeCount(); i++) {
+				final float edge = graph.getEdge(node, i);
+				if(i != node && edge != Float.POSITIVE_INFINITY) this.relax(graph, i, distance + edge, id, xGoal, yGoal);
+			}
+
+			// Crossing to the neighbours' nodes.
+			final int tile = graph.getNodeTile(node);
+			final int x = graph.getX() * Chunk.SIZE + tile % Chunk.SIZE;
+			final int y = graph.getY() * Chunk.SIZE + tile / Chunk.SIZE;
+			final int exits = graph.getNodeExits(node);
+			if((exits & ChunkGraph.EAST) != 0) this.cross(graph, tile, distance, id, x + 1, y, movement, xGoal, yGoal);
+			if((exits & ChunkGraph.WEST) != 0) this.cross(graph, tile, distance, id, x - 1, y, movement, xGoal, yGoal);
+			if((exits & ChunkGraph.NORTH) != 0) this.cross(graph, tile, distance, id, x, y + 1, movement, xGoal, yGoal);
+			if((exits & ChunkGraph.SOUTH) != 0) this.cross(graph, tile, distance, id, x, y - 1, movement, xGoal, yGoal);
+		}
+
+		if(best == Float.POSITIVE_INFINITY) return null;
+
+		int count = 0;
+		for(int id = bestId; id != -1; id = this.searchGraphs.get(id / ChunkGraph.MAX_NODES).parents[id % ChunkGraph.MAX_NODES]) {
+			count++;
+		}
+
+		final long[] nodes = new long[count];
+		final long[] chunks = new long[count + 2];
+		chunks[0] = ChunkMap.key(startGraph.getX(), startGraph.getY());
+		chunks[1] = ChunkMap.key(goalGraph.getX(), goalGraph.getY());
+		for(int id = bestId, i = count - 1; id != -1; i--) {
+			final ChunkGraph graph = this.searchGraphs.get(id / ChunkGraph.MAX_NODES);
+			final int tile = graph.getNodeTile(id % ChunkGraph.MAX_NODES);
+			nodes[i] = ChunkMap.key(graph.getX() * Chunk.SIZE + tile % Chunk.SIZE, graph.getY() * Chunk.SIZE + tile / Chunk.SIZE);
+			chunks[i + 2] = ChunkMap.key(graph.getX(), graph.getY());
+			id = graph.parents[id % ChunkGraph.MAX_NODES];
+		}
+
+		return new AbstractPath(chunks[0], chunks[1], movement, nodes, chunks);
+	}
+
+	/**
+	 * Reaches the node of a neighbouring chunk from a node on the border.
+	 *
+	 * @param graph Node's graph
+	 * @param tile Node's tile
+	 * @param distance Node's distance from the start
+	 * @param id Node's id
+	 * @param x Column of the tile across the border
+	 * @param y Row of the tile across the border
+	 * @param movement Movement
+	 * @param xGoal Goal's column
+	 * @param yGoal Goal's row
+	 */
+	private void cross(final @NotNull ChunkGraph graph, final int tile, final float distance, final int id, final int x, final int y, final int movement, final int xGoal, final int yGoal) {
+		final ChunkGraph neighbour = this.getGraph(Math.floorDiv(x, Chunk.SIZE), Math.floorDiv(y, Chunk.SIZE), movement);
+		final int neighbourTile = PathFinder.getLocalTile(x, y);
+		final int node = neighbour.getTileNode(neighbourTile);
+		if(node == -1) return; // Only if the neighbour was built before a tile changed.
+
+		this.relax(neighbour, node, distance + (graph.getCosts()[tile] + neighbour.getCosts()[neighbourTile]) / 2, id, xGoal, yGoal);
+	}
+
+	/**
+	 * Reaches a node if it is shorter.
+	 *
+	 * @param graph Node's graph
+	 * @param node Node
+	 * @param distance Node's distance from the start
+	 * @param parent Id of the node it is reached from (-1 = the start)
+	 * @param xGoal Goal's column
+	 * @param yGoal Goal's row
+	 */
+	private void relax(final @NotNull ChunkGraph graph, final int node, final float distance, final int parent, final int xGoal, final int yGoal) {
+		if(graph.searchId != this.searchId) {
+			graph.searchId = this.searchId;
+			graph.searchIndex = this.searchGraphs.size();
+			this.searchGraphs.add(graph);
+			Arrays.fill(graph.distances, Float.POSITIVE_INFINITY);
+			Arrays.fill(graph.closed, false);
+			this.openSet.ensureCapacity(this.searchGraphs.size() * ChunkGraph.MAX_NODES);
+		}
+
+		if(graph.closed[node] || distance >= graph.distances[node]) return;
+
+		graph.distances[node] = distance;
+		graph.parents[node] = parent;
+
+		final int tile = graph.getNodeTile(node);
+		final int x = graph.getX() * Chunk.SIZE + tile % Chunk.SIZE;
+		final int y = graph.getY() * Chunk.SIZE + tile / Chunk.SIZE;
+		this.openSet.push(graph.searchIndex * ChunkGraph.MAX_NODES + node, distance + this.getMinCost() * (Math.abs(x - xGoal) + Math.abs(y - yGoal)));
+	}
+
+	/**
+	 * Turns an abstract path into tiles, with a local search between each node of the same chunk.
+	 *
+	 * @param xStart Start's column
+	 * @param yStart Start's row
+	 * @param xGoal Goal's column
+	 * @param yGoal Goal's row
+	 * @param abstractPath Abstract path
+	 * @param movement Movement
+	 * @return Columns and rows of the tiles, or null if the abstract path can't be followed anymore
+	 */
+	private int @Nullable [] refine(final int xStart, final int yStart, final int xGoal, final int yGoal, final @NotNull AbstractPath abstractPath, final int movement) {
+		this.tileCount = 0;
+
+		int x = xStart;
+		int y = yStart;
+		final long[] nodes = abstractPath.getNodes();
+		for(int i = 0; i <= nodes.length; i++) {
+			final int xNext = i < nodes.length ? (int)(nodes[i] >> 32) : xGoal;
+			final int yNext = i < nodes.length ? (int) nodes[i] : yGoal;
+
+			if(Math.floorDiv(x, Chunk.SIZE) != Math.floorDiv(xNext, Chunk.SIZE) || Math.floorDiv(y, Chunk.SIZE) != Math.floorDiv(yNext, Chunk.SIZE)) {
+				this.addTile(xNext, yNext); // Crossing a border.
+			} else if(x != xNext || y != yNext) {
+				final ChunkGraph graph = this.getGraph(Math.floorDiv(x, Chunk.SIZE), Math.floorDiv(y, Chunk.SIZE), movement);
+				if(!this.localSearch.findPath(graph.getCosts(), PathFinder.getLocalTile(x, y), PathFinder.getLocalTile(xNext, yNext))) {
+					this.paths.remove(abstractPath);
+					return null;
+				}
+
+				for(int j = 0; j < this.localSearch.getPathLength(); j++) {
+					final int tile = this.localSearch.getPathTile(j);
+					this.addTile(graph.getX() * Chunk.SIZE + tile % Chunk.SIZE, graph.getY() * Chunk.SIZE + tile / Chunk.SIZE);
+				}
+			}
+
+			x = xNext;
+			y = yNext;
+		}
+
+		return Arrays.copyOf(this.tiles, 2 * this.tileCount);
+	}
+
+	/**
+	 * Adds a tile to the path being refined.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 */
+	private void addTile(final int x, final int y) {
+		if(2 * this.tileCount + 2 > this.tiles.length) this.tiles = Arrays.copyOf(this.tiles, 2 * this.tiles.length);
+
+		this.tiles[2 * this.tileCount] = x;
+		this.tiles[2 * this.tileCount + 1] = y;
+		this.tileCount++;
+	}
+
+	/**
+	 * Returns the graph of a chunk, building it if needed.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @param movement Movement
+	 * @return ChunkGraph
+	 */
+	private @NotNull ChunkGraph getGraph(final int x, final int y, final int movement) {
+		final long key = ChunkMap.key(x, y);
+		ChunkGraph graph = this.graphs.get(movement).get(key);
+		if(graph != null) return graph;
+
+		final int side = Chunk.SIZE + 2;
+		final boolean complete = this.getMap().isRegionLoaded(x * Chunk.SIZE - 1, y * Chunk.SIZE - 1, side, side);
+		this.getMap().getCharacters(x * Chunk.SIZE - 1, y * Chunk.SIZE - 1, side, side, this.characters);
+		for(int i = 0; i < this.characters.length; i++) {
+			this.area[i] = PathFinder.getCost(this.getMap().getTileSet().getTile(this.characters[i]), movement);
+		}
+
+		graph = new ChunkGraph(x, y, this.area, complete, this.localSearch);
+		this.graphs.get(movement).put(key, graph);
+		if(!complete) this.incompleteGraphs.add(graph);
+
+		return graph;
+	}
+
+	/**
+	 * Forgets the graphs built before all their tiles were loaded.
+	 */
+	private void dropIncompleteGraphs() {
+		for(int i = 0; i < this.incompleteGraphs.size(); i++) {
+			final ChunkGraph graph = this.incompleteGraphs.get(i);
+			for(final HashMap<Long, ChunkGraph> graphs : this.graphs) {
+				graphs.remove(ChunkMap.key(graph.getX(), graph.getY()), graph);
+			}
+		}
+		this.incompleteGraphs.clear();
+	}
+
+	/**
+	 * Returns the cost of entering a tile.
+	 *
+	 * @param tile Tile (null = not loaded)
+	 * @param movement Movement
+	 * @return 0 if the tile can't be entered
+	 */
+	@Contract(pure = true)
+	static float getCost(final @Nullable Tile tile, final int movement) {
+		if(tile == null) return 0;
+		if(!((movement & PathFinder.WALK) != 0 && tile.canWalkOn()) && !((movement & PathFinder.SWIM) != 0 && tile.canSwimIn())) return 0;
+
+		return 1.0f / Math.abs(tile.getSpeedMultiplicator());
+	}
+
+	/**
+	 * Returns the cost of the cheapest tile of the TileSet.
+	 *
+	 * @return PathFinder.minCost
+	 */
+	private float getMinCost() {
+		if(this.minCost < 0) {
+			final TileSet tileSet = this.getMap().getTileSet();
+
+			this.minCost = Float.POSITIVE_INFINITY;
+			for(int i = 1; i <= tileSet.getTileCount(); i++) {
+				final float speed = Math.abs(tileSet.getTileByIndex(i).getSpeedMultiplicator());
+				if(speed > 0) this.minCost = Math.min(this.minCost, 1.0f / speed);
+			}
+			if(this.minCost == Float.POSITIVE_INFINITY) this.minCost = 0;
+		}
+
+		return this.minCost;
+	}
+
+	@Override
+	public void tileChanged(final int x, final int y, final char previous, final char character) {
+		final int chunkX = Math.floorDiv(x, Chunk.SIZE);
+		final int chunkY = Math.floorDiv(y, Chunk.SIZE);
+		final int tile = PathFinder.getLocalTile(x, y);
+
+		// The neighbours' entrances depend on the tiles of the border.
+		this.invalidate(chunkX, chunkY);
+		if(tile % Chunk.SIZE == 0) this.invalidate(chunkX - 1, chunkY);
+		if(tile % Chunk.SIZE == Chunk.SIZE - 1) this.invalidate(chunkX + 1, chunkY);
+		if(tile / Chunk.SIZE == 0) this.invalidate(chunkX, chunkY - 1);
+		if(tile / Chunk.SIZE == Chunk.SIZE - 1) this.invalidate(chunkX, chunkY + 1);
+	}
+
+	/**
+	 * Forgets a chunk's graphs and the abstract paths going through it.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 */
+	private void invalidate(final int x, final int y) {
+		final long key = ChunkMap.key(x, y);
+		for(final HashMap<Long, ChunkGraph> graphs : this.graphs) {
+			graphs.remove(key);
+		}
+
+		final Iterator<AbstractPath> iterator = this.paths.keySet().iterator();
+		while(iterator.hasNext()) {
+			if(iterator.next().crosses(key)) iterator.remove();
+		}
+	}
+
+	/**
+	 * Returns the index of a tile in its chunk.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @return new int
+	 */
+	@Contract(pure = true)
+	private static int getLocalTile(final int x, final int y) {
+		return Math.floorMod(y, Chunk.SIZE) * Chunk.SIZE + Math.floorMod(x, Chunk.SIZE);
+	}
+
+	/**
+	 * Returns the Map searched.
+	 *
+	 * @return PathFinder.map
+	 */
+	@Contract(pure = true)
+	final public @NotNull Map getMap() {
+		return this.map;
+	}
+
+}
\ No newline at end of file
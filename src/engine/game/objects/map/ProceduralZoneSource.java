@@ -0,0 +1,208 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+
+/**
+ * Zones generated from a seed, declared on demand as a grid around the region the map needs.
+ * Each tile only depends on the seed and its position, so chunk-sized rectangles are generated in parallel
+ * and a map generated twice with the same seed is the same.
+ */
+public class ProceduralZoneSource implements ZoneSource {
+
+	/**
+	 * Number of noise octaves summed.
+	 */
+	final public static int OCTAVES = 4;
+
+	/**
+	 * Size of the first octave's features (in number of tiles).
+	 */
+	final public static float FEATURE_SIZE = 32.0f;
+
+	/**
+	 * Generator's seed.
+	 */
+	final private long seed;
+
+	/**
+	 * Zones' width and height (in number of tiles).
+	 */
+	final private int zoneWidth, zoneHeight;
+
+	/**
+	 * Upper bounds of the noise (between 0 and 1) for each character but the last one.
+	 */
+	final private float @NotNull [] thresholds;
+
+	/**
+	 * Characters from the lowest to the highest noise.
+	 */
+	final private char @NotNull [] characters;
+
+	/**
+	 * Zones already declared (packed column and row of the zone grid).
+	 */
+	final private @NotNull HashSet<Long> declaredZones;
+
+	/**
+	 * Creates a new ProceduralZoneSource instance.
+	 *
+	 * @param seed Generator's seed
+	 * @param zoneWidth Zones' width (in number of tiles)
+	 * @param zoneHeight Zones' height (in number of tiles)
+	 * @param thresholds Upper bounds of the noise (between 0 and 1) for each character but the last one
+	 * @param characters Characters from the lowest to the highest noise
+	 */
+	public ProceduralZoneSource(final long seed, final int zoneWidth, final int zoneHeight, final float @NotNull [] thresholds, final char @NotNull [] characters) {
+		assert zoneWidth > 0 && zoneHeight > 0 : "Error: Procedural zones must not be empty.";
+		assert thresholds.length == characters.length - 1 : "Error: There must be one threshold less than characters.";
+
+		this.seed = seed;
+		this.zoneWidth = zoneWidth;
+		this.zoneHeight = zoneHeight;
+		this.thresholds = thresholds;
+		this.characters = characters;
+		this.declaredZones = new HashSet<>();
+	}
+
+	@Override
+	public void declareZones(final @NotNull Map map, final int xStart, final int yStart, final int xEnd, final int yEnd) {
+		for(int x = Math.max(0, xStart) / this.getZoneWidth(); x <= Math.max(0, xEnd) / this.getZoneWidth(); x++) {
+			for(int y = Math.max(0, yStart) / this.getZoneHeight(); y <= Math.max(0, yEnd) / this.getZoneHeight(); y++) {
+				if(this.declaredZones.add(ChunkMap.key(x, y))) {
+					map.declareZone("procedural_" + x + "_" + y, x * this.getZoneWidth(), y * this.getZoneHeight(), this.getZoneWidth(), this.getZoneHeight());
+				}
+			}
+		}
+	}
+
+	@Override
+	public void loadTiles(final @NotNull String zoneName, final int xPos, final int yPos, final char @NotNull [][] characters, final int x, final int y, final int width, final int height) {
+		for(int i = y; i < y + height; i++) {
+			for(int j = x; j < x + width; j++) {
+				characters[i][j] = this.getCharacter(this.getNoise(xPos + j, yPos + i));
+			}
+		}
+	}
+
+	@Override
+	@Contract(pure = true)
+	public int getLoadingTileSize() {
+		return Chunk.SIZE;
+	}
+
+	/**
+	 * Returns the character corresponding to a noise value.
+	 *
+	 * @param noise Noise (between 0 and 1)
+	 * @return ProceduralZoneSource.characters[i]
+	 */
+	@Contract(pure = true)
+	private char getCharacter(final float noise) {
+		for(int i = 0; i < this.thresholds.length; i++) {
+			if(noise < this.thresholds[i]) return this.characters[i];
+		}
+
+		return this.characters[this.characters.length - 1];
+	}
+
+	/**
+	 * Returns the fractal value noise at a tile.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @return new float between 0 and 1
+	 */
+	@Contract(pure = true)
+	private float getNoise(final int x, final int y) {
+		float noise = 0;
+		float amplitude = 0.5f;
+		float frequency = 1.0f / ProceduralZoneSource.FEATURE_SIZE;
+		float total = 0;
+
+		for(int octave = 0; octave < ProceduralZoneSource.OCTAVES; octave++) {
+			noise += amplitude * this.getValueNoise(x * frequency, y * frequency, octave);
+			total += amplitude;
+			amplitude *= 0.5f;
+			frequency *= 2.0f;
+		}
+
+		return noise / total;
+	}
+
+	/**
+	 * Returns the value noise of an octave at a point: random values on an integer lattice, smoothly interpolated.
+	 *
+	 * @param x X position (in lattice cells)
+	 * @param y Y position (in lattice cells)
+	 * @param octave Octave (each one has its own lattice)
+	 * @return new float between 0 and 1
+	 */
+	@Contract(pure = true)
+	private float getValueNoise(final float x, final float y, final int octave) {
+		final int x0 = (int) Math.floor(x);
+		final int y0 = (int) Math.floor(y);
+		final float tx = ProceduralZoneSource.smoothStep(x - x0);
+		final float ty = ProceduralZoneSource.smoothStep(y - y0);
+
+		final float bottom = this.getLatticeValue(x0, y0, octave) + (this.getLatticeValue(x0 + 1, y0, octave) - this.getLatticeValue(x0, y0, octave)) * tx;
+		final float top = this.getLatticeValue(x0, y0 + 1, octave) + (this.getLatticeValue(x0 + 1, y0 + 1, octave) - this.getLatticeValue(x0, y0 + 1, octave)) * tx;
+
+		return bottom + (top - bottom) * ty;
+	}
+
+	/**
+	 * Returns the random value of a lattice point.
+	 *
+	 * @param x Point's column
+	 * @param y Point's row
+	 * @param octave Octave
+	 * @return new float between 0 and 1
+	 */
+	@Contract(pure = true)
+	private float getLatticeValue(final int x, final int y, final int octave) {
+		long h = this.seed ^ (ChunkMap.key(x, y) * 0x9E3779B97F4A7C15L) ^ (octave * 0xC2B2AE3D27D4EB4FL);
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+
+		return (h >>> 40) / (float)(1 << 24);
+	}
+
+	/**
+	 * Eases an interpolation factor so the noise has no visible lattice.
+	 *
+	 * @param t Factor between 0 and 1
+	 * @return new float
+	 */
+	@Contract(pure = true)
+	private static float smoothStep(final float t) {
+		return t * t * (3 - 2 * t);
+	}
+
+	/**
+	 * Returns the zones' width.
+	 *
+	 * @return ProceduralZoneSource.zoneWidth
+	 */
+	@Contract(pure = true)
+	final public int getZoneWidth() {
+		return this.zoneWidth;
+	}
+
+	/**
+	 * Returns the zones' height.
+	 *
+	 * @return ProceduralZoneSource.zoneHeight
+	 */
+	@Contract(pure = true)
+	final public int getZoneHeight() {
+		return this.zoneHeight;
+	}
+
+}
\ No newline at end of file
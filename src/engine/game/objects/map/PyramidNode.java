@@ -0,0 +1,142 @@
+package engine.game.objects.map;
+
+import engine.rendering.texture.Texture;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.BufferUtils;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL11.GL_NONE;
+
+/**
+ * Node of a MapPyramid: a square image of MapPyramid.NODE_SIZE pixels covering MapPyramid.getNodeTiles(level) tiles.
+ * Its pixels are kept in memory so the parent can be merged without reading textures back.
+ */
+final class PyramidNode {
+
+	/**
+	 * Node's level (0 = one pixel per tile).
+	 */
+	final private int level;
+
+	/**
+	 * Node's column and row in its level.
+	 */
+	final private int x, y;
+
+	/**
+	 * Node's pixels (RGBA bytes, row 0 at the bottom).
+	 */
+	final private @NotNull ByteBuffer pixels;
+
+	/**
+	 * Node's texture (null until the node is built).
+	 */
+	private @Nullable Texture texture;
+
+	/**
+	 * Does the node need to be built again.
+	 */
+	private boolean dirty;
+
+	/**
+	 * Creates a new PyramidNode instance.
+	 *
+	 * @param level Node's level
+	 * @param x Node's column
+	 * @param y Node's row
+	 */
+	PyramidNode(final int level, final int x, final int y) {
+		this.level = level;
+		this.x = x;
+		this.y = y;
+		this.pixels = BufferUtils.createByteBuffer(MapPyramid.NODE_SIZE * MapPyramid.NODE_SIZE * 4);
+		this.texture = null;
+		this.dirty = false;
+	}
+
+	/**
+	 * Uploads the node's pixels.
+	 */
+	final void upload() {
+		this.pixels.rewind();
+
+		if(this.texture == null) {
+			this.texture = new Texture(MapPyramid.NODE_SIZE, MapPyramid.NODE_SIZE, this.pixels, GL_NONE);
+		} else {
+			this.texture.setPixels(0, 0, MapPyramid.NODE_SIZE, MapPyramid.NODE_SIZE, this.pixels);
+		}
+	}
+
+	/**
+	 * Returns the node's level.
+	 *
+	 * @return PyramidNode.level
+	 */
+	@Contract(pure = true)
+	final int getLevel() {
+		return this.level;
+	}
+
+	/**
+	 * Returns the node's column.
+	 *
+	 * @return PyramidNode.x
+	 */
+	@Contract(pure = true)
+	final int getX() {
+		return this.x;
+	}
+
+	/**
+	 * Returns the node's row.
+	 *
+	 * @return PyramidNode.y
+	 */
+	@Contract(pure = true)
+	final int getY() {
+		return this.y;
+	}
+
+	/**
+	 * Returns the node's pixels.
+	 *
+	 * @return PyramidNode.pixels
+	 */
+	@Contract(pure = true)
+	final @NotNull ByteBuffer getPixels() {
+		return this.pixels;
+	}
+
+	/**
+	 * Returns the node's texture.
+	 *
+	 * @return PyramidNode.texture
+	 */
+	@Contract(pure = true)
+	final @Nullable Texture getTexture() {
+		return this.texture;
+	}
+
+	/**
+	 * Returns whether the node needs to be built again.
+	 *
+	 * @return PyramidNode.dirty
+	 */
+	@Contract(pure = true)
+	final boolean isDirty() {
+		return this.dirty;
+	}
+
+	/**
+	 * Sets whether the node needs to be built again.
+	 *
+	 * @param dirty true = needs to be built
+	 */
+	final void setDirty(final boolean dirty) {
+		this.dirty = dirty;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package engine.game.objects.map;
+
+/**
+ * Notified whenever a chunk of a Map is baked or explored, or a tile is changed at runtime (Map.setTileAt),
+ * so structures derived from the tiles can update just what changed.
+ * Every notification does nothing by default: listeners only override the ones they need.
+ */
+public interface TileListener {
+
+	/**
+	 * Called (on the game thread) after a chunk has been baked (its tiles are loaded).
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 */
+	default public void chunkBaked(final int x, final int y) {}
+
+	/**
+	 * Called (on the game thread) after tiles of a chunk have been explored for the first time (see ExplorationMap).
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 */
+	default public void chunkExplored(final int x, final int y) {}
+
+	/**
+	 * Called (on the game thread) after a tile has been changed.
+	 *
+	 * @param x Tile's column
+	 * @param y Tile's row
+	 * @param previous Tile's previous character
+	 * @param character Tile's new character
+	 */
+	default public void tileChanged(final int x, final int y, final char previous, final char character) {}
+
+}
\ No newline at end of file
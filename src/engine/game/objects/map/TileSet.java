@@ -1,10 +1,18 @@
 package engine.game.objects.map;
 
+import com.Options;
 import engine.rendering.texture.Material;
 import engine.rendering.texture.Texture;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 
 public class TileSet {
@@ -19,6 +27,26 @@ public class TileSet {
 	 */
 	final private @NotNull HashMap<Character, Tile> tiles;
 
+	/**
+	 * Characters in the order they were defined (a tile's index is its position + 1, 0 = no tile).
+	 */
+	final private @NotNull ArrayList<Character> characters;
+
+	/**
+	 * Index of every character.
+	 */
+	final private @NotNull HashMap<Character, Integer> indices;
+
+	/**
+	 * Minimap's palette: RGBA color (0xRRGGBBAA) of every character.
+	 */
+	final private @NotNull HashMap<Character, Integer> colors;
+
+	/**
+	 * TileSet's version: changes whenever a tile is (re)defined or one of the images changes.
+	 */
+	private int version;
+
 	/**
 	 * Creates a new TileSet instance.
 	 *
@@ -27,6 +55,10 @@ public class TileSet {
 	public TileSet(final String name) {
 		this.folder = "/tileSets/" + name;
 		this.tiles = new HashMap<>();
+		this.colors = new HashMap<>();
+		this.characters = new ArrayList<>();
+		this.indices = new HashMap<>();
+		this.version = this.folder.hashCode();
 	}
 
 	/**
@@ -39,6 +71,17 @@ public class TileSet {
 		return this.folder;
 	}
 
+	/**
+	 * Returns the TileSet's version.
+	 * Anything derived from the tiles' look (e.g. cached chunks) is only valid for one version.
+	 *
+	 * @return TileSet.version
+	 */
+	@Contract(pure = true)
+	final int getVersion() {
+		return this.version;
+	}
+
 	/**
 	 * Returns the TileSet's HashMap.
 	 *
@@ -59,6 +102,78 @@ public class TileSet {
 		return this.getTiles().get(character);
 	}
 
+	/**
+	 * Returns the index of a character's tile (the order it was defined in, from 1).
+	 *
+	 * @param character Tile's character
+	 * @return new int, 0 if there is no such tile
+	 */
+	final int getIndex(final char character) {
+		final Integer index = this.indices.get(character);
+
+		return index == null ? 0 : index;
+	}
+
+	/**
+	 * Returns the Tile at an index.
+	 *
+	 * @param index Tile's index (from 1 to TileSet.getTileCount())
+	 * @return Tile
+	 */
+	final Tile getTileByIndex(final int index) {
+		return this.getTile(this.characters.get(index - 1));
+	}
+
+	/**
+	 * Returns the number of tiles defined.
+	 *
+	 * @return TileSet.characters.size()
+	 */
+	@Contract(pure = true)
+	final int getTileCount() {
+		return this.characters.size();
+	}
+
+	/**
+	 * Returns the color a character is drawn with on the minimap.
+	 * Unless set with TileSet.setTileColor, it is the average color of the tile's texture (computed once).
+	 *
+	 * @param character Tile's character
+	 * @return RGBA color (0xRRGGBBAA), 0 (transparent) if there is no such tile
+	 */
+	final public int getColor(final char character) {
+		final Integer color = this.colors.get(character);
+		if(color != null) return color;
+
+		final Tile tile = this.getTile(character);
+		if(tile == null) return 0;
+
+		final ByteBuffer pixels = tile.getRenderedComponent().getMaterial().getTexture().getPixels();
+		long r = 0, g = 0, b = 0;
+		final int count = Math.max(1, pixels.remaining() / 4);
+		while(pixels.remaining() >= 4) {
+			r += pixels.get() & 0xFF;
+			g += pixels.get() & 0xFF;
+			b += pixels.get() & 0xFF;
+			pixels.get(); // Alpha: the minimap is opaque.
+		}
+
+		final int average = (int)(r / count) << 24 | (int)(g / count) << 16 | (int)(b / count) << 8 | 0xFF;
+		this.colors.put(character, average);
+
+		return average;
+	}
+
+	/**
+	 * Sets the color a character is drawn with on the minimap.
+	 *
+	 * @param character Tile's character
+	 * @param color RGBA color (0xRRGGBBAA)
+	 */
+	final protected void setTileColor(final char character, final int color) {
+		this.colors.put(character, color);
+	}
+
 	/**
 	 * Sets a new entry to what character corresponds to what name.
 	 *
@@ -68,6 +183,31 @@ public class TileSet {
 	 */
 	final protected void setTile(final char character, final @NotNull String name, final float movementSpeed) {
 		this.tiles.put(character, new Tile(name, movementSpeed, new Material(new Texture(this.getFolderPath() + "/" + name))));
+		this.colors.remove(character);
+		if(!this.indices.containsKey(character)) {
+			this.characters.add(character);
+			this.indices.put(character, this.characters.size());
+		}
+
+		this.version = 31 * (31 * (31 * this.version + character) + name.hashCode()) + TileSet.getImageHash(this.getFolderPath() + "/" + name);
+	}
+
+	/**
+	 * Returns a hash of a texture's image file, so that editing it invalidates what was derived from it.
+	 *
+	 * @param name Texture's name (as given to the Texture constructor)
+	 * @return new int, 0 if the image can't be read (the Texture reports it)
+	 */
+	private static int getImageHash(final @NotNull String name) {
+		@Nullable URL url = support.File.getURL("/media/texture" + name + ".png");
+		if(url == null) url = support.File.getURL("/media/texture" + name + "_" + Options.LANGUAGE + ".png");
+		if(url == null) return 0;
+
+		try(final InputStream stream = url.openStream()) {
+			return Arrays.hashCode(stream.readAllBytes());
+		} catch(final IOException e) {
+			return 0;
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,291 @@
+package engine.game.objects.map;
+
+import com.Options;
+import engine.game.components.GameComponent;
+import engine.game.objects.GameObject;
+import engine.math.Vector2f;
+import engine.rendering.Mesh;
+import engine.rendering.shader.Shader;
+import engine.rendering.shader.TilemapShader;
+import engine.rendering.texture.Texture;
+import engine.rendering.texture.TextureResource;
+import engine.util.Window;
+import engine.util.profiling.Profiler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.BufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static org.lwjgl.opengl.GL11.GL_NEAREST;
+import static org.lwjgl.opengl.GL11.GL_NONE;
+import static org.lwjgl.opengl.GL11.GL_RGBA;
+import static org.lwjgl.opengl.GL11.GL_RGBA8;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_MAG_FILTER;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_MIN_FILTER;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_S;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_T;
+import static org.lwjgl.opengl.GL11.GL_UNPACK_ALIGNMENT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.glBindTexture;
+import static org.lwjgl.opengl.GL11.glGenTextures;
+import static org.lwjgl.opengl.GL11.glPixelStorei;
+import static org.lwjgl.opengl.GL11.glTexImage2D;
+import static org.lwjgl.opengl.GL11.glTexParameteri;
+import static org.lwjgl.opengl.GL11.glTexSubImage2D;
+import static org.lwjgl.opengl.GL12.GL_CLAMP_TO_EDGE;
+import static org.lwjgl.opengl.GL12.glTexImage3D;
+import static org.lwjgl.opengl.GL12.glTexSubImage3D;
+import static org.lwjgl.opengl.GL30.GL_R8UI;
+import static org.lwjgl.opengl.GL30.GL_RED_INTEGER;
+import static org.lwjgl.opengl.GL30.GL_TEXTURE_2D_ARRAY;
+
+/**
+ * Renders the map without baking chunks (selected with Options.TILEMAP_RENDERING).
+ * The tiles' indices of the region on the screen are uploaded as a small integer texture,
+ * and the whole region is drawn with one quad whose fragment shader looks each tile up in a texture array of the TileSet.
+ * Nothing depends on where the camera was, so teleports cost the same as any other frame and memory doesn't grow.
+ */
+final class TilemapRenderer extends GameObject implements TileListener {
+
+	/**
+	 * Pointer to the Map.
+	 */
+	final private @NotNull Map map;
+
+	/**
+	 * Region's width and height (in number of tiles): the screen plus one tile on each side.
+	 */
+	final private int regionWidth, regionHeight;
+
+	/**
+	 * Region's quad.
+	 */
+	final private @NotNull Mesh mesh;
+
+	/**
+	 * Texture of the tiles' indices (replaced when they're uploaded while a RenderSnapshot still draws it).
+	 */
+	private @NotNull TextureResource tileIds;
+
+	/**
+	 * Id of the tile set's texture array (0 until it is created).
+	 */
+	private int tileSet;
+
+	/**
+	 * Region's characters.
+	 */
+	final private char @NotNull [] characters;
+
+	/**
+	 * Region's tiles' indices.
+	 */
+	final private @NotNull ByteBuffer indices;
+
+	/**
+	 * Region's first column and row.
+	 */
+	private int xOrigin, yOrigin;
+
+	/**
+	 * Do the indices need to be uploaded again.
+	 */
+	private boolean dirty;
+
+	/**
+	 * Were all the region's zones loaded at the last upload.
+	 */
+	private boolean complete;
+
+	/**
+	 * Chunks of the resident window whose tiles have been shown (packed column and row, see ChunkMap.key()).
+	 */
+	final private @NotNull HashSet<Long> loadedChunks;
+
+	/**
+	 * Creates a new TilemapRenderer instance.
+	 *
+	 * @param map Map to render
+	 */
+	TilemapRenderer(final @NotNull Map map) {
+		super("Tilemap " + map.getMapName(), (float) Math.ceil(2.0f * Window.getRatio() / Options.TILE_SIZE + 2) * Options.TILE_SIZE, (float) Math.ceil(2.0f / Options.TILE_SIZE + 2) * Options.TILE_SIZE);
+
+		this.map = map;
+		this.regionWidth = (int) Math.ceil(2.0f * Window.getRatio() / Options.TILE_SIZE) + 2;
+		this.regionHeight = (int) Math.ceil(2.0f / Options.TILE_SIZE) + 2;
+		this.mesh = Mesh.createWithInvertedTexture(this.regionWidth * Options.TILE_SIZE, this.regionHeight * Options.TILE_SIZE);
+		this.characters = new char[this.regionWidth * this.regionHeight];
+		this.indices = BufferUtils.createByteBuffer(this.regionWidth * this.regionHeight);
+		this.xOrigin = Integer.MIN_VALUE;
+		this.yOrigin = Integer.MIN_VALUE;
+		this.dirty = true;
+		this.complete = false;
+		this.loadedChunks = new HashSet<>();
+		this.tileSet = 0;
+		this.tileIds = this.createTileIds();
+
+		map.addTileListener(this);
+	}
+
+	/**
+	 * Creates the texture of the tiles' indices.
+	 *
+	 * @return new TextureResource
+	 */
+	private @NotNull TextureResource createTileIds() {
+		final int id = glGenTextures();
+		glBindTexture(GL_TEXTURE_2D, id);
+		glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+		glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+		glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST); // Integer textures can't be filtered.
+		glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+		glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+		glTexImage2D(GL_TEXTURE_2D, 0, GL_R8UI, this.regionWidth, this.regionHeight, 0, GL_RED_INTEGER, GL_UNSIGNED_BYTE, this.indices);
+		glPixelStorei(GL_UNPACK_ALIGNMENT, 4);
+
+		return new TextureResource(id, this.regionWidth, this.regionHeight, GL_NONE);
+	}
+
+	@Override
+	public void update(final double delta) {
+		Profiler.startProfileTimer("Update-Tilemap");
+		final Vector2f cameraPosition = this.getMap().getCameraPosition();
+
+		// Procedural maps only grow as the camera explores them.
+		this.getMap().declareZonesIn(cameraPosition.getX() - Window.getRatio(), cameraPosition.getX() + Window.getRatio(), cameraPosition.getY() - 1, cameraPosition.getY() + 1);
+
+		final int x = (int) Math.floor((cameraPosition.getX() - Window.getRatio()) / Options.TILE_SIZE);
+		final int y = (int) Math.floor((cameraPosition.getY() - 1) / Options.TILE_SIZE);
+		if(x != this.xOrigin || y != this.yOrigin) {
+			this.xOrigin = x;
+			this.yOrigin = y;
+			this.setPosition(new Vector2f(x * Options.TILE_SIZE, y * Options.TILE_SIZE));
+			this.dirty = true;
+		}
+
+		if(this.dirty || !this.complete) this.upload();
+
+		super.update(delta);
+		Profiler.stopProfileTimer("Update-Tilemap");
+	}
+
+	@Override
+	public void render(final Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
+		if(this.getCoreEngine() == null) return;
+		if(this.tileSet == 0) this.createTileSet();
+
+		final TilemapShader tilemapShader = TilemapShader.getInstance();
+		tilemapShader.setRenderingEngine(this.getCoreEngine().getRenderingEngine());
+		tilemapShader.draw(this.getTransform(), this.tileIds, this.tileSet, this.regionWidth, this.regionHeight, this.mesh);
+	}
+
+	@Override
+	public void tileChanged(final int x, final int y, final char previous, final char character) {
+		if(x >= this.xOrigin && y >= this.yOrigin && x < this.xOrigin + this.regionWidth && y < this.yOrigin + this.regionHeight) {
+			this.dirty = true;
+		}
+	}
+
+	/**
+	 * Uploads the region's tiles' indices, and tells the TileListeners about the chunks that got loaded.
+	 * The chunks leaving the resident window (the region's chunks and one more around them) are forgotten.
+	 */
+	private void upload() {
+		this.complete = this.getMap().isRegionLoaded(this.xOrigin, this.yOrigin, this.regionWidth, this.regionHeight); // Starts loading the zones otherwise.
+		this.getMap().getCharacters(this.xOrigin, this.yOrigin, this.regionWidth, this.regionHeight, this.characters);
+
+		for(int i = 0; i < this.characters.length; i++) {
+			this.indices.put(i, (byte) this.getMap().getTileSet().getIndex(this.characters[i]));
+		}
+
+		if(this.tileIds.isCaptured()) { // The RenderSnapshots keep drawing the previous region.
+			this.tileIds.retire();
+			this.tileIds = this.createTileIds();
+		}
+		glBindTexture(GL_TEXTURE_2D, this.tileIds.getID());
+		glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+		glTexSubImage2D(GL_TEXTURE_2D, 0, 0, 0, this.regionWidth, this.regionHeight, GL_RED_INTEGER, GL_UNSIGNED_BYTE, this.indices);
+		glPixelStorei(GL_UNPACK_ALIGNMENT, 4);
+		this.dirty = false;
+
+		// There are no baked chunks here: a chunk counts as baked once its tiles have been shown.
+		final int xStart = Math.max(0, this.xOrigin) / Chunk.SIZE;
+		final int xEnd = Math.max(0, this.xOrigin + this.regionWidth - 1) / Chunk.SIZE;
+		final int yStart = Math.max(0, this.yOrigin) / Chunk.SIZE;
+		final int yEnd = Math.max(0, this.yOrigin + this.regionHeight - 1) / Chunk.SIZE;
+		for(int i = yStart; i <= yEnd; i++) {
+			for(int j = xStart; j <= xEnd; j++) {
+				if(!this.loadedChunks.contains(ChunkMap.key(j, i)) && this.getMap().isRegionLoaded(j * Chunk.SIZE, i * Chunk.SIZE, Chunk.SIZE, Chunk.SIZE)) {
+					this.loadedChunks.add(ChunkMap.key(j, i));
+					this.getMap().chunkBaked(j, i);
+				}
+			}
+		}
+
+		this.loadedChunks.removeIf(key -> {
+			final int x = (int) (key >> 32);
+			final int y = (int) (long) key;
+			return x < xStart - 1 || x > xEnd + 1 || y < yStart - 1 || y > yEnd + 1;
+		});
+	}
+
+	/**
+	 * Creates the tile set's texture array: layer i is the texture of the tile of index i + 1.
+	 * Every tile's texture must have the size of the first one.
+	 */
+	private void createTileSet() {
+		final TileSet tileSet = this.getMap().getTileSet();
+		if(tileSet.getTileCount() == 0) return;
+
+		final Texture first = tileSet.getTileByIndex(1).getRenderedComponent().getMaterial().getTexture();
+		final int width = first.getWidth();
+		final int height = first.getHeight();
+
+		this.tileSet = glGenTextures();
+		glBindTexture(GL_TEXTURE_2D_ARRAY, this.tileSet);
+		glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+		glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+		glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+		glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+		glTexImage3D(GL_TEXTURE_2D_ARRAY, 0, GL_RGBA8, width, height, tileSet.getTileCount(), 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+
+		for(int i = 1; i <= tileSet.getTileCount(); i++) {
+			final Texture texture = tileSet.getTileByIndex(i).getRenderedComponent().getMaterial().getTexture();
+			if(texture.getWidth() != width || texture.getHeight() != height) {
+				System.err.println("Error: Tile " + i + " of " + tileSet.getFolderPath() + " is " + texture.getWidth() + "x" + texture.getHeight() + "px, the tile map needs " + width + "x" + height + "px.");
+				continue;
+			}
+
+			final ByteBuffer pixels = texture.getPixels();
+			glBindTexture(GL_TEXTURE_2D_ARRAY, this.tileSet);
+			glTexSubImage3D(GL_TEXTURE_2D_ARRAY, 0, 0, 0, i - 1, width, height, 1, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+		}
+	}
+
+	/**
+	 * Returns whether the tiles of a chunk have been shown.
+	 *
+	 * @param x Chunk's column
+	 * @param y Chunk's row
+	 * @return new boolean
+	 */
+	final boolean isChunkLoaded(final int x, final int y) {
+		return this.loadedChunks.contains(ChunkMap.key(x, y));
+	}
+
+	/**
+	 * Returns the Map rendered.
+	 *
+	 * @return TilemapRenderer.map
+	 */
+	@Contract(pure = true)
+	private @NotNull Map getMap() {
+		return this.map;
+	}
+
+}
\ No newline at end of file
@@ -1,16 +1,32 @@
 package engine.game.objects.map;
 
 import com.Options;
+import engine.events.EventBus;
 import engine.game.objects.GameObject;
 import engine.math.Vector2f;
 import engine.util.Time;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class Zone extends GameObject {
 
+	/**
+	 * Worker threads filling the zones' characters (from the ZoneSource).
+	 */
+	final private static ExecutorService LOADERS = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+		final Thread thread = new Thread(runnable, "Zone loader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	static {
+		EventBus.subscribe(ZoneLoadedEvent.class, event -> event.getZone().loaded = true);
+	}
+
 	/**
 	 * Zone's name.
 	 */
@@ -22,9 +38,24 @@ class Zone extends GameObject {
 	final private int xPos, yPos;
 
 	/**
-	 * Zone's characters (each character correspond to a tile).
+	 * Zone's width and height (in number of tiles).
 	 */
-	final private @NotNull ArrayList<ArrayList<Character>> characters;
+	final private int tileWidth, tileHeight;
+
+	/**
+	 * Zone's characters (each character correspond to a tile), as characters[row][column] with row 0 at the bottom.
+	 */
+	final private char @NotNull [][] characters;
+
+	/**
+	 * Number of rectangles still being filled by the worker threads.
+	 */
+	final private @NotNull AtomicInteger tasksLeft;
+
+	/**
+	 * Have all the characters been filled (set when the ZoneLoadedEvent is dispatched).
+	 */
+	private volatile boolean loaded;
 
 	/**
 	 * Pointer to the map.
@@ -47,22 +78,59 @@ class Zone extends GameObject {
 		this.zoneName = name;
 		this.xPos = xPos;
 		this.yPos = yPos;
-		this.characters = new ArrayList<>();
+		this.tileWidth = width;
+		this.tileHeight = height;
+		this.characters = new char[height][width];
+		this.tasksLeft = new AtomicInteger();
+		this.loaded = false;
 		this.map = map;
 		this.setPosition(new Vector2f(Options.TILE_SIZE * xPos, Options.TILE_SIZE * yPos));
 	}
 
+	/**
+	 * Starts loading the zone: the ZoneSource fills it on the worker threads,
+	 * in rectangles of ZoneSource.getLoadingTileSize() tiles (or all at once).
+	 * The zone reads as empty until every rectangle has been filled.
+	 *
+	 * @return this
+	 */
 	@Override
 	public Zone init() {
 		final long startTime = Time.getNanoTime();
+		final ZoneSource source = this.map.getZoneSource();
+		final int size = source.getLoadingTileSize() > 0 ? source.getLoadingTileSize() : Math.max(1, Math.max(this.tileWidth, this.tileHeight));
+
+		final int columns = (this.tileWidth + size - 1) / size;
+		final int rows = (this.tileHeight + size - 1) / size;
+		this.tasksLeft.set(columns * rows);
+		if(columns * rows == 0) { // An empty zone has nothing to load.
+			EventBus.post(new ZoneLoadedEvent(this));
+			return this;
+		}
 
-		final ArrayList<ArrayList<Character>> characters1 = support.File.getCharactersFromTextFile("/media/map/" + this.map.getMapName() + "/" + this.getZoneName());
-
-		for(int i = characters1.size() - 1; i >= 0; i--) { // Reversing the y axis since 0 is at the bottom.
-			this.characters.add(characters1.get(i));
+		for(int i = 0; i < rows; i++) {
+			for(int j = 0; j < columns; j++) {
+				final int x = j * size;
+				final int y = i * size;
+				final int width = Math.min(size, this.tileWidth - x);
+				final int height = Math.min(size, this.tileHeight - y);
+
+				Zone.LOADERS.execute(() -> {
+					try {
+						source.loadTiles(this.getZoneName(), this.xPos, this.yPos, this.characters, x, y, width, height);
+					} catch(final RuntimeException e) {
+						System.err.println("Error: Couldn't load the tiles (" + x + ";" + y + ") of " + this.getName());
+						e.printStackTrace();
+					}
+
+					if(this.tasksLeft.decrementAndGet() == 0) {
+						EventBus.post(new ZoneLoadedEvent(this));
+						if(Options.DEBUG) System.out.println(this.getName() + " has been loaded in " + (Time.getNanoTime() - startTime) * Time.NANO_TO_MILLI + "ms.");
+					}
+				});
+			}
 		}
 
-		if(Options.DEBUG) System.out.println(this.getName() + " has been loaded in " + (Time.getNanoTime() - startTime) * Time.NANO_TO_MILLI + "ms.");
 		return this;
 	}
 
@@ -76,19 +144,94 @@ class Zone extends GameObject {
 		return this.zoneName;
 	}
 
+	/**
+	 * Returns whether all the zone's characters have been filled.
+	 *
+	 * @return Zone.loaded
+	 */
+	@Contract(pure = true)
+	final boolean isLoaded() {
+		return this.loaded;
+	}
+
+	/**
+	 * Returns the zone's first column in the map.
+	 *
+	 * @return Zone.xPos
+	 */
+	@Contract(pure = true)
+	final int getTileX() {
+		return this.xPos;
+	}
+
+	/**
+	 * Returns the zone's first row in the map.
+	 *
+	 * @return Zone.yPos
+	 */
+	@Contract(pure = true)
+	final int getTileY() {
+		return this.yPos;
+	}
+
+	/**
+	 * Returns whether the zone intersects a rectangle.
+	 *
+	 * @param x Rectangle's first column (in the map)
+	 * @param y Rectangle's first row (in the map)
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 * @return new boolean
+	 */
+	@Contract(pure = true)
+	final boolean intersects(final int x, final int y, final int width, final int height) {
+		return x < this.xPos + this.tileWidth && x + width > this.xPos && y < this.yPos + this.tileHeight && y + height > this.yPos;
+	}
+
 	/**
 	 * Returns the character at (x;y) corresponding to the tile.
 	 *
 	 * @param x X position (in the map)
 	 * @param y Y position (in the map)
-	 * @return Zone.characters.get(y).get(x) or ' ' if out of bound
+	 * @return Zone.characters[y][x] or ' ' if out of bound or not loaded yet
 	 */
 	final protected char getCharacterAt(final int x, final int y) {
-		try {
-			return this.characters.get(y - this.yPos).get(x - this.xPos);
-		} catch(final IndexOutOfBoundsException e) {
-			return ' ';
+		if(!this.isLoaded() || x < this.xPos || y < this.yPos || x >= this.xPos + this.tileWidth || y >= this.yPos + this.tileHeight) return ' ';
+
+		return this.characters[y - this.yPos][x - this.xPos];
+	}
+
+	/**
+	 * Copies the zone's characters that are in a rectangle.
+	 *
+	 * @param x Rectangle's first column (in the map)
+	 * @param y Rectangle's first row (in the map)
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 * @param characters Rectangle's characters, as characters[row * width + column]
+	 */
+	final void copyCharacters(final int x, final int y, final int width, final int height, final char @NotNull [] characters) {
+		final int xStart = Math.max(x, this.xPos);
+		final int xEnd = Math.min(x + width, this.xPos + this.tileWidth);
+		if(!this.isLoaded() || xStart >= xEnd) return;
+
+		for(int i = Math.max(y, this.yPos); i < Math.min(y + height, this.yPos + this.tileHeight); i++) {
+			System.arraycopy(this.characters[i - this.yPos], xStart - this.xPos, characters, (i - y) * width + xStart - x, xEnd - xStart);
 		}
 	}
 
+	/**
+	 * Changes the character at (x;y).
+	 * Only on the game thread, once the zone is loaded.
+	 *
+	 * @param x X position (in the map)
+	 * @param y Y position (in the map)
+	 * @param character Character to set
+	 */
+	final void setCharacterAt(final int x, final int y, final char character) {
+		assert this.isLoaded() && this.intersects(x, y, 1, 1) : "Error: Tile (" + x + ";" + y + ") can't be set in " + this.getName();
+
+		this.characters[y - this.yPos][x - this.xPos] = character;
+	}
+
 }
\ No newline at end of file
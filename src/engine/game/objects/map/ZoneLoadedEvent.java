@@ -0,0 +1,50 @@
+package engine.game.objects.map;
+
+import engine.events.Event;
+import engine.events.EventBus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Posted by the zone loaders once all the characters of a Zone have been filled.
+ * The Zone is marked as loaded when it is dispatched, at the start of a tick: a zone never appears halfway
+ * through an update.
+ */
+final class ZoneLoadedEvent implements Event {
+
+	/**
+	 * Zone loaded.
+	 */
+	final private @NotNull Zone zone;
+
+	/**
+	 * Creates a new ZoneLoadedEvent instance.
+	 *
+	 * @param zone Zone loaded
+	 */
+	ZoneLoadedEvent(final @NotNull Zone zone) {
+		this.zone = zone;
+	}
+
+	@Override
+	@Contract(pure = true)
+	public int getPhase() {
+		return EventBus.PHASE_TICK_START;
+	}
+
+	/**
+	 * Returns the Zone loaded.
+	 *
+	 * @return ZoneLoadedEvent.zone
+	 */
+	@Contract(pure = true)
+	@NotNull Zone getZone() {
+		return this.zone;
+	}
+
+	@Override
+	public @NotNull String toString() {
+		return "ZoneLoadedEvent(" + this.zone.getName() + ")";
+	}
+
+}
\ No newline at end of file
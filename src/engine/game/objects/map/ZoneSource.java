@@ -0,0 +1,47 @@
+package engine.game.objects.map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Where a Map's zones come from.
+ * A source first declares the zones (name, position, dimensions) around the region the map needs,
+ * then fills their characters when they are loaded.
+ */
+public interface ZoneSource {
+
+	/**
+	 * Declares (with Map.declareZone) the zones that cover a region, if they have not been declared yet.
+	 * Always called on the game thread.
+	 *
+	 * @param map Map to declare the zones in
+	 * @param xStart Region's first column (in number of tiles)
+	 * @param yStart Region's first row (in number of tiles)
+	 * @param xEnd Region's last column (in number of tiles)
+	 * @param yEnd Region's last row (in number of tiles)
+	 */
+	abstract public void declareZones(final @NotNull Map map, final int xStart, final int yStart, final int xEnd, final int yEnd);
+
+	/**
+	 * Fills the characters of a rectangle of a zone.
+	 * Called on a worker thread; rectangles of the same zone never overlap.
+	 *
+	 * @param zoneName Zone's name
+	 * @param xPos Zone's x position (in number of tiles)
+	 * @param yPos Zone's y position (in number of tiles)
+	 * @param characters Zone's characters to fill, as characters[row][column] with row 0 at the bottom
+	 * @param x Rectangle's first column (in the zone)
+	 * @param y Rectangle's first row (in the zone)
+	 * @param width Rectangle's width (in number of tiles)
+	 * @param height Rectangle's height (in number of tiles)
+	 */
+	abstract public void loadTiles(final @NotNull String zoneName, final int xPos, final int yPos, final char @NotNull [][] characters, final int x, final int y, final int width, final int height);
+
+	/**
+	 * Returns the size of the square rectangles a zone is split into to be loaded in parallel.
+	 * 0 means the zone is loaded in one go (e.g. it is read from a single file).
+	 *
+	 * @return Size (in number of tiles)
+	 */
+	abstract public int getLoadingTileSize();
+
+}
\ No newline at end of file
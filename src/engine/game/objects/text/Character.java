@@ -2,6 +2,7 @@ package engine.game.objects.text;
 
 import engine.game.components.RenderedComponent;
 import engine.game.objects.GameObject;
+import engine.game.objects.ObjectPool;
 import engine.math.Vector2f;
 import engine.rendering.Mesh;
 import engine.rendering.Vertex;
@@ -11,25 +12,82 @@ import engine.rendering.texture.Texture;
 class Character extends GameObject {
 
     /**
-     * Creates a new Character instance.
+     * Characters released by the Words printed (each keeps its Mesh).
+     */
+    final private static ObjectPool<Character> POOL = new ObjectPool<>("Text characters", Character::new, 512);
+
+    /**
+     * Character's mesh (null until the Character is first set).
+     */
+    private Mesh mesh;
+
+    /**
+     * Character's rendered component (null until the Character is first set).
+     */
+    private RenderedComponent renderedComponent;
+
+    /**
+     * Creates a new Character instance (see Character.create()).
+     */
+    private Character() {
+        super("Character for Text", 0, 0);
+
+        this.mesh = null;
+        this.renderedComponent = null;
+    }
+
+    /**
+     * Takes a Character from the pool.
+     * It must be released with Character.release() once printed.
      *
      * @param texture Texture to use
+     * @return Character
      */
-    Character(final Texture texture) {
-        super("Character for Text", texture.getWidth(), texture.getHeight());
+    static Character create(final Texture texture) {
+        return Character.POOL.acquire().set(texture);
+    }
 
-        final Mesh mesh = new Mesh();
+    /**
+     * Gives the Character back to the pool.
+     */
+    final void release() {
+        Character.POOL.release(this);
+    }
+
+    /**
+     * Sets the Character's texture (its mesh is only rebuilt if the size changes).
+     *
+     * @param texture Texture to use
+     * @return this
+     */
+    private Character set(final Texture texture) {
+        if(this.renderedComponent != null && this.getWidth() == texture.getWidth() && this.getHeight() == texture.getHeight()) {
+            this.renderedComponent.getMaterial().setImage(texture);
+            return this;
+        }
+
+        this.setWidth(texture.getWidth());
+        this.setHeight(texture.getHeight());
+
+        if(this.mesh == null) this.mesh = new Mesh();
         final Vertex[] vertices = new Vertex[] {
             new Vertex(new Vector2f(0, texture.getHeight()), new Vector2f(0, 1)),
             new Vertex(new Vector2f(0, 0), new Vector2f(0, 0)),
             new Vertex(new Vector2f(texture.getWidth(), 0), new Vector2f(1, 0)),
             new Vertex(new Vector2f(texture.getWidth(), texture.getHeight()), new Vector2f(1, 1))
         };
-        mesh.setVertices(vertices);
+        this.mesh.setVertices(vertices);
 
-        final RenderedComponent renderedComponent = new RenderedComponent(mesh, new Material(texture), texture.getWidth(), texture.getHeight());
+        if(this.renderedComponent == null) {
+            this.renderedComponent = new RenderedComponent(this.mesh, new Material(texture), texture.getWidth(), texture.getHeight());
+            this.addComponent(this.renderedComponent);
+        } else {
+            this.renderedComponent.getMaterial().setImage(texture);
+            this.renderedComponent.setWidth(texture.getWidth());
+            this.renderedComponent.setHeight(texture.getHeight());
+        }
 
-        this.addComponent(renderedComponent);
+        return this;
     }
 
     /**
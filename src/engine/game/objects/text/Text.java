@@ -145,11 +145,11 @@ public class Text extends GameObject {
             }
 
             for(int i = 0; i < characters.length; i++) {
-                characters[i] = new Character(this.getFont().getCharacterTexture(wordString.charAt(i)));
+                characters[i] = Character.create(this.getFont().getCharacterTexture(wordString.charAt(i)));
             }
 
 
-            final Word word = new Word(characters, this.getCoreEngine());
+            final Word word = Word.create(characters, this.getCoreEngine());
 
             if(x + word.getWidth() - 1 > textureWidth) {
                 y++;
@@ -160,6 +160,7 @@ public class Text extends GameObject {
             word.render(RenderToTextureShader.getInstance(), null);
 
             x += word.getWidth() - 1 + this.getFont().getCharacterTexture(' ').getWidth();
+            word.release();
 
             if(x >= textureWidth) {
                 y++;
@@ -2,20 +2,54 @@ package engine.game.objects.text;
 
 import engine.CoreEngine;
 import engine.game.objects.GameObject;
+import engine.game.objects.ObjectPool;
 import engine.math.Vector2f;
 
 final class Word extends GameObject {
 
     /**
-     * Creates a new Word instance.
+     * Words released once printed.
+     */
+    final private static ObjectPool<Word> POOL = new ObjectPool<>("Text words", Word::new, 64);
+
+    /**
+     * Creates a new Word instance (see Word.create()).
+     */
+    private Word() {
+        super("Word for text", 0, 0);
+    }
+
+    /**
+     * Takes a Word from the pool.
+     * It must be released with Word.release() once printed, which releases its characters too.
+     *
+     * @param characters Word's characters (from Character.create())
+     * @param coreEngine Pointer to the CoreEngine
+     * @return Word
+     */
+    static Word create(final Character[] characters, final CoreEngine coreEngine) {
+        return Word.POOL.acquire().set(characters, coreEngine);
+    }
+
+    /**
+     * Gives the Word and its characters back to the pools.
+     */
+    final void release() {
+        Word.POOL.release(this);
+    }
+
+    /**
+     * Sets the Word's characters.
      *
      * @param characters Word's characters
      * @param coreEngine Pointer to the CoreEngine
+     * @return this
      */
-    Word(final Character[] characters, final CoreEngine coreEngine) {
-        super("Word for text", Word.getWidthFromCharacters(characters), characters[0].getHeight());
+    private Word set(final Character[] characters, final CoreEngine coreEngine) {
+        this.setWidth(Word.getWidthFromCharacters(characters));
+        this.setHeight(characters[0].getHeight());
 
-        this.addToEngine(coreEngine);
+        this.addToEngine(coreEngine, null);
 
         float xPos = 0.0f;
         for(final Character character : characters) {
@@ -25,6 +59,19 @@ final class Word extends GameObject {
 
             xPos += character.getWidth();
         }
+
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+
+        for(int i = this.getChildren().size() - 1; i >= 0; i--) {
+            final Character character = (Character) this.getChildren().get(i);
+            this.removeChildInstantly(character);
+            character.release();
+        }
     }
 
     /**
@@ -3,18 +3,48 @@ package engine.math;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * 4x4 matrix stored in a flat float[16] (row by row).
+ * Every operation has a variant writing into a destination, so hot paths can reuse their matrices
+ * (or the thread's temporary ones) instead of allocating new ones.
+ */
 final public class Matrix4f{
 
 	/**
-	 * Matrix value.
+	 * Number of temporary matrices per thread.
 	 */
-	private float[][] m;
+	final public static int TEMPORARY_COUNT = 4;
+
+	/**
+	 * Temporary matrices of each thread.
+	 */
+	final private static ThreadLocal<Matrix4f[]> TEMPORARIES = ThreadLocal.withInitial(() -> {
+		final Matrix4f[] temporaries = new Matrix4f[Matrix4f.TEMPORARY_COUNT];
+		for(int i = 0; i < temporaries.length; i++) {
+			temporaries[i] = new Matrix4f();
+		}
+
+		return temporaries;
+	});
+
+	/**
+	 * Rows written by mul when its destination is the matrix it multiplies by, for each thread.
+	 */
+	final private static ThreadLocal<float[]> SCRATCH = ThreadLocal.withInitial(() -> new float[16]);
+
+	/**
+	 * Matrix value (m[row * 4 + column]).
+	 */
+	final private float @NotNull [] m;
 
 	/**
 	 * Creates a new Matrix4f instance.
 	 */
 	public Matrix4f() {
-		this.m = new float[4][4];
+		this.m = new float[16];
 	}
 
 	/**
@@ -23,7 +53,19 @@ final public class Matrix4f{
 	 * @param m Value to set
 	 */
 	public Matrix4f(final @NotNull Matrix4f m) {
-		this.setM(m.getM());
+		this();
+		this.set(m);
+	}
+
+	/**
+	 * Returns one of the current thread's temporary matrices, for intermediate results that don't outlive a method.
+	 * The same index always gives the same matrix: a method and the methods it calls shouldn't use the same one.
+	 *
+	 * @param index Index (from 0 to TEMPORARY_COUNT - 1)
+	 * @return Temporary Matrix4f
+	 */
+	public static @NotNull Matrix4f getTemporary(final int index) {
+		return Matrix4f.TEMPORARIES.get()[index];
 	}
 
 	@Override
@@ -46,10 +88,8 @@ final public class Matrix4f{
 	 * @return this
 	 */
 	public @NotNull Matrix4f initIdentity() {
-		for(int i = 0; i < 4; i++) {
-			for(int j = 0; j < 4; j++) {
-				this.set(i, j, i == j ? 1 : 0);
-			}
+		for(int i = 0; i < 16; i++) {
+			this.m[i] = i % 5 == 0 ? 1 : 0;
 		}
 
 		return this;
@@ -65,9 +105,9 @@ final public class Matrix4f{
 	 */
 	public @NotNull Matrix4f initPosition(final float x, final float y, final float z) {
 		this.initIdentity();
-		this.set(0, 3, x);
-		this.set(1, 3, y);
-		this.set(2, 3, z);
+		this.m[3] = x;
+		this.m[7] = y;
+		this.m[11] = z;
 
 		return this;
 	}
@@ -91,31 +131,16 @@ final public class Matrix4f{
 	 * @return this
 	 */
 	public @NotNull Matrix4f initRotation(final double x, final double y, final double z) {
-		final Matrix4f rx = new Matrix4f().initIdentity();
-		final Matrix4f ry = new Matrix4f().initIdentity();
-		final Matrix4f rz = new Matrix4f().initIdentity();
-
-		final float xCos = (float) Math.cos(x);
-		final float xSin = (float) Math.sin(x);
-		final float yCos = (float) Math.cos(y);
-		final float ySin = (float) Math.sin(y);
-		final float zCos = (float) Math.cos(z);
-		final float zSin = (float) Math.sin(z);
-
-		rx.set(0, 0, xCos);
-		rx.set(0, 1, -xSin);
-		rx.set(1, 0, xSin);
-		rx.set(1, 1, xCos);
-		ry.set(0, 0, yCos);
-		ry.set(0, 1, -ySin);
-		ry.set(1, 0, ySin);
-		ry.set(1, 1, yCos);
-		rz.set(0, 0, zCos);
-		rz.set(0, 1, -zSin);
-		rz.set(1, 0, zSin);
-		rz.set(1, 1, zCos);
-
-		this.m = rz.mul(ry.mul(rx)).getM();
+		// The three rotations are all built in the xy plane (rz * ry * rx), so they add up to a single one.
+		final double angle = x + y + z;
+		final float cos = (float) Math.cos(angle);
+		final float sin = (float) Math.sin(angle);
+
+		this.initIdentity();
+		this.m[0] = cos;
+		this.m[1] = -sin;
+		this.m[4] = sin;
+		this.m[5] = cos;
 
 		return this;
 	}
@@ -130,9 +155,9 @@ final public class Matrix4f{
 	 */
 	public @NotNull Matrix4f initScale(final float x, final float y, final float z) {
 		this.initIdentity();
-		this.set(0, 0, x);
-		this.set(1, 1, y);
-		this.set(2, 2, z);
+		this.m[0] = x;
+		this.m[5] = y;
+		this.m[10] = z;
 
 		return this;
 	}
@@ -160,9 +185,9 @@ final public class Matrix4f{
 		final float zFar = 1000f;
 		final float range = zNear - zFar;
 
-		this.set(0, 0, 1.0f / ratio);
-		this.set(2, 2, (-zNear - zFar) / range);
-		this.set(2, 3, 2 * zFar * zNear / range);
+		this.m[0] = 1.0f / ratio;
+		this.m[10] = (-zNear - zFar) / range;
+		this.m[11] = 2 * zFar * zNear / range;
 
 		return this;
 	}
@@ -175,20 +200,84 @@ final public class Matrix4f{
 	 */
 	@Contract(pure = true)
 	public @NotNull Matrix4f mul(final @NotNull Matrix4f r) {
-		final Matrix4f result = new Matrix4f();
+		return this.mul(r, new Matrix4f());
+	}
 
-		for(int i = 0; i < 4; i++) {
-			for(int j = 0; j < 4; j++) {
-				result.set(i, j,
-					this.get(i, 0) * r.get(0, j) +
-					this.get(i, 1) * r.get(1, j) +
-					this.get(i, 2) * r.get(2, j) +
-					this.get(i, 3) * r.get(3, j)
-				);
-			}
+	/**
+	 * Writes the multiplication between the Matrix4f and r into dest (which can be the Matrix4f or r).
+	 *
+	 * @param r Matrix4f to multiply by
+	 * @param dest Matrix4f to write in
+	 * @return dest
+	 */
+	public @NotNull Matrix4f mul(final @NotNull Matrix4f r, final @NotNull Matrix4f dest) {
+		final float[] a = this.m;
+		final float[] b = r.m;
+		final float[] d = dest == r ? Matrix4f.SCRATCH.get() : dest.m; // r's columns are still needed by the next rows.
+
+		for(int i = 0; i < 16; i += 4) {
+			final float a0 = a[i], a1 = a[i + 1], a2 = a[i + 2], a3 = a[i + 3]; // Read before dest's row is written.
+
+			d[i] = a0 * b[0] + a1 * b[4] + a2 * b[8] + a3 * b[12];
+			d[i + 1] = a0 * b[1] + a1 * b[5] + a2 * b[9] + a3 * b[13];
+			d[i + 2] = a0 * b[2] + a1 * b[6] + a2 * b[10] + a3 * b[14];
+			d[i + 3] = a0 * b[3] + a1 * b[7] + a2 * b[11] + a3 * b[15];
 		}
 
-		return result;
+		if(d != dest.m) System.arraycopy(d, 0, dest.m, 0, 16);
+
+		return dest;
+	}
+
+	/**
+	 * Writes the linear interpolation between the Matrix4f and r into dest (which can be either of them).
+	 *
+	 * @param r Matrix4f to interpolate to
+	 * @param t Interpolation factor (0 = this, 1 = r)
+	 * @param dest Matrix4f to write in
+	 * @return dest
+	 */
+	public @NotNull Matrix4f lerp(final @NotNull Matrix4f r, final float t, final @NotNull Matrix4f dest) {
+		for(int i = 0; i < 16; i++) {
+			dest.m[i] = this.m[i] + (r.m[i] - this.m[i]) * t;
+		}
+
+		return dest;
+	}
+
+	/**
+	 * Copies a Matrix4f's value.
+	 *
+	 * @param r Matrix4f to copy
+	 * @return this
+	 */
+	public @NotNull Matrix4f set(final @NotNull Matrix4f r) {
+		System.arraycopy(r.m, 0, this.m, 0, 16);
+
+		return this;
+	}
+
+	/**
+	 * Puts the Matrix4f's value in a buffer (row by row).
+	 *
+	 * @param buffer Buffer to write in
+	 * @return buffer
+	 */
+	public @NotNull FloatBuffer store(final @NotNull FloatBuffer buffer) {
+		buffer.put(this.m);
+
+		return buffer;
+	}
+
+	@Contract(value = "null -> false", pure = true)
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof Matrix4f && Arrays.equals(this.m, ((Matrix4f) obj).m);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.m);
 	}
 
 	/**
@@ -200,7 +289,7 @@ final public class Matrix4f{
 		final float[][] m = new float[4][4];
 
 		for(int i = 0; i < 4; i++) {
-			System.arraycopy(this.m[i], 0, m[i], 0, 4);
+			System.arraycopy(this.m, 4 * i, m[i], 0, 4);
 		}
 
 		return m;
@@ -215,7 +304,7 @@ final public class Matrix4f{
 	 */
 	@Contract(pure = true)
 	public float get(final int x, final int y) {
-		return this.m[x][y];
+		return this.m[4 * x + y];
 	}
 
 	/**
@@ -237,7 +326,9 @@ final public class Matrix4f{
 			}
 		}
 
-		this.m = m;
+		for(int i = 0; i < 4; i++) {
+			System.arraycopy(m[i], 0, this.m, 4 * i, 4);
+		}
 	}
 
 	/**
@@ -254,7 +345,7 @@ final public class Matrix4f{
 			throw new IllegalArgumentException();
 		}
 
-		this.m[x][y] = value;
+		this.m[4 * x + y] = value;
 	}
 
 }
\ No newline at end of file
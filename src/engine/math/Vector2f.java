@@ -25,6 +25,23 @@ final public class Vector2f {
 	 */
 	final public static @NotNull Vector2f xyAxis = new Vector2f(1, 1);
 
+	/**
+	 * Number of temporary vectors per thread.
+	 */
+	final public static int TEMPORARY_COUNT = 8;
+
+	/**
+	 * Temporary vectors of each thread.
+	 */
+	final private static ThreadLocal<Vector2f[]> TEMPORARIES = ThreadLocal.withInitial(() -> {
+		final Vector2f[] temporaries = new Vector2f[Vector2f.TEMPORARY_COUNT];
+		for(int i = 0; i < temporaries.length; i++) {
+			temporaries[i] = new Vector2f(0, 0);
+		}
+
+		return temporaries;
+	});
+
 
 	/**
 	 * Vector2f's x position.
@@ -63,6 +80,17 @@ final public class Vector2f {
 	}
 
 
+	/**
+	 * Returns one of the current thread's temporary vectors, for intermediate results that don't outlive a method.
+	 * The same index always gives the same vector: a method and the methods it calls shouldn't use the same one.
+	 *
+	 * @param index Index (from 0 to TEMPORARY_COUNT - 1)
+	 * @return Temporary Vector2f
+	 */
+	public static @NotNull Vector2f getTemporary(final int index) {
+		return Vector2f.TEMPORARIES.get()[index];
+	}
+
 	@Override
 	public @NotNull String toString() {
 		return "(" + this.getX() + " ; " + this.getY() + ")";
@@ -118,6 +146,19 @@ final public class Vector2f {
 		return new Vector2f(this.getX() / length, this.getY() / length);
 	}
 
+	/**
+	 * Writes a normalized version of the Vector2f into dest (which can be the Vector2f).
+	 *
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f normalized(final @NotNull Vector2f dest) {
+		final float length = this.length();
+
+		dest.set(this.getX() / length, this.getY() / length);
+		return dest;
+	}
+
 	/**
 	 * Normalizes the Vector2f.
 	 */
@@ -206,9 +247,10 @@ final public class Vector2f {
 	 */
 	@Contract(pure = true)
 	public float distanceTo(final @NotNull Vector2f r) {
-		final Vector2f dist = this.sub(r);
+		final float x = this.getX() - r.getX();
+		final float y = this.getY() - r.getY();
 
-		return dist.length();
+		return (float) Math.sqrt(x * x + y * y);
 	}
 
 	/**
@@ -241,7 +283,7 @@ final public class Vector2f {
 	 */
 	@Contract(pure = true)
 	public float projectOnAxis(final @NotNull Vector2f axis) {
-		return this.dot(axis.normalized());
+		return this.dot(axis) / axis.length();
 	}
 
 	/**
@@ -443,6 +485,30 @@ final public class Vector2f {
 		return this.add(r.getX(), r.getY());
 	}
 
+	/**
+	 * Writes the addition between the Vector2f and (x ; y) into dest (which can be the Vector2f).
+	 *
+	 * @param x X amount to add
+	 * @param y Y amount to add
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f add(final float x, final float y, final @NotNull Vector2f dest) {
+		dest.set(this.getX() + x, this.getY() + y);
+		return dest;
+	}
+
+	/**
+	 * Writes the addition between the Vector2f and r into dest (which can be the Vector2f or r).
+	 *
+	 * @param r Vector2f to add
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f add(final @NotNull Vector2f r, final @NotNull Vector2f dest) {
+		return this.add(r.getX(), r.getY(), dest);
+	}
+
 	/**
 	 * Returns the subtraction between the Vector2f and (x ; y).
 	 *
@@ -477,6 +543,30 @@ final public class Vector2f {
 		return this.sub(r.getX(), r.getY());
 	}
 
+	/**
+	 * Writes the subtraction between the Vector2f and (x ; y) into dest (which can be the Vector2f).
+	 *
+	 * @param x X amount to subtract by
+	 * @param y Y amount to subtract by
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f sub(final float x, final float y, final @NotNull Vector2f dest) {
+		dest.set(this.getX() - x, this.getY() - y);
+		return dest;
+	}
+
+	/**
+	 * Writes the subtraction between the Vector2f and r into dest (which can be the Vector2f or r).
+	 *
+	 * @param r Vector2f to subtract by
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f sub(final @NotNull Vector2f r, final @NotNull Vector2f dest) {
+		return this.sub(r.getX(), r.getY(), dest);
+	}
+
 	/**
 	 * Returns the multiplication between the Vector2f and (x ; y).
 	 *
@@ -511,4 +601,39 @@ final public class Vector2f {
 		return this.mul(r.getX(), r.getY());
 	}
 
+	/**
+	 * Writes the multiplication between the Vector2f and (x ; y) into dest (which can be the Vector2f).
+	 *
+	 * @param x X amount to multiply by
+	 * @param y Y amount to multiply by
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f mul(final float x, final float y, final @NotNull Vector2f dest) {
+		dest.set(this.getX() * x, this.getY() * y);
+		return dest;
+	}
+
+	/**
+	 * Writes the multiplication between the Vector2f and r into dest (which can be the Vector2f).
+	 *
+	 * @param r Float to multiply by
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f mul(final float r, final @NotNull Vector2f dest) {
+		return this.mul(r, r, dest);
+	}
+
+	/**
+	 * Writes the multiplication between the Vector2f and r into dest (which can be the Vector2f or r).
+	 *
+	 * @param r Vector2f to multiply by
+	 * @param dest Vector2f to write in
+	 * @return dest
+	 */
+	public @NotNull Vector2f mul(final @NotNull Vector2f r, final @NotNull Vector2f dest) {
+		return this.mul(r.getX(), r.getY(), dest);
+	}
+
 }
\ No newline at end of file
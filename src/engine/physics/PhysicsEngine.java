@@ -9,6 +9,8 @@ package engine.physics;
  */
 
 import com.objects.characters.Character;
+import engine.game.World;
+import engine.game.objects.TickScheduler;
 import engine.game.objects.map.Map;
 import engine.math.Vector2f;
 import engine.physics.colliders.AABBCollider;
@@ -26,36 +28,61 @@ final public class PhysicsEngine {
 	 */
 	final public static int ITERATIONS_PER_FRAME = 5;
 
+	/**
+	 * World the PhysicsEngine belongs to.
+	 */
+	final private @NotNull World world;
+
 	/**
 	 * PhysicsEngine's objects to handle.
 	 */
-	final private static ArrayList<PhysicsObject> objects = new ArrayList<>();
+	final private ArrayList<PhysicsObject> objects;
+
+	/**
+	 * Creates a new PhysicsEngine instance, without objects.
+	 *
+	 * @param world World the PhysicsEngine belongs to
+	 */
+	public PhysicsEngine(final @NotNull World world) {
+		this.world = world;
+		this.objects = new ArrayList<>();
+	}
 
 	/**
 	 * Called every frame at the beginning of update, so that it will calculate new positions.
 	 *
 	 * @param delta Time of a frame
 	 */
-	public static void update(final double delta) {
+	public void update(final double delta) {
+		final @Nullable Map map = this.world.getMap();
+
+		// Dormant objects sleep, and objects over zones that aren't loaded yet would move through unknown tiles:
+		// hold them until they're awake / the zones are loaded.
+		for(final PhysicsObject object : this.objects) {
+			object.setFrozen(TickScheduler.isDormant(object) || (map != null && !object.canFly() && !map.isAreaLoaded(object.getPosition().getX(), object.getPosition().getY(), object.getPhysicsWidth(), object.getPhysicsHeight())));
+		}
+
 		for(int it = 0; it < PhysicsEngine.ITERATIONS_PER_FRAME; it++) {
 			// First we move each object.
-			for(final PhysicsObject object : PhysicsEngine.objects) {
+			for(final PhysicsObject object : this.objects) {
+				if(object.isFrozen()) continue;
 				if(!object.isMoving()) {
 					object.updateCollider();
 					continue;
 				}
-				object.updatePosition(delta / PhysicsEngine.ITERATIONS_PER_FRAME);
+				object.updatePosition(delta / PhysicsEngine.ITERATIONS_PER_FRAME, map);
 			}
 
 			// Then, we detect and resolve collisions.
-			for(int i = 0; i < PhysicsEngine.getObjects().size(); i++) {
-				final PhysicsObject object1 = PhysicsEngine.getObjects().get(i);
+			for(int i = 0; i < this.getObjects().size(); i++) {
+				final PhysicsObject object1 = this.getObjects().get(i);
+				if(object1.isFrozen()) continue;
 				final Collider collider1 = object1.asCollider();
 				final ArrayList<PhysicsObject> potentialColliders = new ArrayList<>();
 
-				for(int j = i + 1; j < PhysicsEngine.getObjects().size(); j++) {
+				for(int j = i + 1; j < this.getObjects().size(); j++) {
 					// TODO: Check position before adding.
-					potentialColliders.add(PhysicsEngine.getObjects().get(j));
+					if(!this.getObjects().get(j).isFrozen()) potentialColliders.add(this.getObjects().get(j));
 				}
 
 				for(final PhysicsObject object2 : potentialColliders) {
@@ -77,8 +104,8 @@ final public class PhysicsEngine {
 					}
 				}
 
-				if(!object1.canFly() && object1.getMovementsAllowed() != MovementsAllowed.IMMOBILE) {
-					final ArrayList<AABBCollider> tiles = Map.getInstance().getTilesOnAsColliders(object1.getPosition(), object1.getPhysicsWidth(), object1.getPhysicsHeight(), object1.canWalk(), object1.canSwim());
+				if(map != null && !object1.canFly() && object1.getMovementsAllowed() != MovementsAllowed.IMMOBILE) {
+					final ArrayList<AABBCollider> tiles = map.getTilesOnAsColliders(object1.getPosition(), object1.getPhysicsWidth(), object1.getPhysicsHeight(), object1.canWalk(), object1.canSwim());
 
 					for(final AABBCollider tile : tiles) {
 						final @Nullable Vector2f normal = collider1.intersect(tile);
@@ -117,14 +144,45 @@ final public class PhysicsEngine {
 			object2.addLinearVelocity(impulse.mul(invMass2));
 	}
 
+	/**
+	 * Returns the World the PhysicsEngine belongs to.
+	 *
+	 * @return PhysicsEngine.world
+	 */
+	@Contract(pure = true)
+	public @NotNull World getWorld() {
+		return this.world;
+	}
+
 	/**
 	 * Returns the PhysicsEngine's objects.
 	 *
-	 * @return PhysicsEngine::objects
+	 * @return PhysicsEngine.objects
+	 */
+	@Contract(pure = true)
+	ArrayList<PhysicsObject> getObjects() {
+		return this.objects;
+	}
+
+	/**
+	 * Returns the number of PhysicsObjects in the engine.
+	 *
+	 * @return PhysicsEngine.objects.size()
 	 */
 	@Contract(pure = true)
-	static ArrayList<PhysicsObject> getObjects() {
-		return PhysicsEngine.objects;
+	public int getObjectCount() {
+		return this.objects.size();
+	}
+
+	/**
+	 * Returns one of the PhysicsObjects in the engine.
+	 *
+	 * @param index Index between 0 and PhysicsEngine.getObjectCount()
+	 * @return PhysicsEngine.objects.get(index)
+	 */
+	@Contract(pure = true)
+	public @NotNull PhysicsObject getObject(final int index) {
+		return this.objects.get(index);
 	}
 
 	/**
@@ -132,8 +190,10 @@ final public class PhysicsEngine {
 	 *
 	 * @param object Object to add
 	 */
-	public static void addObject(final @NotNull PhysicsObject object) {
-		PhysicsEngine.objects.add(object);
+	public void addObject(final @NotNull PhysicsObject object) {
+		synchronized(this.objects) { // Subtrees updated in parallel may add children.
+			this.objects.add(object);
+		}
 	}
 
 	/**
@@ -141,8 +201,11 @@ final public class PhysicsEngine {
 	 *
 	 * @param object Object to remove
 	 */
-	public static void removeObject(final @NotNull PhysicsObject object) {
-		final boolean removed = PhysicsEngine.objects.remove(object);
+	public void removeObject(final @NotNull PhysicsObject object) {
+		final boolean removed;
+		synchronized(this.objects) { // Subtrees updated in parallel may remove children.
+			removed = this.objects.remove(object);
+		}
 
 		if(!removed) { // Object was not found, thus list was not changed.
 			System.err.println("Error: This object couldn't be removed from PhysicsEngine.");
@@ -10,6 +10,7 @@ import engine.physics.colliders.Collider;
 import engine.util.Direction;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class PhysicsObject extends GameObject {
 
@@ -47,6 +48,11 @@ public abstract class PhysicsObject extends GameObject {
 	 */
 	final private Direction direction = new Direction();
 
+	/**
+	 * Whether the object is held in place because it is dormant or the map under it isn't loaded yet (set by the PhysicsEngine).
+	 */
+	private boolean frozen = false;
+
 	/**
 	 * Creates a new PhysicsObject instance.
 	 *
@@ -161,6 +167,25 @@ public abstract class PhysicsObject extends GameObject {
 		return !(this.getMovementsAllowed().equals(MovementsAllowed.IMMOBILE) || this.getLinearVelocity().equals(Vector2f.zero));
 	}
 
+	/**
+	 * Returns whether the object is held in place (dormant, or the map under it isn't loaded yet).
+	 *
+	 * @return PhysicsObject.frozen
+	 */
+	@Contract(pure = true)
+	final public boolean isFrozen() {
+		return this.frozen;
+	}
+
+	/**
+	 * Holds the object in place (or releases it).
+	 *
+	 * @param frozen true = neither moved nor collided
+	 */
+	final void setFrozen(final boolean frozen) {
+		this.frozen = frozen;
+	}
+
 	/**
 	 * Returns the Physics's object hitbox's position.
 	 * By default, is the object's position (can be overridden).
@@ -315,9 +340,10 @@ public abstract class PhysicsObject extends GameObject {
 	 * This checks for map's tiles but not yet for intersection/collisions.
 	 *
 	 * @param delta Time of a frame
+	 * @param map Map of the PhysicsObject's World (null = none)
 	 */
-	final void updatePosition(final double delta) {
-		final float tileSpeed = Map.getInstance().getTileSpeedOn(this.getPosition(), this.getPhysicsWidth(), this.getPhysicsHeight());
+	final void updatePosition(final double delta, final @Nullable Map map) {
+		final float tileSpeed = map == null ? 1 : map.getTileSpeedOn(this.getPosition(), this.getPhysicsWidth(), this.getPhysicsHeight());
 		final @NotNull Vector2f translation = this.getLinearVelocity().mul((float)(delta * Options.TILE_SIZE * (this.canFly() ? 1 : tileSpeed)));
 		this.move(translation);
 		this.refreshDirection(false);
@@ -66,7 +66,7 @@ public class AABBCollider extends Collider {
 			final CircleCollider circleCollider = (CircleCollider) collider;
 			final Vector2f normal = circleCollider.intersect(this);
 
-			return normal == null ? null : normal.mul(-1);
+			return normal == null ? null : normal.mul(-1, normal);
 		} else if(collider instanceof AABBCollider) {
 			final AABBCollider aabbCollider = (AABBCollider) collider;
 
@@ -89,20 +89,34 @@ public class AABBCollider extends Collider {
 		}
     }
 
-	@Contract(pure = true)
 	@Override
-	public float[] projectOnAxis(final @NotNull Vector2f axis) {
+	public float[] projectOnAxis(final @NotNull Vector2f axis, final float @NotNull [] dest) {
+		final float length = axis.length();
 		float min = Float.MAX_VALUE;
 		float max = -Float.MAX_VALUE;
 
-		for(final Vector2f vertex : this.getVertices()) {
-			final float projection = vertex.projectOnAxis(axis);
+		// The four vertices, without building them.
+		for(int i = 0; i < 4; i++) {
+			final float x = i == 0 || i == 3 ? this.getMinX() : this.getMaxX();
+			final float y = i < 2 ? this.getMinY() : this.getMaxY();
+			final float projection = (x * axis.getX() + y * axis.getY()) / length;
 
 			if(projection < min) min = projection;
 			if(projection > max) max = projection;
 		}
 
-		return new float[]{min, max};
+		dest[0] = min;
+		dest[1] = max;
+		return dest;
+	}
+
+	@Override
+	public float[] getBounds(final float @NotNull [] dest) {
+		dest[0] = this.getMinX();
+		dest[1] = this.getMinY();
+		dest[2] = this.getMaxX();
+		dest[3] = this.getMaxY();
+		return dest;
 	}
 
 	/**
@@ -199,4 +213,4 @@ public class AABBCollider extends Collider {
 		this.height = height;
 	}
 
-}
+}
\ No newline at end of file
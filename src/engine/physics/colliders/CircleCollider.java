@@ -7,6 +7,15 @@ import org.jetbrains.annotations.Nullable;
 
 public class CircleCollider extends Collider {
 
+	/**
+	 * Axes tested against an AABBCollider (x, y, then towards its closest vertex), reused by each thread.
+	 */
+	final private static ThreadLocal<Vector2f[]> AXES = ThreadLocal.withInitial(() -> new Vector2f[] {
+		new Vector2f(1, 0),
+		new Vector2f(0, 1),
+		new Vector2f()
+	});
+
 	/**
 	 * Circle's center.
 	 */
@@ -53,27 +62,26 @@ public class CircleCollider extends Collider {
 	public @Nullable Vector2f intersect(final @NotNull Collider collider){
 		if(collider instanceof CircleCollider circleCollider) {
 
-            final float distance = this.getCenter().distanceTo(circleCollider.getCenter());
+            final float distance = this.center.distanceTo(circleCollider.center);
 			final float radii = this.getRadius() + circleCollider.getRadius();
 
 			if(distance >= radii) {
 				return null;
 			}
 
-			final Vector2f normal = circleCollider.getCenter().sub(this.getCenter()).normalized();
-			return normal.mul(radii - distance);
+			final Vector2f normal = circleCollider.center.sub(this.center).normalized();
+			return normal.mul(radii - distance, normal);
 		} else if(collider instanceof AABBCollider aabbCollider) {
 
-            final Vector2f[] axes = new Vector2f[] {
-				new Vector2f(1, 0),
-				new Vector2f(0, 1),
-				this.getCenter().sub(this.getCenter().closestPoint(aabbCollider.getVertices()))  // TODO: Really needed??
-			};
+            final Vector2f[] axes = CircleCollider.AXES.get();
+			this.closestVertexAxis(aabbCollider, axes[2]);  // TODO: Really needed??
 
 			final Vector2f normal = Collider.seperatingAxisTheorem(this, aabbCollider, axes);
 			if(normal == null) return null;
 
-			if(normal.dot(aabbCollider.getCenter().sub(this.getCenter())) < 0) {
+			final float xCenter = (aabbCollider.getMinX() + aabbCollider.getMaxX()) / 2;
+			final float yCenter = (aabbCollider.getMinY() + aabbCollider.getMaxY()) / 2;
+			if(normal.getX() * (xCenter - this.center.getX()) + normal.getY() * (yCenter - this.center.getY()) < 0) {
 				normal.multiply(-1);
 			}
 			return normal;
@@ -84,24 +92,46 @@ public class CircleCollider extends Collider {
 		}
 	}
 
-	@Contract(pure = true)
-	@Override
-	public float[] projectOnAxis(final @NotNull Vector2f axis) {
-		final Vector2f axisRadius = axis.normalized().mul(this.getRadius());
-
-		final Vector2f p1 = this.getCenter().sub(axisRadius);
-		final Vector2f p2 = this.getCenter().add(axisRadius);
+	/**
+	 * Writes the axis going from an AABBCollider's closest vertex to the Circle's center.
+	 *
+	 * @param aabbCollider AABBCollider
+	 * @param dest Vector2f to write in
+	 */
+	private void closestVertexAxis(final @NotNull AABBCollider aabbCollider, final @NotNull Vector2f dest) {
+		float minDistance = Float.MAX_VALUE;
+
+		for(int i = 0; i < 4; i++) {
+			final float x = i == 0 || i == 3 ? aabbCollider.getMinX() : aabbCollider.getMaxX();
+			final float y = i < 2 ? aabbCollider.getMinY() : aabbCollider.getMaxY();
+			final float dx = this.center.getX() - x;
+			final float dy = this.center.getY() - y;
+			final float distance = dx * dx + dy * dy;
+
+			if(distance < minDistance) {
+				minDistance = distance;
+				dest.set(dx, dy);
+			}
+		}
+	}
 
-		float min = p1.projectOnAxis(axis);
-		float max = p2.projectOnAxis(axis);
+	@Override
+	public float[] projectOnAxis(final @NotNull Vector2f axis, final float @NotNull [] dest) {
+		// The circle's extreme points along the axis are its center -/+ the radius.
+		final float center = this.center.projectOnAxis(axis);
 
-		if(min > max) {
-			final float temp = min;
-			min = max;
-			max = temp;
-		}
+		dest[0] = center - this.getRadius();
+		dest[1] = center + this.getRadius();
+		return dest;
+	}
 
-		return new float[]{min, max};
+	@Override
+	public float[] getBounds(final float @NotNull [] dest) {
+		dest[0] = this.center.getX() - this.getRadius();
+		dest[1] = this.center.getY() - this.getRadius();
+		dest[2] = this.center.getX() + this.getRadius();
+		dest[3] = this.center.getY() + this.getRadius();
+		return dest;
 	}
 
 	/**
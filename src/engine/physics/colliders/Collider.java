@@ -14,6 +14,11 @@ import org.jetbrains.annotations.Nullable;
 
 public abstract class Collider {
 
+	/**
+	 * Projections of both Colliders, reused by each thread's separating axis tests.
+	 */
+	final private static ThreadLocal<float[][]> PROJECTIONS = ThreadLocal.withInitial(() -> new float[2][2]);
+
 	/**
 	 * Returns the normal of the collision (with the length being the depth of the collision).
 	 * Returns null if no collision was found.
@@ -32,7 +37,27 @@ public abstract class Collider {
 	 * @return new float[2]
 	 */
 	@Contract(pure = true)
-	public abstract float[] projectOnAxis(final @NotNull Vector2f axis);
+	public float[] projectOnAxis(final @NotNull Vector2f axis) {
+		return this.projectOnAxis(axis, new float[2]);
+	}
+
+	/**
+	 * Used by the Separating Axis Theory to project the Collider on an axis.
+	 * Writes the min and max values of the projection into dest.
+	 *
+	 * @param axis Axis to project on (will be normalized internally)
+	 * @param dest Array to write in (at least 2 long)
+	 * @return dest
+	 */
+	public abstract float[] projectOnAxis(final @NotNull Vector2f axis, final float @NotNull [] dest);
+
+	/**
+	 * Writes the Collider's axis-aligned bounds (for quick rejections before Collider.intersect).
+	 *
+	 * @param dest Array to write in: min x, min y, max x, max y
+	 * @return dest
+	 */
+	public abstract float[] getBounds(final float @NotNull [] dest);
 
 	/**
 	 * Returns the Collider's area.
@@ -56,22 +81,23 @@ public abstract class Collider {
 		float depth = Float.MAX_VALUE;
 		Vector2f normal = null;
 
+		final float[][] projections = Collider.PROJECTIONS.get();
 		for(final @NotNull Vector2f axis : axes) {
-			final float[] projection1 = collider1.projectOnAxis(axis);
-			final float[] projection2 = collider2.projectOnAxis(axis);
+			final float[] projection1 = collider1.projectOnAxis(axis, projections[0]);
+			final float[] projection2 = collider2.projectOnAxis(axis, projections[1]);
 
 			if(projection1[0] >= projection2[1] || projection2[0] >= projection1[1]) return null;
 
 			final float currentOverlap = Math.min(projection1[1], projection2[1]) - Math.max(projection1[0], projection2[0]);
 			if(currentOverlap < depth) {
 				depth = currentOverlap;
-				normal = axis.normalized();
+				normal = axis;
 			}
 		}
 
 		if(normal == null) return null;
 
-		return normal.mul(depth);
+		return normal.normalized().mul(depth);
 
 	}
 
@@ -0,0 +1,108 @@
+package engine.rendering;
+
+import engine.util.Window;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.lwjgl.opengl.GL11.glDeleteTextures;
+import static org.lwjgl.opengl.GL15.glDeleteBuffers;
+import static org.lwjgl.opengl.GL30.glDeleteFramebuffers;
+import static org.lwjgl.opengl.GL30.glDeleteVertexArrays;
+
+/**
+ * OpenGL objects waiting to be deleted.
+ * They're released by finalizers (which have no openGL context) or by any thread, then deleted by the next
+ * DeletionQueue.flush() in a context that can: textures and buffers are shared between the contexts so any of
+ * them deletes them, but framebuffers and vertex arrays only exist in the context that created them.
+ */
+final public class DeletionQueue {
+
+	/**
+	 * Textures to delete (in any context).
+	 */
+	final private static ConcurrentLinkedQueue<Integer> TEXTURES = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Buffers to delete (in any context).
+	 */
+	final private static ConcurrentLinkedQueue<Integer> BUFFERS = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Framebuffers to delete, for each context (see Window.getContextIndex()).
+	 */
+	final private static ArrayList<ConcurrentLinkedQueue<Integer>> FRAMEBUFFERS = DeletionQueue.createContextQueues();
+
+	/**
+	 * Vertex arrays to delete, for each context (see Window.getContextIndex()).
+	 */
+	final private static ArrayList<ConcurrentLinkedQueue<Integer>> VERTEX_ARRAYS = DeletionQueue.createContextQueues();
+
+	/**
+	 * Creates a queue for each context.
+	 *
+	 * @return new ArrayList (Window::CONTEXT_COUNT queues)
+	 */
+	private static @NotNull ArrayList<ConcurrentLinkedQueue<Integer>> createContextQueues() {
+		final ArrayList<ConcurrentLinkedQueue<Integer>> queues = new ArrayList<>(Window.CONTEXT_COUNT);
+		for(int i = 0; i < Window.CONTEXT_COUNT; i++) {
+			queues.add(new ConcurrentLinkedQueue<>());
+		}
+
+		return queues;
+	}
+
+	/**
+	 * Queues a texture to delete.
+	 *
+	 * @param id Texture's id
+	 */
+	public static void deleteTexture(final int id) {
+		if(id != 0) DeletionQueue.TEXTURES.add(id);
+	}
+
+	/**
+	 * Queues a buffer to delete.
+	 *
+	 * @param id Buffer's id
+	 */
+	public static void deleteBuffer(final int id) {
+		if(id != 0) DeletionQueue.BUFFERS.add(id);
+	}
+
+	/**
+	 * Queues a framebuffer to delete in the context that created it.
+	 *
+	 * @param context Index of the context that created it
+	 * @param id Framebuffer's id
+	 */
+	public static void deleteFramebuffer(final int context, final int id) {
+		if(id != 0) DeletionQueue.FRAMEBUFFERS.get(context).add(id);
+	}
+
+	/**
+	 * Queues a vertex array to delete in the context that created it.
+	 *
+	 * @param context Index of the context that created it
+	 * @param id Vertex array's id
+	 */
+	public static void deleteVertexArray(final int context, final int id) {
+		if(id != 0) DeletionQueue.VERTEX_ARRAYS.get(context).add(id);
+	}
+
+	/**
+	 * Deletes the shared objects and the current context's objects waiting to be.
+	 * Must be called from a thread with an openGL context.
+	 */
+	public static void flush() {
+		final int context = Window.getContextIndex();
+
+		Integer id;
+		while((id = DeletionQueue.TEXTURES.poll()) != null) glDeleteTextures(id);
+		while((id = DeletionQueue.BUFFERS.poll()) != null) glDeleteBuffers(id);
+		while((id = DeletionQueue.FRAMEBUFFERS.get(context).poll()) != null) glDeleteFramebuffers(id);
+		while((id = DeletionQueue.VERTEX_ARRAYS.get(context).poll()) != null) glDeleteVertexArrays(id);
+	}
+
+}
\ No newline at end of file
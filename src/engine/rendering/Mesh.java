@@ -1,6 +1,8 @@
 package engine.rendering;
 
 import engine.math.Vector2f;
+import engine.util.Window;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.BufferUtils;
 
@@ -16,59 +18,25 @@ import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER;
 import static org.lwjgl.opengl.GL15.GL_STATIC_DRAW;
 import static org.lwjgl.opengl.GL15.glBindBuffer;
 import static org.lwjgl.opengl.GL15.glBufferData;
-import static org.lwjgl.opengl.GL15.glDeleteBuffers;
 import static org.lwjgl.opengl.GL15.glGenBuffers;
 import static org.lwjgl.opengl.GL20.glDisableVertexAttribArray;
 import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
 import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
 import static org.lwjgl.opengl.GL30.glBindVertexArray;
-import static org.lwjgl.opengl.GL30.glDeleteVertexArrays;
 import static org.lwjgl.opengl.GL30.glGenVertexArrays;
 
 final public class Mesh {
 
 	/**
-	 * Mesh's Vertex Buffer Object.
+	 * Mesh's OpenGL buffers (replaced when vertices are set while a RenderSnapshot still draws them).
 	 */
-	final private int vbo;
-
-	/**
-	 * Mesh's Vertex Buffer Object for the triangle's indices.
-	 */
-	final private int vboi;
-
-	/**
-	 * Mesh's Vertex Array Object.
-	 */
-	final private int vao;
-
-	/**
-	 * Mesh's size.
-	 */
-	private int size;
+	private @NotNull Buffers buffers;
 
 	/**
 	 * Creates a new Mesh instance.
 	 */
 	public Mesh() {
-		this.vao = glGenVertexArrays();
-		this.vbo = glGenBuffers();
-		this.vboi = glGenBuffers();
-		this.size = 0;
-	}
-
-	@Override
-	protected void finalize() {
-		try {
-			super.finalize();
-		} catch(final Throwable e) {
-			e.printStackTrace();
-			System.exit(1);
-		}
-
-		glDeleteBuffers(this.vboi);
-		glDeleteBuffers(this.vbo);
-		glDeleteVertexArrays(this.vao);
+		this.buffers = new Buffers();
 	}
 
 	/**
@@ -94,17 +62,15 @@ final public class Mesh {
 	 * @param vertices Vertex[] to set
 	 */
 	public void setVertices(final @NotNull Vertex[] vertices) {
-		this.size = vertices.length;
+		if(this.buffers.isCaptured()) { // The RenderSnapshots keep drawing the previous vertices.
+			this.buffers.retire();
+			this.buffers = new Buffers();
+		}
+		this.buffers.size = vertices.length;
 
-		glBindVertexArray(this.vao);
-		glBindBuffer(GL_ARRAY_BUFFER, this.vbo);
+		glBindBuffer(GL_ARRAY_BUFFER, this.buffers.vbo);
 		glBufferData(GL_ARRAY_BUFFER, this.createVerticesBuffer(vertices), GL_STATIC_DRAW);
-
-		glVertexAttribPointer(0, 2, GL_FLOAT, false, Vertex.SIZE * 4, 0);
-		glVertexAttribPointer(1, 2, GL_FLOAT, false, Vertex.SIZE * 4, 8);
-
 		glBindBuffer(GL_ARRAY_BUFFER, 0);
-		glBindVertexArray(0);
 
 		final byte[] indices = {
 			0, 1, 2,
@@ -115,7 +81,7 @@ final public class Mesh {
 		indicesBuffer.put(indices);
 		indicesBuffer.flip();
 
-		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.vboi);
+		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.buffers.vboi);
 		glBufferData(GL_ELEMENT_ARRAY_BUFFER, indicesBuffer, GL_STATIC_DRAW);
 		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
 	}
@@ -124,19 +90,17 @@ final public class Mesh {
 	 * Draws the Mesh on the screen.
 	 */
 	public void draw() {
-		glBindVertexArray(this.vao);
-		glEnableVertexAttribArray(0);
-		glEnableVertexAttribArray(1);
-
-		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.vboi);
-
-		//glDrawArrays(GL_QUADS, 0, this.size);
-		glDrawElements(GL_TRIANGLES, 6, GL_UNSIGNED_BYTE, 0);
+		this.buffers.draw();
+	}
 
-		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-		glDisableVertexAttribArray(0);
-		glDisableVertexAttribArray(1);
-		glBindVertexArray(0);
+	/**
+	 * Returns the Mesh's current buffers (to capture them in a RenderSnapshot).
+	 *
+	 * @return Mesh.buffers
+	 */
+	@Contract(pure = true)
+	@NotNull Buffers getBuffers() {
+		return this.buffers;
 	}
 
 	/**
@@ -181,4 +145,94 @@ final public class Mesh {
 		return mesh;
 	}
 
+	/**
+	 * Vertex and index buffers of a Mesh, with their Vertex Array Objects.
+	 */
+	final static class Buffers extends SnapshotResource {
+
+		/**
+		 * Vertex Buffer Object.
+		 */
+		final private int vbo;
+
+		/**
+		 * Vertex Buffer Object for the triangle's indices.
+		 */
+		final private int vboi;
+
+		/**
+		 * Vertex Array Object in each context (see Window.getContextIndex(), 0 = not created yet).
+		 * Vertex Array Objects aren't shared between contexts, so each one creates its own when it first draws the buffers.
+		 */
+		final private int[] vaos;
+
+		/**
+		 * Number of vertices.
+		 */
+		private int size;
+
+		/**
+		 * Creates a new Buffers instance.
+		 */
+		Buffers() {
+			this.vaos = new int[Window.CONTEXT_COUNT];
+			this.vbo = glGenBuffers();
+			this.vboi = glGenBuffers();
+			this.size = 0;
+		}
+
+		@Override
+		protected void destroy() {
+			// May be called by the finalizer thread, which has no openGL context: each object is deleted later by a context owning it.
+			DeletionQueue.deleteBuffer(this.vboi);
+			DeletionQueue.deleteBuffer(this.vbo);
+			for(int context = 0; context < this.vaos.length; context++) {
+				DeletionQueue.deleteVertexArray(context, this.vaos[context]);
+			}
+		}
+
+		/**
+		 * Creates the Vertex Array Object in the current context.
+		 *
+		 * @return Vertex Array Object's id
+		 */
+		private int createVertexArray() {
+			final int vao = glGenVertexArrays();
+
+			glBindVertexArray(vao);
+			glBindBuffer(GL_ARRAY_BUFFER, this.vbo);
+
+			glVertexAttribPointer(0, 2, GL_FLOAT, false, Vertex.SIZE * 4, 0);
+			glVertexAttribPointer(1, 2, GL_FLOAT, false, Vertex.SIZE * 4, 8);
+
+			glBindBuffer(GL_ARRAY_BUFFER, 0);
+			glBindVertexArray(0);
+
+			return vao;
+		}
+
+		/**
+		 * Draws the buffers on the screen.
+		 */
+		void draw() {
+			final int context = Window.getContextIndex();
+			if(this.vaos[context] == 0) this.vaos[context] = this.createVertexArray();
+
+			glBindVertexArray(this.vaos[context]);
+			glEnableVertexAttribArray(0);
+			glEnableVertexAttribArray(1);
+
+			glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.vboi);
+
+			//glDrawArrays(GL_QUADS, 0, this.size);
+			glDrawElements(GL_TRIANGLES, 6, GL_UNSIGNED_BYTE, 0);
+
+			glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+			glDisableVertexAttribArray(0);
+			glDisableVertexAttribArray(1);
+			glBindVertexArray(0);
+		}
+
+	}
+
 }
\ No newline at end of file
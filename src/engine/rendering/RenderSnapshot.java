@@ -0,0 +1,349 @@
+package engine.rendering;
+
+import engine.game.Transform;
+import engine.game.components.Camera;
+import engine.math.Matrix4f;
+import engine.math.Vector2f;
+import engine.rendering.shader.Shader;
+import engine.rendering.shader.TilemapShader;
+import engine.rendering.texture.Material;
+import engine.rendering.texture.TextureResource;
+import engine.util.Color;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.opengl.GLSync;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.glFlush;
+import static org.lwjgl.opengl.GL32.GL_SYNC_GPU_COMMANDS_COMPLETE;
+import static org.lwjgl.opengl.GL32.GL_TIMEOUT_IGNORED;
+import static org.lwjgl.opengl.GL32.glDeleteSync;
+import static org.lwjgl.opengl.GL32.glFenceSync;
+import static org.lwjgl.opengl.GL32.glWaitSync;
+
+/**
+ * What a frame draws for one simulation state: the Camera's position and the draw list (shader, texture, color,
+ * mesh and the two last world transformations of each draw), in drawing order.
+ * The simulation thread records it with the regular render traversal (Shader.draw() adds to it instead of
+ * drawing), then the render thread draws it as many times as it wants, interpolating the transformations.
+ * It isn't modified while the render thread has it (see SnapshotBuffer), and its arrays are reused.
+ *
+ * Handoff contract: the transformations, colors and Camera positions are copied, and the Meshes' buffers and the
+ * textures are captured (see SnapshotResource): the simulation thread may keep setting vertices, baking and
+ * writing pixels, those go to copies, so a snapshot always draws what was there when it was recorded.
+ */
+final public class RenderSnapshot {
+
+	/**
+	 * Draw of a Mesh with a Shader.
+	 */
+	final private static byte MESH = 0;
+
+	/**
+	 * Draw of a map region with the TilemapShader.
+	 */
+	final private static byte TILEMAP = 1;
+
+	/**
+	 * Initial number of draws the arrays can hold.
+	 */
+	final private static int INITIAL_CAPACITY = 256;
+
+	/**
+	 * RenderSnapshot being recorded (null = Shader.draw() draws right away).
+	 */
+	private static @Nullable RenderSnapshot recording = null;
+
+	/**
+	 * Number of draws.
+	 */
+	private int size;
+
+	/**
+	 * Kind of each draw (RenderSnapshot::MESH or TILEMAP).
+	 */
+	private byte[] kinds;
+
+	/**
+	 * Shader of each draw.
+	 */
+	private Shader[] shaders;
+
+	/**
+	 * Texture of each draw (the tiles' indices for TILEMAP draws), captured.
+	 */
+	private TextureResource[] textures;
+
+	/**
+	 * Color of each draw (copied).
+	 */
+	private Color[] colors;
+
+	/**
+	 * Mesh's buffers of each draw, captured.
+	 */
+	private Mesh.Buffers[] meshes;
+
+	/**
+	 * World transformation of each draw at the tick before last and at the last tick.
+	 */
+	private Matrix4f[] previous, current;
+
+	/**
+	 * Tile set ids and sizes of the TILEMAP draws.
+	 */
+	private int[] tileSets, widths, heights;
+
+	/**
+	 * Camera's position at the tick before last and at the last tick.
+	 */
+	final private @NotNull Vector2f previousCamera, currentCamera;
+
+	/**
+	 * When the last tick's state is current (in ns).
+	 */
+	private long time;
+
+	/**
+	 * Signaled once the OpenGL commands issued before the end of the recording are done (null once waited for).
+	 */
+	private @Nullable GLSync fence;
+
+	/**
+	 * Creates a new RenderSnapshot instance.
+	 */
+	RenderSnapshot() {
+		this.size = 0;
+		this.kinds = new byte[RenderSnapshot.INITIAL_CAPACITY];
+		this.shaders = new Shader[RenderSnapshot.INITIAL_CAPACITY];
+		this.textures = new TextureResource[RenderSnapshot.INITIAL_CAPACITY];
+		this.colors = new Color[RenderSnapshot.INITIAL_CAPACITY];
+		this.meshes = new Mesh.Buffers[RenderSnapshot.INITIAL_CAPACITY];
+		this.previous = new Matrix4f[RenderSnapshot.INITIAL_CAPACITY];
+		this.current = new Matrix4f[RenderSnapshot.INITIAL_CAPACITY];
+		this.tileSets = new int[RenderSnapshot.INITIAL_CAPACITY];
+		this.widths = new int[RenderSnapshot.INITIAL_CAPACITY];
+		this.heights = new int[RenderSnapshot.INITIAL_CAPACITY];
+		this.previousCamera = new Vector2f();
+		this.currentCamera = new Vector2f();
+		this.time = 0;
+		this.fence = null;
+	}
+
+	/**
+	 * Returns the RenderSnapshot being recorded.
+	 *
+	 * @return RenderSnapshot::recording (null = none)
+	 */
+	@Contract(pure = true)
+	public static @Nullable RenderSnapshot getRecording() {
+		return RenderSnapshot.recording;
+	}
+
+	/**
+	 * Starts recording: the draws of the last recording are forgotten, and their resources released.
+	 * The render thread doesn't draw this RenderSnapshot anymore (see SnapshotBuffer).
+	 *
+	 * @param camera Camera the frame is seen from
+	 */
+	void begin(final @NotNull Camera camera) {
+		assert RenderSnapshot.recording == null : "Error: A RenderSnapshot is already being recorded.";
+
+		if(this.fence != null) { // Never drawn: the render thread didn't wait for it.
+			glDeleteSync(this.fence);
+			this.fence = null;
+		}
+
+		for(int i = 0; i < this.size; i++) {
+			this.textures[i].release();
+			this.meshes[i].release();
+		}
+		Arrays.fill(this.shaders, 0, this.size, null);
+		Arrays.fill(this.textures, 0, this.size, null);
+		Arrays.fill(this.meshes, 0, this.size, null);
+		this.size = 0;
+
+		camera.getSimulationPositions(this.previousCamera, this.currentCamera);
+		RenderSnapshot.recording = this;
+	}
+
+	/**
+	 * Ends recording.
+	 *
+	 * @param time When the last tick's state is current (in ns)
+	 */
+	void end(final long time) {
+		RenderSnapshot.recording = null;
+		this.time = time;
+
+		// The render thread's context waits for this one's uploads and bakes before drawing.
+		this.fence = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+		glFlush();
+	}
+
+	/**
+	 * Adds the draw of a Mesh at a Transform's two last simulation states.
+	 *
+	 * @param shader Shader to draw with
+	 * @param material Material to draw with
+	 * @param transform Transform to draw at
+	 * @param mesh Mesh to draw
+	 */
+	public void addMesh(final @NotNull Shader shader, final @NotNull Material material, final @NotNull Transform transform, final @NotNull Mesh mesh) {
+		final int index = this.add(RenderSnapshot.MESH, shader, material.getTexture().getResource(), mesh);
+
+		this.colors[index].set(material.getColor());
+		transform.getSimulationStates(this.previous[index], this.current[index]);
+	}
+
+	/**
+	 * Adds the draw of a Mesh between two world transformations.
+	 *
+	 * @param shader Shader to draw with
+	 * @param material Material to draw with
+	 * @param previous World transformation at the tick before last
+	 * @param current World transformation at the last tick
+	 * @param mesh Mesh to draw
+	 */
+	public void addMesh(final @NotNull Shader shader, final @NotNull Material material, final @NotNull Matrix4f previous, final @NotNull Matrix4f current, final @NotNull Mesh mesh) {
+		final int index = this.add(RenderSnapshot.MESH, shader, material.getTexture().getResource(), mesh);
+
+		this.colors[index].set(material.getColor());
+		this.previous[index].set(previous);
+		this.current[index].set(current);
+	}
+
+	/**
+	 * Adds the draw of a map region with the TilemapShader.
+	 *
+	 * @param transform Region's transform
+	 * @param tileIds Texture of the tiles' indices
+	 * @param tileSet Id of the tile set's texture array
+	 * @param width Region's width (in number of tiles)
+	 * @param height Region's height (in number of tiles)
+	 * @param mesh Region's quad
+	 */
+	public void addTilemap(final @NotNull Transform transform, final @NotNull TextureResource tileIds, final int tileSet, final int width, final int height, final @NotNull Mesh mesh) {
+		final int index = this.add(RenderSnapshot.TILEMAP, TilemapShader.getInstance(), tileIds, mesh);
+
+		this.tileSets[index] = tileSet;
+		this.widths[index] = width;
+		this.heights[index] = height;
+		transform.getSimulationStates(this.previous[index], this.current[index]);
+	}
+
+	/**
+	 * Adds a draw, capturing its texture and its Mesh's buffers.
+	 *
+	 * @param kind RenderSnapshot::MESH or TILEMAP
+	 * @param shader Shader to draw with
+	 * @param texture Texture to draw with
+	 * @param mesh Mesh to draw
+	 * @return Draw's index
+	 */
+	private int add(final byte kind, final @NotNull Shader shader, final @NotNull TextureResource texture, final @NotNull Mesh mesh) {
+		assert RenderSnapshot.recording == this : "Error: The RenderSnapshot isn't being recorded.";
+
+		if(this.size == this.kinds.length) this.grow(2 * this.size);
+
+		final int index = this.size++;
+		this.kinds[index] = kind;
+		this.shaders[index] = shader;
+		this.textures[index] = texture;
+		this.meshes[index] = mesh.getBuffers();
+		texture.capture();
+		this.meshes[index].capture();
+		if(this.colors[index] == null) {
+			this.colors[index] = new Color();
+			this.previous[index] = new Matrix4f();
+			this.current[index] = new Matrix4f();
+		}
+
+		return index;
+	}
+
+	/**
+	 * Grows the arrays.
+	 *
+	 * @param capacity New capacity
+	 */
+	private void grow(final int capacity) {
+		this.kinds = Arrays.copyOf(this.kinds, capacity);
+		this.shaders = Arrays.copyOf(this.shaders, capacity);
+		this.textures = Arrays.copyOf(this.textures, capacity);
+		this.colors = Arrays.copyOf(this.colors, capacity);
+		this.meshes = Arrays.copyOf(this.meshes, capacity);
+		this.previous = Arrays.copyOf(this.previous, capacity);
+		this.current = Arrays.copyOf(this.current, capacity);
+		this.tileSets = Arrays.copyOf(this.tileSets, capacity);
+		this.widths = Arrays.copyOf(this.widths, capacity);
+		this.heights = Arrays.copyOf(this.heights, capacity);
+	}
+
+	/**
+	 * Draws the draw list (on the render thread).
+	 *
+	 * @param projection Camera's projection matrix
+	 * @param interpolation Position of the frame between the two simulation states (0 = the tick before last, 1 = the last)
+	 */
+	void draw(final @NotNull Matrix4f projection, final float interpolation) {
+		if(this.fence != null) {
+			glWaitSync(this.fence, 0, GL_TIMEOUT_IGNORED);
+			glDeleteSync(this.fence);
+			this.fence = null;
+		}
+
+		Shader bound = null;
+		for(int i = 0; i < this.size; i++) {
+			final Shader shader = this.shaders[i];
+			if(shader != bound) {
+				shader.bind();
+				bound = shader;
+			}
+
+			final Matrix4f world = this.previous[i].lerp(this.current[i], interpolation, Matrix4f.getTemporary(1));
+			if(this.kinds[i] == RenderSnapshot.TILEMAP) {
+				((TilemapShader) shader).updateUniforms(world, projection, this.textures[i].getID(), this.tileSets[i], this.widths[i], this.heights[i]);
+			} else {
+				shader.updateUniforms(this.textures[i].getID(), this.colors[i], world, projection);
+			}
+			this.meshes[i].draw();
+		}
+	}
+
+	/**
+	 * Writes the Camera's interpolated position.
+	 *
+	 * @param interpolation Position of the frame between the two simulation states
+	 * @param dest Vector to write in
+	 * @return dest
+	 */
+	@NotNull Vector2f getCameraPosition(final float interpolation, final @NotNull Vector2f dest) {
+		dest.set(this.previousCamera.getX() + (this.currentCamera.getX() - this.previousCamera.getX()) * interpolation, this.previousCamera.getY() + (this.currentCamera.getY() - this.previousCamera.getY()) * interpolation);
+
+		return dest;
+	}
+
+	/**
+	 * Returns when the last tick's state is current.
+	 *
+	 * @return RenderSnapshot.time (in ns)
+	 */
+	@Contract(pure = true)
+	public long getTime() {
+		return this.time;
+	}
+
+	/**
+	 * Returns the number of draws.
+	 *
+	 * @return RenderSnapshot.size
+	 */
+	@Contract(pure = true)
+	public int size() {
+		return this.size;
+	}
+
+}
\ No newline at end of file
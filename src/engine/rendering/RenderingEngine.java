@@ -4,7 +4,10 @@ import engine.game.components.Camera;
 import engine.game.components.GameComponent;
 import engine.game.components.lights.BaseLight;
 import engine.game.objects.GameObject;
+import engine.math.Matrix4f;
+import engine.math.Vector2f;
 import engine.math.Vector3f;
+import engine.rendering.shader.TilemapShader;
 import engine.rendering.shader.forward.AmbientShader;
 import engine.rendering.shader.Shader;
 import engine.util.Color;
@@ -55,25 +58,24 @@ final public class RenderingEngine {
 	 */
 	private BaseLight activeLight;
 
+	/**
+	 * Projection matrix of the frame drawn from a RenderSnapshot (render thread).
+	 */
+	final private @NotNull Matrix4f snapshotProjection;
+
 	/**
 	 * Creates a new RenderingEngine instance.
 	 */
 	public RenderingEngine() {
-		setClearScreenColor(Color.BLACK);
-
-		glDisable(GL_CULL_FACE);
-		glEnable(GL_DEPTH_TEST);
-		glDepthFunc(GL_LEQUAL);
-
-		RenderingEngine.setTextures(true);
-
-		glEnable(GL_BLEND);
-		glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+		if(!Window.isHeadless()) { // Without an openGL context, only the main Camera is used (culling, tick scheduling).
+			RenderingEngine.initContext();
+		}
 
 		this.mainCamera = new Camera();
 		//this.ambientLight = new Color(15, 15, 15);
 		this.ambientLight = new Color(255, 255, 255, 1);
 		this.lights = new ArrayList<>();
+		this.snapshotProjection = new Matrix4f();
 	}
 
 	/**
@@ -82,6 +84,8 @@ final public class RenderingEngine {
 	 * @param object Object to render
 	 */
 	public void render(final @NotNull GameObject object) {
+		this.getMainCamera().beginFrame();
+
 		Profiler.startProfileTimer("Render-WindowClear");
 		Window.bindAsRenderTarget();
 		RenderingEngine.clearScreen();
@@ -113,6 +117,53 @@ final public class RenderingEngine {
 		glDisable(GL_BLEND);*/
 	}
 
+	/**
+	 * Records what rendering a object (and all his children/components) draws, without drawing it.
+	 * Called by the simulation thread, after its ticks.
+	 *
+	 * @param object Object to record
+	 * @param snapshot RenderSnapshot to record in
+	 * @param time When the last tick's state is current (in ns)
+	 */
+	public void record(final @NotNull GameObject object, final @NotNull RenderSnapshot snapshot, final long time) {
+		snapshot.begin(this.getMainCamera());
+
+		try {
+			final Shader ambientShader = AmbientShader.getInstance();
+			ambientShader.setRenderingEngine(this);
+
+			final ArrayList<GameComponent> renderLater = new ArrayList<>();
+			object.render(ambientShader, renderLater);
+			for(final @NotNull GameComponent component : renderLater) {
+				component.render(ambientShader, null);
+			}
+		} finally {
+			snapshot.end(time);
+		}
+	}
+
+	/**
+	 * Draws a RenderSnapshot on the Window.
+	 * Called by the render thread, which owns the Window's context.
+	 *
+	 * @param snapshot RenderSnapshot to draw
+	 * @param interpolation Position of the frame between the snapshot's two simulation states (0 to 1)
+	 */
+	public void draw(final @NotNull RenderSnapshot snapshot, final float interpolation) {
+		Profiler.startProfileTimer("Render-WindowClear");
+		Window.bindAsRenderTarget();
+		RenderingEngine.clearScreen();
+		Profiler.stopProfileTimer("Render-WindowClear");
+
+		final Vector2f position = snapshot.getCameraPosition(interpolation, Vector2f.getTemporary(1));
+		final Matrix4f cameraMatrix = Matrix4f.getTemporary(0).initPosition(-position.getX(), -position.getY(), 0);
+		this.snapshotProjection.initProjection(Window.getRatio()).mul(cameraMatrix, this.snapshotProjection);
+
+		AmbientShader.getInstance().setRenderingEngine(this);
+		TilemapShader.getInstance().setRenderingEngine(this);
+		snapshot.draw(this.snapshotProjection, interpolation);
+	}
+
 	/**
 	 * Returns the environment ambient light.
 	 *
@@ -216,6 +267,23 @@ final public class RenderingEngine {
 		glClearColor(c.getX(), c.getY(), c.getZ(), color.getAlpha());
 	}
 
+	/**
+	 * Sets the openGL state the engine draws with in the current context.
+	 * The state isn't shared between contexts: each one (the Window's and the shared one) must call it once.
+	 */
+	public static void initContext() {
+		RenderingEngine.setClearScreenColor(Color.BLACK);
+
+		glDisable(GL_CULL_FACE);
+		glEnable(GL_DEPTH_TEST);
+		glDepthFunc(GL_LEQUAL);
+
+		RenderingEngine.setTextures(true);
+
+		glEnable(GL_BLEND);
+		glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+	}
+
 	/**
 	 * Enable/disable the textures.
 	 *
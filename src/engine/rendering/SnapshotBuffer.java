@@ -0,0 +1,83 @@
+package engine.rendering;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer of RenderSnapshots between the simulation thread and the render thread.
+ * One is recorded by the simulation thread, one is drawn by the render thread, and the third is the last one
+ * published: the two threads swap theirs with it and never wait for each other. The render thread draws the
+ * latest published RenderSnapshot (the ones it didn't take in time are skipped).
+ */
+final public class SnapshotBuffer {
+
+	/**
+	 * Set in SnapshotBuffer.ready when the RenderSnapshot has been published since the render thread took one.
+	 */
+	final private static int FRESH = 4;
+
+	/**
+	 * The three RenderSnapshots.
+	 */
+	final private @NotNull RenderSnapshot @NotNull [] snapshots;
+
+	/**
+	 * Index of the last published RenderSnapshot (| SnapshotBuffer::FRESH if the render thread hasn't taken it).
+	 */
+	final private @NotNull AtomicInteger ready;
+
+	/**
+	 * Index of the RenderSnapshot recorded by the simulation thread.
+	 */
+	private int writing;
+
+	/**
+	 * Index of the RenderSnapshot drawn by the render thread (-1 until one is published).
+	 */
+	private int reading;
+
+	/**
+	 * Creates a new SnapshotBuffer instance.
+	 */
+	public SnapshotBuffer() {
+		this.snapshots = new RenderSnapshot[] {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+		this.writing = 0;
+		this.ready = new AtomicInteger(1);
+		this.reading = -1;
+	}
+
+	/**
+	 * Returns the RenderSnapshot to record (simulation thread).
+	 *
+	 * @return SnapshotBuffer.snapshots[writing]
+	 */
+	@Contract(pure = true)
+	public @NotNull RenderSnapshot getWriting() {
+		return this.snapshots[this.writing];
+	}
+
+	/**
+	 * Publishes the RenderSnapshot recorded, and takes another one to record next (simulation thread).
+	 */
+	public void publish() {
+		this.writing = this.ready.getAndSet(this.writing | SnapshotBuffer.FRESH) & ~SnapshotBuffer.FRESH;
+	}
+
+	/**
+	 * Takes the last published RenderSnapshot if there is a new one (render thread).
+	 *
+	 * @return RenderSnapshot to draw (null if none has been published yet)
+	 */
+	public @Nullable RenderSnapshot acquire() {
+		if((this.ready.get() & SnapshotBuffer.FRESH) != 0) {
+			final int free = this.reading == -1 ? 2 : this.reading;
+			this.reading = this.ready.getAndSet(free) & ~SnapshotBuffer.FRESH;
+		}
+
+		return this.reading == -1 ? null : this.snapshots[this.reading];
+	}
+
+}
\ No newline at end of file
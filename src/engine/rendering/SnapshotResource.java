@@ -0,0 +1,99 @@
+package engine.rendering;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * OpenGL object a RenderSnapshot can still draw after the simulation thread moved on (a Mesh's buffers, a texture).
+ * A RenderSnapshot captures the resources of its draws while it is recorded, and releases them when it is recorded
+ * again: both on the simulation thread, so the counts aren't shared with the render thread.
+ * The owner of a captured resource never writes into it: it writes into a new one (copy on write) and retires the
+ * old one, which is deleted as soon as the last RenderSnapshot drawing it releases it.
+ */
+public abstract class SnapshotResource {
+
+	/**
+	 * Number of RenderSnapshots drawing the resource.
+	 */
+	private int captures;
+
+	/**
+	 * Has the owner stopped using the resource.
+	 */
+	private boolean retired;
+
+	/**
+	 * Have the OpenGL objects been queued for deletion.
+	 */
+	private volatile boolean deleted;
+
+	/**
+	 * Creates a new SnapshotResource instance.
+	 */
+	protected SnapshotResource() {
+		this.captures = 0;
+		this.retired = false;
+		this.deleted = false;
+	}
+
+	@Override
+	protected void finalize() {
+		try {
+			super.finalize();
+		} catch(final Throwable e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+
+		this.delete();
+	}
+
+	/**
+	 * Queues the OpenGL objects for deletion (see DeletionQueue), only once.
+	 */
+	protected abstract void destroy();
+
+	/**
+	 * Deletes the resource if it hasn't been yet.
+	 */
+	private void delete() {
+		if(this.deleted) return;
+
+		this.deleted = true;
+		this.destroy();
+	}
+
+	/**
+	 * Adds a RenderSnapshot drawing the resource (simulation thread).
+	 */
+	final protected void capture() {
+		this.captures++;
+	}
+
+	/**
+	 * Removes a RenderSnapshot drawing the resource (simulation thread): deletes it if it was the last one and the
+	 * owner has retired it.
+	 */
+	final protected void release() {
+		this.captures--;
+		if(this.captures == 0 && this.retired) this.delete();
+	}
+
+	/**
+	 * Stops using the resource: it is deleted now, or once no RenderSnapshot draws it anymore.
+	 */
+	final public void retire() {
+		this.retired = true;
+		if(this.captures == 0) this.delete();
+	}
+
+	/**
+	 * Returns whether a RenderSnapshot draws the resource, so it mustn't be written into.
+	 *
+	 * @return SnapshotResource.captures != 0
+	 */
+	@Contract(pure = true)
+	final public boolean isCaptured() {
+		return this.captures != 0;
+	}
+
+}
\ No newline at end of file
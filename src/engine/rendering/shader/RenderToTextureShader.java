@@ -36,11 +36,17 @@ public class RenderToTextureShader extends Shader {
 		material.getTexture().bind();
 
 		final Vector2f scale = RenderToTextureShader.getTextureScale();
+		final Vector2f position = transform.getTransformedPosition(Vector2f.getTemporary(0));
 
-		final Matrix4f translationMatrix = new Matrix4f().initPosition(-1 + (transform.getTransformedPosition().getX()) * RenderToTextureShader.getTexturePositionScale().getX(), -1 + (transform.getTransformedPosition().getY()) * RenderToTextureShader.getTexturePositionScale().getY(), 0);
-		final Matrix4f scaleMatrix = new Matrix4f().initScale(scale.getX(), scale.getY(), 1);
-		final Matrix4f m = translationMatrix.mul(scaleMatrix);
-		this.setUniform("transform", m);
+		final Matrix4f translationMatrix = Matrix4f.getTemporary(0).initPosition(-1 + position.getX() * RenderToTextureShader.getTexturePositionScale().getX(), -1 + position.getY() * RenderToTextureShader.getTexturePositionScale().getY(), 0);
+		final Matrix4f scaleMatrix = Matrix4f.getTemporary(1).initScale(scale.getX(), scale.getY(), 1);
+		this.setUniform("transform", translationMatrix.mul(scaleMatrix, translationMatrix));
+	}
+
+	@Override
+	@Contract(pure = true)
+	final public boolean isDrawingOnScreen() {
+		return false;
 	}
 
 	/**
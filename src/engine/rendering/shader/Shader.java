@@ -4,20 +4,31 @@ import engine.game.Transform;
 import engine.math.Matrix4f;
 import engine.math.Vector2f;
 import engine.math.Vector3f;
+import engine.rendering.Mesh;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.texture.Material;
 import engine.rendering.RenderingEngine;
-import engine.util.BufferUtil;
 import engine.util.Color;
 import org.jetbrains.annotations.NotNull;
+import org.lwjgl.BufferUtils;
 
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.glBindTexture;
 import static org.lwjgl.opengl.GL20.*;
 import static org.lwjgl.opengl.GL32.*;
 
 public class Shader {
 
+	/**
+	 * Buffer the matrices are put in to be sent (one per thread: textures are baked on the simulation thread
+	 * while the render thread draws).
+	 */
+	final private static @NotNull ThreadLocal<FloatBuffer> MATRIX_BUFFER = ThreadLocal.withInitial(() -> BufferUtils.createFloatBuffer(16));
+
 	/**
 	 * Shader's program.
 	 */
@@ -158,24 +169,84 @@ public class Shader {
 	 * @param transform transform class
 	 */
 	public void updateUniforms(final @NotNull Material material, final @NotNull Transform transform) {
-		material.getTexture().bind();
+		this.updateUniforms(material.getTexture().getID(), material.getColor(), transform.getRenderTransformation(), this.getRenderingEngine().getMainCamera().getProjectionMatrix());
+	}
+
+	/**
+	 * Updates all the Shader's uniforms from values read beforehand (e.g. from a RenderSnapshot).
+	 *
+	 * @param texture Id of the Material's texture
+	 * @param color Material's color
+	 * @param world World transformation
+	 * @param projection Camera's projection matrix
+	 */
+	public void updateUniforms(final int texture, final @NotNull Color color, final @NotNull Matrix4f world, final @NotNull Matrix4f projection) {
+		glBindTexture(GL_TEXTURE_2D, texture);
 
 		for(final String uniformName : this.uniforms.keySet()) {
 			switch(uniformName) {
 				case "transform" :
-					this.setUniform("transform", transform.getTransformedTransformation());
+					this.setUniform("transform", world);
 					break;
 				case "transformProjected" :
-					final Matrix4f projection = this.getRenderingEngine().getMainCamera().getProjectionMatrix();
-					this.setUniform("transformProjected", projection.mul(transform.getTransformedTransformation()));
+					this.setUniform("transformProjected", projection.mul(world, Matrix4f.getTemporary(0)));
 					break;
 				case "materialColor" :
-					this.setUniform("materialColor", material.getColor());
+					this.setUniform("materialColor", color);
 					break;
 			}
 		}
 	}
 
+	/**
+	 * Draws a Mesh with the Shader, or adds it to the RenderSnapshot being recorded on this thread.
+	 *
+	 * @param material Material to draw with
+	 * @param transform Transform to draw at
+	 * @param mesh Mesh to draw
+	 */
+	public void draw(final @NotNull Material material, final @NotNull Transform transform, final @NotNull Mesh mesh) {
+		final RenderSnapshot snapshot = RenderSnapshot.getRecording();
+
+		if(snapshot != null && this.isDrawingOnScreen()) {
+			snapshot.addMesh(this, material, transform, mesh);
+		} else {
+			this.bind();
+			this.updateUniforms(material, transform);
+			mesh.draw();
+		}
+	}
+
+	/**
+	 * Draws a Mesh at a world transformation which isn't interpolated (e.g. an entity's), or adds it to the
+	 * RenderSnapshot being recorded on this thread.
+	 *
+	 * @param material Material to draw with
+	 * @param world World transformation to draw at
+	 * @param mesh Mesh to draw
+	 */
+	public void draw(final @NotNull Material material, final @NotNull Matrix4f world, final @NotNull Mesh mesh) {
+		final RenderSnapshot snapshot = RenderSnapshot.getRecording();
+
+		if(snapshot != null && this.isDrawingOnScreen()) {
+			snapshot.addMesh(this, material, world, world, mesh);
+		} else {
+			this.bind();
+			this.updateUniforms(material.getTexture().getID(), material.getColor(), world, this.getRenderingEngine().getMainCamera().getProjectionMatrix());
+			mesh.draw();
+		}
+	}
+
+	/**
+	 * Returns whether the Shader draws on the screen: only these draws are recorded in RenderSnapshots,
+	 * the others (e.g. into textures) are done right away on the thread issuing them.
+	 *
+	 * @return true
+	 */
+	public boolean isDrawingOnScreen() {
+		return true;
+	}
+
 	/**
 	 * Returns the rendering engine.
 	 *
@@ -261,7 +332,10 @@ public class Shader {
 	 * @param value Uniform's values to put
 	 */
 	final public void setUniform(final @NotNull String uniformName, final @NotNull Matrix4f value) {
-		glUniformMatrix4(this.uniforms.get(uniformName), true, BufferUtil.createFlippedBuffer(value));
+		final FloatBuffer buffer = Shader.MATRIX_BUFFER.get();
+		buffer.clear();
+		value.store(buffer).flip();
+		glUniformMatrix4(this.uniforms.get(uniformName), true, buffer);
 	}
 
 	/**
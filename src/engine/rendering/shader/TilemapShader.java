@@ -0,0 +1,105 @@
+package engine.rendering.shader;
+
+import engine.game.Transform;
+import engine.math.Matrix4f;
+import engine.math.Vector2f;
+import engine.rendering.Mesh;
+import engine.rendering.RenderSnapshot;
+import engine.rendering.texture.TextureResource;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.glBindTexture;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE1;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
+import static org.lwjgl.opengl.GL30.GL_TEXTURE_2D_ARRAY;
+
+/**
+ * Draws a whole region of the map with one quad: each fragment looks up its tile's index
+ * in an integer texture, then the tile's pixel in a texture array of the tile set.
+ */
+public class TilemapShader extends Shader {
+
+	/**
+	 * TilemapShader's instance.
+	 */
+	final private static @NotNull TilemapShader instance = new TilemapShader();
+
+	/**
+	 * Makes a new TilemapShader instance.
+	 */
+	private TilemapShader() {
+		super("tilemap");
+	}
+
+	/**
+	 * Updates the Shader's uniforms.
+	 *
+	 * @param transform Region's transform
+	 * @param tileIds Id of the texture of the tiles' indices (GL_R8UI, one texel per tile)
+	 * @param tileSet Id of the tile set's texture array (one layer per tile index - 1)
+	 * @param width Region's width (in number of tiles)
+	 * @param height Region's height (in number of tiles)
+	 */
+	final public void updateUniforms(final @NotNull Transform transform, final int tileIds, final int tileSet, final int width, final int height) {
+		this.updateUniforms(transform.getRenderTransformation(), this.getRenderingEngine().getMainCamera().getProjectionMatrix(), tileIds, tileSet, width, height);
+	}
+
+	/**
+	 * Updates the Shader's uniforms from values read beforehand (e.g. from a RenderSnapshot).
+	 *
+	 * @param world Region's world transformation
+	 * @param projection Camera's projection matrix
+	 * @param tileIds Id of the texture of the tiles' indices (GL_R8UI, one texel per tile)
+	 * @param tileSet Id of the tile set's texture array (one layer per tile index - 1)
+	 * @param width Region's width (in number of tiles)
+	 * @param height Region's height (in number of tiles)
+	 */
+	final public void updateUniforms(final @NotNull Matrix4f world, final @NotNull Matrix4f projection, final int tileIds, final int tileSet, final int width, final int height) {
+		glActiveTexture(GL_TEXTURE1);
+		glBindTexture(GL_TEXTURE_2D_ARRAY, tileSet);
+		glActiveTexture(GL_TEXTURE0);
+		glBindTexture(GL_TEXTURE_2D, tileIds);
+
+		this.setUniform("transformProjected", projection.mul(world, Matrix4f.getTemporary(0)));
+		this.setUniform("regionSize", new Vector2f(width, height));
+		this.setUniform("ambientLight", this.getRenderingEngine().getAmbientLight());
+		this.setUniform("tileIds", 0);
+		this.setUniform("tileSet", 1);
+	}
+
+	/**
+	 * Draws a region with the Shader, or adds it to the RenderSnapshot being recorded on this thread.
+	 *
+	 * @param transform Region's transform
+	 * @param tileIds Texture of the tiles' indices
+	 * @param tileSet Id of the tile set's texture array
+	 * @param width Region's width (in number of tiles)
+	 * @param height Region's height (in number of tiles)
+	 * @param mesh Region's quad
+	 */
+	final public void draw(final @NotNull Transform transform, final @NotNull TextureResource tileIds, final int tileSet, final int width, final int height, final @NotNull Mesh mesh) {
+		final RenderSnapshot snapshot = RenderSnapshot.getRecording();
+
+		if(snapshot != null) {
+			snapshot.addTilemap(transform, tileIds, tileSet, width, height, mesh);
+		} else {
+			this.bind();
+			this.updateUniforms(transform, tileIds.getID(), tileSet, width, height);
+			mesh.draw();
+		}
+	}
+
+	/**
+	 * Returns the TilemapShader's instance.
+	 *
+	 * @return TilemapShader's instance
+	 */
+	@Contract(pure = true)
+	public static @NotNull TilemapShader getInstance() {
+		return TilemapShader.instance;
+	}
+
+}
\ No newline at end of file
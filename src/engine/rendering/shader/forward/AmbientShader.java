@@ -1,8 +1,8 @@
 package engine.rendering.shader.forward;
 
-import engine.game.Transform;
-import engine.rendering.texture.Material;
+import engine.math.Matrix4f;
 import engine.rendering.shader.Shader;
+import engine.util.Color;
 import org.jetbrains.annotations.NotNull;
 
 public class AmbientShader extends Shader {
@@ -20,8 +20,8 @@ public class AmbientShader extends Shader {
 	}
 
 	@Override
-	final public void updateUniforms(final @NotNull Material material, final @NotNull Transform transform) {
-		super.updateUniforms(material, transform);
+	final public void updateUniforms(final int texture, final @NotNull Color color, final @NotNull Matrix4f world, final @NotNull Matrix4f projection) {
+		super.updateUniforms(texture, color, world, projection);
 
 		this.setUniform("ambientLight", this.getRenderingEngine().getAmbientLight());
 	}
@@ -46,8 +46,8 @@ public class SpotShader extends Shader {
 
 		final Matrix4f projection = this.getRenderingEngine().getMainCamera().getProjectionMatrix();
 
-		this.setUniform("transform", transform.getTransformedTransformation());
-		this.setUniform("transformProjected", projection.mul(transform.getTransformedTransformation()));
+		this.setUniform("transform", transform.getRenderTransformation());
+		this.setUniform("transformProjected", projection.mul(transform.getRenderTransformation(), Matrix4f.getTemporary(0)));
 		this.setUniform("spotLight", (SpotLight) this.getRenderingEngine().getActiveLight());
 	}
 
@@ -5,6 +5,7 @@ import engine.util.BufferUtil;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.lwjgl.BufferUtils;
 
 import java.awt.image.BufferedImage;
 import java.nio.ByteBuffer;
@@ -22,18 +23,19 @@ import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_S;
 import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_T;
 import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
 import static org.lwjgl.opengl.GL11.glBindTexture;
-import static org.lwjgl.opengl.GL11.glDrawBuffer;
+import static org.lwjgl.opengl.GL11.glCopyTexSubImage2D;
 import static org.lwjgl.opengl.GL11.glGenTextures;
+import static org.lwjgl.opengl.GL11.glGetTexImage;
 import static org.lwjgl.opengl.GL11.glTexImage2D;
 import static org.lwjgl.opengl.GL11.glTexParameterf;
 import static org.lwjgl.opengl.GL11.glTexParameteri;
+import static org.lwjgl.opengl.GL11.glTexSubImage2D;
 import static org.lwjgl.opengl.GL11.glViewport;
-import static org.lwjgl.opengl.GL30.GL_DEPTH_ATTACHMENT;
+import static org.lwjgl.opengl.GL30.GL_COLOR_ATTACHMENT0;
 import static org.lwjgl.opengl.GL30.GL_DRAW_FRAMEBUFFER;
-import static org.lwjgl.opengl.GL30.GL_FRAMEBUFFER;
-import static org.lwjgl.opengl.GL30.GL_FRAMEBUFFER_COMPLETE;
+import static org.lwjgl.opengl.GL30.GL_READ_FRAMEBUFFER;
 import static org.lwjgl.opengl.GL30.glBindFramebuffer;
-import static org.lwjgl.opengl.GL30.glCheckFramebufferStatus;
+import static org.lwjgl.opengl.GL30.glDeleteFramebuffers;
 import static org.lwjgl.opengl.GL30.glFramebufferTexture2D;
 import static org.lwjgl.opengl.GL30.glGenFramebuffers;
 
@@ -98,6 +100,20 @@ final public class Texture extends Image {
 		this(width, height, pixels, GL_NONE);
 	}
 
+	/**
+	 * Creates a new Texture instance from raw RGBA bytes (uploaded as they are).
+	 *
+	 * @param width Texture's width
+	 * @param height Texture's height
+	 * @param pixels Texture's pixels (4 bytes per pixel, flipped)
+	 * @param attachment Texture's attachment
+	 */
+	public Texture(final int width, final int height, final @NotNull ByteBuffer pixels, final int attachment) {
+		assert pixels.remaining() == width * height * 4 : "Error: " + pixels.remaining() + " bytes were given for a " + width + "x" + height + " texture.";
+
+		this.createTexture(Texture.generateTexture(width, height, pixels), attachment);
+	}
+
 	/**
 	 * Creates a new Texture instance.
 	 *
@@ -152,27 +168,8 @@ final public class Texture extends Image {
 	private void createTexture(final int[] params, final int attachment) {
 		assert params.length == 3 : "Error: params has a length of " + params.length + ", 3 params are required.";
 
-		final int id = params[0];
-		final int width = params[1];
-		final int height = params[2];
-
-		int fbo = 0;
-
-		if(attachment != GL_NONE) {
-			fbo = glGenFramebuffers();
-			glBindFramebuffer(GL_DRAW_FRAMEBUFFER, fbo);
-			glFramebufferTexture2D(GL_DRAW_FRAMEBUFFER, attachment, GL_TEXTURE_2D, id, 0);
-
-			if(fbo == 0) {
-				this.resource = null;
-				return;
-			}
-
-			glDrawBuffer(attachment == GL_DEPTH_ATTACHMENT ? GL_NONE : attachment);
-			assert glCheckFramebufferStatus(GL_FRAMEBUFFER) == GL_FRAMEBUFFER_COMPLETE : "FrameBuffer creation failed.\nThis might be caused by the texture size that is too big:\nWidth: " + width + "px ; Height: " + height + "px";
-		}
-
-		this.resource = new TextureResource(id, fbo, width, height, attachment);
+		// The fbo (if attachment != GL_NONE) is created by each context binding the Texture as a render target.
+		this.resource = new TextureResource(params[0], params[1], params[2], attachment);
 	}
 
 	@Override
@@ -192,17 +189,75 @@ final public class Texture extends Image {
 	 * Binds the Texture to render into it.
 	 */
 	public void bindAsRenderTarget() {
+		this.copyIfCaptured();
 		glBindFramebuffer(GL_DRAW_FRAMEBUFFER, this.getFBO());
 		glViewport(0, 0, this.getWidth(), this.getHeight());
 	}
 
 	/**
-	 * Returns the Texture's resource.
+	 * Reads the Texture's pixels back from the graphic card.
+	 *
+	 * @return new ByteBuffer (4 bytes per pixel, same layout as the one uploaded)
+	 */
+	public @NotNull ByteBuffer getPixels() {
+		final ByteBuffer pixels = BufferUtils.createByteBuffer(this.getWidth() * this.getHeight() * 4);
+
+		this.bind();
+		glGetTexImage(GL_TEXTURE_2D, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+
+		return pixels;
+	}
+
+	/**
+	 * Replaces a rectangle of the Texture's pixels.
+	 *
+	 * @param x Rectangle's first column
+	 * @param y Rectangle's first row
+	 * @param width Rectangle's width
+	 * @param height Rectangle's height
+	 * @param pixels Rectangle's pixels (4 bytes per pixel, same layout as the one uploaded)
+	 */
+	public void setPixels(final int x, final int y, final int width, final int height, final @NotNull ByteBuffer pixels) {
+		assert pixels.remaining() == width * height * 4 : "Error: " + pixels.remaining() + " bytes were given for a " + width + "x" + height + " rectangle.";
+
+		this.copyIfCaptured();
+		this.bind();
+		glTexSubImage2D(GL_TEXTURE_2D, 0, x, y, width, height, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+	}
+
+	/**
+	 * Gives the Texture a copy of its resource if a RenderSnapshot still draws it (see SnapshotResource), so that
+	 * writing into the Texture doesn't change the frames already recorded.
+	 * At most one copy is made per recording: the copy isn't captured until the next one.
+	 */
+	private void copyIfCaptured() {
+		final TextureResource captured = this.getResource();
+		if(!captured.isCaptured()) return;
+
+		final int[] params = Texture.generateTexture(captured.getWidth(), captured.getHeight(), null);
+		final int fbo = glGenFramebuffers();
+		glBindFramebuffer(GL_READ_FRAMEBUFFER, fbo);
+		glFramebufferTexture2D(GL_READ_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, captured.getID(), 0);
+		glBindTexture(GL_TEXTURE_2D, params[0]);
+		glCopyTexSubImage2D(GL_TEXTURE_2D, 0, 0, 0, 0, 0, captured.getWidth(), captured.getHeight());
+		glBindFramebuffer(GL_READ_FRAMEBUFFER, 0);
+		glDeleteFramebuffers(fbo);
+
+		this.createTexture(params, captured.getAttachment());
+		if(captured.removeReference()) {
+			if(this.getFilename() != null) Texture.loadedTextures.remove(this.getFilename());
+			captured.retire();
+		}
+		this.filename = null; // The copy isn't the file's anymore.
+	}
+
+	/**
+	 * Returns the Texture's resource (the one a RenderSnapshot captures).
 	 *
 	 * @return Texture.resource
 	 */
 	@Contract(pure = true)
-	private TextureResource getResource() {
+	public @NotNull TextureResource getResource() {
 		return this.resource;
 	}
 
@@ -247,11 +302,10 @@ final public class Texture extends Image {
 	}
 
 	/**
-	 * Returns the Texture's fbo.
+	 * Returns the Texture's fbo in the current context.
 	 *
-	 * @return Texture.resource.fbo
+	 * @return Texture.resource.getFBO()
 	 */
-	@Contract(pure = true)
 	private int getFBO() {
 		return this.getResource().getFBO();
 	}
@@ -317,18 +371,20 @@ final public class Texture extends Image {
 	 * @return new int[3]
 	 */
 	private static int @NotNull [] generateTexture(final int width, final int height, final boolean hasAlpha, final int[] pixels) {
-		final ByteBuffer buffer = BufferUtil.createFlippedBuffer(width, height, hasAlpha, pixels);
+		return Texture.generateTexture(width, height, BufferUtil.createFlippedBuffer(width, height, hasAlpha, pixels));
+	}
 
+	/**
+	 * Generates the Texture from a flipped RGBA buffer and returns its id, width and height.
+	 *
+	 * @param width Texture's width
+	 * @param height Texture's height
+	 * @param buffer Texture's pixels (4 bytes per pixel, null = left undefined)
+	 * @return new int[3]
+	 */
+	private static int @NotNull [] generateTexture(final int width, final int height, final @Nullable ByteBuffer buffer) {
 		final int id = glGenTextures();
 
-		// Check if the id is not an id that has to be removed
-		for(int i = 0; i < TextureResource.buffersToDelete.size(); i++) {
-			if(id == TextureResource.buffersToDelete.get(i)) {
-				TextureResource.buffersToDelete.remove(i);
-				break;
-			}
-		}
-
 		glBindTexture(GL_TEXTURE_2D, id);
 
 		glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_REPEAT);
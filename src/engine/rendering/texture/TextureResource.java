@@ -1,20 +1,26 @@
 package engine.rendering.texture;
 
+import engine.rendering.DeletionQueue;
+import engine.rendering.SnapshotResource;
+import engine.util.Window;
 import org.jetbrains.annotations.Contract;
 
-import java.util.ArrayList;
+import static org.lwjgl.opengl.GL11.GL_NONE;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.glDrawBuffer;
+import static org.lwjgl.opengl.GL30.GL_DEPTH_ATTACHMENT;
+import static org.lwjgl.opengl.GL30.GL_DRAW_FRAMEBUFFER;
+import static org.lwjgl.opengl.GL30.GL_FRAMEBUFFER_COMPLETE;
+import static org.lwjgl.opengl.GL30.glBindFramebuffer;
+import static org.lwjgl.opengl.GL30.glCheckFramebufferStatus;
+import static org.lwjgl.opengl.GL30.glFramebufferTexture2D;
+import static org.lwjgl.opengl.GL30.glGenFramebuffers;
 
-public class TextureResource {
-
-    /**
-     * Buffers to delete.
-     */
-    final public static ArrayList<Integer> buffersToDelete = new ArrayList<>();
-
-    /**
-     * FBOs to delete.
-     */
-    final public static ArrayList<Integer> fboToDelete = new ArrayList<>();
+/**
+ * OpenGL texture, shared by the Textures loaded from the same file.
+ * RenderSnapshots capture it rather than the Texture, so the Texture writes into a copy while they draw it.
+ */
+public class TextureResource extends SnapshotResource {
 
     /**
      * Texture's id.
@@ -22,9 +28,11 @@ public class TextureResource {
     final private int id;
 
     /**
-     * Texture's frame buffer object.
+     * Texture's frame buffer object in each context (see Window.getContextIndex(), 0 = not created yet).
+     * Frame buffer objects aren't shared between contexts, so each one creates its own when it first renders
+     * into the Texture.
      */
-    final private int fbo;
+    final private int[] fbos;
 
     /**
      * Texture's width.
@@ -50,38 +58,28 @@ public class TextureResource {
      * Creates a new TextureResource instance.
      *
      * @param id Texture's id
-     * @param fbo Texture's fbo
      * @param width Texture's width (in px)
      * @param height Texture's height (in px).
-     * @param attachment Texture's attachment
+     * @param attachment Texture's attachment (GL_NONE if it isn't rendered into)
      */
-    TextureResource(final int id, final int fbo, final int width, final int height, final int attachment) {
+    public TextureResource(final int id, final int width, final int height, final int attachment) {
         this.id = id;
-        this.fbo = fbo;
+        this.fbos = new int[Window.CONTEXT_COUNT];
         this.width = width;
         this.height = height;
         this.attachment = attachment;
         this.referenceCount = 1;
     }
 
-    @Override
-    final protected void finalize() {
-        try {
-            super.finalize();
-        } catch(final Throwable e) {
-            e.printStackTrace();
-            System.exit(1);
-        }
-
-        this.destroy();
-    }
-
     /**
      * Destroy the texture from the memory.
      */
-    final void destroy() {
-        TextureResource.buffersToDelete.add(this.getID());
-        TextureResource.fboToDelete.add(this.getFBO());
+    @Override
+    final protected void destroy() {
+        DeletionQueue.deleteTexture(this.getID());
+        for(int context = 0; context < this.fbos.length; context++) {
+            DeletionQueue.deleteFramebuffer(context, this.fbos[context]);
+        }
     }
 
     /**
@@ -90,7 +88,7 @@ public class TextureResource {
      * @return TextureResource.id
      */
     @Contract(pure = true)
-    final int getID() {
+    final public int getID() {
         return this.id;
     }
 
@@ -115,13 +113,33 @@ public class TextureResource {
     }
 
     /**
-     * Returns the Texture's fbo.
+     * Returns the Texture's fbo in the current context (created if it doesn't exist yet).
      *
-     * @return TextureResource.fbo
+     * @return TextureResource.fbos[Window.getContextIndex()]
      */
-    @Contract(pure = true)
     final int getFBO() {
-        return this.fbo;
+        final int context = Window.getContextIndex();
+        if(this.fbos[context] == 0) this.fbos[context] = this.createFBO();
+
+        return this.fbos[context];
+    }
+
+    /**
+     * Creates a frame buffer object rendering into the Texture, in the current context.
+     *
+     * @return Frame buffer object's id
+     */
+    private int createFBO() {
+        assert this.getAttachment() != GL_NONE : "Error: The Texture has no attachment, it can't be rendered into.";
+
+        final int fbo = glGenFramebuffers();
+        glBindFramebuffer(GL_DRAW_FRAMEBUFFER, fbo);
+        glFramebufferTexture2D(GL_DRAW_FRAMEBUFFER, this.getAttachment(), GL_TEXTURE_2D, this.getID(), 0);
+
+        glDrawBuffer(this.getAttachment() == GL_DEPTH_ATTACHMENT ? GL_NONE : this.getAttachment());
+        assert glCheckFramebufferStatus(GL_DRAW_FRAMEBUFFER) == GL_FRAMEBUFFER_COMPLETE : "FrameBuffer creation failed.\nThis might be caused by the texture size that is too big:\nWidth: " + this.getWidth() + "px ; Height: " + this.getHeight() + "px";
+
+        return fbo;
     }
 
     /**
@@ -19,13 +19,7 @@ final public class BufferUtil {
 	public static @NotNull FloatBuffer createFlippedBuffer(final Matrix4f matrix) {
 		final FloatBuffer buffer = BufferUtils.createFloatBuffer(16);
 
-		for(int i = 0; i < 4; i++) {
-			for(int j = 0; j < 4; j++) {
-				buffer.put(matrix.get(i, j));
-			}
-		}
-
-		buffer.flip();
+		matrix.store(buffer).flip();
 
 		return buffer;
 	}
@@ -0,0 +1,128 @@
+package engine.util;
+
+import engine.util.profiling.Profiler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits until an exact deadline (the next tick or frame) instead of polling with Thread.sleep(1).
+ * The thread is parked until the deadline minus a slack (parking overshoots by up to the OS timer's granularity),
+ * then it spins for the rest of the wait. The gap between each deadline and the actual wake up (the jitter) is
+ * measured and reported to the Profiler.
+ */
+final public class FramePacer {
+
+	/**
+	 * Name of the pacer's statistic in the Profiler.
+	 */
+	final private @NotNull String name;
+
+	/**
+	 * Time before the deadline from which the thread spins instead of being parked (in ns, read at each wait).
+	 */
+	final private @NotNull AtomicLong slack;
+
+	/**
+	 * Number of waits since the last report.
+	 */
+	private int waits;
+
+	/**
+	 * Sum of the waits' jitter since the last report (in ns).
+	 */
+	private long totalJitter;
+
+	/**
+	 * Highest jitter since the last report (in ns).
+	 */
+	private long maxJitter;
+
+	/**
+	 * Creates a new FramePacer instance with a fixed slack.
+	 *
+	 * @param name Name of the pacer's statistic in the Profiler
+	 * @param slack Time before the deadline from which the thread spins instead of being parked (in ns, 0 = never spins)
+	 */
+	public FramePacer(final @NotNull String name, final long slack) {
+		this(name, new AtomicLong(slack));
+	}
+
+	/**
+	 * Creates a new FramePacer instance.
+	 *
+	 * @param name Name of the pacer's statistic in the Profiler
+	 * @param slack Reference to the time before the deadline from which the thread spins instead of being parked
+	 *              (in ns, 0 = never spins), so that it can be changed while running (e.g. Options::FRAME_PACING_SLACK)
+	 */
+	public FramePacer(final @NotNull String name, final @NotNull AtomicLong slack) {
+		assert slack.get() >= 0 : "Error: The slack of a FramePacer can't be negative.";
+
+		this.name = name;
+		this.slack = slack;
+		this.waits = 0;
+		this.totalJitter = 0L;
+		this.maxJitter = 0L;
+	}
+
+	/**
+	 * Waits until a deadline (returns right away if it has passed).
+	 *
+	 * @param deadline Time to wake up at (see Time.getNanoTime(), in ns)
+	 */
+	public void waitUntil(final long deadline) {
+		long remaining = deadline - Time.getNanoTime();
+		if(remaining <= 0) return;
+
+		final long slack = Math.max(0L, this.slack.get());
+		while(remaining > slack) {
+			LockSupport.parkNanos(remaining - slack);
+			remaining = deadline - Time.getNanoTime();
+		}
+
+		while(remaining > 0) {
+			Thread.onSpinWait(); // Tells the CPU it's a spin loop: less power, and the core's other hyper-thread runs faster.
+			remaining = deadline - Time.getNanoTime();
+		}
+
+		this.record(-remaining);
+	}
+
+	/**
+	 * Records a wait's jitter.
+	 *
+	 * @param jitter Time between the deadline and the wake up (in ns)
+	 */
+	private synchronized void record(final long jitter) {
+		this.waits++;
+		this.totalJitter += jitter;
+		this.maxJitter = Math.max(this.maxJitter, jitter);
+	}
+
+	/**
+	 * Reports the jitter since the last report to the Profiler, then resets it.
+	 */
+	public synchronized void report() {
+		if(Profiler.isOn()) {
+			final double average = this.waits == 0 ? 0.0 : (double) this.totalJitter / this.waits * Time.NANO_TO_MILLI;
+			Profiler.setStatistic(this.name, "average " + average + " ms   (max " + this.maxJitter * Time.NANO_TO_MILLI + " ms, " + this.waits + " waits)");
+		}
+
+		this.waits = 0;
+		this.totalJitter = 0L;
+		this.maxJitter = 0L;
+	}
+
+	/**
+	 * Returns the time before the deadline from which the thread spins instead of being parked.
+	 *
+	 * @return FramePacer.slack (in ns)
+	 */
+	@Contract(pure = true)
+	public long getSlack() {
+		return this.slack.get();
+	}
+
+}
\ No newline at end of file
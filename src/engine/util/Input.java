@@ -5,6 +5,7 @@ import engine.math.Vector2f;
 import engine.util.profiling.Profiler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.input.Keyboard;
 import org.lwjgl.input.Mouse;
@@ -12,6 +13,7 @@ import org.lwjgl.input.Mouse;
 import java.awt.Toolkit;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 final public class Input {
 
@@ -641,6 +643,61 @@ final public class Input {
 	 */
 	private static boolean blockKeys;
 
+	/**
+	 * Set in the pending events of key or mouse button presses.
+	 */
+	final private static int PRESSED = 1 << 16;
+
+	/**
+	 * Set in the pending events of mouse buttons.
+	 */
+	final private static int MOUSE = 1 << 17;
+
+	/**
+	 * Guards what Input.poll() hands to the next Input.update(): the pending events, scroll and cursor requests.
+	 */
+	final private static Object LOCK = new Object();
+
+	/**
+	 * Key and mouse button events polled since the last update (code | Input::PRESSED | Input::MOUSE).
+	 */
+	private static int[] pendingEvents = new int[64];
+
+	/**
+	 * Number of pending events.
+	 */
+	private static int pendingCount = 0;
+
+	/**
+	 * Scroll polled since the last update.
+	 */
+	private static int pendingScroll = 0;
+
+	/**
+	 * Mouse position at the last poll (in px).
+	 */
+	private static int polledMouseX = 0, polledMouseY = 0;
+
+	/**
+	 * Mouse position and scroll at the last update (in px).
+	 */
+	private static int mouseX = 0, mouseY = 0, scrollAmount = 0;
+
+	/**
+	 * Cursor position requested by Input.setMousePosition() (null = none), applied at the next poll.
+	 */
+	private static @Nullable Vector2f requestedMousePosition = null;
+
+	/**
+	 * Cursor grab requested by Input.setCursorVisibility() (null = none), applied at the next poll.
+	 */
+	private static @Nullable Boolean requestedGrab = null;
+
+	/**
+	 * Was the cursor grabbed at the last poll.
+	 */
+	private static volatile boolean grabbed = false;
+
 	/**
 	 * Initializes the inputs.
 	 */
@@ -671,7 +728,58 @@ final public class Input {
 	}
 
 	/**
-	 * Updates all the inputs for the current frame.
+	 * Polls the keyboard and the mouse, for the next Input.update().
+	 * LWJGL's Keyboard and Mouse aren't thread safe: they're only used here, by the thread owning the Window (after
+	 * Window.render() processed its messages), while the simulation may run on another thread.
+	 */
+	public static void poll() {
+		synchronized(Input.LOCK) {
+			while(Keyboard.next()) {
+				final int code = Keyboard.getEventKey();
+
+				if(code == 0 || code < Input.NUM_KEYCODES) {
+					Input.addPendingEvent(code | (Keyboard.getEventKeyState() ? Input.PRESSED : 0));
+				}
+			}
+
+			while(Mouse.next()) {
+				final int code = Mouse.getEventButton();
+
+				if(code >= 0 && (code == 0 || code < Input.NUM_MOUSEBUTTONS)) {
+					Input.addPendingEvent(code | Input.MOUSE | (Mouse.getEventButtonState() ? Input.PRESSED : 0));
+				}
+			}
+
+			Input.pendingScroll += Mouse.getDWheel();
+
+			if(Input.requestedMousePosition != null) {
+				Mouse.setCursorPosition((int) Input.requestedMousePosition.getX(), (int) Input.requestedMousePosition.getY());
+				Input.requestedMousePosition = null;
+			}
+			if(Input.requestedGrab != null) {
+				Mouse.setGrabbed(Input.requestedGrab);
+				Input.requestedGrab = null;
+			}
+
+			Input.polledMouseX = Mouse.getX();
+			Input.polledMouseY = Mouse.getY();
+			Input.grabbed = Mouse.isGrabbed();
+		}
+	}
+
+	/**
+	 * Adds a polled event (Input.LOCK held).
+	 *
+	 * @param event Key or mouse button code | Input::PRESSED | Input::MOUSE
+	 */
+	private static void addPendingEvent(final int event) {
+		if(Input.pendingCount == Input.pendingEvents.length) Input.pendingEvents = Arrays.copyOf(Input.pendingEvents, 2 * Input.pendingCount);
+
+		Input.pendingEvents[Input.pendingCount++] = event;
+	}
+
+	/**
+	 * Updates all the inputs for the current tick, from what has been polled since the last one.
 	 */
 	public static void update() {
 		Profiler.startProfileTimer("Input-Update");
@@ -682,34 +790,34 @@ final public class Input {
 		Input.keysPressedThisFrame.clear();
 		Input.mouseButtonsPressedThisFrame.clear();
 
-		while(Keyboard.next()) {
-			final int code = Keyboard.getEventKey();
-
-			if(code == 0 || code < Input.NUM_KEYCODES) {
-				if(Keyboard.getEventKeyState()) {
-					Input.currentKeys[code] = true;
-					Input.lastKeyPressed = code;
-					Input.lastTimeKeyPressed = Time.getNanoTime();
-					Input.keysPressedThisFrame.add(code);
+		synchronized(Input.LOCK) {
+			for(int i = 0; i < Input.pendingCount; i++) {
+				final int event = Input.pendingEvents[i];
+				final int code = event & 0xFFFF;
+				final boolean pressed = (event & Input.PRESSED) != 0;
+
+				if((event & Input.MOUSE) != 0) {
+					Input.currentMouse[code] = pressed;
+					if(pressed) {
+						Input.lastMouseButtonPressed = code;
+						Input.lastTimeMouseButtonPressed = Time.getNanoTime();
+						Input.mouseButtonsPressedThisFrame.add(code);
+					}
 				} else {
-					Input.currentKeys[code] = false;
+					Input.currentKeys[code] = pressed;
+					if(pressed) {
+						Input.lastKeyPressed = code;
+						Input.lastTimeKeyPressed = Time.getNanoTime();
+						Input.keysPressedThisFrame.add(code);
+					}
 				}
 			}
-		}
-
-		while(Mouse.next()) {
-			final int code = Mouse.getEventButton();
+			Input.pendingCount = 0;
 
-			if(code >= 0 && (code == 0 || code < Input.NUM_MOUSEBUTTONS)) {
-				if(Mouse.getEventButtonState()) {
-					Input.currentMouse[code] = true;
-					Input.lastMouseButtonPressed = code;
-					Input.lastTimeMouseButtonPressed = Time.getNanoTime();
-					Input.mouseButtonsPressedThisFrame.add(code);
-				} else {
-					Input.currentMouse[code] = false;
-				}
-			}
+			Input.scrollAmount = Input.pendingScroll;
+			Input.pendingScroll = 0;
+			Input.mouseX = Input.polledMouseX;
+			Input.mouseY = Input.polledMouseY;
 		}
 		Profiler.stopProfileTimer("Input-Update");
 	}
@@ -918,7 +1026,7 @@ final public class Input {
 	@Contract(pure = true)
 	public static boolean getKey(final int keyCode, final boolean overrideBlock) {
 		if(!overrideBlock && Input.blockKeys) return false;
-		return Keyboard.isKeyDown(keyCode);
+		return Input.currentKeys[keyCode];
 	}
 
 	/**
@@ -1015,7 +1123,7 @@ final public class Input {
 	 * @return Mouse button is being clicked ?
 	 */
 	public static boolean getMouse(final int mouseButton) {
-		return Mouse.isButtonDown(mouseButton);
+		return Input.currentMouse[mouseButton];
 	}
 
 	/**
@@ -1075,34 +1183,39 @@ final public class Input {
 	 * @return Mouse position (x ; y)
 	 */
 	public static @NotNull Vector2f getMousePosition() {
-		return new Vector2f(Mouse.getX(), Mouse.getY());
+		return new Vector2f(Input.mouseX, Input.mouseY);
 	}
 
 	/**
-	 * Sets the mouse position.
+	 * Sets the mouse position (at the next poll).
 	 *
 	 * @param pos Position to set
 	 */
 	public static void setMousePosition(final @NotNull Vector2f pos) {
-		Mouse.setCursorPosition((int) pos.getX(), (int) pos.getY());
+		synchronized(Input.LOCK) {
+			Input.requestedMousePosition = new Vector2f(pos);
+		}
 	}
 
 	/**
-	 * Return how much the user scrolled over the last frame (positive is up).
+	 * Return how much the user scrolled over the last tick (positive is up).
 	 *
-	 * @return new int
+	 * @return Input.scrollAmount
 	 */
+	@Contract(pure = true)
 	public static int getScrollAmount() {
-		return Mouse.getDWheel();
+		return Input.scrollAmount;
 	}
 
 	/**
-	 * Sets if the mouse cursor is visible.
+	 * Sets if the mouse cursor is visible (at the next poll).
 	 *
 	 * @param enabled true = mouse cursor visible
 	 */
 	public static void setCursorVisibility(final boolean enabled) {
-		Mouse.setGrabbed(!enabled);
+		synchronized(Input.LOCK) {
+			Input.requestedGrab = !enabled;
+		}
 	}
 
 	/**
@@ -1112,7 +1225,7 @@ final public class Input {
 	 */
 	@Contract(pure = true)
 	public static boolean isCursorVisible() {
-		return Mouse.isGrabbed();
+		return Input.grabbed;
 	}
 
 }
\ No newline at end of file
@@ -3,11 +3,14 @@ package engine.util;
 import engine.math.Vector2f;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.opengl.ContextAttribs;
 import org.lwjgl.opengl.Display;
 import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.Drawable;
 import org.lwjgl.opengl.PixelFormat;
+import org.lwjgl.opengl.SharedDrawable;
 
 import java.nio.ByteBuffer;
 
@@ -17,6 +20,26 @@ import static org.lwjgl.opengl.GL30.glBindFramebuffer;
 
 final public class Window {
 
+	/**
+	 * Number of openGL contexts (the Window's and the one shared with it).
+	 */
+	final public static int CONTEXT_COUNT = 2;
+
+	/**
+	 * Thread the context shared with the Window's is current in (null = none).
+	 */
+	private static volatile @Nullable Thread sharedContextThread = null;
+
+	/**
+	 * Is there no actual window (headless CoreEngine): nothing is displayed and there's no openGL context.
+	 */
+	private static boolean headless = false;
+
+	/**
+	 * Size given to Window.createHeadless() (in px).
+	 */
+	private static int headlessWidth, headlessHeight;
+
 	/**
 	 * Creates the main window for the application.
 	 *
@@ -36,13 +59,93 @@ final public class Window {
 		}
 	}
 
+	/**
+	 * Sets up a Window that isn't displayed, without an openGL context: only its size is kept, so the cameras'
+	 * projections and the culling work the same as with a real one.
+	 *
+	 * @param width Window's width (in px)
+	 * @param height Window's height (in px)
+	 */
+	public static void createHeadless(final int width, final int height) {
+		Window.headless = true;
+		Window.headlessWidth = width;
+		Window.headlessHeight = height;
+	}
+
+	/**
+	 * Returns whether the Window is headless (created with Window.createHeadless()).
+	 *
+	 * @return Window::headless
+	 */
+	@Contract(pure = true)
+	public static boolean isHeadless() {
+		return Window.headless;
+	}
+
+	/**
+	 * Creates an openGL context sharing the Window's objects (textures, buffers, shaders, ...).
+	 * Must be called from the thread the Window's context is current in.
+	 *
+	 * @return new Drawable
+	 */
+	public static @NotNull Drawable createSharedContext() {
+		try {
+			return new SharedDrawable(Display.getDrawable());
+		} catch(final LWJGLException e) {
+			e.printStackTrace();
+			System.exit(1);
+			return null;
+		}
+	}
+
+	/**
+	 * Makes a context created with Window.createSharedContext() current in the calling thread.
+	 *
+	 * @param context Shared context
+	 */
+	public static void useSharedContext(final @NotNull Drawable context) {
+		try {
+			context.makeCurrent();
+		} catch(final LWJGLException e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+
+		Window.sharedContextThread = Thread.currentThread();
+	}
+
+	/**
+	 * Releases the shared context from the calling thread.
+	 *
+	 * @param context Shared context
+	 */
+	public static void releaseSharedContext(final @NotNull Drawable context) {
+		try {
+			context.releaseContext();
+			context.destroy();
+		} catch(final LWJGLException e) {
+			e.printStackTrace();
+		}
+
+		Window.sharedContextThread = null;
+	}
+
+	/**
+	 * Returns the index of the context current in the calling thread (for per-context objects).
+	 *
+	 * @return 0 (Window's context) or 1 (shared context)
+	 */
+	public static int getContextIndex() {
+		return Thread.currentThread() == Window.sharedContextThread ? 1 : 0;
+	}
+
 	/**
 	 * Returns if the user requested to close to Window.
 	 *
 	 * @return Window's closure requested
 	 */
 	public static boolean isCloseRequested() {
-		return Display.isCloseRequested();
+		return !Window.isHeadless() && Display.isCloseRequested();
 	}
 
 	/**
@@ -51,7 +154,7 @@ final public class Window {
 	 * @return Window's width (in px)
 	 */
 	public static int getWidth() {
-		return Display.getDisplayMode().getWidth();
+		return Window.isHeadless() ? Window.headlessWidth : Display.getDisplayMode().getWidth();
 	}
 
 	/**
@@ -60,7 +163,7 @@ final public class Window {
 	 * @return Window's height (in px)
 	 */
 	public static int getHeight() {
-		return Display.getDisplayMode().getHeight();
+		return Window.isHeadless() ? Window.headlessHeight : Display.getDisplayMode().getHeight();
 	}
 
 	/**
@@ -118,7 +221,7 @@ final public class Window {
 	 * Disposes the Window.
 	 */
 	public static void dispose() {
-		Display.destroy();
+		if(!Window.isHeadless()) Display.destroy();
 	}
 
 	/**
@@ -128,4 +231,4 @@ final public class Window {
 		Display.update();
 	}
 
-}
+}
\ No newline at end of file
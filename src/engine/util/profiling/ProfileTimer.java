@@ -50,7 +50,7 @@ class ProfileTimer {
 	/**
 	 * Starts the timer.
 	 */
-	final void startInvocation() {
+	final synchronized void startInvocation() {
 		if(this.startTime != 0.0) {
 			System.err.println("Error: ProfileTimer.startInvocation has been called twice.");
 			new Exception().printStackTrace();
@@ -63,7 +63,7 @@ class ProfileTimer {
 	/**
 	 * Ends the timer.
 	 */
-	final void stopInvocation() {
+	final synchronized void stopInvocation() {
 		if(this.startTime == 0.0) {
 			System.err.println("Error: ProfileTimer.stopInvocation has been called without having started the invocation.");
 			new Exception().printStackTrace();
@@ -90,7 +90,7 @@ class ProfileTimer {
 	 *
 	 * @return ProfileTimer.numInvocations
 	 */
-	final int getNumInvocations() {
+	final synchronized int getNumInvocations() {
 		return this.numInvocations;
 	}
 
@@ -99,7 +99,7 @@ class ProfileTimer {
 	 *
 	 * @return ProfileTimer.minTime
 	 */
-	final double getMinTime() {
+	final synchronized double getMinTime() {
 		final double time = this.minTime * Time.NANO_TO_MILLI;
 
 		final BigDecimal bd = new BigDecimal(time);
@@ -115,7 +115,7 @@ class ProfileTimer {
 	 *
 	 * @return ProfileTimer.maxTime
 	 */
-	final double getMaxTime() {
+	final synchronized double getMaxTime() {
 		final double time = this.maxTime * Time.NANO_TO_MILLI;
 
 		final BigDecimal bd = new BigDecimal(time);
@@ -142,7 +142,7 @@ class ProfileTimer {
 	 * @return Time calculated
 	 * @throws java.lang.IllegalArgumentException if divisor = 0
 	 */
-	final double getTime(final double divisor) {
+	final synchronized double getTime(final double divisor) {
 		if(divisor == 0) {
 			System.err.println("Error: parameter divisor cannot be equals to 0 in ProfileTimer.getTime(divisor).");
 			throw new IllegalArgumentException();
@@ -163,14 +163,14 @@ class ProfileTimer {
 	 *
 	 * @return ProfileTimer running of not
 	 */
-	final boolean isRunning() {
+	final synchronized boolean isRunning() {
 		return this.startTime != 0.0;
 	}
 
 	/**
 	 * Resets everything.
 	 */
-	final void reset() {
+	final synchronized void reset() {
 		this.numInvocations = 0;
 		this.totalTime = 0.0;
 		this.minTime = 0.0;
@@ -3,37 +3,52 @@ package engine.util.profiling;
 import engine.util.console.Console;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 final public class Profiler {
 
 	/**
 	 * Is the Profiler on.
 	 */
-	private static boolean on = false;
+	private static volatile boolean on = false;
 
 	/**
 	 * Profiler's console.
 	 */
 	private static Console console;
 
+	/**
+	 * Threads whose calls are timed (the one which set the Profiler active, and the ones added with
+	 * Profiler.addThread()). Jobs running on other threads are timed as part of the calls waiting for them.
+	 * Each timed thread must use its own timer names. Only each ProfileTimer is locked while being read or changed,
+	 * so the threads don't wait for each other, and nothing is locked while the Profiler is off.
+	 */
+	final private static CopyOnWriteArrayList<Thread> threads = new CopyOnWriteArrayList<>();
+
 	/**
 	 * All parent's ProfileTimer.
 	 */
-	private static HashMap<String, ProfileTimer> timers;
+	private static ConcurrentHashMap<String, ProfileTimer> timers;
 
 	/**
 	 * All children's ProfileTimer.
 	 */
-	private static HashMap<String, HashMap<String, ProfileTimer>> childrenTimers;
+	private static ConcurrentHashMap<String, ConcurrentHashMap<String, ProfileTimer>> childrenTimers;
+
+	/**
+	 * Other measures displayed with the timers (e.g. the frame pacing's jitter), by name.
+	 */
+	private static LinkedHashMap<String, String> statistics;
 
 	/**
-	 * Adds a ProfileTimer.
+	 * Adds a ProfileTimer (keeps the existing one if there's already one with this name).
 	 *
 	 * @param name ProfileTimer's name
+	 * @return ProfileTimer with this name
 	 */
-	public static void addProfileTimer(final String name) {
+	private static ProfileTimer addProfileTimer(final String name) {
 		final int dashPosition = name.indexOf('-');
 
 		if(dashPosition > 0) {
@@ -48,65 +63,55 @@ final public class Profiler {
 
 			final String child = name.substring(dashPosition + 1);
 
-			if(!Profiler.childrenTimers.containsKey(parent)) Profiler.childrenTimers.put(parent, new HashMap<>());
-			Profiler.childrenTimers.get(parent).put(child, new ProfileTimer());
+			return Profiler.childrenTimers.computeIfAbsent(parent, key -> new ConcurrentHashMap<>()).computeIfAbsent(child, key -> new ProfileTimer());
 		} else {
-			Profiler.timers.put(name, new ProfileTimer());
+			return Profiler.timers.computeIfAbsent(name, key -> new ProfileTimer());
 		}
 	}
 
 	/**
-	 * Starts a ProfileTimer, creates it if it does not exist.
+	 * Returns a ProfileTimer.
 	 *
 	 * @param name ProfileTimer's name
+	 * @return ProfileTimer (null if it does not exist)
 	 */
-	public static void startProfileTimer(final String name) {
-		if(Profiler.isOff()) {
-			return;
-		}
-
+	private static ProfileTimer getProfileTimer(final String name) {
 		final int dashPosition = name.indexOf('-');
 
-		if(!Profiler.timers.containsKey(name)) {
-			if(dashPosition > 0) {
-				final String parentName = name.substring(0, dashPosition);
-				final String childName = name.substring(dashPosition + 1);
-				if(!Profiler.childrenTimers.containsKey(parentName) || !Profiler.childrenTimers.get(parentName).containsKey(childName)) {
-					Profiler.addProfileTimer(name);
-				}
-			} else {
-				Profiler.addProfileTimer(name);
-			}
-		}
-
 		if(dashPosition > 0) {
-			final String parentName = name.substring(0, dashPosition);
-			final String childName = name.substring(dashPosition + 1);
-			Profiler.childrenTimers.get(parentName).get(childName).startInvocation();
+			final ConcurrentHashMap<String, ProfileTimer> children = Profiler.childrenTimers.get(name.substring(0, dashPosition));
+			return children == null ? null : children.get(name.substring(dashPosition + 1));
 		} else {
-			Profiler.timers.get(name).startInvocation();
+			return Profiler.timers.get(name);
 		}
 	}
 
 	/**
-	 * Stops the ProfileTimer.
+	 * Starts a ProfileTimer, creates it if it does not exist.
 	 *
 	 * @param name ProfileTimer's name
 	 */
-	public static void stopProfileTimer(final String name) {
-		if(Profiler.isOff()) {
+	public static void startProfileTimer(final String name) {
+		if(Profiler.isOff() || !Profiler.isTimed()) {
 			return;
 		}
 
-		final int dashPosition = name.indexOf('-');
+		final ProfileTimer timer = Profiler.getProfileTimer(name);
+		(timer == null ? Profiler.addProfileTimer(name) : timer).startInvocation();
+	}
 
-		if(dashPosition > 0) {
-			final String parentName = name.substring(0, dashPosition);
-			final String childName = name.substring(dashPosition + 1);
-			Profiler.childrenTimers.get(parentName).get(childName).stopInvocation();
-		} else {
-			Profiler.timers.get(name).stopInvocation();
+	/**
+	 * Stops the ProfileTimer.
+	 *
+	 * @param name ProfileTimer's name
+	 */
+	public static void stopProfileTimer(final String name) {
+		if(Profiler.isOff() || !Profiler.isTimed()) {
+			return;
 		}
+
+		final ProfileTimer timer = Profiler.getProfileTimer(name);
+		if(timer != null && timer.isRunning()) timer.stopInvocation(); // Not started if the Profiler was turned on during the call.
 	}
 
 	/**
@@ -116,23 +121,12 @@ final public class Profiler {
 	 * @return ProfileTimer running
 	 */
 	public static boolean isProfileTimerRunning(final String name) {
-		if(Profiler.isOff()) {
+		if(Profiler.isOff() || !Profiler.isTimed()) {
 			return false;
 		}
 
-		final int dashPosition = name.indexOf('-');
-
-		try {
-			if(dashPosition > 0) {
-				final String parentName = name.substring(0, dashPosition);
-				final String childName = name.substring(dashPosition + 1);
-				return Profiler.childrenTimers.get(parentName).get(childName).isRunning();
-			} else {
-				return Profiler.timers.get(name).isRunning();
-			}
-		} catch(final NullPointerException e) {
-			return false;
-		}
+		final ProfileTimer timer = Profiler.getProfileTimer(name);
+		return timer != null && timer.isRunning();
 	}
 
 	/**
@@ -141,7 +135,7 @@ final public class Profiler {
 	 * @param totalTime totalTime of one frame (in ms)
 	 * @param frames Number of frames in the second
 	 */
-	public static void displayAndResetTime(final double totalTime, final int frames) {
+	public static synchronized void displayAndResetTime(final double totalTime, final int frames) {
 		if(Profiler.isOff()) {
 			return;
 		}
@@ -206,9 +200,26 @@ final public class Profiler {
 
 		Profiler.getConsole().println(" Other time: " + result.doubleValue() + " ms");
 		Profiler.getConsole().println(" Total time: " + totalTime + " ms  (" + frames + " frames)");
+		for(final String key : Profiler.statistics.keySet()) {
+			Profiler.getConsole().println(" " + key + ": " + Profiler.statistics.get(key));
+		}
 		Profiler.getConsole().println(" ---------------------------------------------------------------------------------------------------------------------------------------------");
 	}
 
+	/**
+	 * Sets a measure displayed with the timers (replaces the last one with the same name).
+	 *
+	 * @param name Measure's name
+	 * @param value Measure's value (as displayed)
+	 */
+	public static synchronized void setStatistic(final String name, final String value) {
+		if(Profiler.isOff()) {
+			return;
+		}
+
+		Profiler.statistics.put(name, value);
+	}
+
 	/**
 	 * Updates the Profiler.
 	 */
@@ -227,6 +238,24 @@ final public class Profiler {
 		return Profiler.console;
 	}
 
+	/**
+	 * Times the calls of another thread too (e.g. the simulation thread when rendering has its own).
+	 *
+	 * @param thread Thread to time
+	 */
+	public static void addThread(final Thread thread) {
+		Profiler.threads.addIfAbsent(thread);
+	}
+
+	/**
+	 * Returns if the calls of the current thread are timed.
+	 *
+	 * @return new boolean
+	 */
+	private static boolean isTimed() {
+		return Profiler.threads.contains(Thread.currentThread());
+	}
+
 	/**
 	 * Returns if the Profiler is active.
 	 *
@@ -250,14 +279,17 @@ final public class Profiler {
 	 *
 	 * @param enabled true = active
 	 */
-	public static void setActive(final boolean enabled) {
-		Profiler.on = enabled;
+	public static synchronized void setActive(final boolean enabled) {
+		Profiler.addThread(Thread.currentThread());
 
 		if(Profiler.getConsole() == null && enabled) {
 			Profiler.console = new Console("Profiling console");
-			Profiler.timers = new HashMap<>();
-			Profiler.childrenTimers = new HashMap<>();
+			Profiler.timers = new ConcurrentHashMap<>();
+			Profiler.childrenTimers = new ConcurrentHashMap<>();
+			Profiler.statistics = new LinkedHashMap<>();
 		}
+
+		Profiler.on = enabled; // Last: the timers are created before any thread sees the Profiler on.
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+#version 330
+
+in vec2 tilePosition0;
+
+out vec4 out_color;
+
+uniform vec4 ambientLight;
+uniform usampler2D tileIds;
+uniform sampler2DArray tileSet;
+
+void main(){
+	uint id = texelFetch(tileIds, ivec2(tilePosition0), 0).r;
+	if(id == 0u)
+		discard;
+
+	vec2 inTile = fract(tilePosition0);
+	out_color = ambientLight * texture(tileSet, vec3(inTile.x, 1.0 - inTile.y, float(id - 1u)));
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+#version 330
+
+in vec2 position;
+in vec2 textCoord;
+
+out vec2 tilePosition0;
+
+uniform mat4 transformProjected;
+uniform vec2 regionSize;
+
+void main(){
+	gl_Position = transformProjected * vec4(position, 0, 1);
+	tilePosition0 = textCoord * regionSize;
+}
\ No newline at end of file
@@ -182,6 +182,27 @@ final public class File {
 	 * @param text Text to print
 	 */
 	public static void writeToFile(final @NotNull String fileName, final @NotNull String text) {
+		final java.io.File file = File.getWritableFile(fileName);
+
+		try {
+			final FileWriter fileWriter = new FileWriter(file);
+			final BufferedWriter writer = new BufferedWriter(fileWriter);
+
+			writer.write(text);
+			writer.close();
+		} catch(final IOException e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Returns the file to write to, creating it (and its folders) if it does not exist.
+	 *
+	 * @param fileName File's name
+	 * @return new java.io.File
+	 */
+	public static @NotNull java.io.File getWritableFile(final @NotNull String fileName) {
 		final String folderPath;
 		String temp = new String(fileName);
 
@@ -218,16 +239,49 @@ final public class File {
 			}
 		}
 
-		try {
-			final FileWriter fileWriter = new FileWriter(file);
-			final BufferedWriter writer = new BufferedWriter(fileWriter);
+		return file;
+	}
 
-			writer.write(text);
-			writer.close();
-		} catch(final IOException e) {
-			e.printStackTrace();
-			System.exit(1);
+	/**
+	 * Returns the file to write to, creating its folders (not the file).
+	 * Unlike File.getWritableFile(), which exits on failure, errors are thrown to the caller: for the files written
+	 * on other threads while the game runs (caches, saves).
+	 *
+	 * @param fileName File's name
+	 * @return new java.io.File
+	 * @throws IOException if the folders couldn't be created
+	 */
+	public static @NotNull java.io.File createWritableFile(final @NotNull String fileName) throws IOException {
+		final String folderName = fileName.substring(0, fileName.lastIndexOf('/'));
+
+		// Looks for the last existing folder to create the others in.
+		String existing = folderName;
+		@Nullable URL url;
+		while((url = File.getURL(existing)) == null) {
+			final int lastSlash = existing.lastIndexOf('/');
+			if(lastSlash <= 0) throw new IOException("No folder to create " + folderName + " in.");
+			existing = existing.substring(0, lastSlash);
 		}
+
+		final java.io.File folder = new java.io.File(url.getFile() + folderName.substring(existing.length()));
+		if(!folder.isDirectory() && !folder.mkdirs()) throw new IOException("Couldn't create the folder " + folder.getPath());
+
+		return new java.io.File(folder, fileName.substring(fileName.lastIndexOf('/') + 1));
+	}
+
+	/**
+	 * Returns a file that already exists. Returns null if it does not exist.
+	 *
+	 * @param fileName File's name
+	 * @return new java.io.File
+	 */
+	public static @Nullable java.io.File getReadableFile(final @NotNull String fileName) {
+		final URL url = File.getURL(fileName);
+
+		if(url == null) return null;
+		final java.io.File file = new java.io.File(url.getFile());
+
+		return file.isFile() ? file : null;
 	}
 
 	/**